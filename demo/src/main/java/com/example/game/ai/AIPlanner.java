@@ -0,0 +1,121 @@
+package com.example.game.ai;
+
+import com.example.game.ai.TetrisAI.Move;
+import com.example.game.component.GameLogic;
+import com.example.utils.Logger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * AI 수 계산을 게임(JavaFX) 스레드 밖에서 실행
+ * - request: 게임 스레드에서 상태를 스냅샷으로 떠서 계산 스레드에 넘김 (실제 게임 상태는 읽지 않음)
+ * - 결과는 AtomicReference 하나로 전달, 게임 스레드는 poll로 꺼내기만 하므로 잠금 없음
+ * - 새 요청이나 cancel은 진행 중인 계산의 SearchBudget을 취소
+ * - 탐색 캐시는 한 게임 동안 모든 요청이 공유 (clearCache로 새 게임 시작)
+ */
+final class AIPlanner {
+
+    // 모든 AI가 공유하는 계산 스레드 (깊은 탐색은 여기서 다시 ParallelSearch 풀로 나뉨)
+    private static final ExecutorService PLANNER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "tetris-ai-planner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 요청 번호와 계산 결과 (둘 곳이 없으면 move는 null)
+     */
+    static final class Plan {
+        private final long requestId;
+        private final Move move;
+
+        Plan(long requestId, Move move) {
+            this.requestId = requestId;
+            this.move = move;
+        }
+
+        Move getMove() {
+            return move;
+        }
+    }
+
+    private final SearchSettings settings;
+    private final TranspositionTable cache = new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY);
+    private final AtomicReference<Plan> ready = new AtomicReference<>();
+    // 게임 스레드에서만 변경
+    private SearchBudget running;
+    private long lastRequestId;
+
+    AIPlanner(SearchSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 현재 블록에 대한 계산 시작 (이전 요청은 취소)
+     * @return 요청 번호 (진행 중인 블록이 없으면 -1)
+     */
+    long request(GameLogic gameLogic) {
+        cancel();
+        SearchPosition position = SearchPosition.capture(gameLogic);
+        if (position == null) {
+            return -1;
+        }
+        long requestId = ++lastRequestId;
+        SearchBudget budget = new SearchBudget(settings.getTimeBudgetMillis());
+        running = budget;
+        PLANNER.execute(() -> {
+            Move move = null;
+            try {
+                move = TetrisAI.findBestMove(position, settings, budget, cache);
+                Logger.debug("[AI] %s", cache);
+            } catch (RuntimeException e) {
+                Logger.error("[AI] Move search failed", e);
+            }
+            // 취소된 요청의 결과는 버림
+            if (!budget.isCancelled()) {
+                ready.set(new Plan(requestId, move));
+            }
+        });
+        return requestId;
+    }
+
+    /**
+     * 요청한 계산이 끝났으면 결과를 꺼냄 (아직 계산 중이거나 다른 요청의 결과면 null)
+     */
+    Plan poll(long requestId) {
+        Plan plan = ready.get();
+        if (plan == null || plan.requestId != requestId) {
+            return null;
+        }
+        return ready.compareAndSet(plan, null) ? plan : null;
+    }
+
+    /**
+     * 진행 중인 계산을 취소하고 캐시를 비움 (새 게임 시작 시)
+     */
+    void clearCache() {
+        cancel();
+        if (cache.getHits() + cache.getMisses() > 0) {
+            Logger.info("[AI] %s", cache); // 지난 게임 전체의 캐시 통계
+        }
+        cache.clear();
+    }
+
+    TranspositionTable getCache() {
+        return cache;
+    }
+
+    /**
+     * 진행 중인 계산 취소, 받지 않은 결과 버림
+     */
+    void cancel() {
+        SearchBudget budget = running;
+        if (budget != null) {
+            budget.cancel();
+            running = null;
+        }
+        ready.set(null);
+    }
+}
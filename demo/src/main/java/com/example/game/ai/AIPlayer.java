@@ -8,11 +8,15 @@ import com.example.utils.Logger;
 /**
  * AI 플레이어 - 사람처럼 블록을 조작하는 AI
  * 입력 딜레이와 애니메이션을 추가하여 자연스럽게 보이도록 함
+ * - 수 계산은 AIPlanner가 다른 스레드에서 하고, update는 결과를 받아 입력만 실행 (프레임을 막지 않음)
  */
 public class AIPlayer {
     
     private final PlayerBoard board;
+    private final AIPlanner planner;
     private Move currentMove;
+    private Block thinkingBlock;   // 계산을 요청한 블록 (바뀌면 결과를 버림)
+    private long requestId = -1;
     private AIState state;
     private long lastActionTime;
     
@@ -37,7 +41,12 @@ public class AIPlayer {
     }
     
     public AIPlayer(PlayerBoard board) {
+        this(board, SearchSettings.defaults());
+    }
+    
+    public AIPlayer(PlayerBoard board, SearchSettings searchSettings) {
         this.board = board;
+        this.planner = new AIPlanner(searchSettings);
         this.state = AIState.IDLE;
         this.lastActionTime = System.currentTimeMillis();
     }
@@ -54,17 +63,37 @@ public class AIPlayer {
         
         switch (state) {
             case IDLE:
-                // 새 블록이 생성되면 다음 수 계산 시작
+                // 새 블록이 생성되면 스냅샷을 떠서 다음 수 계산 시작
                 if (board.getCurrentBlock() != null) {
+                    thinkingBlock = board.getCurrentBlock();
+                    requestId = planner.request(board.getGameLogic());
                     state = AIState.THINKING;
                     lastActionTime = currentTime;
                 }
                 break;
                 
             case THINKING:
-                // 생각하는 시간 경과 후 최적의 수 계산
+                // 계산 중에 블록이 바뀌었으면 (재시작 등) 처음부터 다시 계산
+                if (board.getCurrentBlock() != thinkingBlock) {
+                    planner.cancel();
+                    state = AIState.IDLE;
+                    break;
+                }
+                // 생각하는 시간이 지나고 계산 결과가 도착하면 실행 시작
                 if (currentTime - lastActionTime >= THINK_DELAY) {
-                    calculateBestMove();
+                    AIPlanner.Plan plan = planner.poll(requestId);
+                    if (plan == null) {
+                        break; // 아직 계산 중
+                    }
+                    currentMove = plan.getMove();
+                    if (currentMove != null) {
+                        Logger.info("[AI] Best move: %s", currentMove);
+                    }
+                    // 홀드하는 수는 회전/이동 전에 먼저 교체 (실패하면 다음 프레임에 다시 계산)
+                    if (currentMove != null && currentMove.hold
+                            && !board.getGameLogic().holdPiece()) {
+                        currentMove = null;
+                    }
                     if (currentMove != null) {
                         initializeMove();
                         state = AIState.ROTATING;
@@ -83,6 +112,8 @@ public class AIPlayer {
                         currentRotation++;
                         lastActionTime = currentTime;
                     } else {
+                        // 벽 차기 회전은 x 위치를 바꿀 수 있으므로 회전 후 위치 다시 읽기
+                        currentX = board.getGameLogic().getCurrentX();
                         state = AIState.MOVING;
                         lastActionTime = currentTime;
                     }
@@ -126,39 +157,6 @@ public class AIPlayer {
         }
     }
     
-    /**
-     * 최적의 수 계산
-     */
-    private void calculateBestMove() {
-        // findBestMove는 블록을 4번 회전시키므로, 호출 전후 블록 상태가 동일해야 함
-        // 하지만 안전을 위해 현재 블록의 초기 크기를 저장
-        Block block = board.getCurrentBlock();
-        if (block == null) {
-            currentMove = null;
-            return;
-        }
-        
-        int initialWidth = block.width();
-        int initialHeight = block.height();
-        
-        currentMove = TetrisAI.findBestMove(board.getGameLogic());
-        
-        if (currentMove != null) {
-            Logger.info("[AI] Best move: %s", currentMove);
-            
-            // 블록이 원래 상태로 돌아왔는지 확인
-            if (block.width() != initialWidth || block.height() != initialHeight) {
-                Logger.error("[ERROR] Block state changed after findBestMove!");
-                Logger.error(String.format("Expected: %dx%d, Got: %dx%d", initialWidth, initialHeight,
-                                 block.width(), block.height()));
-                // 블록을 원래 상태로 복구 시도
-                while (block.width() != initialWidth || block.height() != initialHeight) {
-                    block.rotate();
-                }
-            }
-        }
-    }
-    
     /**
      * 이동 초기화
      */
@@ -173,6 +171,9 @@ public class AIPlayer {
      * AI 상태 리셋
      */
     public void reset() {
+        planner.clearCache();
+        thinkingBlock = null;
+        requestId = -1;
         state = AIState.IDLE;
         currentMove = null;
         lastActionTime = System.currentTimeMillis();
@@ -0,0 +1,402 @@
+package com.example.game.ai;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.RotationTable;
+import com.example.game.component.AttackTable;
+import com.example.game.component.BoardState;
+import com.example.game.component.PieceQueue;
+
+/**
+ * 현재 블록 + 미리보기 블록을 차례로 놓아 보는 깊이 제한 탐색 (탐색 스레드마다 하나씩 재사용)
+ * - 단계마다 모든 (회전, x) 후보를 한 번에 평가한 뒤 점수 상위 beamWidth개만 다음 단계로 확장
+ * - 놓은 결과가 같은 보드인 후보는 해시로 하나만 확장
+ * - 경로 점수 = 중간 단계에서 지운 줄/공격 보상 + 마지막 단계 보드 평가
+ * - 마감 시간이 지나면 탐색을 중단하고 timedOut 표시 (호출 측은 이전 깊이 결과 사용)
+ * - 병렬 탐색은 루트 후보(prepareRoot)마다 다른 스레드의 인스턴스가 searchSubtree로 나눠 계산
+ * - 캐시가 있으면 (놓은 보드, 콤보/B2B, 남은 블록 순서, 빔 폭)이 같은 부분 트리는 다시 계산하지 않음
+ */
+final class LookaheadSearch {
+
+    // 현재 블록 + 미리보기 최대 수
+    static final int MAX_DEPTH = 1 + PieceQueue.MAX_CAPACITY;
+
+    private final PlacementEvaluator[] plies = new PlacementEvaluator[MAX_DEPTH];
+    private final CandidateList[] candidates = new CandidateList[MAX_DEPTH];
+    private final RotationTable[] pieces = new RotationTable[MAX_DEPTH];
+    private final int[] startOrientations = new int[MAX_DEPTH];
+    private final int[] rotationCounts = new int[MAX_DEPTH];
+    private final long[] pieceKeys = new long[MAX_DEPTH];      // 모양/회전 가능 방향 기준 블록 키
+    private final long[] remainingKeys = new long[MAX_DEPTH + 1]; // [k] = k번째부터 남은 블록 순서 키
+    private int pieceCount;
+    private TranspositionTable table;
+
+    private int beamWidth;
+    private SearchBudget budget;
+    private boolean timedOut;
+
+    // 마지막 탐색의 최선 (루트 단계 후보)
+    private int bestX;
+    private int bestRotation;
+    private int bestY;
+    private double bestScore;
+    private int evaluated;
+
+    LookaheadSearch() {
+        for (int i = 0; i < MAX_DEPTH; i++) {
+            plies[i] = new PlacementEvaluator();
+            candidates[i] = new CandidateList();
+        }
+    }
+
+    /**
+     * 탐색할 보드 읽기 (블록 순서는 addPiece로 다시 채움)
+     */
+    void reset(BoardState board) {
+        plies[0].load(board);
+        pieceCount = 0;
+    }
+
+    /**
+     * 공격 보상 계산 상태 지정 (reset 뒤에 호출, 지정하지 않으면 공격 보상 없음)
+     */
+    void setClearState(AttackTable attackTable, int combo, boolean backToBackReady) {
+        plies[0].setClearState(attackTable, combo, backToBackReady);
+    }
+
+    /**
+     * 놓을 블록을 순서대로 추가 (회전 테이블과 현재 방향만 읽음)
+     * @return 추가했으면 true (블록이 없거나 최대 깊이면 false)
+     */
+    boolean addPiece(Block block) {
+        if (block == null) {
+            return false;
+        }
+        return addPiece(block.getRotationTable(), block.getOrientation(), block.canRotate());
+    }
+
+    boolean addPiece(RotationTable table, int orientation, boolean rotatable) {
+        if (pieceCount == MAX_DEPTH) {
+            return false;
+        }
+        pieces[pieceCount] = table;
+        startOrientations[pieceCount] = orientation;
+        rotationCounts[pieceCount] = rotatable ? RotationTable.ORIENTATIONS : 1;
+        pieceKeys[pieceCount] = pieceKey(table, orientation, rotatable);
+        pieceCount++;
+        return true;
+    }
+
+    // 탐색 결과가 같은 블록은 같은 키 (회전 가능하면 시작 방향과 무관)
+    private static long pieceKey(RotationTable table, int orientation, boolean rotatable) {
+        long key = rotatable ? -1 : orientation;
+        for (int o = 0; o < RotationTable.ORIENTATIONS; o++) {
+            key = key * 31 + table.height(o);
+            for (int row = 0; row < table.height(o); row++) {
+                key = key * 31 + table.rowMask(o, row);
+            }
+        }
+        return PlacementEvaluator.mix(key);
+    }
+
+    /**
+     * 부분 트리 캐시 지정 (null이면 사용 안 함, 여러 탐색/스레드가 공유 가능)
+     */
+    void setTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    int getPieceCount() {
+        return pieceCount;
+    }
+
+    /**
+     * 앞에서부터 depth개 블록을 놓는 탐색
+     * @return 마감 전에 끝났고 둘 곳이 있으면 true
+     */
+    boolean search(int depth, int beamWidth, SearchBudget budget) {
+        int lastPly = Math.min(depth, pieceCount) - 1;
+        begin(beamWidth, budget, lastPly);
+        searchPly(0, lastPly);
+        return !timedOut && bestX >= 0;
+    }
+
+    private void begin(int beamWidth, SearchBudget budget, int lastPly) {
+        this.beamWidth = beamWidth;
+        this.budget = budget;
+        this.timedOut = false;
+        bestX = -1;
+        bestScore = Double.NEGATIVE_INFINITY;
+        evaluated = 0;
+        // 남은 블록 순서 키 (마지막 단계 뒤는 빔 폭만 반영)
+        remainingKeys[lastPly + 1] = PlacementEvaluator.mix(beamWidth);
+        for (int k = lastPly; k >= 0; k--) {
+            remainingKeys[k] = PlacementEvaluator.mix(remainingKeys[k + 1] * 31 + pieceKeys[k]);
+        }
+    }
+
+    /**
+     * 병렬 탐색용 루트 후보 준비 - 첫 블록의 상위 beamWidth개 배치를 앞쪽에 모음
+     * @return 나눠 계산할 루트 후보 수
+     */
+    int prepareRoot(int beamWidth, int depth, SearchBudget budget) {
+        begin(beamWidth, budget, Math.min(depth, pieceCount) - 1);
+        CandidateList list = candidates[0];
+        generate(0, plies[0], list);
+        return list.selectBeam(beamWidth);
+    }
+
+    /**
+     * root의 index번째 루트 후보 아래를 depth개 블록까지 탐색 (root는 읽기만 함)
+     * @return 루트 후보의 경로 점수 (마감으로 중단되면 isTimedOut이 true)
+     */
+    double searchSubtree(LookaheadSearch root, int index, int depth, int beamWidth, SearchBudget budget) {
+        plies[0].copyFrom(root.plies[0]);
+        pieceCount = root.pieceCount;
+        table = root.table;
+        System.arraycopy(root.pieces, 0, pieces, 0, pieceCount);
+        System.arraycopy(root.startOrientations, 0, startOrientations, 0, pieceCount);
+        System.arraycopy(root.rotationCounts, 0, rotationCounts, 0, pieceCount);
+        System.arraycopy(root.pieceKeys, 0, pieceKeys, 0, pieceCount);
+        int lastPly = Math.min(depth, pieceCount) - 1;
+        begin(beamWidth, budget, lastPly);
+        return expand(0, lastPly, root.candidates[0], index);
+    }
+
+    /**
+     * 병렬로 계산한 루트 후보 점수를 합쳐 최선 결정 (동점은 앞선 후보 우선 - 순차 탐색과 같은 결과)
+     * @return 모든 후보가 마감 전에 끝났고 둘 곳이 있으면 true
+     */
+    boolean finishRoot(double[] scores, int count, boolean subtreeTimedOut, int subtreeEvaluated) {
+        evaluated += subtreeEvaluated;
+        timedOut = subtreeTimedOut;
+        if (timedOut) {
+            return false;
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            if (scores[i] > best) {
+                best = scores[i];
+                record(candidates[0], i, best);
+            }
+        }
+        return bestX >= 0;
+    }
+
+    private double searchPly(int ply, int lastPly) {
+        PlacementEvaluator board = plies[ply];
+        CandidateList list = candidates[ply];
+        generate(ply, board, list);
+        if (list.count == 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        if (ply == lastPly) {
+            int best = 0;
+            for (int i = 1; i < list.count; i++) {
+                if (list.score[i] > list.score[best]) {
+                    best = i;
+                }
+            }
+            if (ply == 0) {
+                record(list, best, list.score[best]);
+            }
+            return list.score[best];
+        }
+
+        int selected = list.selectBeam(beamWidth);
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < selected; i++) {
+            if (budget.isExpired()) {
+                timedOut = true;
+                break;
+            }
+            double score = expand(ply, lastPly, list, i);
+            if (timedOut) {
+                break;
+            }
+            if (score > best) {
+                best = score;
+                if (ply == 0) {
+                    record(list, i, score);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * list의 i번째 후보를 놓고 줄을 지운 뒤 다음 블록부터의 점수
+     * - 캐시에 있으면 그대로 사용, 마감으로 중단된 점수는 저장하지 않음
+     */
+    private double expand(int ply, int lastPly, CandidateList list, int i) {
+        PlacementEvaluator board = plies[ply];
+        // 지운 줄 수는 놓은 보드로 정해지므로 놓기 전 콤보/B2B만 키에 더함
+        long key = list.hash[i] ^ remainingKeys[ply + 1] ^ board.getClearStateKey();
+        if (table != null) {
+            double cached = table.get(key);
+            if (!Double.isNaN(cached)) {
+                return cached;
+            }
+        }
+        board.setPiece(pieces[ply], list.orientation[i]);
+        int lines = plies[ply + 1].loadPlaced(board, list.x[i], list.y[i]);
+        double score = PlacementEvaluator.WEIGHT_COMPLETE_LINES * lines
+            + PlacementEvaluator.WEIGHT_ATTACK * board.attackFor(lines)
+            + searchPly(ply + 1, lastPly);
+        if (table != null && !timedOut) {
+            table.put(key, score);
+        }
+        return score;
+    }
+
+    // 보드 위 모든 (회전, x) 배치와 즉시 점수
+    private void generate(int ply, PlacementEvaluator board, CandidateList list) {
+        RotationTable table = pieces[ply];
+        int boardWidth = board.getWidth();
+        list.ensureCapacity(RotationTable.ORIENTATIONS * boardWidth);
+        list.count = 0;
+
+        int visitedShapes = 0;
+        for (int rotation = 0; rotation < rotationCounts[ply]; rotation++) {
+            int orientation = (startOrientations[ply] + rotation) & 3;
+            // 같은 모양의 방향은 이미 평가했으므로 건너뜀 (O 블록 등)
+            int shapeBit = 1 << table.canonicalOrientation(orientation);
+            if ((visitedShapes & shapeBit) != 0) {
+                continue;
+            }
+            visitedShapes |= shapeBit;
+
+            board.setPiece(table, orientation);
+            for (int x = 0; x <= boardWidth - board.getPieceWidth(); x++) {
+                int y = board.dropY(x);
+                if (y == -1) {
+                    continue;
+                }
+                list.add(x, rotation, orientation, y, board.evaluate(x, y), board.placedHash(x, y));
+            }
+        }
+        evaluated += list.count;
+    }
+
+    private void record(CandidateList list, int index, double score) {
+        bestX = list.x[index];
+        bestRotation = list.rotation[index];
+        bestY = list.y[index];
+        bestScore = score;
+    }
+
+    boolean isTimedOut() {
+        return timedOut;
+    }
+
+    int getBestX() {
+        return bestX;
+    }
+
+    int getBestRotation() {
+        return bestRotation;
+    }
+
+    int getBestY() {
+        return bestY;
+    }
+
+    double getBestScore() {
+        return bestScore;
+    }
+
+    // 마지막 탐색에서 평가한 배치 수
+    int getEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     * 한 단계의 후보 목록 (병렬 배열, 보드 너비가 커질 때만 다시 할당)
+     */
+    static final class CandidateList {
+        int[] x = new int[0];
+        int[] rotation = new int[0];
+        int[] orientation = new int[0];
+        int[] y = new int[0];
+        double[] score = new double[0];
+        long[] hash = new long[0];
+        int count;
+
+        void ensureCapacity(int capacity) {
+            if (x.length >= capacity) {
+                return;
+            }
+            x = new int[capacity];
+            rotation = new int[capacity];
+            orientation = new int[capacity];
+            y = new int[capacity];
+            score = new double[capacity];
+            hash = new long[capacity];
+        }
+
+        void add(int x, int rotation, int orientation, int y, double score, long hash) {
+            this.x[count] = x;
+            this.rotation[count] = rotation;
+            this.orientation[count] = orientation;
+            this.y[count] = y;
+            this.score[count] = score;
+            this.hash[count] = hash;
+            count++;
+        }
+
+        /**
+         * 점수 상위 후보를 앞쪽으로 모음 (같은 보드가 되는 후보는 버림, 동점은 앞선 후보 우선)
+         * @return 앞쪽에 모인 후보 수 (최대 limit)
+         */
+        int selectBeam(int limit) {
+            int selected = 0;
+            while (selected < limit && selected < count) {
+                int best = selected;
+                for (int i = selected + 1; i < count; i++) {
+                    if (score[i] > score[best]) {
+                        best = i;
+                    }
+                }
+                swap(selected, best);
+                if (isDuplicate(selected)) {
+                    swap(selected, count - 1);
+                    count--;
+                    continue;
+                }
+                selected++;
+            }
+            return selected;
+        }
+
+        private boolean isDuplicate(int index) {
+            for (int i = 0; i < index; i++) {
+                if (hash[i] == hash[index]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void swap(int a, int b) {
+            if (a == b) {
+                return;
+            }
+            swapInt(x, a, b);
+            swapInt(rotation, a, b);
+            swapInt(orientation, a, b);
+            swapInt(y, a, b);
+            double s = score[a];
+            score[a] = score[b];
+            score[b] = s;
+            long h = hash[a];
+            hash[a] = hash[b];
+            hash[b] = h;
+        }
+
+        private static void swapInt(int[] values, int a, int b) {
+            int t = values[a];
+            values[a] = values[b];
+            values[b] = t;
+        }
+    }
+}
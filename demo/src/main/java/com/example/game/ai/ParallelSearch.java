@@ -0,0 +1,101 @@
+package com.example.game.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 루트 후보를 AI 전용 ForkJoinPool에 나눠 계산하는 병렬 탐색
+ * - 후보 범위를 반으로 나눠 fork, 각 작업자는 자기 스레드의 LookaheadSearch로 부분 트리 계산
+ * - 모든 작업자가 같은 SearchBudget을 확인하므로 마감/취소 시 곧바로 멈춤
+ * - 후보별 점수를 배열에 모아 호출 스레드에서 합치므로 결과는 순차 탐색과 같음
+ */
+final class ParallelSearch {
+
+    // 남는 코어 수만큼 (최소 1), 데몬 스레드라 게임 종료를 막지 않음
+    static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    // 처음 사용할 때 생성
+    private static final class PoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool(PARALLELISM, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("tetris-ai-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    private static final ThreadLocal<LookaheadSearch> WORKER_SEARCH =
+        ThreadLocal.withInitial(LookaheadSearch::new);
+
+    private ParallelSearch() {
+    }
+
+    /**
+     * root에 읽어 둔 보드와 블록 순서로 depth개 블록 탐색 (결과는 root의 best 값으로 읽음)
+     * @return 마감 전에 끝났고 둘 곳이 있으면 true
+     */
+    static boolean search(LookaheadSearch root, int depth, int beamWidth, SearchBudget budget) {
+        int count = root.prepareRoot(beamWidth, depth, budget);
+        double[] scores = new double[count];
+        AtomicBoolean timedOut = new AtomicBoolean();
+        AtomicInteger evaluated = new AtomicInteger();
+        if (count > 0) {
+            PoolHolder.POOL.invoke(new SubtreeTask(root, scores, 0, count, depth, beamWidth, budget,
+                timedOut, evaluated));
+        }
+        return root.finishRoot(scores, count, timedOut.get(), evaluated.get());
+    }
+
+    /**
+     * 루트 후보 [from, to) 범위의 부분 트리 점수 계산
+     */
+    // RecursiveAction이 Serializable이라 생기는 경고 - 풀 안에서만 쓰이고 직렬화하지 않음
+    @SuppressWarnings("serial")
+    private static final class SubtreeTask extends RecursiveAction {
+        private final LookaheadSearch root;
+        private final double[] scores;
+        private final int from;
+        private final int to;
+        private final int depth;
+        private final int beamWidth;
+        private final SearchBudget budget;
+        private final AtomicBoolean timedOut;
+        private final AtomicInteger evaluated;
+
+        SubtreeTask(LookaheadSearch root, double[] scores, int from, int to, int depth, int beamWidth,
+                    SearchBudget budget, AtomicBoolean timedOut, AtomicInteger evaluated) {
+            this.root = root;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+            this.beamWidth = beamWidth;
+            this.budget = budget;
+            this.timedOut = timedOut;
+            this.evaluated = evaluated;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new SubtreeTask(root, scores, from, mid, depth, beamWidth, budget, timedOut, evaluated),
+                    new SubtreeTask(root, scores, mid, to, depth, beamWidth, budget, timedOut, evaluated));
+                return;
+            }
+            if (timedOut.get() || budget.isExpired()) {
+                timedOut.set(true);
+                return;
+            }
+            LookaheadSearch search = WORKER_SEARCH.get();
+            scores[from] = search.searchSubtree(root, from, depth, beamWidth, budget);
+            evaluated.addAndGet(search.getEvaluated());
+            if (search.isTimedOut()) {
+                timedOut.set(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.game.ai;
+
+import com.example.game.blocks.RotationTable;
+import com.example.game.component.AttackTable;
+import com.example.game.component.BoardState;
+import com.example.game.component.LineClear;
+
+/**
+ * AI 탐색용 보드 평가기 (탐색 스레드마다 하나씩 재사용)
+ * - 보드를 한 번만 줄/열 비트마스크와 열 높이로 읽어 두고, 후보 배치는 보드를 복사하지 않고 평가
+ * - 블록이 놓인 열/줄만 다시 계산하므로 후보당 할당 없음
+ * - 점수는 Dellacherie 휴리스틱 (높이 합, 완성 줄, 구멍, 울퉁불퉁함) + 공격 줄 수 (공격 표가 있을 때)
+ * - 미리보기 탐색에서는 놓고 줄을 지운 결과를 다음 단계 평가기에 읽어 들임 (loadPlaced)
+ */
+final class PlacementEvaluator {
+
+    // Dellacherie 휴리스틱 가중치 (경험적으로 안정적인 값)
+    static final double WEIGHT_AGGREGATE_HEIGHT = -0.510066;
+    static final double WEIGHT_COMPLETE_LINES = 0.760666;
+    static final double WEIGHT_HOLES = -0.35663;
+    static final double WEIGHT_BUMPINESS = -0.184483;
+    // 공격 줄 1줄당 보상 (같은 줄 수라면 콤보/B2B/테트리스로 더 많이 보내는 배치 선호)
+    static final double WEIGHT_ATTACK = 0.35;
+
+    private int width;
+    private int height;
+    private int fullMask;
+    private int[] rows = new int[0];
+    private long[] columns = new long[0];
+    private int[] heights = new int[0];
+
+    // 보드 전체 값 (후보마다 바뀐 열만 더하고 뺌)
+    private int aggregateHeight;
+    private int filledCells;
+    private int fullLines;
+    private long boardHash;     // 줄별 해시의 XOR (같은 보드 중복 제거용)
+
+    // 공격 계산 상태 (GameLogic의 콤보/B2B와 같은 의미, 공격 표가 null이면 공격 보상 없음)
+    private AttackTable attackTable;
+    private int combo = -1;
+    private boolean backToBackReady;
+
+    // 현재 방향의 블록 열별 가장 위/아래 셀 행 (빈 열은 -1)
+    private final int[] pieceTop = new int[4];
+    private final int[] pieceBottom = new int[4];
+    private int pieceWidth;
+    private int pieceHeight;
+    private int pieceCells;
+    private RotationTable pieceTable;
+    private int pieceOrientation;
+
+    /**
+     * 보드 내용을 읽어 둠 (크기가 바뀐 경우에만 배열을 새로 만듦)
+     */
+    void load(BoardState board) {
+        resize(board.getWidth(), board.getHeight());
+        fullMask = board.getFullRowMask();
+
+        fullLines = Long.bitCount(board.getFullRows());
+        for (int row = 0; row < height; row++) {
+            rows[row] = board.getRow(row);
+        }
+        rebuild();
+        setClearState(null, -1, false);
+    }
+
+    /**
+     * 공격 계산 상태 지정 (load 뒤에 호출, 놓은 결과의 상태는 loadPlaced가 이어 받음)
+     * @param combo 현재 콤보 (-1 = 콤보 없음)
+     */
+    void setClearState(AttackTable attackTable, int combo, boolean backToBackReady) {
+        this.attackTable = attackTable;
+        this.combo = combo;
+        this.backToBackReady = backToBackReady;
+    }
+
+    /**
+     * parent 보드의 (x, y)에 parent의 현재 블록을 놓고 꽉 찬 줄을 지운 결과를 읽어 둠
+     * @return 지운 줄 수
+     */
+    int loadPlaced(PlacementEvaluator parent, int x, int y) {
+        resize(parent.width, parent.height);
+        fullMask = parent.fullMask;
+
+        // 아래 줄부터 꽉 차지 않은 줄만 아래로 모음
+        int target = height - 1;
+        for (int row = height - 1; row >= 0; row--) {
+            int mask = parent.rows[row];
+            int local = row - y;
+            if (local >= 0 && local < parent.pieceHeight) {
+                mask |= parent.pieceTable.rowMask(parent.pieceOrientation, local) << x;
+            }
+            if (mask != fullMask) {
+                rows[target--] = mask;
+            }
+        }
+        int cleared = target + 1;
+        while (target >= 0) {
+            rows[target--] = 0;
+        }
+        fullLines = 0;
+        rebuild();
+
+        // GameLogic.classifyClear와 같은 규칙으로 콤보/B2B 갱신
+        attackTable = parent.attackTable;
+        combo = cleared > 0 ? parent.combo + 1 : -1;
+        backToBackReady = cleared > 0 ? isDifficult(cleared) : parent.backToBackReady;
+        return cleared;
+    }
+
+    // 크기가 바뀐 경우에만 배열을 새로 만듦
+    private void resize(int boardWidth, int boardHeight) {
+        if (rows.length != boardHeight || columns.length != boardWidth) {
+            rows = new int[boardHeight];
+            columns = new long[boardWidth];
+            heights = new int[boardWidth];
+        }
+        width = boardWidth;
+        height = boardHeight;
+    }
+
+    /**
+     * 다른 평가기의 보드를 그대로 복사 (병렬 탐색에서 루트 보드를 스레드별로 나눠 가짐)
+     */
+    void copyFrom(PlacementEvaluator other) {
+        resize(other.width, other.height);
+        fullMask = other.fullMask;
+        System.arraycopy(other.rows, 0, rows, 0, height);
+        System.arraycopy(other.columns, 0, columns, 0, width);
+        System.arraycopy(other.heights, 0, heights, 0, width);
+        aggregateHeight = other.aggregateHeight;
+        filledCells = other.filledCells;
+        fullLines = other.fullLines;
+        boardHash = other.boardHash;
+        attackTable = other.attackTable;
+        combo = other.combo;
+        backToBackReady = other.backToBackReady;
+        pieceTable = null;
+    }
+
+    // 줄 비트마스크로부터 열 마스크, 높이, 채워진 칸 수, 해시를 다시 계산
+    private void rebuild() {
+        filledCells = 0;
+        boardHash = 0L;
+        for (int col = 0; col < width; col++) {
+            columns[col] = 0L;
+        }
+        for (int row = 0; row < height; row++) {
+            int mask = rows[row];
+            filledCells += Integer.bitCount(mask);
+            boardHash ^= rowHash(row, mask);
+            while (mask != 0) {
+                columns[Integer.numberOfTrailingZeros(mask)] |= 1L << row;
+                mask &= mask - 1;
+            }
+        }
+        aggregateHeight = 0;
+        for (int col = 0; col < width; col++) {
+            long column = columns[col];
+            heights[col] = column == 0L ? 0 : height - Long.numberOfTrailingZeros(column);
+            aggregateHeight += heights[col];
+        }
+        pieceTable = null;
+    }
+
+    // 줄 번호와 마스크를 섞은 64비트 키 - 보드 해시는 줄 키의 XOR (Zobrist 방식, 빈 줄은 0)
+    static long rowHash(int row, int mask) {
+        if (mask == 0) {
+            return 0L;
+        }
+        return mix((long) row << 32 | (mask & 0xFFFFFFFFL));
+    }
+
+    // SplitMix64 섞기 함수 (탐색 캐시 키 조합에도 사용)
+    static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    long getHash() {
+        return boardHash;
+    }
+
+    // 공격 계산 상태 키 (같은 보드라도 콤보/B2B가 다르면 이후 점수가 다름, 공격 표가 없으면 0)
+    long getClearStateKey() {
+        if (attackTable == null) {
+            return 0L;
+        }
+        return mix((long) (combo + 1) << 1 | (backToBackReady ? 1 : 0));
+    }
+
+    /**
+     * 이 보드에 블록을 놓아 lines줄을 지웠을 때 보내는 공격 줄 수 (공격 표가 없으면 0)
+     * - 탐색은 떨어뜨린 배치만 만들므로 T-spin은 없고, 테트리스만 어려운 삭제
+     */
+    int attackFor(int lines) {
+        if (attackTable == null || lines <= 0) {
+            return 0;
+        }
+        return attackTable.attackFor(lines, LineClear.Spin.NONE, combo + 1,
+            isDifficult(lines) && backToBackReady);
+    }
+
+    private static boolean isDifficult(int lines) {
+        return lines >= 4;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * 평가할 블록 방향 선택 - 열별 위/아래 셀 행을 미리 계산
+     */
+    void setPiece(RotationTable table, int orientation) {
+        if (table == pieceTable && orientation == pieceOrientation) {
+            return;
+        }
+        pieceTable = table;
+        pieceOrientation = orientation;
+        pieceWidth = table.width(orientation);
+        pieceHeight = table.height(orientation);
+        pieceCells = table.cellCount();
+        for (int col = 0; col < pieceWidth; col++) {
+            pieceBottom[col] = table.columnBottom(orientation, col);
+            pieceTop[col] = -1;
+            for (int row = 0; row < pieceHeight; row++) {
+                if ((table.rowMask(orientation, row) & (1 << col)) != 0) {
+                    pieceTop[col] = row;
+                    break;
+                }
+            }
+        }
+    }
+
+    int getPieceWidth() {
+        return pieceWidth;
+    }
+
+    /**
+     * (x, y)에 블록을 놓은 보드의 해시 (줄 삭제 전, 놓인 줄만 다시 섞음)
+     */
+    long placedHash(int x, int y) {
+        long hash = boardHash;
+        for (int row = 0; row < pieceHeight; row++) {
+            int mask = pieceTable.rowMask(pieceOrientation, row);
+            if (mask != 0) {
+                int old = rows[y + row];
+                hash ^= rowHash(y + row, old) ^ rowHash(y + row, old | (mask << x));
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 맨 위(y = 0)에서 떨어뜨렸을 때의 최종 y (시작 위치가 막혀 있으면 -1)
+     * - 열 비트마스크에서 블록 아래 첫 번째 막힌 줄을 바로 찾음
+     */
+    int dropY(int x) {
+        for (int row = 0; row < pieceHeight; row++) {
+            if ((rows[row] & (pieceTable.rowMask(pieceOrientation, row) << x)) != 0) {
+                return -1;
+            }
+        }
+        int distance = height;
+        for (int col = 0; col < pieceWidth; col++) {
+            int bottom = pieceBottom[col];
+            if (bottom < 0) {
+                continue;
+            }
+            long below = columns[x + col] & (-1L << (bottom + 1));
+            int stop = below == 0L ? height : Long.numberOfTrailingZeros(below);
+            distance = Math.min(distance, stop - bottom - 1);
+        }
+        return distance;
+    }
+
+    /**
+     * (x, y)에 블록을 놓은 보드의 점수 (줄 삭제 전 상태 기준)
+     * - 보드 배열은 읽기만 하므로 같은 평가기로 다음 후보를 바로 평가 가능
+     */
+    double evaluate(int x, int y) {
+        int lines = fullLines;
+        for (int row = 0; row < pieceHeight; row++) {
+            int mask = pieceTable.rowMask(pieceOrientation, row);
+            if (mask != 0 && (rows[y + row] | (mask << x)) == fullMask) {
+                lines++;
+            }
+        }
+
+        // 블록이 놓인 열의 높이만 다시 계산
+        int aggregate = aggregateHeight;
+        int bumpiness = 0;
+        int previous = 0;
+        for (int col = 0; col < width; col++) {
+            int h = columnHeight(col, x, y);
+            if (col >= x && col < x + pieceWidth) {
+                aggregate += h - heights[col];
+            }
+            if (col > 0) {
+                bumpiness += Math.abs(h - previous);
+            }
+            previous = h;
+        }
+
+        // 구멍 = 높이 합 - 채워진 칸 수
+        int holes = aggregate - (filledCells + pieceCells);
+
+        return WEIGHT_AGGREGATE_HEIGHT * aggregate
+            + WEIGHT_COMPLETE_LINES * lines
+            + WEIGHT_HOLES * holes
+            + WEIGHT_BUMPINESS * bumpiness
+            + WEIGHT_ATTACK * attackFor(lines);
+    }
+
+    private int columnHeight(int col, int x, int y) {
+        int h = heights[col];
+        int local = col - x;
+        if (local < 0 || local >= pieceWidth || pieceTop[local] < 0) {
+            return h;
+        }
+        return Math.max(h, height - (y + pieceTop[local]));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.game.ai;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 한 수 계산의 마감 시각과 취소 표시 (탐색 스레드들이 함께 확인)
+ * - 마감이 지나거나 취소되면 탐색은 마지막으로 끝난 깊이의 결과를 사용
+ */
+public final class SearchBudget {
+
+    private final long deadline; // System.nanoTime 기준
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    public SearchBudget(long timeBudgetMillis) {
+        this.deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+    }
+
+    // 진행 중인 탐색 중단 (다른 스레드에서 호출 가능)
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    // 마감이 지났거나 취소되었는지
+    public boolean isExpired() {
+        return cancelled.get() || System.nanoTime() - deadline > 0;
+    }
+}
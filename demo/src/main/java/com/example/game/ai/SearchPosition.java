@@ -0,0 +1,103 @@
+package com.example.game.ai;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.RotationTable;
+import com.example.game.component.AttackTable;
+import com.example.game.component.BoardState;
+import com.example.game.component.GameLogic;
+
+/**
+ * AI 탐색 입력의 불변 스냅샷 (보드 복사본 + 블록 순서 + 홀드 + 콤보/B2B)
+ * - 게임 스레드에서 capture한 뒤 다른 스레드에서 탐색해도 실제 게임 상태를 읽지 않음
+ * - 블록은 회전 테이블과 방향만 기록 (블록 인스턴스는 공유하지 않음)
+ */
+public final class SearchPosition {
+
+    private final BoardState board;
+    private final RotationTable[] tables;     // [0] = 현재 블록, 이후 미리보기 순서
+    private final int[] orientations;
+    private final boolean[] rotatable;
+    private final RotationTable holdTable;    // 홀드가 비어 있으면 null
+    private final int holdOrientation;
+    private final boolean holdRotatable;
+    private final boolean canHold;            // 규칙상 이번 블록에서 홀드 가능한지
+    private final AttackTable attackTable;    // 공격 보상 계산용
+    private final int combo;
+    private final boolean backToBackReady;
+
+    private SearchPosition(GameLogic gameLogic) {
+        BoardState live = gameLogic.getBoardState();
+        board = new BoardState(live.getWidth(), live.getHeight());
+        board.copyFrom(live);
+
+        int count = 1 + Math.min(gameLogic.getPreviewCount(), LookaheadSearch.MAX_DEPTH - 1);
+        tables = new RotationTable[count];
+        orientations = new int[count];
+        rotatable = new boolean[count];
+        record(0, gameLogic.getCurrentBlock());
+        for (int i = 1; i < count; i++) {
+            record(i, gameLogic.getPreviewBlock(i - 1));
+        }
+
+        Block hold = gameLogic.getHoldBlock();
+        holdTable = hold != null ? hold.getRotationTable() : null;
+        holdOrientation = hold != null ? hold.getOrientation() : 0;
+        holdRotatable = hold != null && hold.canRotate();
+        // 아이템 블록은 홀드할 수 없음
+        canHold = gameLogic.canHold() && gameLogic.getCurrentBlock().getPieceKind() != null;
+
+        attackTable = gameLogic.getRules().getAttackTable();
+        combo = gameLogic.getCombo();
+        backToBackReady = gameLogic.isBackToBackReady();
+    }
+
+    /**
+     * 현재 게임 상태 스냅샷 (진행 중인 블록이 없으면 null)
+     */
+    public static SearchPosition capture(GameLogic gameLogic) {
+        if (gameLogic.getCurrentBlock() == null) {
+            return null;
+        }
+        return new SearchPosition(gameLogic);
+    }
+
+    private void record(int index, Block block) {
+        tables[index] = block.getRotationTable();
+        orientations[index] = block.getOrientation();
+        rotatable[index] = block.canRotate();
+    }
+
+    // 현재 블록 + 미리보기 수
+    public int getPieceCount() {
+        return tables.length;
+    }
+
+    public boolean canHold() {
+        return canHold;
+    }
+
+    public boolean hasHoldPiece() {
+        return holdTable != null;
+    }
+
+    /**
+     * 탐색 버퍼에 보드와 depth개까지의 블록 순서를 채움
+     * @param hold true면 홀드 블록(비어 있으면 다음 블록)을 먼저 놓음
+     */
+    void loadInto(LookaheadSearch search, boolean hold, int depth) {
+        search.reset(board);
+        search.setClearState(attackTable, combo, backToBackReady);
+        int next = 1;
+        if (!hold) {
+            search.addPiece(tables[0], orientations[0], rotatable[0]);
+        } else if (holdTable != null) {
+            search.addPiece(holdTable, holdOrientation, holdRotatable);
+        } else {
+            search.addPiece(tables[1], orientations[1], rotatable[1]);
+            next = 2;
+        }
+        for (int i = next; i < tables.length && search.getPieceCount() < depth; i++) {
+            search.addPiece(tables[i], orientations[i], rotatable[i]);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.game.ai;
+
+/**
+ * AI 탐색 설정 (불변)
+ * - depth: 놓아 볼 블록 수 (1 = 현재 블록만, 2 = 다음 블록까지 ...), 알려진 블록 수를 넘지 않음
+ * - beamWidth: 단계마다 다음 블록으로 확장할 상위 후보 수
+ * - holdEnabled: 규칙이 허용하면 홀드한 경우도 비교
+ * - parallel: 깊이 2 이상에서 루트 후보를 AI 전용 스레드 풀에 나눠 계산 (결과는 순차 탐색과 같음)
+ * - timeBudgetMillis: 한 수 계산 시간 상한 (넘으면 마지막으로 끝난 깊이의 결과 사용)
+ */
+public final class SearchSettings {
+
+    private static final SearchSettings DEFAULTS = new SearchSettings(2, 8, true, true, 50);
+
+    private final int depth;
+    private final int beamWidth;
+    private final boolean holdEnabled;
+    private final boolean parallel;
+    private final long timeBudgetMillis;
+
+    public SearchSettings(int depth, int beamWidth, boolean holdEnabled, boolean parallel,
+                          long timeBudgetMillis) {
+        if (depth < 1 || depth > LookaheadSearch.MAX_DEPTH) {
+            throw new IllegalArgumentException("Search depth must be between 1 and "
+                + LookaheadSearch.MAX_DEPTH + ": " + depth);
+        }
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be positive: " + beamWidth);
+        }
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive: " + timeBudgetMillis);
+        }
+        this.depth = depth;
+        this.beamWidth = beamWidth;
+        this.holdEnabled = holdEnabled;
+        this.parallel = parallel;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    // 현재 + 다음 블록, 상위 8개 확장, 병렬, 50ms
+    public static SearchSettings defaults() {
+        return DEFAULTS;
+    }
+
+    public SearchSettings withDepth(int depth) {
+        return new SearchSettings(depth, beamWidth, holdEnabled, parallel, timeBudgetMillis);
+    }
+
+    public SearchSettings withBeamWidth(int beamWidth) {
+        return new SearchSettings(depth, beamWidth, holdEnabled, parallel, timeBudgetMillis);
+    }
+
+    public SearchSettings withHold(boolean holdEnabled) {
+        return new SearchSettings(depth, beamWidth, holdEnabled, parallel, timeBudgetMillis);
+    }
+
+    public SearchSettings withParallel(boolean parallel) {
+        return new SearchSettings(depth, beamWidth, holdEnabled, parallel, timeBudgetMillis);
+    }
+
+    public SearchSettings withTimeBudget(long timeBudgetMillis) {
+        return new SearchSettings(depth, beamWidth, holdEnabled, parallel, timeBudgetMillis);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    public boolean isHoldEnabled() {
+        return holdEnabled;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.game.ai;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 탐색 결과 캐시 (한 게임 동안 여러 번의 탐색이 공유)
+ * - 키 = 블록을 놓은 보드의 해시 + 남은 블록 순서/빔 폭, 값 = 그 아래 부분 트리 점수
+ * - 크기 고정 (2의 거듭제곱), 버킷당 4칸, 가득 차면 clock(second chance) 방식으로 교체
+ * - 병렬 탐색 스레드가 잠금 없이 함께 사용: 키 대신 (키 ^ 값)을 저장해 동시에 쓰다 섞인 칸은 조회에서 걸러냄
+ */
+public final class TranspositionTable {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final int WAYS = 4;
+
+    // 칸 상태 (clock 참조 비트 포함)
+    private static final int EMPTY = 0;
+    private static final int PRESENT = 1;
+    private static final int REFERENCED = 2;
+
+    private final int bucketMask;
+    private final AtomicLongArray checks;   // 키 ^ 값 비트
+    private final AtomicLongArray values;   // double 비트
+    private final AtomicIntegerArray states;
+    private final AtomicIntegerArray hands; // 버킷별 clock 바늘
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity 최대 칸 수 (2의 거듭제곱으로 올림, 최소 4)
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        bucketMask = size / WAYS - 1;
+        checks = new AtomicLongArray(size);
+        values = new AtomicLongArray(size);
+        states = new AtomicIntegerArray(size);
+        hands = new AtomicIntegerArray(size / WAYS);
+    }
+
+    /**
+     * 저장된 점수 (없으면 NaN)
+     */
+    public double get(long key) {
+        int base = bucket(key);
+        for (int way = 0; way < WAYS; way++) {
+            int index = base + way;
+            if (states.get(index) == EMPTY) {
+                continue;
+            }
+            long bits = values.get(index);
+            if ((checks.get(index) ^ bits) == key) {
+                states.set(index, REFERENCED);
+                hits.increment();
+                return Double.longBitsToDouble(bits);
+            }
+        }
+        misses.increment();
+        return Double.NaN;
+    }
+
+    /**
+     * 점수 저장 (같은 키는 덮어씀, 빈 칸이 없으면 최근에 쓰이지 않은 칸을 교체)
+     */
+    public void put(long key, double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        int base = bucket(key);
+        int slot = -1;
+        for (int way = 0; way < WAYS && slot < 0; way++) {
+            int index = base + way;
+            if (states.get(index) == EMPTY || (checks.get(index) ^ values.get(index)) == key) {
+                slot = index;
+            }
+        }
+        if (slot < 0) {
+            slot = base + evict(base);
+            evictions.increment();
+        }
+        values.set(slot, bits);
+        checks.set(slot, key ^ bits);
+        states.set(slot, PRESENT);
+        stores.increment();
+    }
+
+    // 참조 비트가 켜진 칸은 한 번 건너뛰고(비트를 끔) 처음 만나는 꺼진 칸을 교체
+    private int evict(int base) {
+        int bucket = base / WAYS;
+        int hand = hands.get(bucket);
+        for (int step = 0; step < WAYS * 2; step++) {
+            int way = hand;
+            hand = (hand + 1) % WAYS;
+            if (!states.compareAndSet(base + way, REFERENCED, PRESENT)) {
+                hands.set(bucket, hand);
+                return way;
+            }
+        }
+        hands.set(bucket, hand);
+        return hand;
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) * WAYS;
+    }
+
+    /**
+     * 모든 칸과 통계 초기화 (새 게임 시작 시)
+     */
+    public void clear() {
+        for (int i = 0; i < states.length(); i++) {
+            states.set(i, EMPTY);
+        }
+        hits.reset();
+        misses.reset();
+        stores.reset();
+        evictions.reset();
+    }
+
+    public int capacity() {
+        return states.length();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    // 조회 중 적중 비율 (조회가 없으면 0)
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TranspositionTable{capacity=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d}",
+            capacity(), getHits(), getMisses(), getHitRate() * 100, getEvictions());
+    }
+}
@@ -1,53 +1,138 @@
 package com.example.game.blocks;
 
 public abstract class Block {
-    protected int[][] shape;
+    private static final RotationTable DEFAULT_TABLE = RotationTable.of(new int[][]{
+        {1, 1},
+        {1, 1}
+    });
+
+    protected int[][] shape; // 현재 방향의 shape (회전 테이블의 공유 배열)
     protected String cssClass; // Changed from Color to CSS class
-    
+
+    private RotationTable rotationTable; // 미리 계산된 4방향 회전 상태
+    private int orientation = 0; // 현재 방향 인덱스 (0-3)
+    private PieceKind pieceKind; // 일반 블록 종류 (아이템/기본 블록은 null)
+
     public Block() {
-        shape = new int[][]{ 
-            {1, 1}, 
-            {1, 1}
-        };
+        setRotationTable(DEFAULT_TABLE);
         cssClass = "block-default";
     }
-    
+
+    /**
+     * 공유 회전 테이블 지정 (방향 0부터 시작)
+     */
+    protected void setRotationTable(RotationTable table) {
+        setRotationTable(table, 0);
+    }
+
+    protected void setRotationTable(RotationTable table, int orientation) {
+        this.rotationTable = table;
+        this.orientation = orientation;
+        this.shape = table.shape(orientation);
+    }
+
+    /**
+     * 일반 블록 종류 지정 - 종류의 공유 회전 테이블과 CSS 클래스를 사용
+     */
+    protected void setPieceKind(PieceKind kind) {
+        this.pieceKind = kind;
+        setRotationTable(kind.table());
+        cssClass = kind.cssClass();
+    }
+
+    public PieceKind getPieceKind() {
+        return pieceKind;
+    }
+
+    /**
+     * 하위 클래스가 shape를 직접 지정한 경우 그 모양으로 테이블을 새로 만듦
+     */
+    private void syncRotationTable() {
+        if (rotationTable.shape(orientation) != shape) {
+            setRotationTable(RotationTable.of(shape));
+        }
+    }
+
     public int getShape(int x, int y) {
         return shape[y][x];
     }
-    
+
     public String getCssClass() {
         return cssClass;
     }
-    
+
+    // 보드에 기록될 셀 타입 코드
+    public byte getCellType() {
+        return CellType.of(getCssClass());
+    }
+
+    /**
+     * shape 지정 (네트워크 동기화용)
+     * 현재 테이블에 같은 모양의 방향이 있으면 그 방향으로 전환
+     */
     public void setShape(int[][] newShape) {
-        this.shape = newShape;
+        syncRotationTable();
+        int found = rotationTable.findOrientation(newShape);
+        if (found >= 0) {
+            setRotationTable(rotationTable, found);
+        } else {
+            setRotationTable(RotationTable.of(newShape));
+        }
     }
-    
+
+    // 시계 방향 회전 - 방향 인덱스만 변경
     public void rotate() {
-        int rows = shape.length;
-        int cols = shape[0].length;
-        int[][] rotated = new int[cols][rows];
-        
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                rotated[j][rows - 1 - i] = shape[i][j];
-            }
-        }
-        
-        shape = rotated;
+        syncRotationTable();
+        orientation = (orientation + 1) & 3;
+        shape = rotationTable.shape(orientation);
+    }
+
+    // 반시계 방향 회전 (회전 취소용)
+    public void rotateBack() {
+        syncRotationTable();
+        orientation = (orientation + 3) & 3;
+        shape = rotationTable.shape(orientation);
+    }
+
+    public RotationTable getRotationTable() {
+        syncRotationTable();
+        return rotationTable;
+    }
+
+    public int getOrientation() {
+        syncRotationTable();
+        return orientation;
     }
-    
+
+    // 현재 방향의 행 비트마스크 (bit i = 블록 내부 열 i)
+    public int rowMask(int row) {
+        syncRotationTable();
+        return rotationTable.rowMask(orientation, row);
+    }
+
+    // 현재 방향에서 블록 내부 열의 가장 아래 셀 행 (빈 열은 -1)
+    public int columnBottom(int col) {
+        syncRotationTable();
+        return rotationTable.columnBottom(orientation, col);
+    }
+
     public int height() {
         return shape.length;
     }
-    
+
     public int width() {
         if(shape.length > 0)
             return shape[0].length;
         return 0;
     }
-    
+
+    /**
+     * 회전 가능 여부 (회전하지 않는 아이템 블록은 false)
+     */
+    public boolean canRotate() {
+        return true;
+    }
+
     /**
      * 아이템 블록 여부 확인
      * 기본적으로 false, 아이템 블록들은 이를 오버라이드
@@ -55,4 +140,4 @@ public abstract class Block {
     public boolean isItemBlock() {
         return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.example.game.blocks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.scene.paint.Color;
+
+/**
+ * 보드 셀 타입 코드 레지스트리
+ * - CSS 클래스 문자열을 1바이트 코드로 치환하여 보드를 byte[]로 저장
+ * - 코드 → CSS 클래스, 코드 → Color 조회는 배열 인덱싱으로 처리
+ * - 기본 코드는 고정값이므로 네트워크/리플레이에서 그대로 전송 가능
+ */
+public final class CellType {
+
+    public static final byte EMPTY = 0;
+    public static final byte DEFAULT = 1;   // block-default (애니메이션용 임시 채움)
+    public static final byte I = 2;
+    public static final byte J = 3;
+    public static final byte L = 4;
+    public static final byte O = 5;
+    public static final byte S = 6;
+    public static final byte T = 7;
+    public static final byte Z = 8;
+    public static final byte ITEM = 9;      // SingleBlock, weightedBlock
+    public static final byte SAND = 10;     // SandBlock
+    public static final byte ATTACK = 11;   // 대전 모드 공격 줄
+
+    private static final int MAX_TYPES = 128;
+
+    // 코드 → CSS 클래스 (EMPTY는 null)
+    private static final String[] CSS_CLASSES = new String[MAX_TYPES];
+    private static final Map<String, Byte> CODES = new HashMap<>();
+    private static int count = 0;
+
+    static {
+        register(null);             // EMPTY
+        register("block-default");
+        register("block-i");
+        register("block-j");
+        register("block-l");
+        register("block-o");
+        register("block-s");
+        register("block-t");
+        register("block-z");
+        register("item");
+        register("item-sand");
+        register("attack-block");
+    }
+
+    private CellType() {
+    }
+
+    private static byte register(String cssClass) {
+        byte code = (byte) count;
+        CSS_CLASSES[count] = cssClass;
+        if (cssClass != null) {
+            CODES.put(cssClass, code);
+        }
+        count++;
+        return code;
+    }
+
+    /**
+     * CSS 클래스에 해당하는 코드 반환 (처음 보는 클래스는 새 코드로 등록)
+     */
+    public static synchronized byte of(String cssClass) {
+        if (cssClass == null) {
+            return EMPTY;
+        }
+        Byte code = CODES.get(cssClass);
+        if (code != null) {
+            return code;
+        }
+        if (count >= MAX_TYPES) {
+            return DEFAULT; // 등록 한도 초과 시 기본 타입으로 처리
+        }
+        return register(cssClass);
+    }
+
+    /**
+     * 코드에 해당하는 CSS 클래스 반환 (EMPTY 또는 알 수 없는 코드는 null)
+     */
+    public static String cssClass(byte code) {
+        if (code <= EMPTY || code >= count) {
+            return null;
+        }
+        return CSS_CLASSES[code];
+    }
+
+    // 등록된 코드 수 (EMPTY 포함)
+    public static int count() {
+        return count;
+    }
+
+    /**
+     * 색상 맵으로부터 코드 인덱스 색상 배열 생성
+     * 맵에 없는 타입은 block-default 색상 사용
+     */
+    public static Color[] buildPalette(Map<String, Color> colorMap) {
+        Color defaultColor = colorMap.get("block-default");
+        int size = count;
+        Color[] palette = new Color[size];
+        for (int code = DEFAULT; code < size; code++) {
+            palette[code] = colorMap.getOrDefault(CSS_CLASSES[code], defaultColor);
+        }
+        return palette;
+    }
+
+    /**
+     * 팔레트에서 코드의 색상 조회 (팔레트 생성 이후 등록된 코드는 기본 색상)
+     */
+    public static Color colorOf(Color[] palette, byte code) {
+        if (code <= EMPTY || code >= palette.length) {
+            return palette.length > DEFAULT ? palette[DEFAULT] : null;
+        }
+        return palette[code];
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.game.blocks;
+
+/**
+ * SRS 벽 차기(wall kick) 오프셋을 미리 계산해 둔 불변 테이블
+ * - 블록 종류별로 하나씩 만들어 공유 (PieceKind)
+ * - 회전 테이블은 꽉 맞는 경계 상자 기준이므로, SRS 회전 상자 안에서의 위치 변화를 오프셋에 미리 더해 둠
+ * - 회전 시에는 (x + offsetX, y + offsetY)를 순서대로 충돌 검사만 하면 됨 (할당 없음)
+ * - 좌표계는 보드 기준 (y가 아래로 증가, SRS 표의 y는 부호를 뒤집어 저장)
+ */
+public final class KickTable {
+
+    public static final int CLOCKWISE = 0;
+    public static final int COUNTER_CLOCKWISE = 1;
+
+    // SRS 표 [방향][SRS 상태][테스트] = {x, y} (y는 위쪽이 +)
+    // 시계: 0->R, R->2, 2->L, L->0 / 반시계: 0->L, R->0, 2->R, L->2
+    private static final int[][][][] JLSTZ_KICKS = {
+        {
+            {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}},
+            {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},
+            {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},
+            {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}}
+        },
+        {
+            {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},
+            {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},
+            {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}},
+            {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}}
+        }
+    };
+
+    private static final int[][][][] I_KICKS = {
+        {
+            {{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}},
+            {{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}},
+            {{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}},
+            {{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}}
+        },
+        {
+            {{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}},
+            {{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}},
+            {{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}},
+            {{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}}
+        }
+    };
+
+    private static final int[][][][] NO_KICKS = {
+        {{{0, 0}}, {{0, 0}}, {{0, 0}}, {{0, 0}}},
+        {{{0, 0}}, {{0, 0}}, {{0, 0}}, {{0, 0}}}
+    };
+
+    private final int testCount;
+    private final int[] offsetX; // [(방향 * 4 + 시작 방향) * testCount + 테스트]
+    private final int[] offsetY;
+
+    private KickTable(RotationTable table, int boxSize, int boxCol, int boxRow, int baseState,
+                      int[][][][] kicks) {
+        // 회전 상자 안에서 방향별 경계 상자의 왼쪽 위 위치
+        int[] boxX = new int[RotationTable.ORIENTATIONS];
+        int[] boxY = new int[RotationTable.ORIENTATIONS];
+        int cellCount = table.cellCount();
+        int[] rows = new int[cellCount];
+        int[] cols = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            rows[i] = table.cellRow(0, i) + boxRow;
+            cols[i] = table.cellCol(0, i) + boxCol;
+        }
+        for (int o = 0; o < RotationTable.ORIENTATIONS; o++) {
+            int minRow = Integer.MAX_VALUE;
+            int minCol = Integer.MAX_VALUE;
+            for (int i = 0; i < cellCount; i++) {
+                minRow = Math.min(minRow, rows[i]);
+                minCol = Math.min(minCol, cols[i]);
+                // 다음 방향: 상자 기준 시계 방향 90도 (row, col) -> (col, N - 1 - row)
+                int row = rows[i];
+                rows[i] = cols[i];
+                cols[i] = boxSize - 1 - row;
+            }
+            boxX[o] = minCol;
+            boxY[o] = minRow;
+        }
+
+        testCount = kicks[0][0].length;
+        offsetX = new int[2 * RotationTable.ORIENTATIONS * testCount];
+        offsetY = new int[offsetX.length];
+        for (int dir = 0; dir < 2; dir++) {
+            for (int from = 0; from < RotationTable.ORIENTATIONS; from++) {
+                int to = dir == CLOCKWISE ? (from + 1) & 3 : (from + 3) & 3;
+                int srsState = (baseState + from) & 3;
+                for (int t = 0; t < testCount; t++) {
+                    int index = (dir * RotationTable.ORIENTATIONS + from) * testCount + t;
+                    int[] kick = kicks[dir][srsState][t];
+                    offsetX[index] = boxX[to] - boxX[from] + kick[0];
+                    offsetY[index] = boxY[to] - boxY[from] - kick[1];
+                }
+            }
+        }
+    }
+
+    /**
+     * SRS 규칙으로 테이블 생성 (상자 크기로 I / O / 나머지 표를 선택)
+     * @param boxSize SRS 회전 상자 크기 (I: 4, O: 2, 나머지: 3)
+     * @param boxCol 방향 0 모양이 상자 안에서 시작하는 열
+     * @param boxRow 방향 0 모양이 상자 안에서 시작하는 행
+     * @param baseState 방향 0이 해당하는 SRS 상태 (0, R=1, 2, L=3)
+     */
+    static KickTable srs(RotationTable table, int boxSize, int boxCol, int boxRow, int baseState) {
+        int[][][][] kicks;
+        if (boxSize == 4) {
+            kicks = I_KICKS;
+        } else if (boxSize == 2) {
+            kicks = NO_KICKS;
+        } else {
+            kicks = JLSTZ_KICKS;
+        }
+        return new KickTable(table, boxSize, boxCol, boxRow, baseState, kicks);
+    }
+
+    // 방향 전환마다 시도할 위치 수
+    public int testCount() {
+        return testCount;
+    }
+
+    public int offsetX(int fromOrientation, int direction, int test) {
+        return offsetX[(direction * RotationTable.ORIENTATIONS + (fromOrientation & 3)) * testCount + test];
+    }
+
+    public int offsetY(int fromOrientation, int direction, int test) {
+        return offsetY[(direction * RotationTable.ORIENTATIONS + (fromOrientation & 3)) * testCount + test];
+    }
+}
@@ -1,12 +1,7 @@
 package com.example.game.blocks;
 
 public class LBlock extends Block {
-	
 	public LBlock() {
-		shape = new int[][] { 
-			{1, 1, 1},
-			{1, 0, 0}
-		};
-		cssClass = "block-l";
+		setPieceKind(PieceKind.L);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.example.game.blocks;
+
+import java.util.function.Supplier;
+
+/**
+ * 일반 블록 종류 (플라이웨이트 팩토리)
+ * - 회전 테이블/CSS 클래스 같은 불변 모양 데이터는 종류별로 한 번만 생성하여 공유
+ * - id는 1바이트로 전송 가능한 고정값 (네트워크/리플레이용)
+ * - 선언 순서 I, J, L, Z, S, T, O는 랜덤 가중치 배열 순서와 같음
+ * - SRS 인자: 회전 상자 크기, 방향 0 모양의 상자 안 위치(열, 행), 방향 0에 해당하는 SRS 상태
+ *   (J/L 기본 모양은 SRS 스폰 모양을 180도 돌린 상태)
+ */
+public enum PieceKind {
+    I("block-i", IBlock::new, new int[][] {
+        {1, 1, 1, 1}
+    }, 4, 0, 1, 0),
+    J("block-j", JBlock::new, new int[][] {
+        {1, 1, 1},
+        {0, 0, 1}
+    }, 3, 0, 1, 2),
+    L("block-l", LBlock::new, new int[][] {
+        {1, 1, 1},
+        {1, 0, 0}
+    }, 3, 0, 1, 2),
+    Z("block-z", ZBlock::new, new int[][] {
+        {1, 1, 0},
+        {0, 1, 1}
+    }, 3, 0, 0, 0),
+    S("block-s", SBlock::new, new int[][] {
+        {0, 1, 1},
+        {1, 1, 0}
+    }, 3, 0, 0, 0),
+    T("block-t", TBlock::new, new int[][] {
+        {0, 1, 0},
+        {1, 1, 1}
+    }, 3, 0, 0, 0),
+    O("block-o", OBlock::new, new int[][] {
+        {1, 1},
+        {1, 1}
+    }, 2, 0, 0, 0);
+
+    public static final int COUNT = 7;
+
+    private static final PieceKind[] BY_ID = values();
+
+    private final String cssClass;
+    private final Supplier<Block> factory;
+    private final RotationTable table;
+    private final KickTable kicks;
+
+    PieceKind(String cssClass, Supplier<Block> factory, int[][] baseShape,
+              int srsBoxSize, int srsBoxCol, int srsBoxRow, int srsBaseState) {
+        this.cssClass = cssClass;
+        this.factory = factory;
+        this.table = RotationTable.of(baseShape);
+        this.kicks = KickTable.srs(table, srsBoxSize, srsBoxCol, srsBoxRow, srsBaseState);
+    }
+
+    // 전송용 1바이트 id
+    public byte id() {
+        return (byte) ordinal();
+    }
+
+    public String cssClass() {
+        return cssClass;
+    }
+
+    // 종류별 공유 회전 테이블
+    public RotationTable table() {
+        return table;
+    }
+
+    // 종류별 공유 SRS 벽 차기 테이블
+    public KickTable kicks() {
+        return kicks;
+    }
+
+    // 새 블록 생성 (방향 0)
+    public Block create() {
+        return factory.get();
+    }
+
+    // 지정한 방향으로 회전된 새 블록 생성
+    public Block create(int orientation) {
+        Block block = factory.get();
+        for (int i = 0; i < (orientation & 3); i++) {
+            block.rotate();
+        }
+        return block;
+    }
+
+    /**
+     * id에 해당하는 종류 (범위 밖이면 null)
+     */
+    public static PieceKind fromId(int id) {
+        if (id < 0 || id >= BY_ID.length) {
+            return null;
+        }
+        return BY_ID[id];
+    }
+}
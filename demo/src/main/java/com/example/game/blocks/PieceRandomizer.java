@@ -0,0 +1,24 @@
+package com.example.game.blocks;
+
+/**
+ * 다음 블록 종류를 뽑는 랜덤 생성기
+ * - GameLogic 인스턴스마다 하나씩 지정 (전역 설정을 매번 읽지 않음)
+ * - 구현체: WeightedRandomizer(난이도 가중치), SevenBagRandomizer(7-bag)
+ */
+public interface PieceRandomizer {
+
+    // 다음 블록 종류 (O(1))
+    PieceKind next();
+
+    /**
+     * 같은 방식으로 동작하되 시드로 고정된 새 생성기 (P2P 동기화용)
+     * 같은 시드면 어떤 JVM에서도 같은 순서를 만듦
+     */
+    PieceRandomizer reseed(long seed);
+
+    /**
+     * 현재 상태를 그대로 이어가는 독립 복사본 (스냅샷/되돌리기용)
+     * SeededRandom 기반이면 원본과 같은 순서를 만듦
+     */
+    PieceRandomizer copy();
+}
@@ -0,0 +1,49 @@
+package com.example.game.blocks;
+
+/**
+ * 블록의 가벼운 가변 상태 (종류, 방향, 위치)
+ * - 모양 데이터는 PieceKind가 공유하므로 정수 몇 개만 보관
+ * - 네트워크 전송/동기화 시 인스턴스를 재사용 가능
+ */
+public class PieceState {
+
+    private PieceKind kind;
+    private int rotation;
+    private int x;
+    private int y;
+
+    public PieceState() {
+    }
+
+    public PieceState(PieceKind kind, int rotation, int x, int y) {
+        set(kind, rotation, x, y);
+    }
+
+    public void set(PieceKind kind, int rotation, int x, int y) {
+        this.kind = kind;
+        this.rotation = rotation & 3;
+        this.x = x;
+        this.y = y;
+    }
+
+    public PieceKind getKind() {
+        return kind;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    // 이 상태의 종류/방향으로 새 블록 생성 (종류가 없으면 null)
+    public Block toBlock() {
+        return kind != null ? kind.create(rotation) : null;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.game.blocks;
+
+/**
+ * 블록의 4방향 회전 상태를 미리 계산해 둔 불변 테이블
+ * - 같은 종류의 블록 인스턴스들이 하나의 테이블을 공유
+ * - 회전은 방향 인덱스만 바꾸므로 배열을 새로 만들지 않음
+ * - 셀 인덱스는 모든 방향에서 같은 셀을 가리킴 (마커 위치 추적용)
+ */
+public final class RotationTable {
+
+    public static final int ORIENTATIONS = 4;
+
+    private final int[][][] shapes;    // [방향][행][열] - 외부에서 수정 금지
+    private final int[][] rowMasks;    // [방향][행] bit i = 블록 내부 열 i
+    private final int[][] columnBottoms; // [방향][열] 열의 가장 아래 셀 행 (빈 열은 -1)
+    private final int[][] cellRows;    // [방향][셀 인덱스]
+    private final int[][] cellCols;    // [방향][셀 인덱스]
+    private final int[] canonical;     // 같은 모양인 가장 앞선 방향 인덱스
+    private final int cellCount;
+
+    private RotationTable(int[][] baseShape) {
+        int height = baseShape.length;
+        int width = height > 0 ? baseShape[0].length : 0;
+
+        // 방향 0의 셀 목록 (행 우선 순서)
+        int count = 0;
+        for (int[] row : baseShape) {
+            for (int value : row) {
+                if (value == 1) {
+                    count++;
+                }
+            }
+        }
+        cellCount = count;
+        cellRows = new int[ORIENTATIONS][count];
+        cellCols = new int[ORIENTATIONS][count];
+        int index = 0;
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                if (baseShape[r][c] == 1) {
+                    cellRows[0][index] = r;
+                    cellCols[0][index] = c;
+                    index++;
+                }
+            }
+        }
+
+        shapes = new int[ORIENTATIONS][][];
+        rowMasks = new int[ORIENTATIONS][];
+        shapes[0] = copyOf(baseShape, height, width);
+
+        // 시계 방향 90도 회전: (row, col) -> (col, height - 1 - row)
+        for (int o = 1; o < ORIENTATIONS; o++) {
+            int prevHeight = shapes[o - 1].length;
+            for (int i = 0; i < count; i++) {
+                cellRows[o][i] = cellCols[o - 1][i];
+                cellCols[o][i] = prevHeight - 1 - cellRows[o - 1][i];
+            }
+            shapes[o] = rotateClockwise(shapes[o - 1]);
+        }
+
+        for (int o = 0; o < ORIENTATIONS; o++) {
+            int[][] shape = shapes[o];
+            rowMasks[o] = new int[shape.length];
+            for (int r = 0; r < shape.length; r++) {
+                int mask = 0;
+                for (int c = 0; c < shape[r].length; c++) {
+                    if (shape[r][c] == 1) {
+                        mask |= 1 << c;
+                    }
+                }
+                rowMasks[o][r] = mask;
+            }
+        }
+
+        columnBottoms = new int[ORIENTATIONS][];
+        for (int o = 0; o < ORIENTATIONS; o++) {
+            int[][] shape = shapes[o];
+            columnBottoms[o] = new int[shape[0].length];
+            for (int c = 0; c < shape[0].length; c++) {
+                columnBottoms[o][c] = -1;
+                for (int r = shape.length - 1; r >= 0; r--) {
+                    if (shape[r][c] == 1) {
+                        columnBottoms[o][c] = r;
+                        break;
+                    }
+                }
+            }
+        }
+
+        canonical = new int[ORIENTATIONS];
+        for (int o = 0; o < ORIENTATIONS; o++) {
+            canonical[o] = o;
+            for (int prev = 0; prev < o; prev++) {
+                if (sameShape(shapes[prev], shapes[o])) {
+                    canonical[o] = prev;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 기본 모양으로부터 회전 테이블 생성 (입력 배열은 복사됨)
+     */
+    public static RotationTable of(int[][] baseShape) {
+        if (baseShape == null || baseShape.length == 0 || baseShape[0].length == 0) {
+            throw new IllegalArgumentException("Block shape must not be empty");
+        }
+        return new RotationTable(baseShape);
+    }
+
+    private static int[][] copyOf(int[][] source, int height, int width) {
+        int[][] copy = new int[height][width];
+        for (int r = 0; r < height; r++) {
+            System.arraycopy(source[r], 0, copy[r], 0, width);
+        }
+        return copy;
+    }
+
+    private static int[][] rotateClockwise(int[][] shape) {
+        int rows = shape.length;
+        int cols = shape[0].length;
+        int[][] rotated = new int[cols][rows];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                rotated[j][rows - 1 - i] = shape[i][j];
+            }
+        }
+        return rotated;
+    }
+
+    private static boolean sameShape(int[][] a, int[][] b) {
+        if (a.length != b.length || a[0].length != b[0].length) {
+            return false;
+        }
+        for (int r = 0; r < a.length; r++) {
+            for (int c = 0; c < a[r].length; c++) {
+                if (a[r][c] != b[r][c]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // 방향별 shape (공유 배열이므로 수정 금지)
+    public int[][] shape(int orientation) {
+        return shapes[orientation];
+    }
+
+    public int height(int orientation) {
+        return shapes[orientation].length;
+    }
+
+    public int width(int orientation) {
+        return shapes[orientation][0].length;
+    }
+
+    public int rowMask(int orientation, int row) {
+        return rowMasks[orientation][row];
+    }
+
+    // 블록 내부 열의 가장 아래 셀 행 (빈 열은 -1) - 낙하 거리 계산용
+    public int columnBottom(int orientation, int col) {
+        return columnBottoms[orientation][col];
+    }
+
+    public int cellCount() {
+        return cellCount;
+    }
+
+    public int cellRow(int orientation, int cellIndex) {
+        return cellRows[orientation][cellIndex];
+    }
+
+    public int cellCol(int orientation, int cellIndex) {
+        return cellCols[orientation][cellIndex];
+    }
+
+    /**
+     * 블록 내부 (row, col) 위치의 셀 인덱스 (셀이 없으면 -1)
+     */
+    public int cellIndexAt(int orientation, int row, int col) {
+        for (int i = 0; i < cellCount; i++) {
+            if (cellRows[orientation][i] == row && cellCols[orientation][i] == col) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 같은 모양을 가진 가장 앞선 방향 (O 블록은 항상 0)
+     * AI 탐색에서 중복 방향을 건너뛰는 데 사용
+     */
+    public int canonicalOrientation(int orientation) {
+        return canonical[orientation];
+    }
+
+    /**
+     * 주어진 shape와 일치하는 방향 인덱스 (없으면 -1)
+     */
+    public int findOrientation(int[][] shape) {
+        if (shape == null || shape.length == 0) {
+            return -1;
+        }
+        for (int o = 0; o < ORIENTATIONS; o++) {
+            if (shapes[o] == shape || sameShape(shapes[o], shape)) {
+                return o;
+            }
+        }
+        return -1;
+    }
+}
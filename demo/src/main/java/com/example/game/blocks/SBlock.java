@@ -1,12 +1,7 @@
 package com.example.game.blocks;
 
 public class SBlock extends Block {
-
 	public SBlock() {
-		shape = new int[][] { 
-			{0, 1, 1},
-			{1, 1, 0}
-		};
-		cssClass = "block-s";
+		setPieceKind(PieceKind.S);
 	}
 }
\ No newline at end of file
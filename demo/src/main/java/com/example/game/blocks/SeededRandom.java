@@ -0,0 +1,53 @@
+package com.example.game.blocks;
+
+import java.util.Random;
+
+/**
+ * SplitMix64 기반의 시드 고정 난수열
+ * - java.util.Random과 같은 API로 사용할 수 있고 동기화(synchronized/CAS) 비용이 없음
+ * - 같은 시드면 항상 같은 순서 (스레드 간 공유는 하지 않음)
+ */
+public class SeededRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public SeededRandom(long seed) {
+        super(seed);
+        this.state = seed;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        // 상위 생성자에서도 호출되므로 필드 초기화에 의존하지 않음
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 현재 위치에서 같은 순서를 이어서 만드는 복사본
+    public SeededRandom copy() {
+        return new SeededRandom(state);
+    }
+
+    /**
+     * 난수 생성기 복사 (SeededRandom만 상태 복사 가능, 그 외는 같은 인스턴스 공유)
+     */
+    public static Random copyOf(Random random) {
+        return random instanceof SeededRandom ? ((SeededRandom) random).copy() : random;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+}
@@ -1,12 +1,7 @@
 package com.example.game.blocks;
 
 public class TBlock extends Block {
-	
 	public TBlock() {
-		shape = new int[][] { 
-			{0, 1, 0},
-			{1, 1, 1}
-		};
-		cssClass = "block-t";
+		setPieceKind(PieceKind.T);
 	}
 }
\ No newline at end of file
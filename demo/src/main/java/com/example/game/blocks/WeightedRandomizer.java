@@ -0,0 +1,119 @@
+package com.example.game.blocks;
+
+import java.util.Random;
+
+import com.example.settings.GameSettings;
+
+/**
+ * 가중치 기반 블록 생성기 (Walker alias 테이블)
+ * - 생성 시 가중치로 확률/별칭 테이블을 미리 계산하여 뽑기는 O(1)
+ * - 가중치 순서는 PieceKind 선언 순서 (I, J, L, Z, S, T, O)
+ */
+public class WeightedRandomizer implements PieceRandomizer {
+
+    private final double[] probability; // 칸별 자기 자신이 뽑힐 확률
+    private final int[] alias;          // 자기 자신이 아닐 때 대신 뽑을 칸
+    private final Random random;
+
+    public WeightedRandomizer(double[] weights, Random random) {
+        if (weights.length != PieceKind.COUNT) {
+            throw new IllegalArgumentException("Expected " + PieceKind.COUNT + " weights: " + weights.length);
+        }
+        this.random = random;
+        this.probability = new double[PieceKind.COUNT];
+        this.alias = new int[PieceKind.COUNT];
+        buildAliasTable(weights);
+    }
+
+    // 테이블 공유용 (reseed)
+    private WeightedRandomizer(WeightedRandomizer source, Random random) {
+        this.probability = source.probability;
+        this.alias = source.alias;
+        this.random = random;
+    }
+
+    /**
+     * 난이도별 가중치 생성기 - EASY는 I블록 20% 증가, HARD는 20% 감소
+     */
+    public static WeightedRandomizer forDifficulty(GameSettings.Difficulty difficulty, Random random) {
+        return new WeightedRandomizer(weightsFor(difficulty), random);
+    }
+
+    // 난이도별 가중치 (I, J, L, Z, S, T, O 순서)
+    public static double[] weightsFor(GameSettings.Difficulty difficulty) {
+        double baseWeight = 1.0;
+        double iWeight = baseWeight;
+        if (difficulty == GameSettings.Difficulty.EASY) {
+            iWeight *= 1.2; // 20% more likely
+        } else if (difficulty == GameSettings.Difficulty.HARD) {
+            iWeight *= 0.8; // 20% less likely
+        }
+        return new double[] { iWeight, baseWeight, baseWeight, baseWeight, baseWeight, baseWeight, baseWeight };
+    }
+
+    // Vose 방식 alias 테이블 구성
+    private void buildAliasTable(double[] weights) {
+        int n = weights.length;
+        double sum = 0.0;
+        for (double w : weights) {
+            if (w < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            sum += w;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Weights must not all be zero");
+        }
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // 남은 칸은 부동소수점 오차를 무시하고 확률 1
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    @Override
+    public PieceKind next() {
+        int column = random.nextInt(probability.length);
+        int chosen = random.nextDouble() < probability[column] ? column : alias[column];
+        return PieceKind.fromId(chosen);
+    }
+
+    @Override
+    public PieceRandomizer reseed(long seed) {
+        return new WeightedRandomizer(this, new SeededRandom(seed));
+    }
+
+    @Override
+    public PieceRandomizer copy() {
+        return new WeightedRandomizer(this, SeededRandom.copyOf(random));
+    }
+}
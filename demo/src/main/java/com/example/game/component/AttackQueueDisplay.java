@@ -10,13 +10,9 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
-
 /**
  * 공격 대기열을 시각적으로 표시하는 컴포넌트
- * 상대방으로부터 받을 공격 줄을 미리 보여줌
+ * 상대방으로부터 받을 공격 줄을 미리 보여줌 (줄 비트마스크로 보관)
  */
 public class AttackQueueDisplay {
     
@@ -27,18 +23,23 @@ public class AttackQueueDisplay {
     private Label countLabel;
     
     // 설정
-    private static final int PREVIEW_WIDTH = 10; // 10칸
-    private static final int PREVIEW_MAX_LINES = 10; // 최대 10줄 표시
+    private static final int PREVIEW_MAX_LINES = GarbageQueue.MAX_LINES; // 최대 10줄 표시
     private static final int CELL_SIZE = 15; // 각 셀 크기
     private static final Color ATTACK_BLOCK_COLOR = Color.rgb(120, 120, 120); // 회색
     private static final Color EMPTY_COLOR = Color.rgb(40, 40, 40); // 어두운 배경
     private static final Color BORDER_COLOR = Color.rgb(80, 80, 80);
     
     // 데이터
-    private Queue<String[]> attackQueue;
+    private final GarbageQueue attackQueue;
+    private final int previewWidth; // 보드 칸 수와 같음
     
     public AttackQueueDisplay(String playerName) {
-        this.attackQueue = new LinkedList<>();
+        this(playerName, RuleSet.defaults().getWidth());
+    }
+
+    public AttackQueueDisplay(String playerName, int boardWidth) {
+        this.attackQueue = new GarbageQueue();
+        this.previewWidth = boardWidth;
         initializeUI(playerName);
     }
     
@@ -61,7 +62,7 @@ public class AttackQueueDisplay {
         titleLabel.setStyle("-fx-text-fill: #ff6b6b;");
         
         // 프리뷰 캔버스
-        int canvasWidth = PREVIEW_WIDTH * CELL_SIZE + 2;
+        int canvasWidth = previewWidth * CELL_SIZE + 2;
         int canvasHeight = PREVIEW_MAX_LINES * CELL_SIZE + 2;
         previewCanvas = new Canvas(canvasWidth, canvasHeight);
         gc = previewCanvas.getGraphicsContext2D();
@@ -78,22 +79,11 @@ public class AttackQueueDisplay {
     }
     
     /**
-     * 공격 줄 추가
-     */
-    public void addAttackLines(List<String[]> lines) {
-        for (String[] line : lines) {
-            attackQueue.offer(line);
-        }
-        updateDisplay();
-    }
-    
-    /**
-     * 공격 줄 제거 (실제 보드에 적용됨)
+     * 공격 줄 추가 (구멍 열이 같은 줄 lines개)
      */
-    public String[] pollAttackLine() {
-        String[] line = attackQueue.poll();
+    public void addGarbage(int lines, int holeColumn) {
+        attackQueue.add(GarbageGenerator.rowMask(previewWidth, holeColumn), lines);
         updateDisplay();
-        return line;
     }
     
     /**
@@ -113,18 +103,10 @@ public class AttackQueueDisplay {
         
         if (actualQueueSize < currentSize) {
             // 실제 큐가 작으면 Display에서 제거
-            while (attackQueue.size() > actualQueueSize) {
-                attackQueue.poll();
-            }
+            attackQueue.dropOldest(currentSize - actualQueueSize);
         } else if (actualQueueSize > currentSize) {
-            // 실제 큐가 크면 Display에 더미 줄 추가 (모두 attack-block)
-            while (attackQueue.size() < actualQueueSize) {
-                String[] dummyLine = new String[PREVIEW_WIDTH];
-                for (int i = 0; i < PREVIEW_WIDTH; i++) {
-                    dummyLine[i] = "attack-block";
-                }
-                attackQueue.offer(dummyLine);
-            }
+            // 실제 큐가 크면 Display에 더미 줄 추가 (구멍 없는 줄)
+            attackQueue.add((1 << previewWidth) - 1, actualQueueSize - currentSize);
         }
         
         updateDisplay();
@@ -139,9 +121,9 @@ public class AttackQueueDisplay {
     }
     
     /**
-     * 전체 대기열 가져오기
+     * 전체 대기열 가져오기 (읽기 전용)
      */
-    public Queue<String[]> getQueue() {
+    public GarbageQueue getQueue() {
         return attackQueue;
     }
     
@@ -170,19 +152,13 @@ public class AttackQueueDisplay {
         }
         
         // 대기열에서 최대 PREVIEW_MAX_LINES 줄까지 표시
-        List<String[]> linesToShow = new LinkedList<>();
-        int count = 0;
-        for (String[] line : attackQueue) {
-            if (count >= PREVIEW_MAX_LINES) break;
-            linesToShow.add(line);
-            count++;
-        }
+        int count = Math.min(attackQueue.size(), PREVIEW_MAX_LINES);
         
         // 아래에서 위로 그리기 (가장 먼저 받을 공격이 아래에)
-        int yPos = (PREVIEW_MAX_LINES - linesToShow.size()) * CELL_SIZE;
+        int yPos = (PREVIEW_MAX_LINES - count) * CELL_SIZE;
         
-        for (String[] line : linesToShow) {
-            drawLine(line, yPos);
+        for (int i = 0; i < count; i++) {
+            drawLine(attackQueue.getRow(i), yPos);
             yPos += CELL_SIZE;
         }
         
@@ -195,11 +171,11 @@ public class AttackQueueDisplay {
     /**
      * 한 줄 그리기
      */
-    private void drawLine(String[] line, int yPos) {
-        for (int col = 0; col < PREVIEW_WIDTH && col < line.length; col++) {
+    private void drawLine(int rowMask, int yPos) {
+        for (int col = 0; col < previewWidth; col++) {
             int xPos = col * CELL_SIZE + 1;
             
-            if (line[col] != null && line[col].equals("attack-block")) {
+            if ((rowMask & (1 << col)) != 0) {
                 // 공격 블록 (회색)
                 gc.setFill(ATTACK_BLOCK_COLOR);
                 gc.fillRect(xPos, yPos + 1, CELL_SIZE - 1, CELL_SIZE - 1);
@@ -0,0 +1,84 @@
+package com.example.game.component;
+
+/**
+ * 줄 삭제 종류별 공격 줄 수 표 (불변)
+ * - 기본 줄 수 + B2B 보너스 + 콤보 보너스 (표 길이를 넘는 값은 마지막 칸 사용)
+ * - 줄을 지우지 않은 T-spin은 공격 없음
+ */
+public final class AttackTable {
+
+    private static final AttackTable STANDARD = new AttackTable(
+        new int[] {0, 0, 1, 2, 4},
+        new int[] {0, 2, 4, 6},
+        new int[] {0, 0, 1},
+        new int[] {0, 0, 1, 1, 1, 2, 2, 3, 3, 4, 4, 4, 5},
+        1);
+
+    private final int[] lineAttack;  // [지운 줄 수]
+    private final int[] spinAttack;  // T-spin [지운 줄 수]
+    private final int[] miniAttack;  // T-spin mini [지운 줄 수]
+    private final int[] comboBonus;  // [콤보 수]
+    private final int backToBackBonus;
+
+    public AttackTable(int[] lineAttack, int[] spinAttack, int[] miniAttack,
+                       int[] comboBonus, int backToBackBonus) {
+        this.lineAttack = checked(lineAttack, "line");
+        this.spinAttack = checked(spinAttack, "T-spin");
+        this.miniAttack = checked(miniAttack, "T-spin mini");
+        this.comboBonus = checked(comboBonus, "combo");
+        if (backToBackBonus < 0) {
+            throw new IllegalArgumentException("Back-to-back bonus must not be negative");
+        }
+        this.backToBackBonus = backToBackBonus;
+    }
+
+    // 가이드라인 기준 표 (더블 1, 트리플 2, 테트리스 4, T-spin 더블 4 ...)
+    public static AttackTable standard() {
+        return STANDARD;
+    }
+
+    private static int[] checked(int[] values, String name) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("Attack table for " + name + " must not be empty");
+        }
+        for (int value : values) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Attack table for " + name + " must not be negative");
+            }
+        }
+        return values.clone();
+    }
+
+    private static int lookup(int[] values, int index) {
+        return values[Math.min(index, values.length - 1)];
+    }
+
+    /**
+     * 공격 줄 수 계산 (표 조회만 하므로 상수 시간)
+     * @param combo 연속 삭제 횟수 (첫 삭제 = 0)
+     * @param backToBack 직전 어려운 삭제에 이어졌는지
+     */
+    public int attackFor(int lines, LineClear.Spin spin, int combo, boolean backToBack) {
+        if (lines <= 0) {
+            return 0;
+        }
+        int attack;
+        switch (spin) {
+            case FULL:
+                attack = lookup(spinAttack, lines);
+                break;
+            case MINI:
+                attack = lookup(miniAttack, lines);
+                break;
+            default:
+                attack = lookup(lineAttack, lines);
+        }
+        if (backToBack) {
+            attack += backToBackBonus;
+        }
+        if (combo > 0) {
+            attack += lookup(comboBonus, combo);
+        }
+        return attack;
+    }
+}
@@ -6,10 +6,12 @@ import java.util.Map;
 
 import com.example.Router;
 import com.example.game.blocks.Block;
+import com.example.game.blocks.CellType;
 import com.example.game.component.GameInputHandler.GameInputCallback;
 import com.example.game.component.MenuOverlay.MenuCallback;
 import com.example.game.items.BombBlock;
 import com.example.game.items.LItem;
+import com.example.game.items.weightedBlock;
 import com.example.settings.GameSettings;
 
 import javafx.animation.AnimationTimer;
@@ -39,7 +41,7 @@ public class Board implements GameInputCallback {
     protected GameInputHandler inputHandler; // 입력 핸들러 추가
 
     protected AnimationTimer gameLoop; // 게임 루프 타이머
-    protected long lastUpdate = 0; // 블록 마지막 업데이트 시간
+    protected final GameClock dropClock = new GameClock(); // 고정 틱 게임 시계
 
     protected boolean isPaused = false; // 게임 일시정지 상태
     protected boolean isGameOver = false; // 게임 오버 상태
@@ -49,11 +51,23 @@ public class Board implements GameInputCallback {
     protected List<Integer> pendingLinesToClear; // 삭제 대기 중인 줄들
     protected int[][] pendingExplosionCells; // 폭발 대기 중인 셀들 (BombBlock용)
     protected boolean isExplosionAnimation = false; // 폭발 애니메이션 여부
+    protected LandingRules landing; // 착지 후 폭발/줄 삭제/스폰 규칙 (애니메이션은 여기서만 처리)
+    private Map<String, Color> cachedPaletteColors; // 팔레트를 만든 색상 맵
+    private Color[] cachedPalette; // 셀 타입 코드별 색상 (캐시)
+    private PieceQueue drawnQueue; // 마지막으로 그린 다음 블록 대기열
+    private int drawnQueueModCount = -1; // 마지막으로 그린 대기열 변경 카운터
 
     public Board() {
+        this(RuleSet.fromSettings(GameSettings.getInstance())); // GameSettings에서 난이도/아이템 모드 설정 가져오기
+    }
+
+    // 보드 크기 등 규칙을 지정하여 생성 (넓은 보드 모드 등)
+    public Board(RuleSet rules) {
         // 컴포넌츠 초기화
         gameSettings = GameSettings.getInstance();
-        gameLogic = new GameLogic(gameSettings.isItemModeEnabled()); // GameSettings에서 아이템 모드 설정 가져오기
+        gameLogic = new GameLogic(rules);
+        landing = new LandingRules(gameLogic);
+        subscribeEvents();
         scorePanel = new ScorePanel();
         menuOverlay = new MenuOverlay(); // 오버레이 초기화
         inputHandler = new GameInputHandler(this); // 입력 핸들러 초기화
@@ -183,19 +197,20 @@ public class Board implements GameInputCallback {
         int availableHeight = windowHeight - 80; // 상하 패딩 고려
 
         // 가로/세로 비율에 맞춰 셀 크기 계산 (더 제한적인 쪽에 맞춤)
-        int cellByWidth = availableWidth / GameLogic.WIDTH;
-        int cellByHeight = availableHeight / GameLogic.HEIGHT;
+        int cellByWidth = availableWidth / gameLogic.getWidth();
+        int cellByHeight = availableHeight / gameLogic.getHeight();
 
         // 최소 15, 최대 40의 셀 크기 제한
         cellSize = Math.max(15, Math.min(40, Math.min(cellByWidth, cellByHeight)));
 
-        boardWidth = GameLogic.WIDTH * cellSize;
-        boardHeight = GameLogic.HEIGHT * cellSize;
+        boardWidth = gameLogic.getWidth() * cellSize;
+        boardHeight = gameLogic.getHeight() * cellSize;
     }
 
     // 화면 크기 변경 콜백
     protected void onWindowSizeChanged() {
         calculateDynamicSizes();
+        drawnQueue = null;
         updateCanvasSize();
         drawBoard();
     }
@@ -294,6 +309,7 @@ public class Board implements GameInputCallback {
     private void resumeGame() {
         isPaused = false;
         menuOverlay.hide();
+        drawnQueue = null; // 설정에서 색상이 바뀌었을 수 있으므로 미리보기 다시 그리기
         if (!gameLogic.isGameOver()) {
             startGameLoop();
         }
@@ -393,7 +409,11 @@ public class Board implements GameInputCallback {
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
+                // 지난 프레임(키 입력 포함)에 쌓인 상태 변경 이벤트 전달
+                gameLogic.getEvents().dispatch();
+
                 if (isPaused || menuOverlay.isVisible()) {
+                    dropClock.skip(now); // 멈춘 동안의 시간은 낙하에 반영하지 않음
                     return;
                 }
                 // 애니메이션 업데이트
@@ -405,76 +425,8 @@ public class Board implements GameInputCallback {
                 
                 // 애니메이션이 진행 중이면 애니메이션만 업데이트
                 if (animationFinished) {  
-                    if (isExplosionAnimation && pendingExplosionCells != null) {
-                        // 폭발 애니메이션 완료 - 실제 폭발 실행
-                        System.out.println(">>> BombBlock: Explosion animation finished, executing explosion");
-                        
-                        // 폭발 영역의 블록 삭제
-                        int[][] board = gameLogic.getBoard();
-                        String[][] blockTypes = gameLogic.getBlockTypes();
-                        
-                        int destroyedCount = 0;
-                        for (int[] cell : pendingExplosionCells) {
-                            int row = cell[0];
-                            int col = cell[1];
-                            if (board[row][col] == 1) {
-                                board[row][col] = 0;
-                                blockTypes[row][col] = null;
-                                destroyedCount++;
-                            }
-                        }
-                        
-                        System.out.println(">>> BombBlock: Destroyed " + destroyedCount + " blocks");
-                        scorePanel.addScoreWithDifficulty(destroyedCount * 10); // 파괴된 블록당 10점
-                        
-                        // 폭발 후 줄 삭제 체크
-                        List<Integer> fullLines = gameLogic.findFullLines();
-                        if (!fullLines.isEmpty()) {
-                            gameLogic.executeLineClear(fullLines);
-                            scorePanel.calculateLineScore(fullLines.size());
-                            updateSpeedDisplay();
-                        }
-                        
-                        pendingExplosionCells = null;
-                        isExplosionAnimation = false;
-                    } else {
-                        // 일반 줄 삭제 애니메이션 완료
-                        // L-item 줄은 이미 점수를 받았으므로, 꽉 찬 줄만 점수 계산
-                        List<Integer> fullLines = gameLogic.findFullLines();
-                        List<Integer> fullLinesInPending = new ArrayList<>();
-                        for (Integer line : pendingLinesToClear) {
-                            if (fullLines.contains(line)) {
-                                fullLinesInPending.add(line);
-                            }
-                        }
-                        
-                        // 모든 줄 삭제 실행 (L-item 줄 + 꽉 찬 줄)
-                        gameLogic.executeLineClear(pendingLinesToClear);
-                        
-                        // 꽉 찬 줄에 대해서만 추가 점수
-                        if (fullLinesInPending.size() > 0) {
-                            scorePanel.calculateLineScore(fullLinesInPending.size());
-                            updateSpeedDisplay();
-                        }
-                        pendingLinesToClear.clear();
-                    }
-                        
-                    // 블록이 맨 위에 닿았는지 확인
-                    if (gameLogic.isBlockAtTop()) {
-                        if (!isGameOver) {
-                            isGameOver = true;
-                            gameOver();
-                        }
-                        drawBoard();
-                        return;
-                    }
-        
-                    // 다음 블록 생성
-                    boolean spawned = gameLogic.spawnNextPiece();
-                    if (!spawned && !isGameOver) {
-                        isGameOver = true;
-                        gameOver();
-                    }
+                    // 대기 중인 폭발/줄 삭제 실행 후 다음 블록 생성
+                    finishLanding();
                     
                     // 애니메이션 완료 및 다음 블록 생성 후 하드 드롭 플래그 해제
                     isHardDropping = false;
@@ -484,121 +436,142 @@ public class Board implements GameInputCallback {
                 }
 
                 if (lineAnimation.isActive()) {
+                    dropClock.skip(now);
                     return;
                 }
 
-                // 일반 게임 로직
-                long currentDropInterval = gameLogic.getDropInterval(baseDropInterval);
-                if (now - lastUpdate >= currentDropInterval) {
-                    handleMoveDown();
+                // 일반 게임 로직 (프레임 속도와 무관하게 1/60초 논리 틱마다 중력 적용)
+                int ticks = dropClock.advance(now);
+                boolean dropped = false;
+                for (int i = 0; i < ticks && !lineAnimation.isActive() && !isGameOver; i++) {
+                    int rows = gameLogic.tickGravity();
+                    Block falling = gameLogic.getCurrentBlock();
+                    for (int row = 0; row < rows; row++) {
+                        handleMoveDown();
+                        dropped = true;
+                        // 착지하면 남은 줄은 다음 블록에 넘기지 않음
+                        if (lineAnimation.isActive() || isGameOver || gameLogic.getCurrentBlock() != falling) {
+                            break;
+                        }
+                    }
+                    // 고정 대기 (RuleSet에 설정된 경우만)
+                    if (!lineAnimation.isActive() && !isGameOver && gameLogic.getCurrentBlock() == falling
+                            && tickLockDelay()) {
+                        dropped = true;
+                    }
+                }
+                if (dropped) {
                     drawBoard();
-                    lastUpdate = now;
-                    updateSpeedDisplay();
                 }
             }
         };
-        lastUpdate = System.nanoTime();
+        dropClock.reset(System.nanoTime());
         gameLoop.start();
     }
 
+    /**
+     * GameLogic 이벤트 구독 (GameLogic을 새로 만들면 다시 호출)
+     */
+    protected final void subscribeEvents() {
+        gameLogic.getEvents().subscribe(this::onGameEvent);
+    }
+
+    // 속도가 바뀔 수 있는 경우(블록 생성, 줄 삭제)에만 속도 표시 갱신
+    private void onGameEvent(GameEvent event) {
+        switch (event.getType()) {
+            case PIECE_SPAWNED:
+            case LINES_CLEARED:
+                updateSpeedDisplay();
+                break;
+            default:
+                break;
+        }
+    }
+
     // 속도 표시 업데이트
-    private void updateSpeedDisplay() {
+    protected void updateSpeedDisplay() {
         double speedMultiplier = gameLogic.getSpeedMultiplier();
         int speedLevel = gameLogic.getSpeedLevel();
         scorePanel.updateSpeed(speedMultiplier, speedLevel);
     }
 
-    // 블록 아래로 이동 처리
+    // 블록 아래로 이동 처리 (고정 대기가 있으면 바닥에 닿아도 바로 고정하지 않음)
     protected void handleMoveDown() {
         Block currentBlock = gameLogic.getCurrentBlock();
-        boolean isLItemBlock = currentBlock instanceof LItem;
-        boolean isBombBlock = currentBlock instanceof BombBlock;
-        int lItemRow = -1;
-        
-        boolean moved = gameLogic.moveDown();
 
-        if (moved) {
-            // 속도 레벨에 따른 점수 계산
-            int speedLevel = gameLogic.getSpeedLevel();
-            int pointsToAdd = speedLevel; // 레벨과 동일한 점수
-            scorePanel.addScore(pointsToAdd);
+        switch (gameLogic.stepDown()) {
+            case MOVED:
+                // 속도 레벨에 따른 점수 계산
+                int speedLevel = gameLogic.getSpeedLevel();
+                int pointsToAdd = speedLevel; // 레벨과 동일한 점수
+                scorePanel.addScore(pointsToAdd);
+                break;
+            case LOCKED:
+                handleBlockLanded(currentBlock, gameLogic.getCurrentX(), gameLogic.getCurrentY());
+                break;
+            default:
+                break; // 바닥에서 고정 대기 중
+        }
+    }
+
+    /**
+     * 고정 대기가 끝나 블록이 고정되었으면 착지 처리 (게임 루프에서 논리 틱마다 호출)
+     * @return 이번 틱에 고정되었으면 true
+     */
+    protected boolean tickLockDelay() {
+        Block currentBlock = gameLogic.getCurrentBlock();
+        if (!gameLogic.tickLockDelay()) {
+            return false;
+        }
+        handleBlockLanded(currentBlock, gameLogic.getCurrentX(), gameLogic.getCurrentY());
+        return true;
+    }
+
+    /**
+     * 블록 착지 후 처리 - 폭발/줄 삭제가 있으면 애니메이션 시작, 없으면 다음 블록 생성
+     * 규칙(순서, 점수, 공격, 공격 줄 삽입)은 LandingRules, 여기서는 애니메이션 준비만 수행
+     */
+    protected void handleBlockLanded(Block landed, int landedX, int landedY) {
+        if (!landing.land(landed, landedX, landedY, getLandingScorer())) {
+            spawnNextPiece();
+            return;
+        }
+
+        int[][] explosionCells = landing.getPendingExplosionCells();
+        if (explosionCells != null) {
+            // 폭발 영역의 빈 셀을 임시로 채워서 애니메이션이 제대로 작동하도록 함
+            fillExplosionCells(explosionCells);
+            pendingExplosionCells = explosionCells;
+            isExplosionAnimation = true;
+            System.out.println(">>> BombBlock: Starting explosion animation with " + explosionCells.length + " cells");
         } else {
-            // BombBlock이 착지했을 경우 폭발 애니메이션
-            if (isBombBlock) {
-                BombBlock bombBlock = (BombBlock) currentBlock;
-                int[][] explosionCells = bombBlock.getExplosionCells(
-                    gameLogic.getCurrentY(), 
-                    gameLogic.getCurrentX(),
-                    GameLogic.HEIGHT,
-                    GameLogic.WIDTH
-                );
-                
-                // 폭발 영역의 빈 셀을 임시로 채워서 애니메이션이 제대로 작동하도록 함
-                fillExplosionCells(explosionCells);
-                
-                // 폭발 애니메이션 시작
-                pendingExplosionCells = explosionCells;
-                isExplosionAnimation = true;
-                lineAnimation.start();
-                System.out.println(">>> BombBlock: Starting explosion animation with " + explosionCells.length + " cells");
-                return; // 애니메이션이 끝날 때까지 대기
-            }
-            
-            // 줄 삭제 체크 - 먼저 꽉 찬 줄 찾기 (L-item 줄 채우기 전에)
-            List<Integer> fullLines = gameLogic.findFullLines();
-            
-            // L-item이 착지했을 경우 L 줄을 애니메이션 대상에 추가
-            if (isLItemBlock) {
-                LItem lItem = (LItem) currentBlock;
-                lItemRow = lItem.getLMarkerAbsoluteRow(gameLogic.getCurrentY());
-                System.out.println(">>> L-item landed at row: " + lItemRow);
-                
-                // L-item 줄의 빈 셀을 임시로 채워서 애니메이션이 제대로 작동하도록 함
-                fillEmptyCellsInLine(lItemRow);
-            }
-            
-            List<Integer> linesToAnimate = new ArrayList<>();
-            
-            // L-item 줄 추가
-            if (lItemRow >= 0) {
-                linesToAnimate.add(lItemRow);
-                System.out.println(">>> Adding L-item row to animate: " + lItemRow);
-                scorePanel.addScoreWithDifficulty(100); // L-item 줄 삭제 점수 (난이도 배율 적용)
-            }
-            
-            // 꽉 찬 줄 추가 (L-item 줄과 중복 제거)
-            for (Integer line : fullLines) {
-                if (!linesToAnimate.contains(line)) {
-                    linesToAnimate.add(line);
-                    System.out.println(">>> Adding full line to animate: " + line);
-                }
-            }
-            
-            // 애니메이션 시작
-            if (!linesToAnimate.isEmpty()) {
-                pendingLinesToClear = linesToAnimate;
-                isExplosionAnimation = false;
-                lineAnimation.start();
-                return; // 애니메이션이 끝날 때까지 대기
-            }
+            // L-item 줄의 빈 셀을 임시로 채워서 애니메이션이 제대로 작동하도록 함
+            fillEmptyCellsInLine(landing.getLItemRow());
+            pendingLinesToClear = landing.getPendingLines();
+            isExplosionAnimation = false;
+        }
+        lineAnimation.start(); // 애니메이션이 끝나면 finishLanding()
+    }
 
-            // 블록이 맨 위에 닿았는지 확인
-            if (gameLogic.isBlockAtTop()) {
-                if (!isGameOver) {
-                    isGameOver = true;
-                    gameOver();
-                }
-                return;
-            }
+    // 애니메이션이 끝난 뒤 대기 중인 폭발/줄 삭제 실행 후 다음 블록 생성
+    protected void finishLanding() {
+        landing.finish(getLandingScorer());
+        pendingExplosionCells = null;
+        isExplosionAnimation = false;
+        pendingLinesToClear.clear();
+        spawnNextPiece();
+    }
 
-            // 다음 블록 생성
-            boolean spawned = gameLogic.spawnNextPiece();
-            if (!spawned) {
-                if (!isGameOver) {
-                    isGameOver = true;
-                    gameOver();
-                }
-            }
+    // 착지 후 줄 삭제/아이템 점수를 받을 대상
+    protected LandingRules.ScoreSink getLandingScorer() {
+        return scorePanel;
+    }
+
+    // 다음 블록 생성 (쌓인 블록이 맨 위에 닿았거나 생성할 수 없으면 게임 오버)
+    protected void spawnNextPiece() {
+        if (!landing.spawnNext() && !isGameOver) {
+            isGameOver = true;
+            gameOver();
         }
     }
 
@@ -634,13 +607,21 @@ public class Board implements GameInputCallback {
             } else {
                 // 일반 줄 삭제 애니메이션 (노란색)
                 lineAnimation.draw(gc, pendingLinesToClear, gameLogic.getBlockTypes(), 
-                             currentColors, cellSize, GameLogic.WIDTH);
+                             currentColors, cellSize, gameLogic.getWidth());
             }
         }else{
+            drawGhostBlock(currentColors);
             drawCurrentBlock(currentColors);
         }
 
-        scorePanel.updateNextBlock(gameLogic.getNextBlock());
+        // 대기열이 바뀌었을 때만 미리보기 다시 그리기
+        PieceQueue queue = gameLogic.getPieceQueue();
+        int queueModCount = queue != null ? queue.getModCount() : -1;
+        if (queue != drawnQueue || queueModCount != drawnQueueModCount) {
+            scorePanel.updatePieceQueue(queue);
+            drawnQueue = queue;
+            drawnQueueModCount = queueModCount;
+        }
 
         // 일시정지 오버레이
         if (isPaused && !menuOverlay.isVisible()) {
@@ -654,33 +635,39 @@ public class Board implements GameInputCallback {
         gc.setLineWidth(1);
 
         // 세로 선
-        for (int i = 0; i <= GameLogic.WIDTH; i++) {
-            gc.strokeLine(i * cellSize, 0, i * cellSize, GameLogic.HEIGHT * cellSize);
+        for (int i = 0; i <= gameLogic.getWidth(); i++) {
+            gc.strokeLine(i * cellSize, 0, i * cellSize, gameLogic.getHeight() * cellSize);
         }
 
         // 가로 선
-        for (int i = 0; i <= GameLogic.HEIGHT; i++) {
-            gc.strokeLine(0, i * cellSize, GameLogic.WIDTH * cellSize, i * cellSize);
+        for (int i = 0; i <= gameLogic.getHeight(); i++) {
+            gc.strokeLine(0, i * cellSize, gameLogic.getWidth() * cellSize, i * cellSize);
         }
     }
 
     // 놓여진 블록 그리기
     protected void drawPlacedBlocks(Map<String, Color> colorMap) {
         // 보드 상태 가져오기
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
-
-        // 놓여진 블록 그리기
-        for (int row = 0; row < GameLogic.HEIGHT; row++) {
-            for (int col = 0; col < GameLogic.WIDTH; col++) {
-                if (board[row][col] == 1) {
+        BoardState boardState = gameLogic.getBoardState();
+        // 셀 타입 코드로 바로 조회하는 색상 배열
+        Color[] palette = paletteFor(colorMap);
+
+        // 놓여진 블록 그리기 (가장 높은 블록 줄부터)
+        final int height = boardState.getHeight();
+        final int width = boardState.getWidth();
+        for (int row = boardState.getTopRow(); row < height; row++) {
+            int rowMask = boardState.getRow(row);
+            if (rowMask == 0) {
+                continue; // 빈 줄은 건너뜀
+            }
+            for (int col = 0; col < width; col++) {
+                if ((rowMask & (1 << col)) != 0) {
                     // 블록 색상 결정
-                    String cssClass = blockTypes[row][col];
-                    // cssClass에 해당하는 색상을 가져오고, 없으면 기본 색상 사용
-                    Color blockColor = colorMap.getOrDefault(cssClass, colorMap.get("block-default"));
+                    byte cellType = boardState.getCellType(row, col);
+                    Color blockColor = CellType.colorOf(palette, cellType);
                     
                     // Sand 블록인지 확인하여 특별한 스타일로 그리기
-                    if ("item-sand".equals(cssClass)) {
+                    if (cellType == CellType.SAND) {
                         drawSandCell(col * cellSize, row * cellSize, blockColor);
                     } else {
                         // 일반 셀 그리기
@@ -691,6 +678,52 @@ public class Board implements GameInputCallback {
         }
     }
 
+    /**
+     * 셀 타입 코드로 바로 조회하는 색상 배열
+     * 색상 맵이 바뀌거나 셀 타입이 새로 등록되었을 때만 다시 생성
+     */
+    protected final Color[] paletteFor(Map<String, Color> colorMap) {
+        if (cachedPalette == null || cachedPaletteColors != colorMap
+                || cachedPalette.length != CellType.count()) {
+            cachedPalette = CellType.buildPalette(colorMap);
+            cachedPaletteColors = colorMap;
+        }
+        return cachedPalette;
+    }
+
+    // 고스트 블록(착지 예상 위치) 그리기 - 캐시된 낙하 거리 사용
+    private void drawGhostBlock(Map<String, Color> colorMap) {
+        Block currentBlock = gameLogic.getCurrentBlock();
+        // 무게추는 아래 블록을 부수며 내려가므로 착지 위치를 표시하지 않음
+        if (currentBlock == null || currentBlock instanceof weightedBlock) {
+            return;
+        }
+        int distance = gameLogic.dropDistance();
+        if (distance == 0) {
+            return;
+        }
+
+        Color blockColor = colorMap.getOrDefault(currentBlock.getCssClass(), Color.WHITE);
+        int currentX = gameLogic.getCurrentX();
+        int ghostY = gameLogic.getCurrentY() + distance;
+
+        gc.setStroke(blockColor);
+        gc.setLineWidth(2);
+        for (int j = 0; j < currentBlock.height(); j++) {
+            int rowMask = currentBlock.rowMask(j);
+            int boardY = ghostY + j;
+            if (rowMask == 0 || boardY < 0) {
+                continue;
+            }
+            for (int i = 0; i < currentBlock.width(); i++) {
+                if ((rowMask & (1 << i)) != 0) {
+                    gc.strokeRect((currentX + i) * cellSize + 2, boardY * cellSize + 2,
+                            cellSize - 4, cellSize - 4);
+                }
+            }
+        }
+    }
+
     // 현재 떨어지는 블록 그리기
     private void drawCurrentBlock(Map<String, Color> colorMap) {
         // 현재 블록 정보 가져오기
@@ -872,6 +905,7 @@ public class Board implements GameInputCallback {
         }
 
         gameLogic.resetGame();
+        landing.clear();
         scorePanel.resetScore();
         isPaused = false;
         isGameOver = false;
@@ -892,98 +926,22 @@ public class Board implements GameInputCallback {
         System.out.println(">>> Hard drop initiated");
 
         Block currentBlock = gameLogic.getCurrentBlock();
-        boolean isLItemBlock = currentBlock instanceof LItem;
-        boolean isBombBlock = currentBlock instanceof BombBlock;
-
-        boolean dropped = false;
-        while (gameLogic.moveDown()) {
-            dropped = true;
-            scorePanel.addScore(1);
-        }
 
-        if (!dropped) {
-            isHardDropping = false; // 하드 드롭 종료
-            return;
+        // 착지 위치까지 한 번에 이동 (한 칸당 1점)
+        int droppedRows = gameLogic.hardDrop();
+        if (droppedRows > 0) {
+            scorePanel.addScore(droppedRows);
         }
 
-        // BombBlock이 착지했을 경우 폭발 애니메이션
-        if (isBombBlock) {
-            BombBlock bombBlock = (BombBlock) currentBlock;
-            int[][] explosionCells = bombBlock.getExplosionCells(
-                gameLogic.getCurrentY(), 
-                gameLogic.getCurrentX(),
-                GameLogic.HEIGHT,
-                GameLogic.WIDTH
-            );
-            
-            // 폭발 영역의 빈 셀을 임시로 채워서 애니메이션이 제대로 작동하도록 함
-            fillExplosionCells(explosionCells);
-            
-            // 폭발 애니메이션 시작
-            pendingExplosionCells = explosionCells;
-            isExplosionAnimation = true;
-            lineAnimation.start();
-            System.out.println(">>> BombBlock: Starting explosion animation (hard drop) with " + explosionCells.length + " cells");
-            return; // 애니메이션이 끝날 때까지 대기
+        // 0줄이어도 이미 착지 처리되었으므로 아래 착지 후 처리를 건너뛰면 안 됨
+        if (gameLogic.isHardDropLanded()) {
+            handleBlockLanded(currentBlock, gameLogic.getCurrentX(), gameLogic.getCurrentY());
         }
 
-        // 줄 삭제 체크 - 먼저 꽉 찬 줄 찾기 (L-item 줄 채우기 전에)
-        List<Integer> fullLines = gameLogic.findFullLines();
-        
-        // L-item이 착지했을 경우 L 줄을 애니메이션 대상에 추가
-        int lItemRow = -1;
-        if (isLItemBlock) {
-            LItem lItem = (LItem) currentBlock;
-            lItemRow = lItem.getLMarkerAbsoluteRow(gameLogic.getCurrentY());
-            System.out.println(">>> L-item hard-dropped at row: " + lItemRow);
-            
-            // L-item 줄의 빈 셀을 임시로 채워서 애니메이션이 제대로 작동하도록 함
-            fillEmptyCellsInLine(lItemRow);
+        // 애니메이션이 있으면 끝날 때까지 하드 드롭 유지 (애니메이션 종료 후 해제)
+        if (!lineAnimation.isActive()) {
+            isHardDropping = false;
         }
-
-        List<Integer> linesToAnimate = new ArrayList<>();
-        
-        // L-item 줄 추가
-        if (lItemRow >= 0) {
-            linesToAnimate.add(lItemRow);
-            System.out.println(">>> Adding L-item row to animate: " + lItemRow);
-            scorePanel.addScoreWithDifficulty(100); // L-item 줄 삭제 점수 (난이도 배율 적용)
-        }
-        
-        // 꽉 찬 줄 추가 (L-item 줄과 중복 제거)
-        for (Integer line : fullLines) {
-            if (!linesToAnimate.contains(line)) {
-                linesToAnimate.add(line);
-                System.out.println(">>> Adding full line to animate: " + line);
-            }
-        }
-        
-        // 애니메이션 시작
-        if (!linesToAnimate.isEmpty()) {
-            pendingLinesToClear = linesToAnimate;
-            isExplosionAnimation = false;
-            lineAnimation.start();
-            return; // 애니메이션이 끝날 때까지 대기
-        }
-
-        if (gameLogic.isBlockAtTop()) {
-            if (!isGameOver) {
-                isGameOver = true;
-                gameOver();
-            }
-            isHardDropping = false; // 게임 오버 시 하드 드롭 종료
-            return;
-        }
-
-        // 애니메이션이 없는 경우 여기서 다음 블록 생성
-        boolean spawned = gameLogic.spawnNextPiece();
-        if (!spawned && !isGameOver) {
-            isGameOver = true;
-            gameOver();
-        }
-        
-        // 다음 블록 생성 후 하드 드롭 플래그 해제
-        isHardDropping = false;
     }
 
     // 리소스 정리 (게임이 종료될 때 호출)
@@ -997,35 +955,31 @@ public class Board implements GameInputCallback {
 
     // L-item 줄의 빈 셀을 임시로 채우기 (애니메이션용)
     protected void fillEmptyCellsInLine(int row) {
-        if (row < 0 || row >= GameLogic.HEIGHT) {
+        if (row < 0 || row >= gameLogic.getHeight()) {
             return;
         }
         
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
+        BoardState boardState = gameLogic.getBoardState();
         
-        for (int col = 0; col < GameLogic.WIDTH; col++) {
-            if (board[row][col] == 0) {
+        for (int col = 0; col < gameLogic.getWidth(); col++) {
+            if (!boardState.isOccupied(row, col)) {
                 // 빈 셀을 임시로 채움 (애니메이션에만 사용)
-                board[row][col] = 1;
-                blockTypes[row][col] = "block-default"; // 기본 블록 타입
+                boardState.setCell(row, col, CellType.DEFAULT); // 기본 블록 타입
             }
         }
     }
     
     // BombBlock 폭발 영역의 빈 셀을 임시로 채우기 (애니메이션용)
     protected void fillExplosionCells(int[][] explosionCells) {
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
+        BoardState boardState = gameLogic.getBoardState();
         
         for (int[] cell : explosionCells) {
             int row = cell[0];
             int col = cell[1];
             
-            if (board[row][col] == 0) {
+            if (!boardState.isOccupied(row, col)) {
                 // 빈 셀을 임시로 채움 (애니메이션에만 사용)
-                board[row][col] = 1;
-                blockTypes[row][col] = "block-default"; // 기본 블록 타입
+                boardState.setCell(row, col, CellType.DEFAULT); // 기본 블록 타입
             }
         }
     }
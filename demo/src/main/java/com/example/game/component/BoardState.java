@@ -0,0 +1,574 @@
+package com.example.game.component;
+
+import java.util.Arrays;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.CellType;
+
+/**
+ * 비트보드 기반 보드 상태
+ * - 각 줄을 int 비트마스크로 저장 (bit col = 1 << col)
+ * - 셀 색상은 CellType 코드로 byte[]에 저장 (row * width + col)
+ * - 충돌 검사는 마스크 AND, 꽉 찬 줄 검사는 row == fullRowMask
+ * - 꽉 찬 줄 마스크와 열별 비트마스크를 변경 시점에 함께 갱신하여
+ *   줄 채움 수 / 열 높이 / 구멍 수를 O(1)로 조회
+ * - 기존 int[][] / String[][] 형태는 필요한 호출자를 위해 지연 생성 (읽기 전용 스냅샷)
+ */
+public class BoardState {
+
+    // 블록이 화면 위쪽에서 시작할 수 있도록 허용하는 여유 줄 수
+    private static final int TOP_MARGIN = 2;
+
+    private final int width;
+    private final int height;
+    private final int fullRowMask;
+
+    private int[] rows;         // 줄별 비트마스크
+    private byte[] cells;       // 셀 타입 코드 (row * width + col)
+    private final long[] columns; // 열별 비트마스크 (bit row = 1L << row)
+    private long fullRows = 0L;   // 꽉 찬 줄 비트마스크
+
+    // 변경 카운터 - 지연 생성 뷰의 캐시 무효화용
+    private int modCount = 0;
+    private int[][] cellView;
+    private int cellViewVersion = -1;
+    private String[][] typeView;
+    private int typeViewVersion = -1;
+
+    public BoardState(int width, int height) {
+        if (width <= 0 || width > 31) {
+            throw new IllegalArgumentException("Board width must be between 1 and 31: " + width);
+        }
+        if (height <= 0 || height > 64) {
+            throw new IllegalArgumentException("Board height must be between 1 and 64: " + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRowMask = (1 << width) - 1;
+        this.rows = new int[height];
+        this.cells = new byte[width * height];
+        this.columns = new long[width];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // 꽉 찬 줄의 비트마스크
+    public int getFullRowMask() {
+        return fullRowMask;
+    }
+
+    // 특정 줄의 비트마스크
+    public int getRow(int row) {
+        return rows[row];
+    }
+
+    public boolean isRowFull(int row) {
+        return (fullRows & (1L << row)) != 0;
+    }
+
+    // 줄의 채워진 칸 수
+    public int getRowFillCount(int row) {
+        return Integer.bitCount(rows[row]);
+    }
+
+    // 꽉 찬 줄 비트마스크 (변경 시점에 갱신되므로 O(1))
+    public long getFullRows() {
+        return fullRows;
+    }
+
+    // 열의 비트마스크 (bit row = 1L << row)
+    public long getColumn(int col) {
+        return columns[col];
+    }
+
+    /**
+     * 열 높이 (바닥에서 가장 높은 블록까지, 빈 열은 0)
+     */
+    public int getColumnHeight(int col) {
+        long column = columns[col];
+        return column == 0L ? 0 : height - Long.numberOfTrailingZeros(column);
+    }
+
+    /**
+     * 열의 구멍 수 (가장 높은 블록 아래의 빈칸)
+     */
+    public int getColumnHoles(int col) {
+        return getColumnHeight(col) - Long.bitCount(columns[col]);
+    }
+
+    // 가장 높은 열의 높이
+    public int getMaxHeight() {
+        long occupied = 0L;
+        for (int col = 0; col < width; col++) {
+            occupied |= columns[col];
+        }
+        return occupied == 0L ? 0 : height - Long.numberOfTrailingZeros(occupied);
+    }
+
+    // 블록이 있는 가장 위 줄 번호 (빈 보드는 height)
+    public int getTopRow() {
+        return height - getMaxHeight();
+    }
+
+    public boolean isOccupied(int row, int col) {
+        return (rows[row] & (1 << col)) != 0;
+    }
+
+    // 셀 타입 코드 (CellType)
+    public byte getCellType(int row, int col) {
+        return cells[row * width + col];
+    }
+
+    // 셀의 CSS 클래스 (빈칸은 null)
+    public String getType(int row, int col) {
+        return CellType.cssClass(cells[row * width + col]);
+    }
+
+    // 셀 채우기
+    public void setCell(int row, int col, byte cellType) {
+        rows[row] |= 1 << col;
+        columns[col] |= 1L << row;
+        cells[row * width + col] = cellType;
+        updateFullRow(row);
+        modCount++;
+    }
+
+    public void setCell(int row, int col, String type) {
+        setCell(row, col, CellType.of(type));
+    }
+
+    // 셀 비우기
+    public void clearCell(int row, int col) {
+        rows[row] &= ~(1 << col);
+        columns[col] &= ~(1L << row);
+        cells[row * width + col] = CellType.EMPTY;
+        updateFullRow(row);
+        modCount++;
+    }
+
+    // 줄 전체를 마스크로 설정 (채워진 칸은 같은 타입)
+    public void setRow(int row, int mask, byte cellType) {
+        mask &= fullRowMask;
+        rows[row] = mask;
+        int base = row * width;
+        long rowBit = 1L << row;
+        for (int col = 0; col < width; col++) {
+            if ((mask & (1 << col)) != 0) {
+                cells[base + col] = cellType;
+                columns[col] |= rowBit;
+            } else {
+                cells[base + col] = CellType.EMPTY;
+                columns[col] &= ~rowBit;
+            }
+        }
+        updateFullRow(row);
+        modCount++;
+    }
+
+    public void setRow(int row, int mask, String type) {
+        setRow(row, mask, CellType.of(type));
+    }
+
+    // 보드 전체 비우기
+    public void clear() {
+        for (int row = 0; row < height; row++) {
+            rows[row] = 0;
+        }
+        Arrays.fill(cells, CellType.EMPTY);
+        Arrays.fill(columns, 0L);
+        fullRows = 0L;
+        modCount++;
+    }
+
+    // 한 줄의 꽉 참 여부를 fullRows에 반영
+    private void updateFullRow(int row) {
+        if (rows[row] == fullRowMask) {
+            fullRows |= 1L << row;
+        } else {
+            fullRows &= ~(1L << row);
+        }
+    }
+
+    // 줄 마스크로부터 열 마스크와 꽉 찬 줄 마스크를 다시 계산 (여러 줄 이동 후)
+    private void rebuildIndexes() {
+        Arrays.fill(columns, 0L);
+        fullRows = 0L;
+        for (int row = 0; row < height; row++) {
+            int mask = rows[row];
+            if (mask == fullRowMask) {
+                fullRows |= 1L << row;
+            }
+            long rowBit = 1L << row;
+            while (mask != 0) {
+                columns[Integer.numberOfTrailingZeros(mask)] |= rowBit;
+                mask &= mask - 1;
+            }
+        }
+    }
+
+    /**
+     * 블록 줄 마스크를 보드 열 위치로 이동
+     * @return 보드 좌표 기준 마스크, 좌우 경계를 벗어나면 -1
+     */
+    private int shiftIntoRow(int mask, int x) {
+        if (x < -31 || x > 31) {
+            return -1;
+        }
+        if (x >= 0) {
+            int shifted = mask << x;
+            if ((shifted >>> x) != mask || (shifted & ~fullRowMask) != 0) {
+                return -1;
+            }
+            return shifted;
+        }
+        if ((mask & ((1 << -x) - 1)) != 0) {
+            return -1;
+        }
+        return mask >>> -x;
+    }
+
+    /**
+     * 블록을 (x, y)에 놓을 수 있는지 확인
+     * - 좌우/하단 경계 밖이면 불가
+     * - 상단은 TOP_MARGIN 줄까지 허용 (보드 밖 부분은 충돌 검사 생략)
+     */
+    public boolean canPlace(Block block, int x, int y) {
+        if (block == null) {
+            return false;
+        }
+        for (int j = 0; j < block.height(); j++) {
+            int mask = block.rowMask(j); // 회전 테이블에 미리 계산된 마스크
+            if (mask == 0) {
+                continue;
+            }
+            int boardY = y + j;
+            if (boardY >= height || boardY < -TOP_MARGIN) {
+                return false;
+            }
+            int shifted = shiftIntoRow(mask, x);
+            if (shifted < 0) {
+                return false;
+            }
+            if (boardY >= 0 && (rows[boardY] & shifted) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * (x, y)의 블록이 아래로 떨어질 수 있는 줄 수
+     * - 블록 각 열의 가장 아래 셀 밑에서 처음 막히는 줄을 열 비트마스크로 한 번에 찾음
+     * - 블록 자신의 셀은 항상 그 위에 있으므로 보드에 놓인 상태여도 결과가 같음
+     */
+    public int dropDistance(Block block, int x, int y) {
+        if (block == null) {
+            return 0;
+        }
+        int distance = Integer.MAX_VALUE;
+        for (int i = 0; i < block.width(); i++) {
+            int bottom = block.columnBottom(i);
+            if (bottom < 0) {
+                continue;
+            }
+            int boardX = x + i;
+            int boardY = y + bottom;
+            if (boardX < 0 || boardX >= width || boardY >= height - 1) {
+                return 0;
+            }
+            // boardY 아래 줄들만 남긴 열 마스크
+            long below = boardY < 0 ? columns[boardX] : columns[boardX] & (-1L << (boardY + 1));
+            int stop = below == 0L ? height : Long.numberOfTrailingZeros(below);
+            distance = Math.min(distance, stop - boardY - 1);
+        }
+        return distance == Integer.MAX_VALUE ? 0 : distance;
+    }
+
+    /**
+     * 블록을 보드에 기록 (보드 밖 셀은 무시)
+     */
+    public void place(Block block, int x, int y) {
+        if (block == null) {
+            return;
+        }
+        byte type = block.getCellType();
+        for (int j = 0; j < block.height(); j++) {
+            int boardY = y + j;
+            if (boardY < 0 || boardY >= height) {
+                continue;
+            }
+            for (int i = 0; i < block.width(); i++) {
+                int boardX = x + i;
+                if (block.getShape(i, j) == 1 && boardX >= 0 && boardX < width) {
+                    rows[boardY] |= 1 << boardX;
+                    columns[boardX] |= 1L << boardY;
+                    cells[boardY * width + boardX] = type;
+                }
+            }
+            updateFullRow(boardY);
+        }
+        modCount++;
+    }
+
+    /**
+     * 블록이 차지하던 셀을 보드에서 제거 (보드 밖 셀은 무시)
+     */
+    public void erase(Block block, int x, int y) {
+        if (block == null) {
+            return;
+        }
+        for (int j = 0; j < block.height(); j++) {
+            int boardY = y + j;
+            if (boardY < 0 || boardY >= height) {
+                continue;
+            }
+            for (int i = 0; i < block.width(); i++) {
+                int boardX = x + i;
+                if (block.getShape(i, j) == 1 && boardX >= 0 && boardX < width) {
+                    rows[boardY] &= ~(1 << boardX);
+                    columns[boardX] &= ~(1L << boardY);
+                    cells[boardY * width + boardX] = CellType.EMPTY;
+                }
+            }
+            updateFullRow(boardY);
+        }
+        modCount++;
+    }
+
+    /**
+     * 특정 줄 하나를 삭제하고 위의 줄들을 한 칸씩 내림
+     */
+    public void removeRow(int row) {
+        System.arraycopy(rows, 0, rows, 1, row);
+        System.arraycopy(cells, 0, cells, width, row * width);
+        rows[0] = 0;
+        Arrays.fill(cells, 0, width, CellType.EMPTY);
+
+        removeIndexRow(row);
+        modCount++;
+    }
+
+    // 열 마스크와 꽉 찬 줄 마스크에서 row 비트를 제거하고 위쪽 비트만 한 칸 아래(+1)로 이동
+    private void removeIndexRow(int row) {
+        long above = (1L << row) - 1;
+        long below = ~((1L << row) | above);
+        for (int col = 0; col < width; col++) {
+            long column = columns[col];
+            columns[col] = (column & below) | ((column & above) << 1);
+        }
+        fullRows = (fullRows & below) | ((fullRows & above) << 1);
+    }
+
+    /**
+     * 꽉 찬 줄들의 비트마스크 (bit row = 1L << row)
+     */
+    public long findFullRows() {
+        return fullRows;
+    }
+
+    /**
+     * 여러 줄을 삭제하고 남은 줄을 기존 배열 안에서 아래로 모음 (추가 할당 없음)
+     * @param clearedRows 삭제할 줄 비트마스크 (bit row = 1L << row)
+     * @return 실제로 삭제된 줄 수
+     */
+    public int removeRows(long clearedRows) {
+        if (height < 64) {
+            clearedRows &= (1L << height) - 1; // 보드 밖 비트 무시
+        }
+        if (clearedRows == 0L) {
+            return 0;
+        }
+
+        // 아래에서 위로 올라가며 남은 줄을 write 위치로 이동
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if ((clearedRows & (1L << read)) != 0) {
+                continue;
+            }
+            if (write != read) {
+                rows[write] = rows[read];
+                System.arraycopy(cells, read * width, cells, write * width, width);
+            }
+            write--;
+        }
+
+        // 위쪽에 남은 줄 비우기
+        for (int row = write; row >= 0; row--) {
+            rows[row] = 0;
+        }
+        Arrays.fill(cells, 0, (write + 1) * width, CellType.EMPTY);
+
+        // 위쪽 줄부터 지워야 아래쪽 삭제 줄 번호가 바뀌지 않음
+        long remaining = clearedRows;
+        while (remaining != 0L) {
+            removeIndexRow(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+        modCount++;
+        return Long.bitCount(clearedRows);
+    }
+
+    /**
+     * 보드 전체를 위로 count 줄 밀어올림 (하단 count 줄은 비워짐)
+     */
+    public void shiftUp(int count) {
+        if (count <= 0) {
+            return;
+        }
+        count = Math.min(count, height);
+        int remaining = height - count;
+        System.arraycopy(rows, count, rows, 0, remaining);
+        System.arraycopy(cells, count * width, cells, 0, remaining * width);
+        for (int row = remaining; row < height; row++) {
+            rows[row] = 0;
+        }
+        Arrays.fill(cells, remaining * width, cells.length, CellType.EMPTY);
+
+        // 열 마스크: 모든 비트를 count만큼 위(-count)로 이동, 위로 밀려난 줄은 버림
+        for (int col = 0; col < width; col++) {
+            columns[col] = count < 64 ? columns[col] >>> count : 0L;
+        }
+        fullRows = count < 64 ? fullRows >>> count : 0L;
+        modCount++;
+    }
+
+    // 줄 비트마스크 복사본 (AI 시뮬레이션용)
+    public int[] copyRows() {
+        return rows.clone();
+    }
+
+    // 열 비트마스크 복사본 (AI 시뮬레이션용)
+    public long[] copyColumns() {
+        return columns.clone();
+    }
+
+    /**
+     * 같은 크기의 다른 보드 내용을 그대로 복사
+     */
+    public void copyFrom(BoardState other) {
+        if (other.width != width || other.height != height) {
+            throw new IllegalArgumentException("Board size mismatch: " + other.width + "x" + other.height);
+        }
+        System.arraycopy(other.rows, 0, rows, 0, height);
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+        System.arraycopy(other.columns, 0, columns, 0, width);
+        fullRows = other.fullRows;
+        modCount++;
+    }
+
+    /**
+     * 셀 타입 코드 복사본 (네트워크/리플레이 전송용, 길이 width * height)
+     */
+    public byte[] copyCells() {
+        return cells.clone();
+    }
+
+    /**
+     * 셀 타입 코드 배열로 보드 전체를 설정 (줄 비트마스크도 함께 재구성)
+     */
+    public void loadCells(byte[] source) {
+        int length = Math.min(source.length, cells.length);
+        System.arraycopy(source, 0, cells, 0, length);
+        Arrays.fill(cells, length, cells.length, CellType.EMPTY);
+        for (int row = 0; row < height; row++) {
+            int mask = 0;
+            int base = row * width;
+            for (int col = 0; col < width; col++) {
+                if (cells[base + col] != CellType.EMPTY) {
+                    mask |= 1 << col;
+                }
+            }
+            rows[row] = mask;
+        }
+        rebuildIndexes();
+        modCount++;
+    }
+
+    /**
+     * 줄 마스크/셀 코드 배열로 보드 복원 (스냅샷 복원용, 입력 배열은 복사됨)
+     */
+    public void restore(int[] sourceRows, byte[] sourceCells) {
+        if (sourceRows.length != height || sourceCells.length != cells.length) {
+            throw new IllegalArgumentException("Board data size mismatch");
+        }
+        System.arraycopy(sourceRows, 0, rows, 0, height);
+        System.arraycopy(sourceCells, 0, cells, 0, cells.length);
+        rebuildIndexes();
+        modCount++;
+    }
+
+    // 변경 카운터 (캐시 무효화 판단용)
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * 기존 int[][]/String[][] 보드로 만든 BoardState (0이 아닌 칸은 채워진 칸)
+     */
+    public static BoardState fromArrays(int[][] board, String[][] blockTypes) {
+        BoardState state = new BoardState(board[0].length, board.length);
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                if (board[row][col] != 0) {
+                    state.setCell(row, col, blockTypes[row][col]);
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * 현재 상태를 기존 int[][]/String[][] 보드에 덮어씀 (fromArrays의 반대)
+     */
+    public void copyTo(int[][] board, String[][] blockTypes) {
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                board[row][col] = isOccupied(row, col) ? 1 : 0;
+                blockTypes[row][col] = getType(row, col);
+            }
+        }
+    }
+
+    /**
+     * 기존 int[][] 형태의 보드 (0: 빈칸, 1: 채워진 칸)
+     * 변경이 있을 때만 새로 생성하며, 반환된 배열에 쓰더라도 보드에는 반영되지 않음
+     */
+    public int[][] toArray() {
+        if (cellViewVersion != modCount || cellView == null) {
+            int[][] view = new int[height][width];
+            for (int row = 0; row < height; row++) {
+                int mask = rows[row];
+                for (int col = 0; col < width; col++) {
+                    view[row][col] = (mask >>> col) & 1;
+                }
+            }
+            cellView = view;
+            cellViewVersion = modCount;
+        }
+        return cellView;
+    }
+
+    /**
+     * 기존 String[][] 형태의 블록 타입 배열 (읽기 전용 스냅샷)
+     */
+    public String[][] toTypeArray() {
+        if (typeViewVersion != modCount || typeView == null) {
+            String[][] view = new String[height][width];
+            for (int row = 0; row < height; row++) {
+                int base = row * width;
+                for (int col = 0; col < width; col++) {
+                    view[row][col] = CellType.cssClass(cells[base + col]);
+                }
+            }
+            typeView = view;
+            typeViewVersion = modCount;
+        }
+        return typeView;
+    }
+}
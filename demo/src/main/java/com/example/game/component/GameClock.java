@@ -0,0 +1,76 @@
+package com.example.game.component;
+
+/**
+ * 고정 간격 게임 시계 (렌더링 프레임과 분리)
+ * - 프레임마다 흐른 시간을 누적하고, 1/60초가 찰 때마다 논리 틱을 한 번씩 실행
+ * - 틱 길이는 GameSimulator/고정 대기와 같은 단위이고, 낙하 속도는 GameLogic.tickGravity()가 틱 수로 정함
+ * - 프레임 경계에 맞춰 끊기지 않으므로 60/144/240Hz에서 낙하 속도가 같음
+ * - 프레임이 오래 멈춘 경우(GC 등) 따라잡기 틱 수를 제한하고 남은 시간은 버림
+ */
+public class GameClock {
+
+    // 논리 틱 주기 (초당 60틱)
+    public static final int TICKS_PER_SECOND = 60;
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    // 한 프레임에서 실행할 최대 틱 수 기본값 (약 0.13초)
+    public static final int DEFAULT_MAX_CATCH_UP = 8;
+
+    private final int maxCatchUp;
+    private long lastTime = -1;
+    private long accumulator;
+
+    public GameClock() {
+        this(DEFAULT_MAX_CATCH_UP);
+    }
+
+    public GameClock(int maxCatchUp) {
+        if (maxCatchUp <= 0) {
+            throw new IllegalArgumentException("maxCatchUp must be positive: " + maxCatchUp);
+        }
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    /**
+     * 시계 초기화 (게임 시작/재시작 시)
+     */
+    public void reset(long now) {
+        lastTime = now;
+        accumulator = 0;
+    }
+
+    /**
+     * 시간을 흘리지 않고 기준 시각만 갱신 (일시정지/애니메이션 중)
+     */
+    public void skip(long now) {
+        lastTime = now;
+    }
+
+    /**
+     * 흐른 시간을 누적하고 이번 프레임에 실행할 논리 틱 수 반환
+     * @param now 현재 시각 (나노초)
+     */
+    public int advance(long now) {
+        if (lastTime < 0) {
+            reset(now);
+            return 0;
+        }
+        long elapsed = now - lastTime;
+        lastTime = now;
+        if (elapsed > 0) {
+            accumulator += elapsed;
+        }
+        if (accumulator < TICK_NANOS) {
+            return 0;
+        }
+
+        long steps = accumulator / TICK_NANOS;
+        if (steps > maxCatchUp) {
+            // 따라잡기 한도 초과분은 버리고 남은 시간만 유지
+            accumulator %= TICK_NANOS;
+            return maxCatchUp;
+        }
+        accumulator -= steps * TICK_NANOS;
+        return (int) steps;
+    }
+}
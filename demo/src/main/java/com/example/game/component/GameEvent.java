@@ -0,0 +1,61 @@
+package com.example.game.component;
+
+/**
+ * 게임 상태 변경 이벤트 (GameEventBus의 링 버퍼 칸을 재사용하므로 리스너 밖에서 보관하지 말 것)
+ * - 값은 모두 기본형 (블록 좌표, 종류 id, 줄 비트마스크 등)
+ */
+public final class GameEvent {
+
+    public enum Type {
+        PIECE_SPAWNED,  // x, y, value = 종류 id (아이템 블록은 -1)
+        PIECE_MOVED,    // x, y, value = 방향
+        PIECE_LOCKED,   // x, y (블록이 보드에 고정됨)
+        LINES_CLEARED,  // value = 삭제된 줄 수, lines = 줄 비트마스크
+        ATTACK_QUEUED,  // value = 대기열에 추가된 공격 줄 수
+        ITEM_TRIGGERED, // x, y, value = 영향을 받은 칸 수
+        GAME_OVER
+    }
+
+    Type type;
+    int x;
+    int y;
+    int value;
+    long lines;
+    long sequence; // 버스가 발행한 순번 (0부터)
+
+    GameEvent() {
+    }
+
+    void set(Type type, int x, int y, int value, long lines, long sequence) {
+        this.type = type;
+        this.x = x;
+        this.y = y;
+        this.value = value;
+        this.lines = lines;
+        this.sequence = sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.game.component;
+
+/**
+ * 단일 스레드 이벤트 버스 (GameLogic마다 하나)
+ * - publish()는 미리 만들어 둔 링 버퍼 칸에 값만 기록 (할당 없음), 구독자가 없으면 아무것도 하지 않음
+ * - dispatch()를 호출한 쪽(게임 루프/시뮬레이터 틱)에서 쌓인 이벤트를 순서대로 전달
+ * - 전달 중 구독자가 발행한 이벤트도 같은 dispatch()에서 이어서 전달
+ */
+public final class GameEventBus {
+
+    public interface Listener {
+        void onEvent(GameEvent event);
+    }
+
+    // 기본 버퍼 크기 (2의 거듭제곱, 한 프레임에 쌓이는 이벤트보다 충분히 크게)
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final GameEvent[] ring;
+    private final int mask;
+    private long published; // 지금까지 발행한 수 (다음 기록 위치)
+    private long delivered; // 지금까지 전달한 수 (다음 읽기 위치)
+    private long dropped;   // 전달 중 버퍼가 넘쳐 버린 수
+
+    // 구독은 드물고 전달은 잦으므로 배열을 바꿔 끼우는 방식 (전달 중 구독/해제해도 안전)
+    private Listener[] listeners = new Listener[0];
+    private boolean dispatching;
+
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        ring = new GameEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new GameEvent();
+        }
+        mask = capacity - 1;
+    }
+
+    public void subscribe(Listener listener) {
+        Listener[] next = new Listener[listeners.length + 1];
+        System.arraycopy(listeners, 0, next, 0, listeners.length);
+        next[listeners.length] = listener;
+        listeners = next;
+    }
+
+    public void unsubscribe(Listener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                Listener[] next = new Listener[listeners.length - 1];
+                System.arraycopy(listeners, 0, next, 0, i);
+                System.arraycopy(listeners, i + 1, next, i, next.length - i);
+                listeners = next;
+                return;
+            }
+        }
+    }
+
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    public void publish(GameEvent.Type type) {
+        publish(type, 0, 0, 0, 0L);
+    }
+
+    public void publish(GameEvent.Type type, int x, int y, int value) {
+        publish(type, x, y, value, 0L);
+    }
+
+    /**
+     * 이벤트 기록 (전달은 dispatch()에서)
+     * 버퍼가 가득 차면 먼저 쌓인 이벤트를 전달하고, 전달 중이라 비울 수 없으면 가장 오래된 이벤트를 버림
+     */
+    public void publish(GameEvent.Type type, int x, int y, int value, long lines) {
+        if (listeners.length == 0) {
+            return;
+        }
+        if (published - delivered == ring.length) {
+            if (!dispatching) {
+                dispatch();
+            } else {
+                delivered++;
+                dropped++;
+            }
+        }
+        ring[(int) (published & mask)].set(type, x, y, value, lines, published);
+        published++;
+    }
+
+    /**
+     * 쌓인 이벤트를 발행 순서대로 모든 구독자에게 전달
+     * @return 전달한 이벤트 수
+     */
+    public int dispatch() {
+        if (dispatching) {
+            return 0; // 구독자 안에서 다시 호출하면 바깥 루프가 이어서 전달
+        }
+        dispatching = true;
+        int count = 0;
+        try {
+            while (delivered < published) {
+                GameEvent event = ring[(int) (delivered & mask)];
+                delivered++;
+                Listener[] current = listeners;
+                for (Listener listener : current) {
+                    listener.onEvent(event);
+                }
+                count++;
+            }
+        } finally {
+            dispatching = false;
+        }
+        return count;
+    }
+
+    // 아직 전달하지 않은 이벤트 수
+    public int pending() {
+        return (int) (published - delivered);
+    }
+
+    // 전달하지 않은 이벤트 버림 (게임 재시작 등)
+    public void clear() {
+        delivered = published;
+    }
+
+    public long getDroppedCount() {
+        return dropped;
+    }
+}
@@ -5,13 +5,13 @@ import java.util.List;
 import java.util.Random;
 
 import com.example.game.blocks.Block;
-import com.example.game.blocks.IBlock;
-import com.example.game.blocks.JBlock;
-import com.example.game.blocks.LBlock;
-import com.example.game.blocks.OBlock;
-import com.example.game.blocks.SBlock;
-import com.example.game.blocks.TBlock;
-import com.example.game.blocks.ZBlock;
+import com.example.game.blocks.CellType;
+import com.example.game.blocks.KickTable;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.PieceRandomizer;
+import com.example.game.blocks.PieceState;
+import com.example.game.blocks.SeededRandom;
+import com.example.game.blocks.WeightedRandomizer;
 import com.example.game.items.ItemManager;
 import com.example.game.items.SandBlock;
 import com.example.game.items.weightedBlock;
@@ -20,19 +20,30 @@ import com.example.utils.Logger;
 
 public class GameLogic {
 
-    // 보드 크기
+    // 기본 보드 크기 (RuleSet.defaults()와 같음)
+    // 인스턴스의 실제 크기는 getWidth()/getHeight() 사용
     public static final int HEIGHT = 20; // 20줄
     public static final int WIDTH = 10; // 10칸
+    public static final int BASE_GRAVITY_TICKS = GameClock.TICKS_PER_SECOND; // 기본 낙하 간격 1초
 
-    private int[][] board; // 0: 빈칸, 1: 채워진 칸
-    private String[][] blockTypes; // 색상 추적용
+    private BoardState boardState; // 고정된 블록만 담은 비트보드 (떨어지는 블록은 x/y로 따로 관리)
     private Block currentBlock; // 현재 블록
-    private Block nextBlock; // 다음 블록
+    private final PieceQueue pieceQueue; // 다음 블록 대기열 (RuleSet.getPreviewCount()개를 미리 생성)
+    private Block holdBlock; // 홀드한 블록 (없으면 null)
+    private boolean holdUsed; // 이번 블록에서 이미 홀드했는지 (블록마다 한 번)
     private int x = 3; // 현재 블록 X좌표
     private int y = -1; // 현재 블록 Y좌표
     private int rotation = 0; // 현재 블록 회전 횟수 (0-3)
-    private Random random; // 랜덤 블록 생성용
+    private PieceRandomizer randomizer; // 다음 블록 종류 생성기 (인스턴스별)
     private boolean gameOver = false; // 게임 오버 상태
+    private final GameEventBus events = new GameEventBus(); // 상태 변경 이벤트 (구독자가 있을 때만 기록)
+
+    // stepDown() 결과
+    public enum DropResult {
+        MOVED,     // 한 칸 내려감
+        GROUNDED,  // 바닥에 닿아 고정 대기 중
+        LOCKED     // 고정됨 (착지 처리 필요)
+    }
 
     // 속도 관련 변수들 추가
     private int totalBlocksSpawned = 0;      // 생성된 총 블록 수
@@ -40,12 +51,28 @@ public class GameLogic {
     private int currentLevel = 1;            // 현재 레벨
     private int speedLevel = 1;              // 속도 레벨 (별도 관리)
     
-    // 속도 증가 기준
-    private static final int BLOCKS_PER_SPEED_INCREASE = 10;  // 10개 블록마다 속도 증가
-    private static final int LINES_PER_SPEED_INCREASE = 5;    // 5줄마다 속도 증가
-    private static final double SPEED_MULTIPLIER = 0.9;      // 속도 증가율 (90% = 10% 빨라짐)
-    private static final double MIN_SPEED_MULTIPLIER = 0.1;  // 최대 속도 (원래의 10%)
+    // 게임 규칙 (보드 크기, 난이도, 아이템 모드, 속도 증가 곡선)
+    private final RuleSet rules;
+    private final int width;
+    private final int height;
     
+    // 고정 대기 (논리 틱 단위, RuleSet.getLockDelayTicks()가 0이면 사용 안 함)
+    private int lockTimer = -1;   // 남은 대기 틱 (-1 = 바닥에 닿지 않음)
+    private int lockResets;       // 이번 블록에서 사용한 리셋 횟수
+
+    private boolean hardDropLanded; // 마지막 hardDrop()이 착지 처리까지 했는지
+
+    // 중력 (논리 틱 단위, 새 블록마다 처음부터 셈)
+    private int gravityCounter;
+    private int lowestY;          // 이번 블록이 내려간 가장 낮은 줄 (더 내려가면 리셋 횟수 초기화)
+
+    // 줄 삭제 분류 (T-spin / 콤보 / B2B, 고정할 때마다 갱신)
+    private boolean rotatedLast;      // 마지막으로 성공한 조작이 회전인지
+    private int lastKickTest;         // 마지막 회전에 사용한 벽 차기 시도 번호
+    private int combo = -1;           // 연속 삭제 횟수 (-1 = 직전 고정에서 삭제 없음)
+    private boolean backToBackReady;  // 직전 삭제가 테트리스/T-spin이었는지
+    private final LineClear lastClear = new LineClear();
+
     // 아이템 매니저
     private ItemManager itemManager;
     private boolean nextBlockShouldBeItem = false; // 다음 블록이 아이템이어야 하는지
@@ -54,6 +81,27 @@ public class GameLogic {
     private List<Integer> linesToClear = new ArrayList<>();
     private boolean isAnimatingClear = false;
 
+    // 낙하 거리 캐시 (블록/위치/방향/보드 변경 횟수가 같으면 재사용)
+    private int cachedDropDistance = -1;
+    private Block cachedDropBlock;
+    private int cachedDropX;
+    private int cachedDropY;
+    private int cachedDropOrientation;
+    private int cachedDropModCount;
+
+    // 렌더링용 합성 보드 캐시
+    private BoardState composedState;
+    private int composedModCount;
+    private Block composedBlock;
+    private int composedX;
+    private int composedY;
+    private int composedOrientation;
+
+    // 스냅샷 보드 배열 공유 (보드가 바뀌지 않았으면 이전 스냅샷 배열 재사용)
+    private int[] snapshotRows;
+    private byte[] snapshotCells;
+    private int snapshotModCount = -1;
+
     public GameLogic() {
         this(true, true); // 기본값: 아이템 모드 비활성화, 초기 블록 생성
     }
@@ -63,28 +111,46 @@ public class GameLogic {
     }
     
     public GameLogic(boolean itemModeEnabled, boolean spawnInitialBlock) {
-        random = new Random();
-        itemManager = new ItemManager(itemModeEnabled);
+        this(RuleSet.fromSettings(GameSettings.getInstance()).withItemMode(itemModeEnabled), spawnInitialBlock);
+    }
+
+    /**
+     * 규칙을 직접 지정하여 생성 - 설정 파일/JavaFX에 접근하지 않음 (헤드리스 실행용)
+     */
+    public GameLogic(RuleSet rules) {
+        this(rules, true);
+    }
+
+    public GameLogic(RuleSet rules, boolean spawnInitialBlock) {
+        this.rules = rules;
+        this.width = rules.getWidth();
+        this.height = rules.getHeight();
+        // 난이도 가중치 테이블은 생성 시 한 번만 계산
+        // SeededRandom은 상태 복사가 가능하여 스냅샷/복원 시 같은 순서를 이어감
+        randomizer = WeightedRandomizer.forDifficulty(rules.getDifficulty(), new SeededRandom(new Random().nextLong()));
+        pieceQueue = new PieceQueue(rules.getPreviewCount());
+        itemManager = new ItemManager(rules.isItemModeEnabled());
         initializeGame(spawnInitialBlock);
     }
 
     // Random seed 설정 (P2P 동기화용)
     // @param seed Random seed 값
     public void setRandomSeed(long seed) {
-        this.random = new Random(seed);
+        // 같은 방식의 생성기를 시드 고정 난수열로 교체 (양쪽이 같은 순서를 생성)
+        this.randomizer = randomizer.reseed(seed);
         System.out.println(">>> GameLogic: Random seed set to " + seed);
 
-        // 기존 블록 지우기 (겹치지 않도록)
-        eraseCurrent();
-
         // 블록 재생성 (동기화를 위해)
+        pieceQueue.clear();
         currentBlock = getRandomBlock();
-        nextBlock = getRandomBlock();
+        fillQueue();
+        holdBlock = null;
+        holdUsed = false;
     
-        // 현재 블록을 보드에 다시 배치
-        x = 3;
+        // 스폰 위치로 초기화
+        x = spawnX();
         y = 0;
-        placeCurrent();
+        publishSpawned();
     }
 
     // 게임 초기화
@@ -93,27 +159,38 @@ public class GameLogic {
     }
     
     private void initializeGame(boolean spawnInitialBlock) {
-        board = new int[HEIGHT][WIDTH]; // 모두 0으로 초기화
-        blockTypes = new String[HEIGHT][WIDTH]; // 모두 null로 초기화
+        boardState = new BoardState(width, height); // 빈 보드
+        // 보드가 새로 만들어졌으므로 변경 횟수 기반 캐시 무효화
+        cachedDropDistance = -1;
+        composedModCount = -1;
+        snapshotRows = null;
+        events.clear(); // 이전 게임의 전달되지 않은 이벤트는 버림
         
+        pieceQueue.clear();
+        holdBlock = null;
+        holdUsed = false;
         if (spawnInitialBlock) {
             currentBlock = getRandomBlock(); // 첫 블록 생성
-            nextBlock = getRandomBlock(); // 다음 블록 생성
-            x=3;
+            fillQueue(); // 다음 블록들 생성
+            x = spawnX();
             y=0;
             rotation = 0;
-            placeCurrent(); // 현재 블록 보드에 놓기
             totalBlocksSpawned = 1; // 첫 블록 카운트
+            publishSpawned();
         } else {
             currentBlock = null;
-            nextBlock = null;
-            x=3;
+            x = spawnX();
             y=0;
             rotation = 0;
             totalBlocksSpawned = 0;
         }
         
         gameOver = false;
+        resetPieceTimers();
+        rotatedLast = false;
+        combo = -1;
+        backToBackReady = false;
+        lastClear.reset();
         
         // 통계 초기화
         totalLinesCleared = 0;
@@ -122,34 +199,6 @@ public class GameLogic {
     }
 
     public Block getRandomBlock() {
-        // Base weight for each piece
-        double baseWeight = 1.0;
-
-        // Adjust I-block weight based on global difficulty from GameSettings
-        GameSettings.Difficulty difficulty = GameSettings.getInstance().getDifficulty();
-        double iWeight = baseWeight;
-        if (difficulty == GameSettings.Difficulty.EASY) {
-            iWeight *= 1.2; // 20% more likely
-        } else if (difficulty == GameSettings.Difficulty.HARD) {
-            iWeight *= 0.8; // 20% less likely
-        }
-
-        // weights order: I, J, L, Z, S, T, O
-        double[] weights = new double[] { iWeight, baseWeight, baseWeight, baseWeight, baseWeight, baseWeight, baseWeight };
-        double sum = 0.0;
-        for (double w : weights) sum += w;
-
-        double r = random.nextDouble() * sum;
-        double acc = 0.0;
-        int chosen = 0;
-        for (int i = 0; i < weights.length; i++) {
-            acc += weights[i];
-            if (r < acc) {
-                chosen = i;
-                break;
-            }
-        }
-      
         // 다음 블록이 아이템이어야 하는 경우
         if (nextBlockShouldBeItem) {
             nextBlockShouldBeItem = false;
@@ -158,20 +207,27 @@ public class GameLogic {
                 return itemBlock;
             }
         }
-        
 
-        switch (chosen) {
-            case 0: return new IBlock();
-            case 1: return new JBlock();
-            case 2: return new LBlock();
-            case 3: return new ZBlock();
-            case 4: return new SBlock();
-            case 5: return new TBlock();
-            case 6: return new OBlock();
-            default: return new IBlock();
+        return randomizer.next().create();
+    }
+
+    // 대기열이 찰 때까지 생성기에서 미리 뽑아 둠
+    // 아이템 블록도 여기서 뽑히므로 대기열 맨 뒤에 나타남
+    private void fillQueue() {
+        while (!pieceQueue.isFull()) {
+            pieceQueue.push(getRandomBlock());
         }
     }
 
+    // 블록 생성기 교체 (7-bag 등)
+    public void setRandomizer(PieceRandomizer randomizer) {
+        this.randomizer = randomizer;
+    }
+
+    public PieceRandomizer getRandomizer() {
+        return randomizer;
+    }
+
     // 블록 아래로 이동
     public boolean moveDown() {
         // weightedBlock이 이미 접촉한 상태인지 먼저 확인
@@ -181,41 +237,24 @@ public class GameLogic {
             isWeightAfterTouch = weight.hasTouched();
         }
         
-        // 현재 블록 지우기
-        eraseCurrent();
         
         // 무게추가 접촉 후라면, 아래 블록을 부수고 강제로 내려감
         if (isWeightAfterTouch) {
             weightedBlock weight = (weightedBlock) currentBlock;
             
             // 다음 위치의 블록들 파괴
-            for (int i = 0; i < currentBlock.width(); i++) {
-                for (int j = 0; j < currentBlock.height(); j++) {
-                    if (currentBlock.getShape(i, j) == 1) {
-                        int col = x + i;
-                        int row = y + j + 1;  // 다음 위치
-                        
-                        if (col >= 0 && col < WIDTH && 
-                            row >= 0 && row < HEIGHT) {
-                            if (board[row][col] == 1) {
-                                board[row][col] = 0;
-                                blockTypes[row][col] = null;
-                            }
-                        }
-                    }
-                }
-            }
+            crushBelowCurrent();
             
             // 바닥에 닿았는지 확인
-            if (y + currentBlock.height() >= HEIGHT) {
+            if (y + currentBlock.height() >= height) {
                 // 바닥 도달 - 무게추를 board에 고정
-                placeCurrent();
+                lockCurrent();
                 return false;
             }
             
             // 계속 내려감
             y++;
-            placeCurrent();
+            publishMoved();
             return true;
         }
         
@@ -223,7 +262,7 @@ public class GameLogic {
         // 아래로 이동 가능하면 이동
         if (canMove(x, y + 1, currentBlock)) {
             y++;
-            placeCurrent(); // 이동 후 다시 놓기
+            publishMoved();
             return true;
         } else { // 이동 불가하면 제자리
             // 무게추라면 첫 접촉 처리
@@ -233,32 +272,18 @@ public class GameLogic {
                 Logger.info(">>> WeightedBlock: First touch! Marking as touched.");
                 
                 // 다음 위치의 블록들 파괴
-                for (int i = 0; i < currentBlock.width(); i++) {
-                    for (int j = 0; j < currentBlock.height(); j++) {
-                        if (currentBlock.getShape(i, j) == 1) {
-                            int col = x + i;
-                            int row = y + j + 1;  // 다음 위치
-                            
-                            if (col >= 0 && col < WIDTH && 
-                                row >= 0 && row < HEIGHT) {
-                                if (board[row][col] == 1) {
-                                    board[row][col] = 0;
-                                    blockTypes[row][col] = null;
-                                }
-                            }
-                        }
-                    }
-                }
+                int crushed = crushBelowCurrent();
+                events.publish(GameEvent.Type.ITEM_TRIGGERED, x, y, crushed);
                 
                 // 바닥 체크
-                if (y + currentBlock.height() >= HEIGHT) {
-                    placeCurrent();
+                if (y + currentBlock.height() >= height) {
+                    lockCurrent();
                     return false;
                 }
                 
                 // 계속 내려감
                 y++;
-                placeCurrent();
+                publishMoved();
                 return true;  // 계속 진행
             }
             
@@ -266,10 +291,12 @@ public class GameLogic {
             if (currentBlock instanceof SandBlock) {
                 Logger.info(">>> SandBlock landed! Applying gravity effect...");
                 SandBlock sandBlock = (SandBlock) currentBlock;
-                sandBlock.applyGravity(board, blockTypes, y, x);
+                int moved = sandBlock.applyGravity(boardState, y, x);
+                events.publish(GameEvent.Type.ITEM_TRIGGERED, x, y, moved);
                 // SandBlock은 고정하지 않음 - 바로 다음 블록으로
+                lastClear.reset(); // 고정하지 않았으므로 분류/공격 없음
             } else {
-                placeCurrent(); // 일반 블록은 현재 위치에 배치
+                lockCurrent(); // 일반 블록은 현재 위치에 배치
             }
             
             // LItem과 BombBlock은 Board.java에서 애니메이션과 함께 처리됨
@@ -284,6 +311,96 @@ public class GameLogic {
         }
     }
 
+    /**
+     * 무게추 바로 아래(다음 위치)의 블록들 파괴
+     * @return 파괴한 칸 수
+     */
+    private int crushBelowCurrent() {
+        int crushed = 0;
+        for (int i = 0; i < currentBlock.width(); i++) {
+            for (int j = 0; j < currentBlock.height(); j++) {
+                if (currentBlock.getShape(i, j) == 1) {
+                    int col = x + i;
+                    int row = y + j + 1;  // 다음 위치
+                    
+                    if (col >= 0 && col < width && 
+                        row >= 0 && row < height) {
+                        if (boardState.isOccupied(row, col)) {
+                            boardState.clearCell(row, col);
+                            crushed++;
+                        }
+                    }
+                }
+            }
+        }
+        return crushed;
+    }
+
+    /**
+     * 현재 블록이 바닥(또는 쌓인 블록)까지 떨어질 수 있는 줄 수
+     * 블록이 움직이거나 회전하거나 보드가 바뀌기 전까지 캐시된 값을 반환
+     */
+    public int dropDistance() {
+        if (currentBlock == null) {
+            return 0;
+        }
+        int orientation = currentBlock.getOrientation();
+        int modCount = boardState.getModCount();
+        if (cachedDropDistance >= 0 && cachedDropBlock == currentBlock
+                && cachedDropX == x && cachedDropY == y
+                && cachedDropOrientation == orientation && cachedDropModCount == modCount) {
+            return cachedDropDistance;
+        }
+        cachedDropDistance = boardState.dropDistance(currentBlock, x, y);
+        cachedDropBlock = currentBlock;
+        cachedDropX = x;
+        cachedDropY = y;
+        cachedDropOrientation = orientation;
+        cachedDropModCount = modCount;
+        return cachedDropDistance;
+    }
+
+    // 고스트 블록(착지 예상 위치)의 Y좌표
+    public int getGhostY() {
+        return y + dropDistance();
+    }
+
+    /**
+     * 하드 드롭 - 착지 위치로 한 번에 이동한 뒤 착지 처리
+     * 이미 바닥에 있으면(0줄) 착지 처리만 하므로, 호출 측은 떨어진 줄 수와 관계없이
+     * isHardDropLanded()가 true면 착지 후 처리(줄 삭제, 다음 블록)를 해야 함
+     * @return 떨어진 줄 수
+     */
+    public int hardDrop() {
+        hardDropLanded = false;
+        if (currentBlock == null) {
+            return 0;
+        }
+        // 무게추는 접촉 후 아래 블록을 부수며 내려가므로 한 칸씩 처리
+        if (currentBlock instanceof weightedBlock) {
+            int dropped = 0;
+            while (moveDown()) {
+                dropped++;
+            }
+            hardDropLanded = true;
+            return dropped;
+        }
+
+        int distance = dropDistance();
+        y += distance;
+        if (distance > 0) {
+            publishMoved();
+        }
+        moveDown(); // 더 내려갈 수 없으므로 착지 처리만 수행
+        hardDropLanded = true;
+        return distance;
+    }
+
+    // 마지막 hardDrop()이 블록을 착지시켰는지 (진행 중인 블록이 없었으면 false)
+    public boolean isHardDropLanded() {
+        return hardDropLanded;
+    }
+
     // 블록 좌우 이동
     public void moveLeft() {
         // weightedBlock이 접촉 후이고 이동 불가능하면 무시
@@ -295,11 +412,10 @@ public class GameLogic {
             }
         }
         
-        eraseCurrent();
         if (canMove(x - 1, y, currentBlock)) {
             x--;
+            onPieceMoved();
         }
-        placeCurrent();
     }
 
     public void moveRight() {
@@ -312,43 +428,169 @@ public class GameLogic {
             }
         }
         
-        eraseCurrent();
         if (canMove(x + 1, y, currentBlock)) {
             x++;
+            onPieceMoved();
         }
-        placeCurrent();
     }
 
-    // 블록 회전
-    public void rotateBlock() {
-        eraseCurrent();
-        currentBlock.rotate();
-        if (!canMove(x, y, currentBlock)) {
-            // 회전 후 이동 불가하면 원래대로 돌리기
-            // 3번 회전하면 원래 상태
-            for (int i = 0; i < 3; i++) {
-                currentBlock.rotate();
+    // 블록 회전 (시계 방향)
+    public boolean rotateBlock() {
+        return rotate(KickTable.CLOCKWISE);
+    }
+
+    // 블록 회전 (반시계 방향)
+    public boolean rotateBlockCounterClockwise() {
+        return rotate(KickTable.COUNTER_CLOCKWISE);
+    }
+
+    /**
+     * SRS 벽 차기 회전 - 종류별 오프셋 표를 순서대로 비트마스크 충돌 검사
+     * 아이템 블록(종류 없음)은 제자리 회전만 시도
+     * @return 회전 성공 여부
+     */
+    private boolean rotate(int direction) {
+        Block block = currentBlock;
+        if (block == null) {
+            return false;
+        }
+        int from = block.getOrientation();
+        if (direction == KickTable.CLOCKWISE) {
+            block.rotate();
+        } else {
+            block.rotateBack();
+        }
+
+        PieceKind kind = block.getPieceKind();
+        if (kind == null) {
+            if (canMove(x, y, block)) {
+                onPieceMoved();
+                rotatedLast = true;
+                lastKickTest = 0;
+                return true;
+            }
+        } else {
+            KickTable kicks = kind.kicks();
+            for (int test = 0; test < kicks.testCount(); test++) {
+                int newX = x + kicks.offsetX(from, direction, test);
+                int newY = y + kicks.offsetY(from, direction, test);
+                if (canMove(newX, newY, block)) {
+                    x = newX;
+                    y = newY;
+                    onPieceMoved();
+                    rotatedLast = true;
+                    lastKickTest = test;
+                    return true;
+                }
             }
         }
-        placeCurrent();
+
+        // 모든 위치가 막히면 원래 방향으로 되돌림 (방향 인덱스만 변경)
+        if (direction == KickTable.CLOCKWISE) {
+            block.rotateBack();
+        } else {
+            block.rotate();
+        }
+        return false;
+    }
+
+    /**
+     * 고정 대기를 적용한 한 칸 낙하
+     * - 고정 대기가 없거나 무게추 블록이면 moveDown()과 같음 (실패 = 즉시 고정)
+     * - 그 외에는 바닥에 닿아도 고정하지 않고 대기만 시작 (고정은 tickLockDelay()에서)
+     */
+    public DropResult stepDown() {
+        if (!rules.hasLockDelay() || currentBlock instanceof weightedBlock) {
+            return moveDown() ? DropResult.MOVED : DropResult.LOCKED;
+        }
+        if (currentBlock == null) {
+            return DropResult.GROUNDED;
+        }
+        if (canMove(x, y + 1, currentBlock)) {
+            y++;
+            lockTimer = -1;
+            publishMoved();
+            if (y > lowestY) {
+                // 새로운 줄까지 내려오면 리셋 횟수 초기화 (스텝 리셋)
+                lowestY = y;
+                lockResets = 0;
+            }
+            return DropResult.MOVED;
+        }
+        if (lockTimer < 0) {
+            lockTimer = rules.getLockDelayTicks();
+        }
+        return DropResult.GROUNDED;
+    }
+
+    /**
+     * 논리 틱 한 번 진행 - 바닥에 닿은 상태가 대기 시간만큼 이어지면 고정
+     * @return 이번 틱에 고정되었으면 true (호출 측에서 착지 처리)
+     */
+    public boolean tickLockDelay() {
+        if (!rules.hasLockDelay() || currentBlock == null) {
+            return false;
+        }
+        if (canMove(x, y + 1, currentBlock)) {
+            lockTimer = -1; // 벽 차기/이동으로 다시 떠 있음
+            return false;
+        }
+        if (lockTimer < 0) {
+            lockTimer = rules.getLockDelayTicks();
+        }
+        if (--lockTimer > 0) {
+            return false;
+        }
+        moveDown(); // 내려갈 수 없으므로 고정 처리만 수행
+        resetPieceTimers();
+        return true;
+    }
+
+    // 이동/회전 성공 시 고정 대기 다시 시작 (리셋 한도 안에서만)
+    private void onPieceMoved() {
+        publishMoved();
+        if (lockTimer >= 0 && lockResets < rules.getMaxLockResets()) {
+            lockTimer = rules.getLockDelayTicks();
+            lockResets++;
+        }
+    }
+
+    // 새 블록/고정 시 고정 대기와 중력 간격을 처음부터 다시 셈
+    private void resetPieceTimers() {
+        lockTimer = -1;
+        lockResets = 0;
+        lowestY = y;
+        gravityCounter = 0;
+    }
+
+    // 고정까지 남은 틱 (-1 = 바닥에 닿지 않음)
+    public int getLockTicksRemaining() {
+        return lockTimer;
+    }
+
+    public int getLockResetsUsed() {
+        return lockResets;
     }
 
     // 새 블록 생성
     public boolean spawnNextPiece() {
-    // 1) 다음 블록을 현재로 승격
-    currentBlock = nextBlock;
-    nextBlock = getRandomBlock();
+    // 1) 대기열 맨 앞 블록을 현재로 승격하고 빈 자리 채움
+    currentBlock = pieceQueue.poll();
+    fillQueue();
+    holdUsed = false;
 
-    // 2) 스폰 좌표 설정 (현재 x=3, y=0을 기본으로 사용하셨으므로 유지)
-    x = 3;
+    // 2) 스폰 좌표 설정 (가운데 정렬, 10칸 보드에서 x=3)
+    x = spawnX();
     y = 0; // 두 칸 짜리 블럭은 -1에서 스폰
     rotation = 0; // 회전 초기화
+    resetPieceTimers();
+    rotatedLast = false;
 
     // 3) 스폰 가능? (경계/충돌 검사)
     if (!canMove(x, y, currentBlock)) {
         
         // 스폰 불가 → 게임오버 플래그
-        gameOver = true;
+        markGameOver();
         return false;
     }
     // 블록 생성 수 증가
@@ -356,141 +598,207 @@ public class GameLogic {
         
         // 속도 레벨 업데이트
         updateSpeedLevel();
-    // 4) 스폰 성공 → 보드에 반영(지우개/그리기 방식 유지)
-    placeCurrent();
+        publishSpawned();
     return true;
 }
 
-    // 블록이 특정 위치로 이동 가능한지 확인
-    // newX, newY: 블록의 새 좌표
-    // block: 이동할 블록
-    public boolean canMove(int newX, int newY, Block block) {
-        if (block == null) {
+    /**
+     * 현재 블록을 홀드 (블록마다 한 번)
+     * - 홀드가 비어 있으면 대기열에서 다음 블록을 꺼내고, 있으면 서로 교체
+     * - 홀드한 블록은 방향 0으로 되돌림, 아이템 블록은 홀드 불가
+     * - 교체된 블록을 스폰 위치에 놓을 수 없으면 게임 오버
+     * @return 홀드했으면 true
+     */
+    public boolean holdPiece() {
+        if (!rules.isHoldEnabled() || holdUsed || currentBlock == null
+                || currentBlock.getPieceKind() == null) {
             return false;
         }
+        Block held = currentBlock;
+        orient(held, 0);
+        if (holdBlock == null) {
+            currentBlock = pieceQueue.poll();
+            fillQueue();
+        } else {
+            currentBlock = holdBlock;
+        }
+        holdBlock = held;
+        holdUsed = true;
 
-        for (int i = 0; i < block.width(); i++) {
-            for (int j = 0; j < block.height(); j++) {
-                if (block.getShape(i, j) == 1) {
-                    // 블록의 현재 좌표에 대한 보드 좌표 계산
-                    int boardX = newX + i;
-                    int boardY = newY + j;
+        x = spawnX();
+        y = 0;
+        rotation = 0;
+        resetPieceTimers();
+        rotatedLast = false;
+        if (!canMove(x, y, currentBlock)) {
+            markGameOver();
+        } else {
+            publishSpawned();
+        }
+        return true;
+    }
 
-                    // 좌우 경계 확인
-                    if (boardX < 0 || boardX >= WIDTH) {
-                        return false;
-                    }
+    public Block getHoldBlock() {
+        return holdBlock;
+    }
 
-                    // 하단 경계 확인
-                    if (boardY >= HEIGHT) {
-                        return false;
-                    }
+    // 이번 블록에서 홀드를 더 사용할 수 있는지
+    public boolean canHold() {
+        return rules.isHoldEnabled() && !holdUsed;
+    }
 
-                    // 상단 경계는 약간의 여유를 둠 (블록이 화면 위쪽에서 시작할 수 있도록)
-                    if (boardY < -2) {
-                        return false;
-                    }
+    // 블록이 특정 위치로 이동 가능한지 확인
+    // newX, newY: 블록의 새 좌표
+    // block: 이동할 블록
+    public boolean canMove(int newX, int newY, Block block) {
+        // 줄 단위 비트마스크 AND로 경계/충돌 검사
+        return boardState.canPlace(block, newX, newY);
+    }
 
-                    // 보드 내부의 충돌 확인 (boardY가 0 이상인 경우에만)
-                    if (boardY >= 0 && board[boardY][boardX] == 1) {
-                        return false;
-                    }
-                }
-            }
+    // 착지한 현재 블록을 고정 보드에 기록 (떨어지는 동안에는 보드를 건드리지 않음)
+    private void lockCurrent() {
+        if (currentBlock == null) {
+            return;
         }
-        return true;
+        LineClear.Spin spin = SpinDetector.detect(boardState, currentBlock, x, y, rotatedLast, lastKickTest);
+        boardState.place(currentBlock, x, y);
+        classifyClear(spin);
+        events.publish(GameEvent.Type.PIECE_LOCKED, x, y, currentBlock.getOrientation());
     }
 
-    // 현재 블록 지우기
-    private void eraseCurrent() {
+    /**
+     * 고정 직후 줄 삭제 분류 (콤보/B2B 갱신 + 공격 줄 수)
+     * 꽉 찬 줄 마스크는 BoardState가 유지하므로 상수 시간
+     * 아이템으로 지우는 줄(LItem/폭발)은 포함하지 않음
+     */
+    private void classifyClear(LineClear.Spin spin) {
+        int lines = Long.bitCount(boardState.findFullRows());
+        if (lines == 0) {
+            // 줄을 지우지 않은 T-spin은 B2B를 끊지 않음
+            combo = -1;
+            lastClear.set(0, spin, -1, false, 0);
+            return;
+        }
+        combo++;
+        boolean difficult = lines == 4 || spin != LineClear.Spin.NONE;
+        boolean backToBack = difficult && backToBackReady;
+        backToBackReady = difficult;
+        lastClear.set(lines, spin, combo, backToBack,
+            rules.getAttackTable().attackFor(lines, spin, combo, backToBack));
+    }
+
+    // 이벤트 발행 (구독자가 없으면 GameEventBus에서 바로 반환)
+    // 이동했으므로 회전 직후 상태는 해제 (회전은 onPieceMoved() 뒤에 다시 설정)
+    private void publishMoved() {
+        rotatedLast = false;
+        events.publish(GameEvent.Type.PIECE_MOVED, x, y, currentBlock.getOrientation());
+    }
+
+    private void publishSpawned() {
         if (currentBlock == null) {
             return;
         }
+        PieceKind kind = currentBlock.getPieceKind();
+        events.publish(GameEvent.Type.PIECE_SPAWNED, x, y, kind != null ? kind.id() : -1);
+    }
 
-        for (int i = 0; i < currentBlock.width(); i++) {
-            for (int j = 0; j < currentBlock.height(); j++) {
-                if (currentBlock.getShape(i, j) == 1) {
-                    // 현재 블록의 보드 좌표 계산
-                    int boardX = x + i;
-                    int boardY = y + j;
-
-                    // 보드 경계 내에서만 지우기
-                    if (boardX >= 0 && boardX < WIDTH && boardY >= 0 && boardY < HEIGHT) {
-                        board[boardY][boardX] = 0;
-                        blockTypes[boardY][boardX] = null;
-                    }
-                }
-            }
+    /**
+     * 게임 오버 처리 (블록이 맨 위에 닿은 경우 등 보드 쪽에서 판단한 경우에도 호출)
+     */
+    public void markGameOver() {
+        if (!gameOver) {
+            gameOver = true;
+            events.publish(GameEvent.Type.GAME_OVER);
         }
     }
 
-    // 현재 블록 놓기
-    private void placeCurrent() {
+    // 상태 변경 이벤트 버스 (구독 후 게임 루프에서 dispatch() 호출)
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * 마지막으로 고정한 블록의 줄 삭제 분류 (다음 고정 때 덮어씀)
+     * 블록이 고정되는 즉시 계산되므로 삭제 애니메이션 전에 공격 줄 수를 알 수 있음
+     */
+    public LineClear getLastClear() {
+        return lastClear;
+    }
+
+    // 현재 콤보 (-1 = 콤보 없음)
+    public int getCombo() {
+        return combo;
+    }
+
+    // 다음 어려운 삭제에 B2B 보너스가 붙는지
+    public boolean isBackToBackReady() {
+        return backToBackReady;
+    }
+
+    /**
+     * 현재 블록이 보드의 row 줄에서 차지하는 칸 마스크 (보드 좌표, bit col = 1 << col)
+     */
+    public int getActivePieceRowMask(int row) {
         if (currentBlock == null) {
-            return;
+            return 0;
+        }
+        int j = row - y;
+        if (j < 0 || j >= currentBlock.height()) {
+            return 0;
         }
+        int mask = currentBlock.rowMask(j);
+        int shifted = x >= 0 ? mask << x : mask >>> -x;
+        return shifted & boardState.getFullRowMask();
+    }
 
-        for (int i = 0; i < currentBlock.width(); i++) {
-            for (int j = 0; j < currentBlock.height(); j++) {
-                if (currentBlock.getShape(i, j) == 1) {
-                    // 현재 블록의 보드 좌표 계산
-                    int boardX = x + i;
-                    int boardY = y + j;
-
-                    // 보드 경계 내에서만 놓기
-                    if (boardX >= 0 && boardX < WIDTH && boardY >= 0 && boardY < HEIGHT) {
-                        board[boardY][boardX] = 1;
-                        blockTypes[boardY][boardX] = currentBlock.getCssClass();
-                    }
-                }
+    // 고정 보드 + 현재 블록을 합친 렌더링용 보드 (필요할 때만 생성)
+    private BoardState composedView() {
+        int modCount = boardState.getModCount();
+        int orientation = currentBlock != null ? currentBlock.getOrientation() : -1;
+        if (composedState == null || composedModCount != modCount || composedBlock != currentBlock
+                || composedX != x || composedY != y || composedOrientation != orientation) {
+            if (composedState == null) {
+                composedState = new BoardState(width, height);
             }
+            composedState.copyFrom(boardState);
+            composedState.place(currentBlock, x, y);
+            composedModCount = modCount;
+            composedBlock = currentBlock;
+            composedX = x;
+            composedY = y;
+            composedOrientation = orientation;
         }
+        return composedState;
     }
 
     // 특정 줄 하나만 삭제 (LItem용)
     // 반환값: true = 줄이 삭제됨, false = 줄이 비어있어서 삭제 안됨
     public boolean clearSingleLine(int row) {
-        if (row < 0 || row >= HEIGHT) {
+        if (row < 0 || row >= height) {
             return false;
         }
         
         Logger.info(">>> Clearing single line at row " + row);
         
-        // 해당 줄 위의 모든 줄을 한 칸씩 내리기
-        for (int moveRow = row; moveRow > 0; moveRow--) {
-            System.arraycopy(board[moveRow - 1], 0, board[moveRow], 0, WIDTH);
-            System.arraycopy(blockTypes[moveRow - 1], 0, blockTypes[moveRow], 0, WIDTH);
-        }
-        
-        // 맨 위 줄 지우기
-        for (int col = 0; col < WIDTH; col++) {
-            board[0][col] = 0;
-            blockTypes[0][col] = null;
-        }
+        // 해당 줄 위의 모든 줄을 한 칸씩 내리기 (맨 위 줄은 비워짐)
+        boardState.removeRow(row);
         
         // 통계 업데이트
         totalLinesCleared++;
         updateSpeedLevel();
+        events.publish(GameEvent.Type.LINES_CLEARED, 0, 0, 1, 1L << row);
         
         return true;
     }
 
     // 1단계: 삭제할 줄 찾기 (애니메이션용)
     public List<Integer> findFullLines() {
-        List<Integer> fullLines = new ArrayList<>();
-        for (int row = HEIGHT - 1; row >= 0; row--) {
-            boolean fullLine = true;
-            for (int col = 0; col < WIDTH; col++) {
-                if (board[row][col] == 0) {
-                    fullLine = false;
-                    break;
-                }
-            }
-            if (fullLine) {
-                fullLines.add(row);
-            }
-        }
-        return fullLines;
+        return toLineList(findFullLinesMask());
+    }
+
+    // 꽉 찬 줄 비트마스크 (bit row = 1L << row, 박싱 없음)
+    public long findFullLinesMask() {
+        return boardState.findFullRows();
     }
 
     // 2단계: 실제로 줄 삭제 실행
@@ -498,28 +806,12 @@ public class GameLogic {
         if (linesToClear == null || linesToClear.isEmpty()) {
         return 0;
         }
-        
-        int linesCleared = linesToClear.size();
-    
-        //새 보드 생성 방식 - 삭제 대상이 아닌 줄만 복사
-        int[][] newBoard = new int[HEIGHT][WIDTH];
-        String[][] newBlockTypes = new String[HEIGHT][WIDTH];
-        
-        int newRow = HEIGHT - 1; // 새 보드의 맨 아래부터 채움
-        
-        // 기존 보드를 아래에서 위로 순회
-        for (int oldRow = HEIGHT - 1; oldRow >= 0; oldRow--) {
-            // 삭제 대상이 아닌 줄만 새 보드에 복사
-            if (!linesToClear.contains(oldRow)) {
-                System.arraycopy(board[oldRow], 0, newBoard[newRow], 0, WIDTH);
-                System.arraycopy(blockTypes[oldRow], 0, newBlockTypes[newRow], 0, WIDTH);
-                newRow--;
-            }
-        }
-        
-        // 새 보드로 교체
-        board = newBoard;
-        blockTypes = newBlockTypes;
+        return executeLineClear(toLineMask(linesToClear));
+    }
+
+    // 비트마스크로 지정된 줄 삭제 (기존 보드 배열 안에서 압축, 할당 없음)
+    public int executeLineClear(long linesToClear) {
+        int linesCleared = boardState.removeRows(linesToClear);
     
         // 통계 업데이트
         if (linesCleared > 0) {
@@ -530,29 +822,84 @@ public class GameLogic {
             if (itemManager.shouldSpawnItem(totalLinesCleared)) {
                 nextBlockShouldBeItem = true;
             }
+            events.publish(GameEvent.Type.LINES_CLEARED, 0, 0, linesCleared, linesToClear);
         }
         return linesCleared;
     }
 
-    public boolean isBlockAtTop() {
-    if (currentBlock == null) {
-        return false;
+    /**
+     * 폭발 영역의 칸 삭제 (BombBlock 착지 후)
+     * @return 삭제된 칸 수
+     */
+    public int explodeCells(int[][] cells) {
+        int destroyedCount = 0;
+        for (int[] cell : cells) {
+            int row = cell[0];
+            int col = cell[1];
+            if (boardState.isOccupied(row, col)) {
+                boardState.clearCell(row, col);
+                destroyedCount++;
+            }
+        }
+        events.publish(GameEvent.Type.ITEM_TRIGGERED, x, y, destroyedCount);
+        return destroyedCount;
     }
-    
-    boolean atTop = false;
-    for (int i = 0; i < currentBlock.width(); i++) {
+
+    // 공격으로 보낼 줄 마스크 (현재 블록 칸 제외)
+    public int getAttackRowMask(int row) {
+        return boardState.getRow(row) & ~getActivePieceRowMask(row);
+    }
+
+    /**
+     * 공격 줄을 보드 하단에 삽입 (기존 블록은 위로 밀어올림)
+     * - masks[0]이 맨 위, masks[count-1]이 맨 아래 줄
+     */
+    public void insertAttackRows(int[] masks, int count) {
+        if (count <= 0) {
+            return;
+        }
+        boardState.shiftUp(count);
+        int startRow = height - count;
+        for (int i = 0; i < count; i++) {
+            boardState.setRow(startRow + i, masks[i], CellType.ATTACK);
+        }
+    }
+
+    // 줄 번호 목록 → 비트마스크
+    public static long toLineMask(List<Integer> lines) {
+        long mask = 0L;
+        for (int line : lines) {
+            if (line >= 0 && line < 64) {
+                mask |= 1L << line;
+            }
+        }
+        return mask;
+    }
+
+    // 비트마스크 → 줄 번호 목록 (아래 줄부터, 애니메이션용)
+    public static List<Integer> toLineList(long mask) {
+        List<Integer> lines = new ArrayList<>(Long.bitCount(mask));
+        while (mask != 0L) {
+            int row = 63 - Long.numberOfLeadingZeros(mask);
+            lines.add(row);
+            mask &= ~(1L << row);
+        }
+        return lines;
+    }
+
+    public boolean isBlockAtTop() {
+        if (currentBlock == null) {
+            return false;
+        }
+
+        // 블록의 가장 위 채워진 줄이 보드 최상단 이상인지 확인
         for (int j = 0; j < currentBlock.height(); j++) {
-            if (currentBlock.getShape(i, j) == 1) {
-                int boardY = y + j;
-                if (boardY <= 0) {
-                    atTop = true;
-        
-                }
+            if (currentBlock.rowMask(j) != 0) {
+                return y + j <= 0;
             }
         }
+        return false;
     }
-    return atTop;
-}
 
     // 게임 종료 확인
     // 속도 레벨 업데이트
@@ -560,10 +907,10 @@ public class GameLogic {
         int oldSpeedLevel = speedLevel;
         
         // 블록 수에 따른 속도 증가
-        int speedFromBlocks = totalBlocksSpawned / BLOCKS_PER_SPEED_INCREASE;
+        int speedFromBlocks = totalBlocksSpawned / rules.getBlocksPerSpeedIncrease();
         
         // 줄 삭제 수에 따른 속도 증가
-        int speedFromLines = totalLinesCleared / LINES_PER_SPEED_INCREASE;
+        int speedFromLines = totalLinesCleared / rules.getLinesPerSpeedIncrease();
         
         // 둘 중 높은 값을 사용 (더 빠른 진행)
         speedLevel = Math.max(speedFromBlocks, speedFromLines) + 1;
@@ -579,8 +926,7 @@ public class GameLogic {
 
     // 속도 계산 (배수 반환)
     public double getSpeedMultiplier() {
-        double multiplier = Math.pow(SPEED_MULTIPLIER, speedLevel - 1);
-        return Math.max(multiplier, MIN_SPEED_MULTIPLIER);
+        return rules.speedMultiplierForLevel(speedLevel);
     }
 
     // 드롭 간격 계산 (나노초)
@@ -588,17 +934,95 @@ public class GameLogic {
         return (long)(baseInterval * getSpeedMultiplier());
     }
 
+    /**
+     * 한 줄 떨어지는 데 걸리는 논리 틱 수 (기본 1초 = BASE_GRAVITY_TICKS, 속도 배수 적용, 최소 1)
+     */
+    public int getGravityTicks() {
+        return Math.max(1, (int) Math.round(BASE_GRAVITY_TICKS * getSpeedMultiplier()));
+    }
+
+    // 낙하 간격이 1틱보다 짧을 때 한 틱에 내려가는 줄 수 (최대 보드 높이 = 20G)
+    public int getGravityRowsPerTick() {
+        double ticksPerRow = BASE_GRAVITY_TICKS * getSpeedMultiplier();
+        if (ticksPerRow >= 1.0) {
+            return 1;
+        }
+        return Math.min(height, (int) Math.round(1.0 / ticksPerRow));
+    }
+
+    /**
+     * 논리 틱 한 번 진행 (GameClock/GameSimulator와 같은 1/60초 틱)
+     * @return 중력 간격이 찼으면 이번 틱에 떨어질 줄 수, 아니면 0
+     */
+    public int tickGravity() {
+        if (++gravityCounter < getGravityTicks()) {
+            return 0;
+        }
+        gravityCounter = 0;
+        return getGravityRowsPerTick();
+    }
+
     public boolean isGameOver() {
     return gameOver;
     }
 
     // Getters
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    // 보드 칸 수
+    public int getWidth() {
+        return width;
+    }
+
+    // 보드 줄 수
+    public int getHeight() {
+        return height;
+    }
+
+    // 4칸 너비 기준 가운데 스폰 열
+    private int spawnX() {
+        return Math.max(0, (width - 4) / 2);
+    }
+
+    public BoardState getBoardState() {
+        return boardState;
+    }
+
+    // 열 높이 (증분 추적 값, 빈 열은 0)
+    public int getColumnHeight(int col) {
+        return boardState.getColumnHeight(col);
+    }
+
+    // 줄에 채워진 칸 수
+    public int getRowFillCount(int row) {
+        return boardState.getRowFillCount(row);
+    }
+
+    // 쌓인 블록의 최대 높이
+    public int getMaxHeight() {
+        return boardState.getMaxHeight();
+    }
+
+    // 기존 int[][] 형태의 고정 보드 (현재 블록 제외, 읽기 전용 - 변경은 getBoardState() 사용)
     public int[][] getBoard() {
-        return board;
+        return boardState.toArray();
     }
 
+    // 기존 String[][] 형태의 고정 블록 타입 (현재 블록 제외, 읽기 전용 - 변경은 getBoardState() 사용)
     public String[][] getBlockTypes() {
-        return blockTypes;
+        return boardState.toTypeArray();
+    }
+
+    // 현재 블록까지 합친 보드 (렌더링용 읽기 전용 스냅샷)
+    public int[][] getComposedBoard() {
+        return composedView().toArray();
+    }
+
+    // 현재 블록까지 합친 블록 타입 (렌더링용 읽기 전용 스냅샷)
+    public String[][] getComposedBlockTypes() {
+        return composedView().toTypeArray();
     }
 
     public Block getCurrentBlock() {
@@ -606,7 +1030,21 @@ public class GameLogic {
     }
 
     public Block getNextBlock() {
-        return nextBlock;
+        return pieceQueue.peek(0);
+    }
+
+    // index번째 다음 블록 (0 = 바로 다음, AI 탐색/미리보기용)
+    public Block getPreviewBlock(int index) {
+        return pieceQueue.peek(index);
+    }
+
+    public int getPreviewCount() {
+        return pieceQueue.size();
+    }
+
+    // 미리보기 대기열 (읽기 전용으로 사용, 변경 횟수로 다시 그리기 여부 판단)
+    public PieceQueue getPieceQueue() {
+        return pieceQueue;
     }
 
     public int getCurrentX() {
@@ -677,79 +1115,169 @@ public class GameLogic {
         return itemManager.getLinesUntilNextItem(totalLinesCleared);
     }
     
-    // 네트워크에서 받은 블록 정보로 현재 블록 설정
-    public void setCurrentBlockFromNetwork(String blockType, int blockX, int blockY, int[][] shape) {
-        eraseCurrent();
-        
-        // 블록 타입에 따라 생성
-        switch (blockType) {
-            case "IBlock":
-                currentBlock = new IBlock();
-                break;
-            case "JBlock":
-                currentBlock = new JBlock();
-                break;
-            case "LBlock":
-                currentBlock = new LBlock();
-                break;
-            case "OBlock":
-                currentBlock = new OBlock();
-                break;
-            case "SBlock":
-                currentBlock = new SBlock();
-                break;
-            case "TBlock":
-                currentBlock = new TBlock();
-                break;
-            case "ZBlock":
-                currentBlock = new ZBlock();
-                break;
-            default:
-                return;
+    /**
+     * 현재 블록의 종류/방향/위치를 out에 기록 (네트워크 전송용)
+     * @return 일반 블록이면 true, 블록이 없거나 아이템 블록이면 false
+     */
+    public boolean getCurrentPieceState(PieceState out) {
+        if (currentBlock == null || currentBlock.getPieceKind() == null) {
+            return false;
         }
-        
-        // 받은 shape를 직접 설정
-        currentBlock.setShape(shape);
-        
-        // 위치 설정
-        this.x = blockX;
-        this.y = blockY;
-        
-        placeCurrent();
+        out.set(currentBlock.getPieceKind(), currentBlock.getOrientation(), x, y);
+        return true;
     }
-    
-    // 네트워크에서 받은 보드 데이터로 보드 설정
-    public void setBoardFromNetwork(String[][] networkBoard) {
-        eraseCurrent();
-        
-        // 보드 데이터 복사 (착지된 블록들만)
-        for (int row = 0; row < HEIGHT && row < networkBoard.length; row++) {
-            for (int col = 0; col < WIDTH && col < networkBoard[row].length; col++) {
-                if (networkBoard[row][col] != null) {
-                    board[row][col] = 1;
-                    blockTypes[row][col] = networkBoard[row][col];
-                } else {
-                    board[row][col] = 0;
-                    blockTypes[row][col] = null;
+
+    // 네트워크에서 받은 블록 상태로 현재 블록 설정 (같은 종류면 블록을 재사용)
+    public void setCurrentPieceFromNetwork(PieceState state) {
+        if (state == null || state.getKind() == null) {
+            return;
+        }
+        currentBlock = reuseOrCreate(currentBlock, state.getKind(), state.getRotation());
+        this.x = state.getX();
+        this.y = state.getY();
+        rotatedLast = false;
+    }
+
+    // 네트워크에서 받은 셀 타입 코드 배열로 보드 설정 (길이 width * height)
+    public void setBoardFromNetwork(byte[] networkCells) {
+        boardState.loadCells(networkCells);
+    }
+
+    /**
+     * 대기열 블록 종류 id를 out에 기록 (네트워크 전송용, 아이템 블록은 -1)
+     * @return 기록한 개수
+     */
+    public int getQueueKinds(byte[] out) {
+        int count = Math.min(out.length, pieceQueue.size());
+        for (int i = 0; i < count; i++) {
+            PieceKind kind = pieceQueue.peek(i).getPieceKind();
+            out[i] = kind != null ? kind.id() : -1;
+        }
+        return count;
+    }
+
+    // 네트워크에서 받은 대기열 블록 종류로 대기열 설정 (같은 종류 블록은 재사용, 아이템(-1)은 건너뜀)
+    public void setQueueFromNetwork(byte[] kinds) {
+        if (kinds == null) {
+            return;
+        }
+        int count = Math.min(kinds.length, pieceQueue.capacity());
+        for (int i = 0; i < count; i++) {
+            PieceKind kind = PieceKind.fromId(kinds[i]);
+            if (kind == null) {
+                if (i >= pieceQueue.size()) {
+                    break; // 빈 자리를 건너뛰면 뒤 순서가 밀리므로 여기서 멈춤
                 }
+                continue;
+            }
+            if (i >= pieceQueue.size()) {
+                pieceQueue.push(kind.create());
+            } else if (pieceQueue.peek(i) == null || pieceQueue.peek(i).getPieceKind() != kind) {
+                pieceQueue.set(i, kind.create());
             }
         }
-        
-        placeCurrent();
-    }
-
-    // 네트워크에서 받은 다음 블록 정보로 nextBlock 설정
-    public void setNextBlockFromNetwork(String blockType, int[][] shape) {
-        switch (blockType) {
-            case "IBlock": nextBlock = new IBlock(); break;
-            case "JBlock": nextBlock = new JBlock(); break;
-            case "LBlock": nextBlock = new LBlock(); break;
-            case "OBlock": nextBlock = new OBlock(); break;
-            case "SBlock": nextBlock = new SBlock(); break;
-            case "TBlock": nextBlock = new TBlock(); break;
-            case "ZBlock": nextBlock = new ZBlock(); break;
-            default: return;
-        }
-        nextBlock.setShape(shape);
+    }
+
+    // 같은 종류의 블록이면 방향만 맞추고, 아니면 새로 생성
+    private static Block reuseOrCreate(Block block, PieceKind kind, int rotation) {
+        if (block == null || block.getPieceKind() != kind) {
+            return kind.create(rotation);
+        }
+        orient(block, rotation);
+        return block;
+    }
+
+    // 블록을 지정한 방향으로 맞춤 (방향 인덱스만 변경)
+    private static void orient(Block block, int orientation) {
+        if (block == null || !block.canRotate()) {
+            return;
+        }
+        while (block.getOrientation() != (orientation & 3)) {
+            block.rotate();
+        }
+    }
+
+    /**
+     * 현재 게임 상태 스냅샷 (보드, 블록, 난수 상태, 카운터)
+     * 보드가 마지막 스냅샷 이후 바뀌지 않았으면 보드 배열을 복사하지 않고 공유
+     */
+    public GameSnapshot snapshot() {
+        if (snapshotModCount != boardState.getModCount() || snapshotRows == null) {
+            snapshotRows = boardState.copyRows();
+            snapshotCells = boardState.copyCells();
+            snapshotModCount = boardState.getModCount();
+        }
+        Block[] queued = pieceQueue.toArray();
+        int[] queuedOrientations = new int[queued.length];
+        for (int i = 0; i < queued.length; i++) {
+            queuedOrientations[i] = queued[i] != null ? queued[i].getOrientation() : 0;
+        }
+        boolean activated = false;
+        boolean touched = false;
+        if (currentBlock instanceof SandBlock) {
+            activated = ((SandBlock) currentBlock).hasActivated();
+        } else if (currentBlock instanceof weightedBlock) {
+            activated = ((weightedBlock) currentBlock).hasActivated();
+            touched = ((weightedBlock) currentBlock).hasTouched();
+        }
+        return new GameSnapshot(snapshotRows, snapshotCells,
+            currentBlock, currentBlock != null ? currentBlock.getOrientation() : 0, activated, touched,
+            queued, queuedOrientations, holdBlock, holdUsed,
+            x, y, rotation, randomizer.copy(),
+            totalBlocksSpawned, totalLinesCleared, currentLevel, speedLevel,
+            itemManager.getLastItemSpawnLines(), gameOver, nextBlockShouldBeItem,
+            lockTimer, lockResets, lowestY, gravityCounter,
+            rotatedLast, lastKickTest, combo, backToBackReady);
+    }
+
+    /**
+     * 스냅샷 시점의 상태로 되돌림 (같은 스냅샷을 여러 번 복원 가능)
+     */
+    public void restore(GameSnapshot snapshot) {
+        boardState.restore(snapshot.rows, snapshot.cells);
+        snapshotRows = snapshot.rows;
+        snapshotCells = snapshot.cells;
+        snapshotModCount = boardState.getModCount();
+
+        currentBlock = snapshot.currentBlock;
+        orient(currentBlock, snapshot.currentOrientation);
+        // 아이템 블록은 착지 시 상태가 바뀌므로 스냅샷 시점으로 되돌림
+        if (currentBlock instanceof SandBlock) {
+            ((SandBlock) currentBlock).setActivated(snapshot.currentActivated);
+        } else if (currentBlock instanceof weightedBlock) {
+            ((weightedBlock) currentBlock).setActivated(snapshot.currentActivated);
+            if (((weightedBlock) currentBlock).hasTouched() != snapshot.currentTouched) {
+                ((weightedBlock) currentBlock).setTouched(snapshot.currentTouched);
+            }
+        }
+        pieceQueue.clear();
+        for (int i = 0; i < snapshot.queued.length; i++) {
+            orient(snapshot.queued[i], snapshot.queuedOrientations[i]);
+            pieceQueue.push(snapshot.queued[i]);
+        }
+        holdBlock = snapshot.holdBlock;
+        orient(holdBlock, 0);
+        holdUsed = snapshot.holdUsed;
+        x = snapshot.x;
+        y = snapshot.y;
+        rotation = snapshot.rotation;
+        randomizer = snapshot.randomizer.copy();
+
+        totalBlocksSpawned = snapshot.totalBlocksSpawned;
+        totalLinesCleared = snapshot.totalLinesCleared;
+        currentLevel = snapshot.currentLevel;
+        speedLevel = snapshot.speedLevel;
+        itemManager.setLastItemSpawnLines(snapshot.lastItemSpawnLines);
+        gameOver = snapshot.gameOver;
+        nextBlockShouldBeItem = snapshot.nextBlockShouldBeItem;
+        lockTimer = snapshot.lockTimer;
+        lockResets = snapshot.lockResets;
+        lowestY = snapshot.lowestY;
+        gravityCounter = snapshot.gravityCounter;
+        rotatedLast = snapshot.rotatedLast;
+        lastKickTest = snapshot.lastKickTest;
+        combo = snapshot.combo;
+        backToBackReady = snapshot.backToBackReady;
+        lastClear.reset();
     }
 }
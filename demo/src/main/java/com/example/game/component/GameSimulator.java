@@ -0,0 +1,243 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+
+/**
+ * JavaFX 없이 게임 한 판을 진행하는 고정 틱 상태 기계
+ * - 착지 규칙(LItem 줄 삭제, BombBlock 폭발, 공격 줄 삽입, 스폰)과 점수는 Board/PlayerBoard와 같은 LandingRules/ScoreKeeper 사용
+ * - 줄 삭제/폭발 애니메이션은 CLEAR_DELAY_TICKS 틱 대기로 대체
+ * - 시간 대신 틱 수만 사용하므로 같은 시드/입력이면 항상 같은 결과 (테스트, AI 평가, 서버 검증용)
+ */
+public class GameSimulator {
+
+    // UI 보드의 GameClock과 같은 논리 틱
+    public static final int TICKS_PER_SECOND = GameClock.TICKS_PER_SECOND;
+    // 기본 낙하 간격 1초
+    public static final int BASE_GRAVITY_TICKS = GameLogic.BASE_GRAVITY_TICKS;
+    // 줄 삭제 애니메이션 0.32초 (80ms x 4 페이즈)
+    public static final int CLEAR_DELAY_TICKS = 20;
+    // 대기열에 쌓을 수 있는 최대 공격 줄 수 (PlayerBoard와 같은 GarbageQueue 사용)
+    public static final int MAX_PENDING_ATTACK = GarbageQueue.MAX_LINES;
+
+    public enum Phase {
+        FALLING,   // 블록 낙하 중 (입력 처리)
+        CLEARING,  // 줄 삭제/폭발 대기 중 (입력 무시)
+        GAME_OVER
+    }
+
+    public enum Input {
+        LEFT, RIGHT, ROTATE, SOFT_DROP, HARD_DROP, HOLD
+    }
+
+    private final GameLogic gameLogic;
+    private final RuleSet rules;
+    private final LandingRules landing;
+    private final GarbageGenerator garbageGenerator; // 보내는 공격의 구멍 열
+
+    private Phase phase = Phase.FALLING;
+    private long tickCount;
+    private int delayRemaining;
+
+    // 받은 공격 줄 대기열
+    private final GarbageQueue pendingGarbage = new GarbageQueue();
+
+    // 점수 (단일 플레이 ScorePanel과 같은 규칙)
+    private final ScoreKeeper scoreKeeper;
+
+    public GameSimulator(RuleSet rules, long seed) {
+        this.rules = rules;
+        this.gameLogic = new GameLogic(rules);
+        gameLogic.setRandomSeed(seed);
+        // 블록 순서와 겹치지 않도록 시드를 뒤집어 사용
+        this.garbageGenerator = new GarbageGenerator(rules.getWidth(), ~seed);
+        this.landing = new LandingRules(gameLogic);
+        landing.setGarbageQueue(pendingGarbage);
+        this.scoreKeeper = new ScoreKeeper(rules.getDifficulty());
+    }
+
+    public void setAttackListener(LandingRules.AttackListener attackListener) {
+        landing.setAttackListener(attackListener, garbageGenerator);
+    }
+
+    /**
+     * 한 틱 진행 (중력 또는 삭제 대기) 후 이번 틱에 쌓인 이벤트 전달
+     */
+    public void tick() {
+        if (phase == Phase.GAME_OVER) {
+            return;
+        }
+        tickCount++;
+        advance();
+        gameLogic.getEvents().dispatch();
+    }
+
+    private void advance() {
+        if (phase == Phase.CLEARING) {
+            if (--delayRemaining <= 0) {
+                finishClear();
+            }
+            return;
+        }
+
+        // 1틱보다 빠른 중력은 한 틱에 여러 줄 낙하 (고정 대기가 있어야 조작 가능)
+        int rows = gameLogic.tickGravity();
+        for (int i = 0; i < rows && phase == Phase.FALLING; i++) {
+            if (!stepDown(gameLogic.getSpeedLevel())) {
+                break;
+            }
+        }
+
+        // 고정 대기 (RuleSet에 설정된 경우만)
+        if (phase == Phase.FALLING) {
+            Block landing = gameLogic.getCurrentBlock();
+            int landingX = gameLogic.getCurrentX();
+            int landingY = gameLogic.getCurrentY();
+            if (gameLogic.tickLockDelay()) {
+                handleLanded(landing, landingX, landingY);
+            }
+        }
+    }
+
+    // n틱 연속 진행
+    public void run(int ticks) {
+        for (int i = 0; i < ticks && phase != Phase.GAME_OVER; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * 입력 처리 (삭제 대기 중/게임 오버 후에는 무시)
+     */
+    public void input(Input input) {
+        if (phase != Phase.FALLING) {
+            return;
+        }
+        switch (input) {
+            case LEFT:
+                gameLogic.moveLeft();
+                break;
+            case RIGHT:
+                gameLogic.moveRight();
+                break;
+            case ROTATE:
+                gameLogic.rotateBlock();
+                break;
+            case SOFT_DROP:
+                stepDown(gameLogic.getSpeedLevel());
+                break;
+            case HARD_DROP:
+                hardDrop();
+                break;
+            case HOLD:
+                // 홀드로 꺼낸 블록을 놓을 수 없으면 게임 오버
+                if (gameLogic.holdPiece() && gameLogic.isGameOver()) {
+                    phase = Phase.GAME_OVER;
+                }
+                break;
+        }
+        gameLogic.getEvents().dispatch();
+    }
+
+    /**
+     * 공격 줄 수신 (대기열은 최대 MAX_PENDING_ATTACK줄, 넘치면 오래된 줄부터 버림)
+     */
+    public void receiveAttack(int[] rowMasks, int count) {
+        int added = pendingGarbage.addRows(rowMasks, count);
+        gameLogic.getEvents().publish(GameEvent.Type.ATTACK_QUEUED, 0, 0, added);
+    }
+
+    // 구멍 열이 같은 공격 줄 lines개 수신
+    public void receiveGarbage(int lines, int holeColumn) {
+        int added = pendingGarbage.add(GarbageGenerator.rowMask(rules.getWidth(), holeColumn), lines);
+        gameLogic.getEvents().publish(GameEvent.Type.ATTACK_QUEUED, 0, 0, added);
+    }
+
+    // 한 칸 낙하 (성공 시 점수, 고정되면 착지 처리) - 내려갔으면 true
+    private boolean stepDown(int pointsPerRow) {
+        Block landing = gameLogic.getCurrentBlock();
+        int landingY = gameLogic.getCurrentY();
+        int landingX = gameLogic.getCurrentX();
+        switch (gameLogic.stepDown()) {
+            case MOVED:
+                scoreKeeper.addScore(pointsPerRow);
+                return true;
+            case LOCKED:
+                handleLanded(landing, landingX, landingY);
+                return false;
+            default:
+                return false; // 바닥에서 고정 대기 중
+        }
+    }
+
+    private void hardDrop() {
+        Block landing = gameLogic.getCurrentBlock();
+        int droppedRows = gameLogic.hardDrop();
+        // 이미 바닥에 있어도(0줄) 고정되었으므로 착지 처리는 항상 수행
+        if (!gameLogic.isHardDropLanded()) {
+            return;
+        }
+        scoreKeeper.addScore(droppedRows); // 한 칸당 1점
+        handleLanded(landing, gameLogic.getCurrentX(), gameLogic.getCurrentY());
+    }
+
+    // 착지 직후 처리 (폭발/줄 삭제가 있으면 애니메이션 대신 틱 대기)
+    private void handleLanded(Block landed, int landedX, int landedY) {
+        if (landing.land(landed, landedX, landedY, scoreKeeper)) {
+            phase = Phase.CLEARING;
+            delayRemaining = CLEAR_DELAY_TICKS;
+            return;
+        }
+        spawnNext();
+    }
+
+    // 애니메이션 대기 종료 → 실제 삭제 후 다음 블록
+    private void finishClear() {
+        landing.finish(scoreKeeper);
+        phase = Phase.FALLING;
+        spawnNext();
+    }
+
+    private void spawnNext() {
+        if (!landing.spawnNext()) {
+            phase = Phase.GAME_OVER;
+        }
+    }
+
+    // 현재 속도 레벨의 낙하 간격 (틱)
+    public int getGravityTicks() {
+        return gameLogic.getGravityTicks();
+    }
+
+    // 낙하 간격이 1틱보다 짧을 때 한 틱에 내려가는 줄 수 (최대 보드 높이 = 20G)
+    public int getGravityRowsPerTick() {
+        return gameLogic.getGravityRowsPerTick();
+    }
+
+    public GameLogic getGameLogic() {
+        return gameLogic;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public boolean isGameOver() {
+        return phase == Phase.GAME_OVER;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getScore() {
+        return scoreKeeper.getScore();
+    }
+
+    public int getScoreLevel() {
+        return scoreKeeper.getLevel();
+    }
+
+    public int getPendingAttackCount() {
+        return pendingGarbage.size();
+    }
+}
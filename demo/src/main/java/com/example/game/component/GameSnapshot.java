@@ -0,0 +1,129 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.PieceRandomizer;
+
+/**
+ * GameLogic의 불변 상태 스냅샷
+ * - 블록은 참조만 보관하고 방향/아이템 효과 상태는 따로 기록해 복원 시 되돌림
+ * - 보드는 줄 비트마스크 + 셀 코드 배열만 보관 (열/꽉 찬 줄 정보는 복원 시 재계산)
+ * - 보드가 바뀌지 않은 동안 찍은 스냅샷들은 같은 배열을 공유 (블록만 움직인 경우 복사 없음)
+ * - 배열/생성기는 외부에 노출하지 않으며 복원할 때 복사해서 사용
+ */
+public final class GameSnapshot {
+
+    // 보드 (공유 가능, 수정 금지)
+    final int[] rows;
+    final byte[] cells;
+
+    // 블록 상태
+    final Block currentBlock;
+    final int currentOrientation;
+    final boolean currentActivated;  // 현재 아이템 블록 효과 활성화 여부 (Sand/무게추)
+    final boolean currentTouched;    // 무게추 접촉 여부
+    final Block[] queued;            // 다음 블록 대기열 (앞에서부터)
+    final int[] queuedOrientations;
+    final Block holdBlock;
+    final boolean holdUsed;
+    final int x;
+    final int y;
+    final int rotation;
+
+    // 난수 생성기 상태 (복원 시 다시 복사)
+    final PieceRandomizer randomizer;
+
+    // 카운터
+    final int totalBlocksSpawned;
+    final int totalLinesCleared;
+    final int currentLevel;
+    final int speedLevel;
+    final int lastItemSpawnLines;
+    final boolean gameOver;
+    final boolean nextBlockShouldBeItem;
+
+    // 고정 대기/중력 상태
+    final int lockTimer;
+    final int lockResets;
+    final int lowestY;
+    final int gravityCounter;
+
+    // 줄 삭제 분류 상태 (T-spin / 콤보 / B2B)
+    final boolean rotatedLast;
+    final int lastKickTest;
+    final int combo;
+    final boolean backToBackReady;
+
+    GameSnapshot(int[] rows, byte[] cells,
+                 Block currentBlock, int currentOrientation,
+                 boolean currentActivated, boolean currentTouched,
+                 Block[] queued, int[] queuedOrientations, Block holdBlock, boolean holdUsed,
+                 int x, int y, int rotation, PieceRandomizer randomizer,
+                 int totalBlocksSpawned, int totalLinesCleared, int currentLevel, int speedLevel,
+                 int lastItemSpawnLines, boolean gameOver, boolean nextBlockShouldBeItem,
+                 int lockTimer, int lockResets, int lowestY, int gravityCounter,
+                 boolean rotatedLast, int lastKickTest, int combo, boolean backToBackReady) {
+        this.rows = rows;
+        this.cells = cells;
+        this.currentBlock = currentBlock;
+        this.currentOrientation = currentOrientation;
+        this.currentActivated = currentActivated;
+        this.currentTouched = currentTouched;
+        this.queued = queued;
+        this.queuedOrientations = queuedOrientations;
+        this.holdBlock = holdBlock;
+        this.holdUsed = holdUsed;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        this.randomizer = randomizer;
+        this.totalBlocksSpawned = totalBlocksSpawned;
+        this.totalLinesCleared = totalLinesCleared;
+        this.currentLevel = currentLevel;
+        this.speedLevel = speedLevel;
+        this.lastItemSpawnLines = lastItemSpawnLines;
+        this.gameOver = gameOver;
+        this.nextBlockShouldBeItem = nextBlockShouldBeItem;
+        this.lockTimer = lockTimer;
+        this.lockResets = lockResets;
+        this.lowestY = lowestY;
+        this.gravityCounter = gravityCounter;
+        this.rotatedLast = rotatedLast;
+        this.lastKickTest = lastKickTest;
+        this.combo = combo;
+        this.backToBackReady = backToBackReady;
+    }
+
+    // 특정 줄의 비트마스크
+    public int getBoardRow(int row) {
+        return rows[row];
+    }
+
+    public int getCurrentX() {
+        return x;
+    }
+
+    public int getCurrentY() {
+        return y;
+    }
+
+    public int getTotalLinesCleared() {
+        return totalLinesCleared;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public int getCombo() {
+        return combo;
+    }
+
+    public boolean isBackToBackReady() {
+        return backToBackReady;
+    }
+
+    // 두 스냅샷이 보드 배열을 공유하는지 (구조 공유 확인용)
+    public boolean sharesBoardWith(GameSnapshot other) {
+        return other != null && rows == other.rows && cells == other.cells;
+    }
+}
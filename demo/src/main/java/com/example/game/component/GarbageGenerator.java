@@ -0,0 +1,39 @@
+package com.example.game.component;
+
+import com.example.game.blocks.SeededRandom;
+
+/**
+ * 공격(쓰레기) 줄 생성기
+ * - 공격 한 번은 (줄 수, 구멍 열) 두 값으로 표현하고 받는 쪽에서 줄 비트마스크로 만듦
+ * - 구멍 열은 시드 고정 난수로 정하므로 같은 시드면 같은 순서 (시뮬레이터/리플레이용)
+ */
+public final class GarbageGenerator {
+
+    private final int width;
+    private final SeededRandom random;
+
+    public GarbageGenerator(int width, long seed) {
+        if (width <= 0 || width > 31) {
+            throw new IllegalArgumentException("Board width must be between 1 and 31: " + width);
+        }
+        this.width = width;
+        this.random = new SeededRandom(seed);
+    }
+
+    // 다음 공격의 구멍 열 (0 ~ width - 1)
+    public int nextHoleColumn() {
+        return random.nextInt(width);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * 구멍 하나를 뺀 꽉 찬 줄 마스크 (범위 밖 구멍 열은 가장자리로 맞춤)
+     */
+    public static int rowMask(int width, int holeColumn) {
+        int hole = Math.max(0, Math.min(width - 1, holeColumn));
+        return ((1 << width) - 1) & ~(1 << hole);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.game.component;
+
+/**
+ * 받은 공격 줄 대기열 (줄 비트마스크, 최대 MAX_LINES줄)
+ * - 넘치면 오래된 줄부터 버림
+ * - 다음 블록 생성 전에 insertInto()로 보드 하단에 한 번에 삽입 (보드 시프트 한 번)
+ */
+public final class GarbageQueue {
+
+    // 대기열에 쌓을 수 있는 최대 공격 줄 수
+    public static final int MAX_LINES = 10;
+
+    private final int[] rows = new int[MAX_LINES]; // 앞이 먼저 들어온 줄 (보드에서는 위쪽)
+    private int size;
+    private int modCount;
+
+    public GarbageQueue() {
+    }
+
+    /**
+     * 같은 모양의 줄을 lines개 추가
+     * @return 실제로 추가된 줄 수
+     */
+    public int add(int rowMask, int lines) {
+        if (lines <= 0) {
+            return 0;
+        }
+        int added = Math.min(lines, MAX_LINES);
+        makeRoom(added);
+        for (int i = 0; i < added; i++) {
+            rows[size++] = rowMask;
+        }
+        modCount++;
+        return added;
+    }
+
+    /**
+     * 줄 마스크 배열 추가 (위 → 아래 순서, 넘치면 앞쪽 줄부터 버림)
+     * @return 실제로 추가된 줄 수
+     */
+    public int addRows(int[] masks, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        int start = Math.max(0, count - MAX_LINES);
+        makeRoom(count - start);
+        for (int i = start; i < count; i++) {
+            rows[size++] = masks[i];
+        }
+        modCount++;
+        return count - start;
+    }
+
+    // 새 줄이 들어갈 자리를 만들기 위해 오래된 줄을 버림
+    private void makeRoom(int incoming) {
+        int overflow = size + incoming - MAX_LINES;
+        if (overflow > 0) {
+            System.arraycopy(rows, overflow, rows, 0, size - overflow);
+            size -= overflow;
+        }
+    }
+
+    // 가장 오래된 줄부터 count줄 제거
+    public void dropOldest(int count) {
+        int drop = Math.min(count, size);
+        if (drop <= 0) {
+            return;
+        }
+        System.arraycopy(rows, drop, rows, 0, size - drop);
+        size -= drop;
+        modCount++;
+    }
+
+    /**
+     * 대기 중인 줄을 모두 보드 하단에 삽입하고 비움
+     * @return 삽입한 줄 수
+     */
+    public int insertInto(GameLogic gameLogic) {
+        int count = size;
+        if (count > 0) {
+            gameLogic.insertAttackRows(rows, count);
+            clear();
+        }
+        return count;
+    }
+
+    // index번째 줄 마스크 (0 = 가장 먼저 들어온 줄)
+    public int getRow(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Garbage index " + index + ", size " + size);
+        }
+        return rows[index];
+    }
+
+    public void clear() {
+        if (size > 0) {
+            size = 0;
+            modCount++;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getModCount() {
+        return modCount;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.game.component;
+
+import java.util.List;
+
+import com.example.game.blocks.Block;
+import com.example.game.items.BombBlock;
+import com.example.game.items.LItem;
+
+/**
+ * 블록 착지 후 처리 규칙 (JavaFX 없음, Board/PlayerBoard/GameSimulator 공용)
+ * - 순서: BombBlock 폭발 → LItem 줄 + 꽉 찬 줄 삭제 (공격 전송) → 받은 공격 줄 삽입 후 다음 블록 생성
+ * - land()는 삭제/폭발할 대상만 정해 두고 실제 실행은 finish()에서 (그 사이 UI는 애니메이션, 시뮬레이터는 틱 대기)
+ * - 점수는 ScoreSink로 전달 (null이면 점수 없음)
+ */
+public class LandingRules {
+
+    // L-item 줄 삭제 점수 (난이도 배율 적용)
+    public static final int L_ITEM_LINE_SCORE = 100;
+    // 폭발로 파괴한 칸당 점수 (난이도 배율 적용)
+    public static final int EXPLOSION_CELL_SCORE = 10;
+
+    /**
+     * 점수 반영 대상 (ScorePanel, ScoreKeeper)
+     */
+    public interface ScoreSink {
+        void addScoreWithDifficulty(int points);
+
+        void calculateLineScore(int linesCount);
+    }
+
+    /**
+     * 줄 삭제 시 공격 표(RuleSet.getAttackTable())에 따라 상대에게 보낼 공격 (줄 수, 구멍 열)
+     */
+    public interface AttackListener {
+        void onAttack(int lines, int holeColumn);
+    }
+
+    private final GameLogic gameLogic;
+    private AttackListener attackListener;
+    private GarbageGenerator garbageGenerator; // 보내는 공격의 구멍 열
+    private GarbageQueue garbageQueue;         // 받은 공격 줄 (다음 블록 생성 전에 삽입)
+
+    // 삭제 대기 중인 줄 (LItem 줄 포함) / 그중 착지 시 꽉 차 있던 줄 (줄 점수 대상)
+    private long pendingClearMask;
+    private long pendingFullMask;
+    // 폭발 대기 중인 칸
+    private int[][] pendingExplosionCells;
+    private int lItemRow = -1;
+
+    public LandingRules(GameLogic gameLogic) {
+        this.gameLogic = gameLogic;
+    }
+
+    // 공격 전송 설정 (구멍 열은 generator에서 차례로 꺼냄)
+    public void setAttackListener(AttackListener attackListener, GarbageGenerator garbageGenerator) {
+        this.attackListener = attackListener;
+        this.garbageGenerator = garbageGenerator;
+    }
+
+    public void setGarbageQueue(GarbageQueue garbageQueue) {
+        this.garbageQueue = garbageQueue;
+    }
+
+    /**
+     * 착지 직후 처리 - 폭발/삭제할 대상을 정하고 LItem 점수와 공격을 처리
+     * @return 폭발/삭제 대기 중이면 true (finish() 필요), 없으면 false (바로 spawnNext())
+     */
+    public boolean land(Block landed, int landedX, int landedY, ScoreSink scorer) {
+        clear();
+        if (landed instanceof BombBlock) {
+            pendingExplosionCells = ((BombBlock) landed).getExplosionCells(
+                landedY, landedX, gameLogic.getHeight(), gameLogic.getWidth());
+            return true;
+        }
+
+        pendingFullMask = gameLogic.findFullLinesMask();
+        pendingClearMask = pendingFullMask;
+        if (landed instanceof LItem) {
+            int row = ((LItem) landed).getLMarkerAbsoluteRow(landedY);
+            if (row >= 0 && row < gameLogic.getHeight()) {
+                lItemRow = row;
+                pendingClearMask |= 1L << row;
+                if (scorer != null) {
+                    scorer.addScoreWithDifficulty(L_ITEM_LINE_SCORE);
+                }
+            }
+        }
+        if (pendingClearMask == 0L) {
+            return false;
+        }
+
+        int attack = gameLogic.getLastClear().getAttack();
+        if (attack > 0 && attackListener != null) {
+            attackListener.onAttack(attack, garbageGenerator.nextHoleColumn());
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 폭발/줄 삭제 실행 (L-item 줄은 착지 시 점수를 받았으므로 꽉 찬 줄만 줄 점수)
+     */
+    public void finish(ScoreSink scorer) {
+        if (pendingExplosionCells != null) {
+            // 폭발 영역 전체가 파괴 점수 대상 (UI는 영역을 채운 뒤 삭제)
+            gameLogic.explodeCells(pendingExplosionCells);
+            if (scorer != null) {
+                scorer.addScoreWithDifficulty(pendingExplosionCells.length * EXPLOSION_CELL_SCORE);
+            }
+
+            // 폭발 후 줄 삭제 체크
+            long fullLines = gameLogic.findFullLinesMask();
+            if (fullLines != 0L) {
+                int cleared = gameLogic.executeLineClear(fullLines);
+                if (scorer != null) {
+                    scorer.calculateLineScore(cleared);
+                }
+            }
+        } else if (pendingClearMask != 0L) {
+            gameLogic.executeLineClear(pendingClearMask);
+            int fullLines = Long.bitCount(pendingFullMask);
+            if (fullLines > 0 && scorer != null) {
+                scorer.calculateLineScore(fullLines);
+            }
+        }
+        clear();
+    }
+
+    /**
+     * 다음 블록 생성 (맨 위까지 쌓였으면 게임 오버, 받은 공격 줄은 생성 전에 삽입)
+     * @return 생성했으면 true, 게임 오버면 false
+     */
+    public boolean spawnNext() {
+        if (gameLogic.isBlockAtTop()) {
+            gameLogic.markGameOver();
+            return false;
+        }
+        if (garbageQueue != null) {
+            garbageQueue.insertInto(gameLogic);
+        }
+        if (!gameLogic.spawnNextPiece()) {
+            gameLogic.markGameOver();
+            return false;
+        }
+        return true;
+    }
+
+    // 대기 중인 폭발/삭제 취소
+    public void clear() {
+        pendingClearMask = 0L;
+        pendingFullMask = 0L;
+        pendingExplosionCells = null;
+        lItemRow = -1;
+    }
+
+    // 폭발 대기 중인 칸 (없으면 null, 수정 금지)
+    public int[][] getPendingExplosionCells() {
+        return pendingExplosionCells;
+    }
+
+    public long getPendingClearMask() {
+        return pendingClearMask;
+    }
+
+    // 삭제 대기 중인 줄 목록 (애니메이션용)
+    public List<Integer> getPendingLines() {
+        return GameLogic.toLineList(pendingClearMask);
+    }
+
+    // 삭제 대기 중인 LItem 줄 (없으면 -1)
+    public int getLItemRow() {
+        return lItemRow;
+    }
+}
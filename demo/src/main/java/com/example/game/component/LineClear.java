@@ -0,0 +1,69 @@
+package com.example.game.component;
+
+/**
+ * 블록 고정 시점의 줄 삭제 분류 결과
+ * - GameLogic이 고정할 때마다 같은 인스턴스를 덮어씀 (할당 없음, 다음 고정 전까지만 유효)
+ * - 공격 줄 수는 RuleSet의 AttackTable로 미리 계산해 둠
+ */
+public final class LineClear {
+
+    // T-spin 종류 (3-corner 판정)
+    public enum Spin {
+        NONE,
+        MINI,
+        FULL
+    }
+
+    private int lines;          // 꽉 찬 줄 수 (아이템으로 지운 줄 제외)
+    private Spin spin = Spin.NONE;
+    private int combo = -1;     // 연속 삭제 횟수 (첫 삭제 = 0, 삭제 없음 = -1)
+    private boolean backToBack; // 직전 어려운 삭제(테트리스/T-spin)에 이어진 어려운 삭제
+    private int attack;         // 상대에게 보낼 줄 수
+
+    // GameLogic만 생성
+    LineClear() {
+    }
+
+    void set(int lines, Spin spin, int combo, boolean backToBack, int attack) {
+        this.lines = lines;
+        this.spin = spin;
+        this.combo = combo;
+        this.backToBack = backToBack;
+        this.attack = attack;
+    }
+
+    void reset() {
+        set(0, Spin.NONE, -1, false, 0);
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public Spin getSpin() {
+        return spin;
+    }
+
+    public int getCombo() {
+        return combo;
+    }
+
+    public boolean isBackToBack() {
+        return backToBack;
+    }
+
+    public int getAttack() {
+        return attack;
+    }
+
+    // 테트리스 또는 줄을 지운 T-spin (B2B 유지 조건)
+    public boolean isDifficult() {
+        return lines == 4 || (lines > 0 && spin != Spin.NONE);
+    }
+
+    @Override
+    public String toString() {
+        return "LineClear{lines=" + lines + ", spin=" + spin + ", combo=" + combo
+            + ", b2b=" + backToBack + ", attack=" + attack + "}";
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.game.component;
 
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Queue;
 
 import com.example.Router;
-import com.example.game.blocks.Block;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.PieceState;
 import com.example.game.component.MenuOverlay.MenuCallback;
 import com.example.network.GameMessage;
 import com.example.network.MessageListener;
@@ -60,10 +60,14 @@ public class OnlineVersusBoard implements MessageListener {
     // 게임 상태
     private boolean gameActive = false;
     private AnimationTimer gameLoop;
-    private long lastUpdateLocal = 0;
-    private long lastUpdateRemote = 0;
+    private final GameClock localDropClock = new GameClock();
     private long lastBoardStateSent = 0;
     private static final long BOARD_STATE_SEND_INTERVAL = 100_000_000; // 100ms = 10 updates/sec
+    private final PieceState sendPieceState = new PieceState();    // 전송용 블록 상태 (재사용)
+    private final PieceState receivePieceState = new PieceState(); // 수신용 블록 상태 (재사용)
+    private boolean localStateChanged;  // 마지막 전송 이후 로컬 블록/보드가 바뀌었는지
+    private int sentQueueModCount = -1; // 마지막으로 전송한 대기열 변경 횟수 (바뀐 경우만 다시 전송)
+    private PieceQueue sentQueue;       // 마지막으로 전송한 대기열 (재시작 시 GameLogic이 바뀌면 다시 전송)
     private boolean isPaused = false;
 
     // 시간제한 모드용
@@ -89,12 +93,12 @@ public class OnlineVersusBoard implements MessageListener {
     // 공격 데이터 클래스
     private static class AttackData {
 
-        List<String[]> lines;
-        int count;
+        int count;       // 공격 줄 수
+        int holeColumn;  // 공격 줄의 구멍 열
 
-        AttackData(List<String[]> lines, int count) {
-            this.lines = lines;
+        AttackData(int count, int holeColumn) {
             this.count = count;
+            this.holeColumn = holeColumn;
         }
     }
 
@@ -241,10 +245,11 @@ public class OnlineVersusBoard implements MessageListener {
         if (isLocal) {
             // 게임 시작 전에는 블록을 생성하지 않음
             localBoard = new PlayerBoard(1, this::onLocalLinesCleared, itemMode, false);
-            localBoard.setAutoDropCallback(this::onLocalAutoDrop);
+            // 블록/보드가 실제로 바뀐 경우에만 상태 전송
+            localBoard.getGameLogic().getEvents().subscribe(this::onLocalGameEvent);
             localScorePanel = new ScorePanel();
             localBoard.scorePanel = localScorePanel;
-            localAttackDisplay = new AttackQueueDisplay("You");
+            localAttackDisplay = new AttackQueueDisplay("You", localBoard.getGameLogic().getWidth());
 
             VBox rightPanel = new VBox(10);
             rightPanel.setAlignment(Pos.TOP_CENTER);
@@ -263,7 +268,7 @@ public class OnlineVersusBoard implements MessageListener {
             remoteBoard = new PlayerBoard(2, this::onRemoteLinesCleared, itemMode, false);
             remoteScorePanel = new ScorePanel();
             remoteBoard.scorePanel = remoteScorePanel;
-            remoteAttackDisplay = new AttackQueueDisplay("Opponent");
+            remoteAttackDisplay = new AttackQueueDisplay("Opponent", remoteBoard.getGameLogic().getWidth());
 
             VBox leftPanel = new VBox(10);
             leftPanel.setAlignment(Pos.TOP_CENTER);
@@ -300,24 +305,24 @@ public class OnlineVersusBoard implements MessageListener {
             switch (code) {
                 case LEFT:
                     localBoard.onMoveLeft();
-                    sendBoardState(); // 즉시 상태 전송
+                    flushLocalEvents(); // 바뀐 경우만 즉시 상태 전송
                     break;
                 case RIGHT:
                     localBoard.onMoveRight();
-                    sendBoardState(); // 즉시 상태 전송
+                    flushLocalEvents(); // 바뀐 경우만 즉시 상태 전송
                     break;
                 case DOWN:
                     localBoard.onMoveDown();
-                    sendBoardState(); // 즉시 상태 전송
+                    flushLocalEvents(); // 바뀐 경우만 즉시 상태 전송
                     break;
                 case UP:
                     localBoard.onRotate();
-                    sendBoardState(); // 즉시 상태 전송
+                    flushLocalEvents(); // 바뀐 경우만 즉시 상태 전송
                     break;
                 case ENTER:
                 case SPACE:
                     localBoard.onHardDrop();
-                    sendBoardState(); // 즉시 상태 전송
+                    flushLocalEvents(); // 바뀐 경우만 즉시 상태 전송
                     break;
                 case ESCAPE:
                     togglePause();
@@ -420,6 +425,7 @@ public class OnlineVersusBoard implements MessageListener {
             @Override
             public void handle(long now) {
                 if (!gameActive || isPaused) {
+                    localDropClock.skip(now); // 멈춘 동안의 시간은 낙하에 반영하지 않음
                     return;
                 }
 
@@ -427,18 +433,9 @@ public class OnlineVersusBoard implements MessageListener {
                     updateTimer();
                 }
 
-                long elapsedNanos1 = now - lastUpdateLocal;
-                long dropInterval1 = localBoard.getDropInterval();
-
-                if (elapsedNanos1 >= dropInterval1) {
-                    localBoard.update();
-                    sendBoardState();  // 보드 상태 전송
-                    lastUpdateLocal = now;
-                }
-
-                if (localBoard.isAnimationActive()) {
-                    localBoard.update();
-                }
+                // 로컬 보드는 고정 낙하 간격으로 갱신하고, 상태가 바뀌었으면 전송
+                localBoard.update(localDropClock, now);
+                flushLocalEvents();
 
                 // 원격 보드는 네트워크로 받은 상태만 표시 (자동 업데이트 없음)
                 if (remoteBoard.isAnimationActive()) {
@@ -451,8 +448,7 @@ public class OnlineVersusBoard implements MessageListener {
             }
         };
 
-        lastUpdateLocal = System.nanoTime();
-        lastUpdateRemote = System.nanoTime();
+        localDropClock.reset(System.nanoTime());
         gameLoop.start();
     }
 
@@ -483,12 +479,12 @@ public class OnlineVersusBoard implements MessageListener {
     private void processAttacks() {
         if (!localAttackQueue.isEmpty()) {
             AttackData attack = localAttackQueue.poll();
-            localBoard.receiveAttackLines(attack.lines);
+            localBoard.receiveGarbage(attack.count, attack.holeColumn);
         }
 
         if (!remoteAttackQueue.isEmpty()) {
             AttackData attack = remoteAttackQueue.poll();
-            remoteBoard.receiveAttackLines(attack.lines);
+            remoteBoard.receiveGarbage(attack.count, attack.holeColumn);
         }
     }
 
@@ -578,26 +574,26 @@ public class OnlineVersusBoard implements MessageListener {
     private void sendBoardState() {
         GameMessage message = new GameMessage(MessageType.BOARD_UPDATE, localPlayerId);
 
-        // 현재 블록 정보
-        Block currentBlock = localBoard.getGameLogic().getCurrentBlock();
-        if (currentBlock != null) {
-            message.put("blockType", currentBlock.getClass().getSimpleName());
-            message.put("blockX", localBoard.getGameLogic().getCurrentX());
-            message.put("blockY", localBoard.getGameLogic().getCurrentY());
-            // 블록의 현재 shape 배열을 직렬화해서 전송
-            message.put("blockShape", serializeBlockShape(currentBlock));
+        // 현재 블록 정보 (종류 id 1바이트 + 방향 + 위치)
+        if (localBoard.getGameLogic().getCurrentPieceState(sendPieceState)) {
+            message.put("pieceKind", sendPieceState.getKind().id());
+            message.put("pieceRotation", sendPieceState.getRotation());
+            message.put("blockX", sendPieceState.getX());
+            message.put("blockY", sendPieceState.getY());
         }
 
-        // 다음 블록 정보 추가
-        Block nextBlock = localBoard.getGameLogic().getNextBlock();
-        if (nextBlock != null) {
-            message.put("nextBlockType", nextBlock.getClass().getSimpleName());
-            message.put("nextBlockShape", serializeBlockShape(nextBlock));
+        // 다음 블록 대기열 (종류 id 배열) - 블록이 생성/홀드되어 바뀐 경우만 전송
+        PieceQueue queue = localBoard.getGameLogic().getPieceQueue();
+        if (queue != sentQueue || queue.getModCount() != sentQueueModCount) {
+            byte[] kinds = new byte[queue.size()];
+            localBoard.getGameLogic().getQueueKinds(kinds);
+            message.put("pieceQueue", kinds);
+            sentQueue = queue;
+            sentQueueModCount = queue.getModCount();
         }
 
-        // 보드 상태 (착지된 블록들)
-        String[][] boardTypes = localBoard.getGameLogic().getBlockTypes();
-        message.put("boardData", serializeBoardData(boardTypes));
+        // 보드 상태 (착지된 블록들) - 셀 타입 코드 바이트 배열 그대로 전송
+        message.put("boardCells", localBoard.getGameLogic().getBoardState().copyCells());
 
         // 점수
         message.put("score", localBoard.getScore());
@@ -609,52 +605,15 @@ public class OnlineVersusBoard implements MessageListener {
         networkManager.sendMessage(message);
     }
 
-    private String serializeBlockShape(Block block) {
-        StringBuilder sb = new StringBuilder();
-        int height = block.height();
-        int width = block.width();
-        sb.append(height).append("x").append(width).append(":");
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                sb.append(block.getShape(x, y));
-            }
-            if (y < height - 1) {
-                sb.append(",");
-            }
-        }
-        return sb.toString();
-    }
-
-    private String serializeBoardData(String[][] board) {
-        StringBuilder sb = new StringBuilder();
-        for (int y = 0; y < board.length; y++) {
-            for (int x = 0; x < board[y].length; x++) {
-                String blockType = board[y][x];
-                if (blockType == null) {
-                    sb.append("0");
-                } else {
-                    sb.append(blockType);
-                }
-                if (x < board[y].length - 1) {
-                    sb.append(",");
-                }
-            }
-            if (y < board.length - 1) {
-                sb.append(";");
-            }
-        }
-        return sb.toString();
-    }
-
     private void updateRemoteBoard(GameMessage message) {
         // 블록 정보 복원
-        String blockType = message.getString("blockType");
+        Byte pieceKind = (Byte) message.get("pieceKind");
+        Integer pieceRotation = (Integer) message.get("pieceRotation");
         Integer blockX = (Integer) message.get("blockX");
         Integer blockY = (Integer) message.get("blockY");
-        String blockShape = message.getString("blockShape");
 
         // 보드 데이터 복원
-        String boardData = message.getString("boardData");
+        Object boardCells = message.get("boardCells");
 
         // 점수 업데이트
         Integer score = (Integer) message.get("score");
@@ -669,23 +628,20 @@ public class OnlineVersusBoard implements MessageListener {
             remoteScorePanel.updateSpeed(speedMultiplier, speedLevel);
         }
 
-        // 다음 블록 정보 복원
-        String nextBlockType = message.getString("nextBlockType");
-        String nextBlockShape = message.getString("nextBlockShape");
-        if (nextBlockType != null && nextBlockShape != null) {
-            int[][] nextShape = deserializeBlockShape(nextBlockShape);
-            remoteBoard.getGameLogic().setNextBlockFromNetwork(nextBlockType, nextShape);
+        // 다음 블록 대기열 복원 (바뀐 경우만 포함되어 옴)
+        Object pieceQueue = message.get("pieceQueue");
+        if (pieceQueue instanceof byte[]) {
+            remoteBoard.getGameLogic().setQueueFromNetwork((byte[]) pieceQueue);
         }
 
         // Remote Board의 GameLogic에 상태 적용
-        if (blockType != null && blockX != null && blockY != null && blockShape != null) {
-            int[][] shape = deserializeBlockShape(blockShape);
-            remoteBoard.getGameLogic().setCurrentBlockFromNetwork(blockType, blockX, blockY, shape);
+        if (pieceKind != null && pieceRotation != null && blockX != null && blockY != null) {
+            receivePieceState.set(PieceKind.fromId(pieceKind), pieceRotation, blockX, blockY);
+            remoteBoard.getGameLogic().setCurrentPieceFromNetwork(receivePieceState);
         }
 
-        if (boardData != null) {
-            String[][] board = deserializeBoardData(boardData);
-            remoteBoard.getGameLogic().setBoardFromNetwork(board);
+        if (boardCells instanceof byte[]) {
+            remoteBoard.getGameLogic().setBoardFromNetwork((byte[]) boardCells);
         }
 
         // Canvas를 완전히 클리어하여 잔상 제거
@@ -696,57 +652,42 @@ public class OnlineVersusBoard implements MessageListener {
         remoteBoard.drawBoard();
     }
 
-    private int[][] deserializeBlockShape(String data) {
-        // Format: "height x width : row1,row2,..."
-        String[] parts = data.split(":");
-        String[] dimensions = parts[0].split("x");
-        int height = Integer.parseInt(dimensions[0]);
-        int width = Integer.parseInt(dimensions[1]);
-
-        int[][] shape = new int[height][width];
-        String[] rows = parts[1].split(",");
-
-        for (int y = 0; y < height; y++) {
-            String row = rows[y];
-            for (int x = 0; x < width; x++) {
-                shape[y][x] = Character.getNumericValue(row.charAt(x));
-            }
+    // 로컬 GameLogic 이벤트 - 전송할 상태가 바뀌었는지만 기록 (전송은 flushLocalEvents에서 한 번)
+    private void onLocalGameEvent(GameEvent event) {
+        switch (event.getType()) {
+            case PIECE_SPAWNED:
+            case PIECE_MOVED:
+            case PIECE_LOCKED:
+            case LINES_CLEARED:
+            case ITEM_TRIGGERED:
+                localStateChanged = true;
+                break;
+            default:
+                break;
         }
-
-        return shape;
     }
 
-    private String[][] deserializeBoardData(String data) {
-        String[] rows = data.split(";");
-        String[][] board = new String[rows.length][10];
-
-        for (int y = 0; y < rows.length; y++) {
-            String[] cells = rows[y].split(",");
-            for (int x = 0; x < Math.min(cells.length, 10); x++) {
-                String cell = cells[x];
-                board[y][x] = cell.equals("0") ? null : cell;
-            }
+    // 쌓인 로컬 이벤트를 전달하고, 상태가 바뀌었으면 한 번만 전송
+    private void flushLocalEvents() {
+        localBoard.getGameLogic().getEvents().dispatch();
+        if (localStateChanged) {
+            localStateChanged = false;
+            sendBoardState();
         }
-
-        return board;
-    }
-
-    private void onLocalAutoDrop() {
-        // 자동 낙하는 sendBoardState()로 처리되므로 여기서는 별도 전송 불필요
     }
 
-    private void onLocalLinesCleared(int playerNumber, int linesCleared, List<String[]> clearedLines) {
-        if (linesCleared < 2) {
+    private void onLocalLinesCleared(int playerNumber, int linesCleared, int holeColumn) {
+        if (linesCleared <= 0) {
             return;
         }
 
         Logger.info(">>> Local player cleared " + linesCleared + " lines");
 
-        remoteAttackQueue.offer(new AttackData(clearedLines, linesCleared));
-        sendAttack(linesCleared, clearedLines);
+        remoteAttackQueue.offer(new AttackData(linesCleared, holeColumn));
+        sendAttack(linesCleared, holeColumn);
     }
 
-    private void onRemoteLinesCleared(int playerNumber, int linesCleared, List<String[]> clearedLines) {
+    private void onRemoteLinesCleared(int playerNumber, int linesCleared, int holeColumn) {
         // 원격 플레이어의 줄 삭제는 네트워크 메시지로만 처리
     }
 
@@ -823,11 +764,9 @@ public class OnlineVersusBoard implements MessageListener {
         networkManager.sendMessage(message);
     }
 
-    private void sendAttack(int linesCleared, List<String[]> clearedLines) {
-        GameMessage message = new GameMessage(MessageType.ATTACK, localPlayerId);
-        message.put("linesCleared", linesCleared);
-        message.put("attackData", serializeAttackLines(clearedLines));
-        networkManager.sendMessage(message);
+    // 공격은 (줄 수, 구멍 열) 두 값만 전송
+    private void sendAttack(int attackLines, int holeColumn) {
+        networkManager.sendMessage(GameMessage.createAttack(localPlayerId, attackLines, attackLines, holeColumn));
     }
 
     private void sendGameOver(int finalScore) {
@@ -849,35 +788,6 @@ public class OnlineVersusBoard implements MessageListener {
         networkManager.sendMessage(message);
     }
 
-    private String serializeAttackLines(List<String[]> lines) {
-        StringBuilder sb = new StringBuilder();
-        for (String[] line : lines) {
-            for (String cell : line) {
-                sb.append(cell != null ? "1" : "0");
-            }
-            sb.append(";");
-        }
-        return sb.toString();
-    }
-
-    private List<String[]> deserializeAttackLines(String data) {
-        List<String[]> result = new java.util.ArrayList<>();
-        String[] lines = data.split(";");
-
-        for (String line : lines) {
-            if (line.isEmpty()) {
-                continue;
-            }
-            String[] cells = new String[10];
-            for (int i = 0; i < Math.min(line.length(), 10); i++) {
-                cells[i] = line.charAt(i) == '1' ? "attack-block" : null;
-            }
-            result.add(cells);
-        }
-
-        return result;
-    }
-
     @Override
     public void onMessageReceived(GameMessage message) {
         Platform.runLater(() -> {
@@ -956,12 +866,11 @@ public class OnlineVersusBoard implements MessageListener {
                 break;
 
             case ATTACK:
-                int linesCleared = message.getInt("linesCleared", 0);
-                String attackData = message.getString("attackData");
-                List<String[]> attackLines = deserializeAttackLines(attackData);
+                int attackLines = message.getInt("attackLines", message.getInt("linesCleared", 0));
+                int holeColumn = message.getInt("holeColumn", 0);
 
-                localAttackQueue.offer(new AttackData(attackLines, linesCleared));
-                Logger.info(">>> Received attack: " + linesCleared + " lines");
+                localAttackQueue.offer(new AttackData(attackLines, holeColumn));
+                Logger.info(">>> Received attack: " + attackLines + " lines");
                 break;
 
             case GAME_OVER:
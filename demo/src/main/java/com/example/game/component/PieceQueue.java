@@ -0,0 +1,108 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+
+/**
+ * 다음 블록 대기열 (고정 크기 링 버퍼)
+ * - 생성기에서 미리 뽑아 둔 블록을 순서대로 보관 (미리보기 / AI 탐색 / 네트워크 동기화에 사용)
+ * - 배열을 재할당하지 않고 head 위치만 돌려 사용
+ * - 내용이 바뀔 때마다 변경 횟수가 증가 (다시 그리기/전송 여부 판단용)
+ */
+public final class PieceQueue {
+
+    // 최대 미리보기 수
+    public static final int MAX_CAPACITY = 6;
+
+    private final Block[] buffer;
+    private int head; // 맨 앞 블록 위치
+    private int size;
+    private int modCount;
+
+    public PieceQueue(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Queue capacity must be between 1 and "
+                + MAX_CAPACITY + ": " + capacity);
+        }
+        this.buffer = new Block[capacity];
+    }
+
+    // 맨 뒤에 추가
+    public void push(Block block) {
+        if (size == buffer.length) {
+            throw new IllegalStateException("Piece queue is full");
+        }
+        buffer[slot(size)] = block;
+        size++;
+        modCount++;
+    }
+
+    // 맨 앞 블록을 꺼냄 (비어 있으면 null)
+    public Block poll() {
+        if (size == 0) {
+            return null;
+        }
+        Block block = buffer[head];
+        buffer[head] = null;
+        head = slot(1);
+        size--;
+        modCount++;
+        return block;
+    }
+
+    // index번째 블록 (0 = 바로 다음 블록, 범위 밖이면 null)
+    public Block peek(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return buffer[slot(index)];
+    }
+
+    // index번째 블록 교체 (네트워크 동기화용)
+    public void set(int index, Block block) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Queue index " + index + ", size " + size);
+        }
+        buffer[slot(index)] = block;
+        modCount++;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            buffer[slot(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    public boolean isFull() {
+        return size == buffer.length;
+    }
+
+    public int getModCount() {
+        return modCount;
+    }
+
+    // 앞에서부터 순서대로 복사 (스냅샷용)
+    Block[] toArray() {
+        Block[] blocks = new Block[size];
+        for (int i = 0; i < size; i++) {
+            blocks[i] = buffer[slot(i)];
+        }
+        return blocks;
+    }
+
+    // 링 버퍼 위치 (나머지 연산 없이 한 번만 감음)
+    private int slot(int index) {
+        int slot = head + index;
+        return slot >= buffer.length ? slot - buffer.length : slot;
+    }
+}
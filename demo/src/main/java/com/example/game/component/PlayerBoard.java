@@ -1,14 +1,12 @@
 package com.example.game.component;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 
 import com.example.game.blocks.Block;
-import com.example.game.items.BombBlock;
-import com.example.game.items.LItem;
+import com.example.game.blocks.CellType;
+import com.example.settings.GameSettings;
 import com.example.utils.Logger;
 
 import javafx.scene.paint.Color;
@@ -20,33 +18,45 @@ public class PlayerBoard extends Board {
 
     public interface LineClearCallback {
 
-        void onLinesCleared(int playerNumber, int linesCleared, List<String[]> clearedLines);
-    }
-
-    public interface AutoDropCallback {
-
-        void onAutoDrop();
+        /**
+         * @param linesCleared 공격 줄 수 (RuleSet의 AttackTable 기준, 1 이상일 때만 호출)
+         * @param holeColumn 공격 줄의 구멍 열 (받는 쪽에서 GarbageGenerator.rowMask()로 줄 생성)
+         */
+        void onLinesCleared(int playerNumber, int linesCleared, int holeColumn);
     }
 
     private final int playerNumber;
     private final LineClearCallback callback;
-    private AutoDropCallback autoDropCallback;
 
-    // 공격받은 줄 관리
-    private Queue<String[]> pendingAttackLines;
+    // 공격받은 줄 관리 (줄 비트마스크)
+    private final GarbageQueue pendingGarbage = new GarbageQueue();
+    // 보내는 공격의 구멍 열 생성기
+    private final GarbageGenerator garbageGenerator;
 
     public PlayerBoard(int playerNumber, LineClearCallback callback, boolean itemMode) {
         this(playerNumber, callback, itemMode, true);
     }
     
     public PlayerBoard(int playerNumber, LineClearCallback callback, boolean itemMode, boolean spawnInitialBlock) {
-        super();
+        this(playerNumber, callback,
+            RuleSet.fromSettings(GameSettings.getInstance()).withItemMode(itemMode), spawnInitialBlock);
+    }
+
+    // 규칙(보드 크기 등)을 직접 지정하여 생성
+    public PlayerBoard(int playerNumber, LineClearCallback callback, RuleSet rules, boolean spawnInitialBlock) {
+        super(rules);
         this.playerNumber = playerNumber;
         this.callback = callback;
-        this.pendingAttackLines = new LinkedList<>();
+        this.garbageGenerator = new GarbageGenerator(rules.getWidth(), System.nanoTime());
         
-        // GameLogic을 아이템 모드로 재초기화 (초기 블록 생성 여부 제어)
-        gameLogic = new GameLogic(itemMode, spawnInitialBlock);
+        // GameLogic을 규칙에 맞춰 재초기화 (초기 블록 생성 여부 제어)
+        gameLogic = new GameLogic(rules, spawnInitialBlock);
+        subscribeEvents();
+
+        // 착지 규칙: 줄 삭제 시 공격 전송, 받은 공격 줄은 다음 블록 생성 전에 삽입
+        landing = new LandingRules(gameLogic);
+        landing.setAttackListener(this::sendAttack, garbageGenerator);
+        landing.setGarbageQueue(pendingGarbage);
         
         // UI 초기화 (캔버스와 GraphicsContext 생성)
         initializeUI();
@@ -73,10 +83,6 @@ public class PlayerBoard extends Board {
         drawBoard();
     }
 
-    public void setAutoDropCallback(AutoDropCallback callback) {
-        this.autoDropCallback = callback;
-    }
-
     // 자동 게임 루프 대신 수동 업데이트
     public void update() {
         // 애니메이션 업데이트
@@ -85,90 +91,27 @@ public class PlayerBoard extends Board {
             drawBoard();
 
             if (animationFinished) {
-                handleAnimationFinished();
+                // 대기 중인 폭발/줄 삭제 실행 후 다음 블록 생성
+                finishLanding();
             }
             return;
         }
 
-        // 블록 자동 낙하
+        // 블록 자동 낙하 (네트워크 전송 등은 GameLogic 이벤트로 처리)
         handleMoveDown();
 
-        // 자동 낙하 콜백 호출 (네트워크 전송용)
-        if (autoDropCallback != null) {
-            autoDropCallback.onAutoDrop();
-        }
-
         drawBoard();
     }
 
-    private void handleAnimationFinished() {
-        if (isExplosionAnimation && pendingExplosionCells != null) {
-            // 폭발 처리
-            executeExplosion();
-            pendingExplosionCells = null;
-            isExplosionAnimation = false;
-        } else {
-            // 줄 삭제 처리
-            executeLineClear();
-        }
-
-        // 게임 오버 체크
-        if (gameLogic.isBlockAtTop()) {
-            isGameOver = true;
-            return;
-        }
-
-        // 공격받은 줄 추가 (다음 블록 생성 전에)
-        if (!pendingAttackLines.isEmpty()) {
-            addPendingAttackLines();
-        }
-
-        // 다음 블록 생성
-        if (!gameLogic.spawnNextPiece()) {
-            isGameOver = true;
-        }
-    }
-
-    private void executeExplosion() {
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
-
-        int destroyedCount = 0;
-        for (int[] cell : pendingExplosionCells) {
-            int row = cell[0];
-            int col = cell[1];
-            if (board[row][col] == 1) {
-                board[row][col] = 0;
-                blockTypes[row][col] = null;
-                destroyedCount++;
-            }
-        }
-
-        // 폭발 후 줄 삭제 체크
-        List<Integer> fullLines = gameLogic.findFullLines();
-        if (!fullLines.isEmpty()) {
-            gameLogic.executeLineClear(fullLines);
-            updateSpeedDisplay(); // 속도 표시 업데이트
-        }
-    }
-
-    private void executeLineClear() {
-        List<Integer> fullLines = gameLogic.findFullLines();
-        List<Integer> fullLinesInPending = new ArrayList<>();
-
-        for (Integer line : pendingLinesToClear) {
-            if (fullLines.contains(line)) {
-                fullLinesInPending.add(line);
-            }
-        }
-
-        gameLogic.executeLineClear(pendingLinesToClear);
-        pendingLinesToClear.clear();
-        updateSpeedDisplay(); // 속도 표시 업데이트
+    // 공격 표(T-spin / 콤보 / B2B)에 따른 줄 수만큼 상대방에게 공격
+    private void sendAttack(int lines, int holeColumn) {
+        Logger.info(">>> Player %d is attacking with %d lines (%s)", playerNumber, lines, gameLogic.getLastClear());
+        callback.onLinesCleared(playerNumber, lines, holeColumn);
     }
 
-    // 속도 표시 업데이트
-    private void updateSpeedDisplay() {
+    // 속도 표시 업데이트 (블록 생성/줄 삭제 이벤트에서 호출)
+    @Override
+    protected void updateSpeedDisplay() {
         double speedMultiplier = gameLogic.getSpeedMultiplier();
         int speedLevel = gameLogic.getSpeedLevel();
         int blocksSpawned = gameLogic.getTotalBlocksSpawned();
@@ -183,229 +126,57 @@ public class PlayerBoard extends Board {
     @Override
     protected void handleMoveDown() {
         Block currentBlock = gameLogic.getCurrentBlock();
-        boolean isLItemBlock = currentBlock instanceof LItem;
-        boolean isBombBlock = currentBlock instanceof BombBlock;
-
-        boolean moved = gameLogic.moveDown();
-
-        if (moved) {
-            // 블록이 성공적으로 아래로 이동했을 때 점수 증가 (일반 모드와 동일)
-            scorePanel.addScore(1);
-        } else {
-            handleBlockLanded(isLItemBlock, isBombBlock);
-        }
-    }
-
-    private void handleBlockLanded(boolean isLItemBlock, boolean isBombBlock) {
-        Block currentBlock = gameLogic.getCurrentBlock();
-
-        // BombBlock 처리
-        if (isBombBlock) {
-            BombBlock bombBlock = (BombBlock) currentBlock;
-            int[][] explosionCells = bombBlock.getExplosionCells(
-                    gameLogic.getCurrentY(),
-                    gameLogic.getCurrentX(),
-                    GameLogic.HEIGHT,
-                    GameLogic.WIDTH
-            );
-
-            fillExplosionCells(explosionCells);
-            pendingExplosionCells = explosionCells;
-            isExplosionAnimation = true;
-            lineAnimation.start();
-            return;
-        }
-
-        // 줄 삭제 체크
-        List<Integer> fullLines = gameLogic.findFullLines();
-        List<Integer> linesToAnimate = new ArrayList<>(fullLines);
-
-        // L-item 처리
-        if (isLItemBlock) {
-            LItem lItem = (LItem) currentBlock;
-            int lItemRow = lItem.getLMarkerAbsoluteRow(gameLogic.getCurrentY());
-            if (lItemRow >= 0 && !linesToAnimate.contains(lItemRow)) {
-                fillEmptyCellsInLine(lItemRow);
-                linesToAnimate.add(lItemRow);
-            }
-        }
-
-        if (!linesToAnimate.isEmpty()) {
-            Logger.info(">>> Player %d cleared lines: %s", playerNumber, linesToAnimate.toString());
-            // 2줄 이상이면 상대방에게 공격
-            if (linesToAnimate.size() >= 2) {
-                Logger.info(">>> Player %d is attacking with %d lines", playerNumber, linesToAnimate.size());
-                List<String[]> attackLines = getClearedLinesForAttack(linesToAnimate);
-                callback.onLinesCleared(playerNumber, linesToAnimate.size(), attackLines);
-            }
-
-            // 애니메이션 시작
-            pendingLinesToClear = linesToAnimate;
-            isExplosionAnimation = false;
-            lineAnimation.start();
-            return;
-        }
 
-        // 게임 오버 체크
-        if (gameLogic.isBlockAtTop()) {
-            isGameOver = true;
-            Logger.info(">>> Player " + playerNumber + " Game Over!");
-            return;
-        }
-
-        // 공격받은 줄 추가 (다음 블록 생성 전에)
-        if (!pendingAttackLines.isEmpty()) {
-            addPendingAttackLines();
-        }
-
-        // 다음 블록 생성
-        if (!gameLogic.spawnNextPiece()) {
-            isGameOver = true;
+        switch (gameLogic.stepDown()) {
+            case MOVED:
+                // 블록이 성공적으로 아래로 이동했을 때 점수 증가 (일반 모드와 동일)
+                scorePanel.addScore(1);
+                break;
+            case LOCKED:
+                handleBlockLanded(currentBlock, gameLogic.getCurrentX(), gameLogic.getCurrentY());
+                break;
+            default:
+                break; // 바닥에서 고정 대기 중
         }
     }
 
-    /**
-     * 삭제된 줄을 공격용 데이터로 변환 (현재 블록 부분 제외)
-     */
-    private List<String[]> getClearedLinesForAttack(List<Integer> lineNumbers) {
-        List<String[]> result = new ArrayList<>();
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
-
-        // 줄 번호를 정렬하여 위에서 아래 순서 보장 (작은 번호가 위, 큰 번호가 아래)
-        List<Integer> sortedLines = new ArrayList<>(lineNumbers);
-        sortedLines.sort(Integer::compareTo);
-
-        Logger.info("[Player " + playerNumber + "] Cleared lines for attack (sorted): " + sortedLines);
-
-        for (int lineNum : sortedLines) {
-            String[] line = new String[GameLogic.WIDTH];
-            for (int col = 0; col < GameLogic.WIDTH; col++) {
-                if (board[lineNum][col] == 1) {
-                    if (isCurrentBlockCell(lineNum, col)) {
-                        line[col] = null; // 현재 블록 부분은 빈 칸으로
-                    } else {
-                        line[col] = "attack-block"; // 공격용 회색 블록
-                    }
-                } else {
-                    line[col] = null;
-                }
-            }
-            result.add(line);
-        }
-
-        Logger.info(">>> Player %d cleared lines for attack: %d lines", playerNumber, result.size());
-
-        return result;
+    // 대전 모드는 낙하 점수만 사용 (줄 삭제/아이템 점수 없음)
+    @Override
+    protected LandingRules.ScoreSink getLandingScorer() {
+        return null;
     }
 
-    /**
-     * 해당 위치가 현재 블록의 일부인지 확인
-     */
-    private boolean isCurrentBlockCell(int row, int col) {
-        Block currentBlock = gameLogic.getCurrentBlock();
-        if (currentBlock == null) {
-            return false;
-        }
-
-        int currentX = gameLogic.getCurrentX();
-        int currentY = gameLogic.getCurrentY();
-
-        for (int i = 0; i < currentBlock.width(); i++) {
-            for (int j = 0; j < currentBlock.height(); j++) {
-                if (currentBlock.getShape(i, j) == 1) {
-                    if (currentY + j == row && currentX + i == col) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
+    // 게임 오버는 VersusBoard에서 isGameOver()로 확인하여 처리
+    @Override
+    protected void gameOver() {
+        Logger.info(">>> Player " + playerNumber + " Game Over!");
     }
 
     /**
-     * 공격받은 줄 수신
+     * 공격받은 줄 수신 (구멍 열이 같은 줄 lines개, 대기열은 최대 10줄이며 넘치면 오래된 줄부터 버림)
      */
-    public void receiveAttackLines(List<String[]> attackLines) {
-        // 만약 이미 대기열에 10줄 이상 있다면 공격을 받지 않고 함수 종료
-        int attackCountBefore = pendingAttackLines.size();
-        if(attackCountBefore>10){
-            return;
-        }
-
-        // 만약 공격으로 넘어온 줄 때문에 10줄이 넘어간다면
-        int attackSumCount = attackLines.size()+pendingAttackLines.size();
-        if(attackSumCount>10){
-            // 초과된 줄 수 계산
-            int exceedCount = attackSumCount - 10;
-            // 초과된 줄 수만큼 대기열에서 제거
-            for(int i=0;i<exceedCount;i++){
-                pendingAttackLines.poll();
-            }
-        }
-
-        for (String[] line : attackLines) {
-            pendingAttackLines.offer(line);
-        }
-        Logger.info("[Player " + playerNumber + "] Received " + attackLines.size() + " attack lines. Queue size: " + pendingAttackLines.size());
+    public void receiveGarbage(int lines, int holeColumn) {
+        int added = pendingGarbage.add(GarbageGenerator.rowMask(gameLogic.getWidth(), holeColumn), lines);
+        gameLogic.getEvents().publish(GameEvent.Type.ATTACK_QUEUED, 0, 0, added);
+        Logger.info("[Player " + playerNumber + "] Received " + added + " attack lines. Queue size: " + pendingGarbage.size());
     }
 
     /**
      * 대기 중인 공격 줄 개수 반환
      */
     public int getPendingAttackCount() {
-        return pendingAttackLines.size();
+        return pendingGarbage.size();
+    }
+
+    // 대기 중인 공격 줄 (공격 대기열 표시용, 수정 금지)
+    public GarbageQueue getPendingGarbage() {
+        return pendingGarbage;
     }
 
     /**
      * 대기 중인 공격 줄을 보드 하단에 추가 다음 블록 생성 전에 호출됨
+     * 보드는 한 번만 밀어올림 (GameLogic.insertAttackRows)
      */
-    private void addPendingAttackLines() {
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
-
-        int linesToAdd = pendingAttackLines.size();
-        Logger.info("[Player " + playerNumber + "] Adding " + linesToAdd + " attack lines to board");
-
-        // 기존 블록들을 위로 밀어올리기
-        for (int row = 0; row < GameLogic.HEIGHT - linesToAdd; row++) {
-            for (int col = 0; col < GameLogic.WIDTH; col++) {
-                int sourceRow = row + linesToAdd;
-                board[row][col] = board[sourceRow][col];
-                blockTypes[row][col] = blockTypes[sourceRow][col];
-            }
-        }
-
-        // 큐에서 poll한 줄들을 임시 리스트에 저장
-        List<String[]> tempLines = new ArrayList<>();
-        while (!pendingAttackLines.isEmpty()) {
-            tempLines.add(pendingAttackLines.poll());
-        }
-
-        Logger.info("[Player " + playerNumber + "] Received attack lines count: " + tempLines.size());
-
-        // 보드 하단에 추가 (tempLines[0]이 맨 위에, tempLines[n-1]이 맨 아래에)
-        // 예: tempLines = [line18, line19] -> line18이 보드 18번에, line19가 19번에
-        int startRow = GameLogic.HEIGHT - tempLines.size();
-        for (int i = 0; i < tempLines.size(); i++) {
-            int targetRow = startRow + i;
-            String[] attackLine = tempLines.get(i);
-
-            Logger.info("[Player " + playerNumber + "] Adding attack line " + i + " to row " + targetRow);
-
-            for (int col = 0; col < GameLogic.WIDTH; col++) {
-                if (attackLine[col] != null) {
-                    board[targetRow][col] = 1;
-                    blockTypes[targetRow][col] = "attack-block";
-                } else {
-                    board[targetRow][col] = 0;
-                    blockTypes[targetRow][col] = null;
-                }
-            }
-        }
-
-    }
-
     /**
      * 대기 중인 공격 줄 미리보기 그리기
      */
@@ -414,13 +185,13 @@ public class PlayerBoard extends Board {
         super.drawBoard();
 
         // 공격 줄 미리보기 (반투명 빨간색)
-        if (!pendingAttackLines.isEmpty()) {
+        if (!pendingGarbage.isEmpty()) {
             gc.setFill(Color.color(1, 0, 0, 0.3));
-            int previewLines = Math.min(3, pendingAttackLines.size());
+            int previewLines = Math.min(3, pendingGarbage.size());
 
             for (int i = 0; i < previewLines; i++) {
-                int y = (GameLogic.HEIGHT - 1 - i) * cellSize;
-                gc.fillRect(0, y, GameLogic.WIDTH * cellSize, cellSize);
+                int y = (gameLogic.getHeight() - 1 - i) * cellSize;
+                gc.fillRect(0, y, gameLogic.getWidth() * cellSize, cellSize);
             }
         }
     }
@@ -431,23 +202,29 @@ public class PlayerBoard extends Board {
         colorMap.put("attack-block", Color.GRAY);
 
         // 보드 상태 가져오기
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
-
-        // 놓여진 블록 그리기
-        for (int row = 0; row < GameLogic.HEIGHT; row++) {
-            for (int col = 0; col < GameLogic.WIDTH; col++) {
-                if (board[row][col] == 1) {
+        BoardState boardState = gameLogic.getBoardState();
+        // 셀 타입 코드로 바로 조회하는 색상 배열
+        Color[] palette = paletteFor(colorMap);
+
+        // 놓여진 블록 그리기 (가장 높은 블록 줄부터)
+        final int height = boardState.getHeight();
+        final int width = boardState.getWidth();
+        for (int row = boardState.getTopRow(); row < height; row++) {
+            int rowMask = boardState.getRow(row);
+            if (rowMask == 0) {
+                continue; // 빈 줄은 건너뜀
+            }
+            for (int col = 0; col < width; col++) {
+                if ((rowMask & (1 << col)) != 0) {
                     // 블록 색상 결정
-                    String cssClass = blockTypes[row][col];
-                    // cssClass에 해당하는 색상을 가져오고, 없으면 기본 색상 사용
-                    Color blockColor = colorMap.getOrDefault(cssClass, colorMap.get("block-default"));
+                    byte cellType = boardState.getCellType(row, col);
+                    Color blockColor = CellType.colorOf(palette, cellType);
 
                     // Attack 블록인지 확인 (회색, 대전 모드 전용)
-                    if ("attack-block".equals(cssClass)) {
+                    if (cellType == CellType.ATTACK) {
                         drawAttackCell(col * cellSize, row * cellSize, blockColor);
                     } // Sand 블록인지 확인하여 특별한 스타일로 그리기
-                    else if ("item-sand".equals(cssClass)) {
+                    else if (cellType == CellType.SAND) {
                         drawSandCell(col * cellSize, row * cellSize, blockColor);
                     } else {
                         // 일반 셀 그리기
@@ -527,13 +304,14 @@ public class PlayerBoard extends Board {
         }
 
         Block currentBlock = gameLogic.getCurrentBlock();
-        boolean isLItemBlock = currentBlock instanceof LItem;
-        boolean isBombBlock = currentBlock instanceof BombBlock;
 
         // 하드 드롭 실행 (떨어진 거리만큼 점수 추가)
         performHardDrop();
+        if (!gameLogic.isHardDropLanded()) {
+            return;
+        }
 
-        handleBlockLanded(isLItemBlock, isBombBlock);
+        handleBlockLanded(currentBlock, gameLogic.getCurrentX(), gameLogic.getCurrentY());
         drawBoard();
     }
 
@@ -541,10 +319,9 @@ public class PlayerBoard extends Board {
      * 하드 드롭 실행 - 떨어진 거리만큼 점수 추가
      */
     private void performHardDrop() {
-        boolean dropped = false;
-        while (gameLogic.moveDown()) {
-            dropped = true;
-            scorePanel.addScore(1); // 한 칸당 1점
+        int droppedRows = gameLogic.hardDrop();
+        if (droppedRows > 0) {
+            scorePanel.addScore(droppedRows); // 한 칸당 1점
         }
     }
 
@@ -571,6 +348,48 @@ public class PlayerBoard extends Board {
         return gameLogic.getDropInterval(baseDropInterval);
     }
 
+    /**
+     * 시계 기준 갱신 - 애니메이션 중에는 매 프레임, 그 외에는 논리 틱마다 중력이 정한 줄 수만큼 update()
+     * @return 실행한 자동 낙하 횟수
+     */
+    public int update(GameClock clock, long now) {
+        // 지난 프레임(키 입력 포함)에 쌓인 상태 변경 이벤트 전달
+        gameLogic.getEvents().dispatch();
+        if (isAnimationActive()) {
+            clock.skip(now);
+            update();
+            return 0;
+        }
+        int ticks = clock.advance(now);
+        int drops = 0;
+        for (int i = 0; i < ticks; i++) {
+            int rows = gameLogic.tickGravity();
+            Block falling = gameLogic.getCurrentBlock();
+            for (int row = 0; row < rows; row++) {
+                update();
+                drops++;
+                if (isAnimationActive() || isGameOver()) {
+                    // 애니메이션/게임 오버 이후로 남은 시간은 이어서 쓰지 않음
+                    clock.reset(now);
+                    return drops;
+                }
+                // 착지하면 남은 줄은 다음 블록에 넘기지 않음
+                if (gameLogic.getCurrentBlock() != falling) {
+                    break;
+                }
+            }
+            // 고정 대기 (RuleSet에 설정된 경우만)
+            if (gameLogic.getCurrentBlock() == falling && tickLockDelay()) {
+                drawBoard();
+                if (isAnimationActive() || isGameOver()) {
+                    clock.reset(now);
+                    return drops;
+                }
+            }
+        }
+        return drops;
+    }
+
     /**
      * 애니메이션 활성 상태 확인 (VersusBoard에서 매 프레임 업데이트 여부 결정)
      */
@@ -594,7 +413,8 @@ public class PlayerBoard extends Board {
      */
     public void restart() {
         gameLogic.resetGame();
-        pendingAttackLines.clear();
+        landing.clear();
+        pendingGarbage.clear();
         pendingLinesToClear.clear();
         isGameOver = false;
         isExplosionAnimation = false;
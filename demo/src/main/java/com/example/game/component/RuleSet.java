@@ -0,0 +1,213 @@
+package com.example.game.component;
+
+import com.example.settings.GameSettings;
+
+/**
+ * 게임 규칙 묶음 (불변)
+ * - GameLogic은 생성 시 RuleSet만 받으므로 설정 파일/JavaFX 없이도 생성 가능
+ * - 값 변경은 withXxx()로 새 인스턴스를 만들어 사용
+ */
+public final class RuleSet {
+
+    private static final RuleSet DEFAULTS = new RuleSet(
+        10, 20, GameSettings.Difficulty.NORMAL, false,
+        10, 5, 0.9, 0.1,
+        0, 15,
+        1, false,
+        AttackTable.standard());
+
+    // 화면에 보여줄 미리보기 수 (홀드 키가 없으므로 UI에서는 홀드 사용 안 함)
+    private static final int UI_PREVIEW_COUNT = 3;
+
+    private final int width;                   // 보드 칸 수
+    private final int height;                  // 보드 줄 수
+    private final GameSettings.Difficulty difficulty;
+    private final boolean itemModeEnabled;
+    private final int blocksPerSpeedIncrease;  // N개 블록마다 속도 증가
+    private final int linesPerSpeedIncrease;   // N줄마다 속도 증가
+    private final double speedMultiplier;      // 속도 레벨당 낙하 간격 배율
+    private final double minSpeedMultiplier;   // 낙하 간격 배율 하한
+    private final int lockDelayTicks;          // 바닥에 닿은 뒤 고정까지 논리 틱 수 (0이면 즉시 고정)
+    private final int maxLockResets;           // 이동/회전으로 고정 대기를 다시 시작할 수 있는 횟수
+    private final int previewCount;            // 미리 보여줄 다음 블록 수 (1 ~ PieceQueue.MAX_CAPACITY)
+    private final boolean holdEnabled;         // 홀드 사용 여부
+    private final AttackTable attackTable;     // 줄 삭제 종류별 공격 줄 수
+
+    public RuleSet(int width, int height, GameSettings.Difficulty difficulty, boolean itemModeEnabled,
+                   int blocksPerSpeedIncrease, int linesPerSpeedIncrease,
+                   double speedMultiplier, double minSpeedMultiplier,
+                   int lockDelayTicks, int maxLockResets,
+                   int previewCount, boolean holdEnabled,
+                   AttackTable attackTable) {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty must not be null");
+        }
+        if (attackTable == null) {
+            throw new IllegalArgumentException("Attack table must not be null");
+        }
+        if (blocksPerSpeedIncrease <= 0 || linesPerSpeedIncrease <= 0) {
+            throw new IllegalArgumentException("Speed increase intervals must be positive");
+        }
+        if (speedMultiplier <= 0 || minSpeedMultiplier <= 0) {
+            throw new IllegalArgumentException("Speed multipliers must be positive");
+        }
+        if (lockDelayTicks < 0 || maxLockResets < 0) {
+            throw new IllegalArgumentException("Lock delay settings must not be negative");
+        }
+        if (previewCount < 1 || previewCount > PieceQueue.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Preview count must be between 1 and "
+                + PieceQueue.MAX_CAPACITY + ": " + previewCount);
+        }
+        // 보드 크기 범위는 BoardState 비트보드 한계와 동일
+        if (width <= 0 || width > 31) {
+            throw new IllegalArgumentException("Board width must be between 1 and 31: " + width);
+        }
+        if (height <= 0 || height > 64) {
+            throw new IllegalArgumentException("Board height must be between 1 and 64: " + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.difficulty = difficulty;
+        this.itemModeEnabled = itemModeEnabled;
+        this.blocksPerSpeedIncrease = blocksPerSpeedIncrease;
+        this.linesPerSpeedIncrease = linesPerSpeedIncrease;
+        this.speedMultiplier = speedMultiplier;
+        this.minSpeedMultiplier = minSpeedMultiplier;
+        this.lockDelayTicks = lockDelayTicks;
+        this.maxLockResets = maxLockResets;
+        this.previewCount = previewCount;
+        this.holdEnabled = holdEnabled;
+        this.attackTable = attackTable;
+    }
+
+    // 기본 규칙 (10x20, NORMAL, 아이템 없음)
+    public static RuleSet defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 현재 설정값으로 규칙 생성 (UI에서 게임을 시작할 때 사용)
+     */
+    public static RuleSet fromSettings(GameSettings settings) {
+        return DEFAULTS
+            .withDifficulty(settings.getDifficulty())
+            .withItemMode(settings.isItemModeEnabled())
+            .withPieceQueue(UI_PREVIEW_COUNT, false);
+    }
+
+    public RuleSet withBoardSize(int width, int height) {
+        return new RuleSet(width, height, difficulty, itemModeEnabled,
+            blocksPerSpeedIncrease, linesPerSpeedIncrease, speedMultiplier, minSpeedMultiplier,
+            lockDelayTicks, maxLockResets, previewCount, holdEnabled, attackTable);
+    }
+
+    public RuleSet withDifficulty(GameSettings.Difficulty difficulty) {
+        return new RuleSet(width, height, difficulty, itemModeEnabled,
+            blocksPerSpeedIncrease, linesPerSpeedIncrease, speedMultiplier, minSpeedMultiplier,
+            lockDelayTicks, maxLockResets, previewCount, holdEnabled, attackTable);
+    }
+
+    public RuleSet withItemMode(boolean itemModeEnabled) {
+        return new RuleSet(width, height, difficulty, itemModeEnabled,
+            blocksPerSpeedIncrease, linesPerSpeedIncrease, speedMultiplier, minSpeedMultiplier,
+            lockDelayTicks, maxLockResets, previewCount, holdEnabled, attackTable);
+    }
+
+    public RuleSet withGravityCurve(int blocksPerSpeedIncrease, int linesPerSpeedIncrease,
+                                    double speedMultiplier, double minSpeedMultiplier) {
+        return new RuleSet(width, height, difficulty, itemModeEnabled,
+            blocksPerSpeedIncrease, linesPerSpeedIncrease, speedMultiplier, minSpeedMultiplier,
+            lockDelayTicks, maxLockResets, previewCount, holdEnabled, attackTable);
+    }
+
+    /**
+     * 고정 대기 설정 (리셋 횟수를 다 쓰면 더 이상 대기를 늘리지 않음, 무한 리셋 없음)
+     */
+    public RuleSet withLockDelay(int lockDelayTicks, int maxLockResets) {
+        return new RuleSet(width, height, difficulty, itemModeEnabled,
+            blocksPerSpeedIncrease, linesPerSpeedIncrease, speedMultiplier, minSpeedMultiplier,
+            lockDelayTicks, maxLockResets, previewCount, holdEnabled, attackTable);
+    }
+
+    /**
+     * 다음 블록 미리보기 수와 홀드 사용 여부
+     */
+    public RuleSet withPieceQueue(int previewCount, boolean holdEnabled) {
+        return new RuleSet(width, height, difficulty, itemModeEnabled,
+            blocksPerSpeedIncrease, linesPerSpeedIncrease, speedMultiplier, minSpeedMultiplier,
+            lockDelayTicks, maxLockResets, previewCount, holdEnabled, attackTable);
+    }
+
+    /**
+     * 대전 공격 줄 수 표 (T-spin / 콤보 / B2B)
+     */
+    public RuleSet withAttackTable(AttackTable attackTable) {
+        return new RuleSet(width, height, difficulty, itemModeEnabled,
+            blocksPerSpeedIncrease, linesPerSpeedIncrease, speedMultiplier, minSpeedMultiplier,
+            lockDelayTicks, maxLockResets, previewCount, holdEnabled, attackTable);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public GameSettings.Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public boolean isItemModeEnabled() {
+        return itemModeEnabled;
+    }
+
+    public int getBlocksPerSpeedIncrease() {
+        return blocksPerSpeedIncrease;
+    }
+
+    public int getLinesPerSpeedIncrease() {
+        return linesPerSpeedIncrease;
+    }
+
+    public double getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    public double getMinSpeedMultiplier() {
+        return minSpeedMultiplier;
+    }
+
+    public int getLockDelayTicks() {
+        return lockDelayTicks;
+    }
+
+    public int getMaxLockResets() {
+        return maxLockResets;
+    }
+
+    public boolean hasLockDelay() {
+        return lockDelayTicks > 0;
+    }
+
+    public int getPreviewCount() {
+        return previewCount;
+    }
+
+    public boolean isHoldEnabled() {
+        return holdEnabled;
+    }
+
+    public AttackTable getAttackTable() {
+        return attackTable;
+    }
+
+    /**
+     * 속도 레벨에 해당하는 낙하 간격 배율
+     */
+    public double speedMultiplierForLevel(int speedLevel) {
+        double multiplier = Math.pow(speedMultiplier, speedLevel - 1);
+        return Math.max(multiplier, minSpeedMultiplier);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.game.component;
+
+import com.example.settings.GameSettings.Difficulty;
+
+/**
+ * 점수/레벨 계산 (JavaFX 없음, ScorePanel과 GameSimulator 공용)
+ * - 줄 삭제 점수표 100/300/500/800 x 레벨, 10줄마다 레벨 증가
+ * - 난이도 배율 EASY 0.9 / HARD 1.1 (줄 삭제/아이템 점수에만 적용, 낙하 점수는 그대로)
+ */
+public class ScoreKeeper implements LandingRules.ScoreSink {
+
+    private static final double EASY_DIFFICULTY_MULTIPLIER = 0.9;
+    private static final double HARD_DIFFICULTY_MULTIPLIER = 1.1;
+
+    private Difficulty difficulty;
+    private int score = 0; // 현재 점수
+    private int level = 1; // 현재 레벨
+    private int linesCleared = 0; // 삭제된 라인 수
+
+    public ScoreKeeper(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public void setDifficulty(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public void addScore(int points) {
+        score += points;
+    }
+
+    // 난이도 배율이 적용된 점수 추가 (줄 삭제 시 사용)
+    @Override
+    public void addScoreWithDifficulty(int points) {
+        score += applyDifficulty(points, difficulty);
+    }
+
+    // 한 번에 지운 라인 수에 따른 점수 계산 (레벨 배율과 난이도 배율 적용)
+    @Override
+    public void calculateLineScore(int linesCount) {
+        addScoreWithDifficulty(lineScore(linesCount) * level);
+        addLines(linesCount);
+    }
+
+    public void addLines(int lines) {
+        linesCleared += lines;
+        level = (linesCleared / 10) + 1;
+    }
+
+    // 온라인 대전용: 상대방 점수 직접 설정
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    // 점수, 레벨, 라인 수 초기화
+    public void reset() {
+        score = 0;
+        level = 1;
+        linesCleared = 0;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    // 한 번에 지운 줄 수별 기본 점수 (레벨 배율 적용 전)
+    public static int lineScore(int linesCount) {
+        switch (linesCount) {
+            case 1:
+                return 100;
+            case 2:
+                return 300;
+            case 3:
+                return 500;
+            case 4:
+                return 800;
+            default:
+                return 0;
+        }
+    }
+
+    // 난이도 배율 적용
+    public static int applyDifficulty(int points, Difficulty difficulty) {
+        if (difficulty == Difficulty.EASY) {
+            return (int) (points * EASY_DIFFICULTY_MULTIPLIER);
+        } else if (difficulty == Difficulty.HARD) {
+            return (int) (points * HARD_DIFFICULTY_MULTIPLIER);
+        }
+        return points;
+    }
+}
@@ -1,13 +1,15 @@
 package com.example.game.component;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import com.example.game.blocks.Block;
+import com.example.game.blocks.PieceKind;
 import com.example.game.items.LItem;
 import com.example.game.items.BombBlock;
 import com.example.settings.GameSettings;
-import com.example.settings.GameSettings.Difficulty;
 
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.layout.VBox;
@@ -15,8 +17,10 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
 
-public class ScorePanel {
+public class ScorePanel implements LandingRules.ScoreSink {
     // 동적 크기 (화면 크기에 따라 조정됨)
     private int nextBlockCanvasSize;
     private int cellSize;
@@ -26,13 +30,19 @@ public class ScorePanel {
     private Text scoreText; // 점수 텍스트
     private Canvas nextBlockCanvas = new Canvas(100, 100); // 다음 블록 미리보기 캔버스
     private GraphicsContext nextBlockGc; // 다음 블록 그래픽 컨텍스트
+    private Canvas queueCanvas = new Canvas(100, 0); // 두 번째 이후 미리보기 캔버스 (작게 표시)
+    private GraphicsContext queueGc;
 
-    private int score = 0; // 현재 점수
-    private int level = 1; // 현재 레벨
-    private int linesCleared = 0; // 삭제된 라인 수
+    // 뒤쪽 미리보기 크기 비율
+    private static final double QUEUE_SCALE = 0.6;
 
-    private static final double HARD_DIFFICULTY_MULTIPLIER = 1.1;
-    private static final double EASY_DIFFICULTY_MULTIPLIER = 0.9;
+    // 일반 블록 이미지 캐시 [종류 * 4 + 방향] (색상이나 칸 크기가 바뀌면 다시 생성)
+    private final Image[] spriteCache = new Image[PieceKind.COUNT * 4];
+    private final Color[] spriteColors = new Color[PieceKind.COUNT * 4];
+    private int spriteCellSize;
+
+    // 점수/레벨/라인 수 (점수표와 난이도 배율은 ScoreKeeper에서 계산)
+    private final ScoreKeeper scoreKeeper = new ScoreKeeper(GameSettings.getInstance().getDifficulty());
 
     private Text speedText; // 속도 표시 추가
     private String customControls; // 커스텀 조작키 설명
@@ -86,6 +96,7 @@ public class ScorePanel {
             nextBlockCanvas = new Canvas(nextBlockCanvasSize, nextBlockCanvasSize);
             nextBlockCanvas.getStyleClass().add("next-block-canvas");
             nextBlockGc = nextBlockCanvas.getGraphicsContext2D();
+            queueCanvas.setWidth(nextBlockCanvasSize);
 
             // 패널에서 "Next Block:" 텍스트 다음에 새 캔버스 추가
             int insertIndex = 2; // "TETRIS", "Next Block:" 다음
@@ -123,6 +134,8 @@ public class ScorePanel {
         nextBlockCanvas = new Canvas(nextBlockCanvasSize, nextBlockCanvasSize);
         nextBlockCanvas.getStyleClass().add("next-block-canvas");
         nextBlockGc = nextBlockCanvas.getGraphicsContext2D();
+        queueCanvas = new Canvas(nextBlockCanvasSize, 0);
+        queueGc = queueCanvas.getGraphicsContext2D();
 
         // 초기화
         clearNextBlockCanvas();
@@ -148,12 +161,97 @@ public class ScorePanel {
                 titleText,
                 nextBlockTitle,
                 nextBlockCanvas,
+                queueCanvas,
                 scoreText,
                 speedText, // 속도 표시 추가
                 controlsTitle,
                 controls);
     }
 
+    /**
+     * 다음 블록 대기열 표시 (맨 앞은 큰 캔버스, 나머지는 아래에 작게)
+     * 일반 블록은 캐시된 이미지를 한 번에 그림
+     */
+    public void updatePieceQueue(PieceQueue queue) {
+        if (queue == null) {
+            updateNextBlock(null);
+            return;
+        }
+        updateNextBlock(queue.peek(0));
+
+        // 뒤쪽 미리보기 칸 높이: 가장 높은 모양(2칸) + 여백
+        double slotHeight = Math.ceil(cellSize * QUEUE_SCALE * 3);
+        double height = slotHeight * (queue.capacity() - 1);
+        if (queueCanvas.getHeight() != height) {
+            queueCanvas.setHeight(height);
+        }
+        if (height == 0) {
+            return;
+        }
+        queueGc.setFill(Color.web("#0f1419"));
+        queueGc.fillRect(0, 0, queueCanvas.getWidth(), height);
+
+        Map<String, Color> colorMap = GameSettings.getInstance().getCurrentColors();
+        double scaledCell = cellSize * QUEUE_SCALE;
+        for (int i = 1; i < queue.size(); i++) {
+            Block block = queue.peek(i);
+            if (block == null) {
+                continue;
+            }
+            double w = block.width() * scaledCell;
+            double h = block.height() * scaledCell;
+            double drawX = (queueCanvas.getWidth() - w) / 2.0;
+            double drawY = slotHeight * (i - 1) + (slotHeight - h) / 2.0;
+            Image sprite = spriteFor(block, colorMap);
+            if (sprite != null) {
+                queueGc.drawImage(sprite, drawX, drawY, w, h);
+            } else {
+                Color color = colorMap.get(block.getCssClass());
+                for (int col = 0; col < block.width(); col++) {
+                    for (int row = 0; row < block.height(); row++) {
+                        if (block.getShape(col, row) == 1) {
+                            queueGc.setFill(color);
+                            queueGc.fillRect(drawX + col * scaledCell + 1, drawY + row * scaledCell + 1,
+                                scaledCell - 2, scaledCell - 2);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // 일반 블록 이미지 (캐시, FX 스레드가 아니거나 아이템 블록이면 null)
+    private Image spriteFor(Block block, Map<String, Color> colorMap) {
+        PieceKind kind = block.getPieceKind();
+        if (kind == null || !Platform.isFxApplicationThread()) {
+            return null;
+        }
+        if (spriteCellSize != cellSize) {
+            Arrays.fill(spriteCache, null);
+            spriteCellSize = cellSize;
+        }
+        int index = kind.ordinal() * 4 + block.getOrientation();
+        Color color = colorMap.get(block.getCssClass());
+        if (spriteCache[index] != null && spriteColors[index] != null && spriteColors[index].equals(color)) {
+            return spriteCache[index];
+        }
+
+        Canvas spriteCanvas = new Canvas(block.width() * cellSize, block.height() * cellSize);
+        GraphicsContext spriteGc = spriteCanvas.getGraphicsContext2D();
+        for (int col = 0; col < block.width(); col++) {
+            for (int row = 0; row < block.height(); row++) {
+                if (block.getShape(col, row) == 1) {
+                    drawNextBlockCell(spriteGc, col * cellSize, row * cellSize, color);
+                }
+            }
+        }
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        spriteCache[index] = spriteCanvas.snapshot(params, null);
+        spriteColors[index] = color;
+        return spriteCache[index];
+    }
+
     // 다음 블록 업데이트
     public void updateNextBlock(Block nextBlock) {
         if (nextBlock == null) {
@@ -172,6 +270,13 @@ public class ScorePanel {
         double centerX = (nextBlockCanvasSize - nextBlock.width() * cellSize) / 2.0;
         double centerY = (nextBlockCanvasSize - nextBlock.height() * cellSize) / 2.0;
 
+        // 일반 블록은 캐시된 이미지 사용
+        Image sprite = spriteFor(nextBlock, colorMap);
+        if (sprite != null) {
+            nextBlockGc.drawImage(sprite, centerX, centerY);
+            return;
+        }
+
         // LItem인지 확인
         boolean isLItem = nextBlock instanceof LItem;
         LItem lItem = isLItem ? (LItem) nextBlock : null;
@@ -209,7 +314,7 @@ public class ScorePanel {
                         drawSandNextBlockCell(drawX, drawY, sandColor);
                     } else {
                         // 일반 셀 그리기
-                        drawNextBlockCell(drawX, drawY, blockColor);
+                        drawNextBlockCell(nextBlockGc, drawX, drawY, blockColor);
                     }
                 }
             }
@@ -228,20 +333,20 @@ public class ScorePanel {
     }
 
     // 다음 블록 그리기
-    private void drawNextBlockCell(double x, double y, Color color) {
+    private void drawNextBlockCell(GraphicsContext g, double x, double y, Color color) {
         // Main cell
-        nextBlockGc.setFill(color);
-        nextBlockGc.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
+        g.setFill(color);
+        g.fillRect(x + 1, y + 1, cellSize - 2, cellSize - 2);
 
         // Highlight effect (smaller for next block)
-        nextBlockGc.setFill(color.brighter());
-        nextBlockGc.fillRect(x + 2, y + 2, cellSize - 4, 2);
-        nextBlockGc.fillRect(x + 2, y + 2, 2, cellSize - 4);
+        g.setFill(color.brighter());
+        g.fillRect(x + 2, y + 2, cellSize - 4, 2);
+        g.fillRect(x + 2, y + 2, 2, cellSize - 4);
 
         // Shadow effect (smaller for next block)
-        nextBlockGc.setFill(color.darker());
-        nextBlockGc.fillRect(x + 2, y + cellSize - 4, cellSize - 4, 2);
-        nextBlockGc.fillRect(x + cellSize - 4, y + 2, 2, cellSize - 4);
+        g.setFill(color.darker());
+        g.fillRect(x + 2, y + cellSize - 4, cellSize - 4, 2);
+        g.fillRect(x + cellSize - 4, y + 2, 2, cellSize - 4);
     }
 
     // L 마커 다음 블록 셀 그리기
@@ -345,49 +450,35 @@ public class ScorePanel {
 
     // 점수, 레벨, 라인 수 업데이트 메서드
     public void addScore(int points) {
-        score += points;
+        scoreKeeper.addScore(points);
         updateScoreDisplay();
     }
     
     // 난이도 배율이 적용된 점수 추가 (줄 삭제 시 사용)
+    @Override
     public void addScoreWithDifficulty(int points) {
-        Difficulty difficulty = GameSettings.getInstance().getDifficulty();
-        if (difficulty == Difficulty.EASY) {
-            points = (int) (points * EASY_DIFFICULTY_MULTIPLIER);
-        } else if (difficulty == Difficulty.HARD) {
-            points = (int) (points * HARD_DIFFICULTY_MULTIPLIER);
-        }
-        score += points;
+        scoreKeeper.setDifficulty(GameSettings.getInstance().getDifficulty());
+        scoreKeeper.addScoreWithDifficulty(points);
         updateScoreDisplay();
     }
 
     public void addLines(int lines) {
-        linesCleared += lines;
-        updateLevel();
-    }
-
-    private void updateLevel() {
-        int newLevel = (linesCleared / 10) + 1;
-        if (newLevel != level) {
-            level = newLevel;
-        }
+        scoreKeeper.addLines(lines);
     }
 
     private void updateScoreDisplay() {
-        scoreText.setText("Score: " + score);
+        scoreText.setText("Score: " + scoreKeeper.getScore());
     }
     
     // 온라인 대전용: 상대방 점수 직접 설정
     public void setScore(int score) {
-        this.score = score;
+        scoreKeeper.setScore(score);
         updateScoreDisplay();
     }
 
     // 점수, 레벨, 라인 수 초기화
     public void resetScore() {
-        score = 0;
-        level = 1;
-        linesCleared = 0;
+        scoreKeeper.reset();
         updateScoreDisplay();
     }
 
@@ -397,42 +488,27 @@ public class ScorePanel {
     }
 
     public int getScore() {
-        return score;
+        return scoreKeeper.getScore();
     }
 
     public int getLevel() {
-        return level;
+        return scoreKeeper.getLevel();
     }
 
     public int getLinesCleared() {
-        return linesCleared;
+        return scoreKeeper.getLinesCleared();
     }
 
     public Canvas getNextBlockCanvas() {
         return nextBlockCanvas;
     }
 
-    // 한 번에 지운 라인 수에 따른 점수 계산
+    // 한 번에 지운 라인 수에 따른 점수 계산 (레벨 배율과 난이도 배율 적용)
+    @Override
     public void calculateLineScore(int linesCount) {
-        int baseScore = 0;
-        switch (linesCount) {
-            case 1:
-                baseScore = 100;
-                break;
-            case 2:
-                baseScore = 300;
-                break;
-            case 3:
-                baseScore = 500;
-                break;
-            case 4:
-                baseScore = 800;
-                break;
-        }
-
-        // 레벨에 따른 점수 배율 적용하고 난이도 배율도 적용
-        addScoreWithDifficulty(baseScore * level);
-        addLines(linesCount);
+        scoreKeeper.setDifficulty(GameSettings.getInstance().getDifficulty());
+        scoreKeeper.calculateLineScore(linesCount);
+        updateScoreDisplay();
     }
 
     // 리소스 정리
@@ -0,0 +1,96 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.RotationTable;
+
+/**
+ * T-spin 판정 (3-corner 규칙)
+ * - T 블록 중심의 대각선 네 칸 중 세 칸 이상이 막혀 있으면 T-spin (벽/바닥도 막힌 칸)
+ * - 튀어나온 쪽(앞) 두 칸이 모두 막혀 있으면 FULL, 아니면 MINI
+ * - 마지막 벽 차기 시도(SRS 5번째)로 들어간 경우는 앞 칸과 관계없이 FULL
+ * - 방향별 중심/앞 모서리 위치는 회전 테이블에서 한 번만 계산
+ */
+final class SpinDetector {
+
+    // 모서리 순서: 왼쪽 위, 오른쪽 위, 왼쪽 아래, 오른쪽 아래
+    private static final int[] CORNER_ROW = {-1, -1, 1, 1};
+    private static final int[] CORNER_COL = {-1, 1, -1, 1};
+
+    private static final int[] CENTER_ROW = new int[RotationTable.ORIENTATIONS];
+    private static final int[] CENTER_COL = new int[RotationTable.ORIENTATIONS];
+    private static final int[] FRONT_CORNERS = new int[RotationTable.ORIENTATIONS]; // 모서리 비트마스크
+
+    private static final int FULL_KICK_TEST = 4;
+
+    static {
+        RotationTable table = PieceKind.T.table();
+        int cellCount = table.cellCount();
+        for (int o = 0; o < RotationTable.ORIENTATIONS; o++) {
+            // 중심 = 이웃 칸이 셋인 칸, 앞쪽 = 비어 있는 이웃의 반대 방향
+            for (int i = 0; i < cellCount; i++) {
+                int row = table.cellRow(o, i);
+                int col = table.cellCol(o, i);
+                int up = table.cellIndexAt(o, row - 1, col) >= 0 ? 1 : 0;
+                int down = table.cellIndexAt(o, row + 1, col) >= 0 ? 1 : 0;
+                int left = table.cellIndexAt(o, row, col - 1) >= 0 ? 1 : 0;
+                int right = table.cellIndexAt(o, row, col + 1) >= 0 ? 1 : 0;
+                if (up + down + left + right != 3) {
+                    continue;
+                }
+                CENTER_ROW[o] = row;
+                CENTER_COL[o] = col;
+                int frontRow = down - up;  // 앞쪽 방향 (-1 = 위, 1 = 아래)
+                int frontCol = right - left;
+                int front = 0;
+                for (int c = 0; c < 4; c++) {
+                    if ((frontRow != 0 && CORNER_ROW[c] == frontRow)
+                            || (frontCol != 0 && CORNER_COL[c] == frontCol)) {
+                        front |= 1 << c;
+                    }
+                }
+                FRONT_CORNERS[o] = front;
+            }
+        }
+    }
+
+    private SpinDetector() {
+    }
+
+    /**
+     * 고정 직전 위치의 T-spin 종류
+     * @param rotatedLast 마지막 성공한 조작이 회전인지
+     * @param kickTest 마지막 회전에 사용한 벽 차기 시도 번호
+     */
+    static LineClear.Spin detect(BoardState board, Block block, int x, int y,
+                                 boolean rotatedLast, int kickTest) {
+        if (!rotatedLast || block == null || block.getPieceKind() != PieceKind.T) {
+            return LineClear.Spin.NONE;
+        }
+        int orientation = block.getOrientation() & 3;
+        int centerRow = y + CENTER_ROW[orientation];
+        int centerCol = x + CENTER_COL[orientation];
+        int blocked = 0;
+        for (int c = 0; c < 4; c++) {
+            if (isBlocked(board, centerRow + CORNER_ROW[c], centerCol + CORNER_COL[c])) {
+                blocked |= 1 << c;
+            }
+        }
+        if (Integer.bitCount(blocked) < 3) {
+            return LineClear.Spin.NONE;
+        }
+        int front = FRONT_CORNERS[orientation];
+        if ((blocked & front) == front || kickTest == FULL_KICK_TEST) {
+            return LineClear.Spin.FULL;
+        }
+        return LineClear.Spin.MINI;
+    }
+
+    // 보드 밖(벽/바닥)은 막힌 칸, 천장 위는 빈 칸
+    private static boolean isBlocked(BoardState board, int row, int col) {
+        if (col < 0 || col >= board.getWidth() || row >= board.getHeight()) {
+            return true;
+        }
+        return row >= 0 && board.isOccupied(row, col);
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.game.component;
 
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Queue;
 
 import com.example.Router;
@@ -60,8 +59,8 @@ public class VersusAIBoard {
     // 게임 상태
     private boolean gameActive = true;
     private AnimationTimer gameLoop;
-    private long lastUpdate1 = 0;
-    private long lastUpdate2 = 0;
+    private final GameClock dropClock1 = new GameClock();
+    private final GameClock dropClock2 = new GameClock();
     private boolean isPaused = false;
     
     // 시간제한 모드용
@@ -75,12 +74,12 @@ public class VersusAIBoard {
     
     // 공격 데이터 클래스
     private static class AttackData {
-        List<String[]> lines;
-        int count;
+        int count;       // 공격 줄 수
+        int holeColumn;  // 공격 줄의 구멍 열
         
-        AttackData(List<String[]> lines, int count) {
-            this.lines = lines;
+        AttackData(int count, int holeColumn) {
             this.count = count;
+            this.holeColumn = holeColumn;
         }
     }
     
@@ -166,7 +165,7 @@ public class VersusAIBoard {
             // Player용 조작키 설정 (방향키 + Space)
             player1ScorePanel = new ScorePanel("↑ Rotate\n← → Move\n↓ Drop\nSPACE Pause");
             player1Board.scorePanel = player1ScorePanel;
-            player1AttackDisplay = new AttackQueueDisplay("Player 1");
+            player1AttackDisplay = new AttackQueueDisplay("Player 1", player1Board.getGameLogic().getWidth());
             
             VBox rightPanel = new VBox(15);
             rightPanel.setAlignment(Pos.TOP_CENTER);
@@ -188,7 +187,7 @@ public class VersusAIBoard {
             // AI용 조작키 설정 (AI는 조작키 없음)
             player2ScorePanel = new ScorePanel("AI\nControlled");
             player2Board.scorePanel = player2ScorePanel;
-            player2AttackDisplay = new AttackQueueDisplay("Player 2");
+            player2AttackDisplay = new AttackQueueDisplay("Player 2", player2Board.getGameLogic().getWidth());
             
             // AI 플레이어 생성
             aiPlayer = new AIPlayer(player2Board);
@@ -352,35 +351,26 @@ public class VersusAIBoard {
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                if (!gameActive || isPaused) return;
+                if (!gameActive || isPaused) {
+                    // 멈춘 동안의 시간은 낙하에 반영하지 않음
+                    dropClock1.skip(now);
+                    dropClock2.skip(now);
+                    return;
+                }
                 
                 // 시간제한 모드 타이머 업데이트
                 if (gameMode == VersusGameModeDialog.VersusMode.TIME_LIMIT) {
                     updateTimer();
                 }
                 
-                // 플레이어 1 업데이트
-                if (player1Board.isAnimationActive()) {
-                    // 애니메이션 중에는 매 프레임 업데이트 (부드러운 애니메이션)
-                    player1Board.update();
-                } else if (now - lastUpdate1 >= player1Board.getDropInterval()) {
-                    // 일반 상태에서는 dropInterval에 따라 업데이트
-                    player1Board.update();
-                    lastUpdate1 = now;
-                }
+                // 플레이어 1 업데이트 (애니메이션 중에는 매 프레임, 그 외에는 고정 낙하 간격)
+                player1Board.update(dropClock1, now);
                 
                 // AI 업데이트
                 aiPlayer.update();
                 
                 // 플레이어 2 (AI) 업데이트
-                if (player2Board.isAnimationActive()) {
-                    // 애니메이션 중에는 매 프레임 업데이트 (부드러운 애니메이션)
-                    player2Board.update();
-                } else if (now - lastUpdate2 >= player2Board.getDropInterval()) {
-                    // 일반 상태에서는 dropInterval에 따라 업데이트
-                    player2Board.update();
-                    lastUpdate2 = now;
-                }
+                player2Board.update(dropClock2, now);
                 
                 // 공격 처리
                 processAttacks();
@@ -393,8 +383,9 @@ public class VersusAIBoard {
             }
         };
         
-        lastUpdate1 = System.nanoTime();
-        lastUpdate2 = System.nanoTime();
+        long start = System.nanoTime();
+        dropClock1.reset(start);
+        dropClock2.reset(start);
         gameLoop.start();
     }
     
@@ -431,12 +422,12 @@ public class VersusAIBoard {
     private void processAttacks() {
         if (!player1AttackQueue.isEmpty()) {
             AttackData attack = player1AttackQueue.poll();
-            player1Board.receiveAttackLines(attack.lines);
+            player1Board.receiveGarbage(attack.count, attack.holeColumn);
         }
         
         if (!player2AttackQueue.isEmpty()) {
             AttackData attack = player2AttackQueue.poll();
-            player2Board.receiveAttackLines(attack.lines);
+            player2Board.receiveGarbage(attack.count, attack.holeColumn);
         }
     }
     
@@ -523,16 +514,16 @@ public class VersusAIBoard {
     /**
      * 라인 클리어 콜백
      */
-    private void onLinesCleared(int playerNumber, int linesCleared, List<String[]> clearedLines) {
-        if (linesCleared < 2) return;
+    private void onLinesCleared(int playerNumber, int linesCleared, int holeColumn) {
+        if (linesCleared <= 0) return;
         
-        AttackData attack = new AttackData(clearedLines, linesCleared);
+        AttackData attack = new AttackData(linesCleared, holeColumn);
         if (playerNumber == 1) {
             player2AttackQueue.offer(attack);
-            player2AttackDisplay.addAttackLines(clearedLines);
+            player2AttackDisplay.addGarbage(linesCleared, holeColumn);
         } else {
             player1AttackQueue.offer(attack);
-            player1AttackDisplay.addAttackLines(clearedLines);
+            player1AttackDisplay.addGarbage(linesCleared, holeColumn);
         }
     }
     
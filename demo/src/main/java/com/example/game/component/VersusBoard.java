@@ -1,7 +1,6 @@
 package com.example.game.component;
 
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Queue;
 
 import com.example.Router;
@@ -56,8 +55,8 @@ public class VersusBoard {
     // 게임 상태
     private boolean gameActive = true;
     private AnimationTimer gameLoop;
-    private long lastUpdate1 = 0;
-    private long lastUpdate2 = 0;
+    private final GameClock dropClock1 = new GameClock();
+    private final GameClock dropClock2 = new GameClock();
     private boolean isPaused = false;
 
     // 시간제한 모드용
@@ -72,12 +71,12 @@ public class VersusBoard {
     // 공격 데이터 클래스
     private static class AttackData {
 
-        List<String[]> lines;
-        int count;
+        int count;       // 공격 줄 수
+        int holeColumn;  // 공격 줄의 구멍 열
 
-        AttackData(List<String[]> lines, int count) {
-            this.lines = lines;
+        AttackData(int count, int holeColumn) {
             this.count = count;
+            this.holeColumn = holeColumn;
         }
     }
 
@@ -171,7 +170,7 @@ public class VersusBoard {
             // Player 1용 조작키 설정 (WASD + Spacebar)
             player1ScorePanel = new ScorePanel("W Rotate\nA D Move\nS Drop\nSPACE Pause");
             player1Board.scorePanel = player1ScorePanel;
-            player1AttackDisplay = new AttackQueueDisplay("Player 1");
+            player1AttackDisplay = new AttackQueueDisplay("Player 1", player1Board.getGameLogic().getWidth());
 
             // 레이아웃: 중앙: 캔버스, 오른쪽: 점수판 + 공격표시
             VBox rightPanel = new VBox(10);
@@ -196,7 +195,7 @@ public class VersusBoard {
             // Player 2용 조작키 설정 (방향키 + Enter)
             player2ScorePanel = new ScorePanel("↑ Rotate\n← → Move\n↓ Drop\nENTER Pause");
             player2Board.scorePanel = player2ScorePanel;
-            player2AttackDisplay = new AttackQueueDisplay("Player 2");
+            player2AttackDisplay = new AttackQueueDisplay("Player 2", player2Board.getGameLogic().getWidth());
 
             // 레이아웃: 왼쪽: 점수판 + 공격표시, 중앙: 캔버스
             VBox leftPanel = new VBox(10);
@@ -400,6 +399,9 @@ public class VersusBoard {
             @Override
             public void handle(long now) {
                 if (!gameActive || isPaused) {
+                    // 멈춘 동안의 시간은 낙하에 반영하지 않음
+                    dropClock1.skip(now);
+                    dropClock2.skip(now);
                     return;
                 }
 
@@ -408,25 +410,11 @@ public class VersusBoard {
                     updateTimer();
                 }
 
-                // 플레이어 1 업데이트
-                if (player1Board.isAnimationActive()) {
-                    // 애니메이션 중에는 매 프레임 업데이트 (부드러운 애니메이션)
-                    player1Board.update();
-                } else if (now - lastUpdate1 >= player1Board.getDropInterval()) {
-                    // 일반 상태에서는 dropInterval에 따라 업데이트
-                    player1Board.update();
-                    lastUpdate1 = now;
-                }
+                // 플레이어 1 업데이트 (애니메이션 중에는 매 프레임, 그 외에는 고정 낙하 간격)
+                player1Board.update(dropClock1, now);
 
                 // 플레이어 2 업데이트
-                if (player2Board.isAnimationActive()) {
-                    // 애니메이션 중에는 매 프레임 업데이트 (부드러운 애니메이션)
-                    player2Board.update();
-                } else if (now - lastUpdate2 >= player2Board.getDropInterval()) {
-                    // 일반 상태에서는 dropInterval에 따라 업데이트
-                    player2Board.update();
-                    lastUpdate2 = now;
-                }
+                player2Board.update(dropClock2, now);
 
                 // 공격 처리
                 processAttacks();
@@ -439,8 +427,9 @@ public class VersusBoard {
             }
         };
 
-        lastUpdate1 = System.nanoTime();
-        lastUpdate2 = System.nanoTime();
+        long start = System.nanoTime();
+        dropClock1.reset(start);
+        dropClock2.reset(start);
         gameLoop.start();
     }
 
@@ -481,14 +470,14 @@ public class VersusBoard {
         // Player 1에게 들어온 공격 처리
         if (!player1AttackQueue.isEmpty()) {
             AttackData attack = player1AttackQueue.poll();
-            player1Board.receiveAttackLines(attack.lines);
+            player1Board.receiveGarbage(attack.count, attack.holeColumn);
             Logger.info("Player 1 received " + attack.count + " attack lines");
         }
 
         // Player 2에게 들어온 공격 처리
         if (!player2AttackQueue.isEmpty()) {
             AttackData attack = player2AttackQueue.poll();
-            player2Board.receiveAttackLines(attack.lines);
+            player2Board.receiveGarbage(attack.count, attack.holeColumn);
             Logger.info("Player 2 received " + attack.count + " attack lines");
         }
     }
@@ -581,21 +570,21 @@ public class VersusBoard {
     /**
      * 라인 클리어 콜백 (공격 시스템)
      */
-    private void onLinesCleared(int playerNumber, int linesCleared, List<String[]> clearedLines) {
-        if (linesCleared < 2) {
+    private void onLinesCleared(int playerNumber, int linesCleared, int holeColumn) {
+        if (linesCleared <= 0) {
             return;
         }
 
-        AttackData attack = new AttackData(clearedLines, linesCleared);
+        AttackData attack = new AttackData(linesCleared, holeColumn);
         if (playerNumber == 1) {
             // Player 1이 공격 → Player 2가 받음
             player2AttackQueue.offer(attack);
-            player2AttackDisplay.addAttackLines(clearedLines);
+            player2AttackDisplay.addGarbage(linesCleared, holeColumn);
             Logger.info("Player 1 sent " + linesCleared + " attack lines to Player 2");
         } else {
             // Player 2가 공격 → Player 1이 받음
             player1AttackQueue.offer(attack);
-            player1AttackDisplay.addAttackLines(clearedLines);
+            player1AttackDisplay.addGarbage(linesCleared, holeColumn);
             Logger.info("Player 2 sent " + linesCleared + " attack lines to Player 1");
         }
     }
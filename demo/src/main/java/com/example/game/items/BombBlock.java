@@ -2,6 +2,8 @@ package com.example.game.items;
 
 import java.util.Random;
 import com.example.game.blocks.Block;
+import com.example.game.component.BoardState;
+import com.example.utils.Logger;
 
 /**
  * Bomb 아이템 - 일반 블록의 랜덤한 위치에 B 마커를 추가
@@ -10,15 +12,14 @@ import com.example.game.blocks.Block;
 public class BombBlock extends Block {
     
     private Block baseBlock; // 기본 블록
-    private int bRow; // B 마커의 행 위치 (블록 내부)
-    private int bCol; // B 마커의 열 위치 (블록 내부)
+    private int markerIndex; // B 마커의 셀 인덱스 (회전 테이블 기준, 모든 방향에서 동일)
     
     public BombBlock(Block baseBlock) {
         super();
         this.baseBlock = baseBlock;
         
-        // 기본 블록의 shape 복사
-        copyShapeFromBase();
+        // 기본 블록의 회전 테이블 공유
+        setRotationTable(baseBlock.getRotationTable(), baseBlock.getOrientation());
         
         this.cssClass = baseBlock.getCssClass(); // 기본 블록의 CSS 클래스 사용
         
@@ -26,47 +27,17 @@ public class BombBlock extends Block {
         selectRandomBPosition();
     }
     
-    /**
-     * 기본 블록의 shape를 복사
-     */
-    private void copyShapeFromBase() {
-        int height = baseBlock.height();
-        int width = baseBlock.width();
-        
-        shape = new int[height][width];
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                shape[i][j] = baseBlock.getShape(j, i);
-            }
-        }
-    }
-    
     /**
      * 블록의 랜덤한 1x1 위치를 B 마커로 선택
      */
     private void selectRandomBPosition() {
         Random random = new Random();
         
-        // shape에서 1인 위치들 찾기
-        int[][] validPositions = new int[shape.length * shape[0].length][2];
-        int count = 0;
-        
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] == 1) {
-                    validPositions[count][0] = row;
-                    validPositions[count][1] = col;
-                    count++;
-                }
-            }
-        }
-        
-        // 랜덤하게 하나 선택
+        // 회전 테이블의 셀 중 하나를 랜덤하게 선택
+        int count = getRotationTable().cellCount();
         if (count > 0) {
-            int randomIndex = random.nextInt(count);
-            bRow = validPositions[randomIndex][0];
-            bCol = validPositions[randomIndex][1];
-            System.out.println(">>> BombBlock: B marker at (" + bRow + ", " + bCol + ") in block");
+            markerIndex = random.nextInt(count);
+            Logger.debug(">>> BombBlock: B marker at (%d, %d) in block", getBRow(), getBCol());
         }
     }
     
@@ -74,18 +45,18 @@ public class BombBlock extends Block {
      * B 마커가 있는지 확인
      */
     public boolean hasBMarker(int row, int col) {
-        return row == bRow && col == bCol;
+        return row == getBRow() && col == getBCol();
     }
     
     /**
      * B 마커의 절대 좌표 반환 (보드 기준)
      */
     public int getBMarkerAbsoluteRow(int blockY) {
-        return blockY + bRow;
+        return blockY + getBRow();
     }
     
     public int getBMarkerAbsoluteCol(int blockX) {
-        return blockX + bCol;
+        return blockX + getBCol();
     }
     
     /**
@@ -100,7 +71,7 @@ public class BombBlock extends Block {
         int bombRow = getBMarkerAbsoluteRow(blockY);
         int bombCol = getBMarkerAbsoluteCol(blockX);
         
-        System.out.println(">>> BombBlock: Getting explosion cells at (" + bombCol + ", " + bombRow + ")");
+        Logger.debug(">>> BombBlock: Getting explosion cells at (%d, %d)", bombCol, bombRow);
         
         // 최대 9개의 셀 (3x3)
         int[][] cells = new int[9][2];
@@ -123,7 +94,7 @@ public class BombBlock extends Block {
         int[][] result = new int[count][2];
         System.arraycopy(cells, 0, result, 0, count);
         
-        System.out.println(">>> BombBlock: Total explosion cells: " + count);
+        Logger.debug(">>> BombBlock: Total explosion cells: %d", count);
         return result;
     }
     
@@ -135,22 +106,34 @@ public class BombBlock extends Block {
      * @return 삭제된 블록 수
      */
     public int executeExplosion(int[][] board, String[][] blockTypes, int[][] explosionCells) {
+        // 비트보드 버전으로 처리한 뒤 결과를 배열에 반영
+        BoardState boardState = BoardState.fromArrays(board, blockTypes);
+        int destroyedCount = executeExplosion(boardState, explosionCells);
+        boardState.copyTo(board, blockTypes);
+        return destroyedCount;
+    }
+    
+    /**
+     * 비트보드 버전 - 폭발 영역의 블록들을 삭제
+     * @param boardState 게임 보드 상태
+     * @param explosionCells 폭발할 셀 좌표
+     * @return 삭제된 블록 수
+     */
+    public int executeExplosion(BoardState boardState, int[][] explosionCells) {
         int destroyedCount = 0;
         
         for (int[] cell : explosionCells) {
             int row = cell[0];
             int col = cell[1];
             
-            // 블록이 있으면 삭제
-            if (board[row][col] == 1) {
-                board[row][col] = 0;
-                blockTypes[row][col] = null;
+            if (boardState.isOccupied(row, col)) {
+                boardState.clearCell(row, col);
                 destroyedCount++;
-                System.out.println(">>> BombBlock: Destroyed block at (" + col + ", " + row + ")");
+                Logger.debug(">>> BombBlock: Destroyed block at (%d, %d)", col, row);
             }
         }
         
-        System.out.println(">>> BombBlock: Total destroyed blocks: " + destroyedCount);
+        Logger.debug(">>> BombBlock: Total destroyed blocks: %d", destroyedCount);
         return destroyedCount;
     }
     
@@ -162,51 +145,19 @@ public class BombBlock extends Block {
         return true;
     }
     
-    /**
-     * 기본 블록의 회전을 따라감
-     */
-    @Override
-    public void rotate() {
-        baseBlock.rotate();
-        
-        // 회전 전 마커의 실제 좌표와 높이 저장
-        int oldHeight = shape.length;
-        
-        // 회전 후 shape 다시 복사
-        copyShapeFromBase();
-        
-        // 회전 후 마커 위치 계산 (90도 시계방향 회전)
-        // 회전 공식: (row, col) -> (col, height-1-row)
-        int newRow = bCol;
-        int newCol = oldHeight - 1 - bRow;
-        
-        // 새로운 shape 범위 내에서 유효한 위치인지 확인
-        if (newRow >= 0 && newRow < shape.length && 
-            newCol >= 0 && newCol < shape[0].length &&
-            shape[newRow][newCol] == 1) {
-            bRow = newRow;
-            bCol = newCol;
-            System.out.println(">>> BombBlock: B marker rotated to (" + bRow + ", " + bCol + ")");
-        } else {
-            // 유효하지 않으면 가장 가까운 유효한 위치 찾기
-            selectRandomBPosition();
-            System.out.println(">>> BombBlock: B marker repositioned after rotation to (" + bRow + ", " + bCol + ")");
-        }
-    }
-    
     @Override
     public String getCssClass() {
         return baseBlock.getCssClass();
     }
     
     /**
-     * B 마커의 행/열 위치 getter
+     * B 마커의 행/열 위치 getter (회전 시 셀 인덱스로 자동 추적)
      */
     public int getBRow() {
-        return bRow;
+        return getRotationTable().cellRow(getOrientation(), markerIndex);
     }
     
     public int getBCol() {
-        return bCol;
+        return getRotationTable().cellCol(getOrientation(), markerIndex);
     }
 }
@@ -2,13 +2,7 @@ package com.example.game.items;
 
 import java.util.Random;
 import com.example.game.blocks.Block;
-import com.example.game.blocks.IBlock;
-import com.example.game.blocks.JBlock;
-import com.example.game.blocks.LBlock;
-import com.example.game.blocks.OBlock;
-import com.example.game.blocks.SBlock;
-import com.example.game.blocks.TBlock;
-import com.example.game.blocks.ZBlock;
+import com.example.game.blocks.PieceKind;
 import com.example.utils.Logger;
 
 /**
@@ -110,25 +104,7 @@ public class ItemManager {
      * 랜덤 일반 블록 생성 (L 아이템용)
      */
     private Block getRandomNormalBlock() {
-        int blockType = random.nextInt(7);
-        switch (blockType) {
-            case 0:
-                return new IBlock();
-            case 1:
-                return new JBlock();
-            case 2:
-                return new LBlock();
-            case 3:
-                return new ZBlock();
-            case 4:
-                return new SBlock();
-            case 5:
-                return new TBlock();
-            case 6:
-                return new OBlock();
-            default:
-                return new IBlock();
-        }
+        return PieceKind.fromId(random.nextInt(PieceKind.COUNT)).create();
     }
 
     /**
@@ -156,6 +132,15 @@ public class ItemManager {
         lastItemSpawnLines = 0;
     }
 
+    // 마지막 아이템 생성 시점의 줄 수 (스냅샷 저장/복원용)
+    public int getLastItemSpawnLines() {
+        return lastItemSpawnLines;
+    }
+
+    public void setLastItemSpawnLines(int lastItemSpawnLines) {
+        this.lastItemSpawnLines = lastItemSpawnLines;
+    }
+
     /**
      * 다음 아이템까지 남은 줄 수
      */
@@ -10,15 +10,14 @@ import com.example.game.blocks.Block;
 public class LItem extends Block {
     
     private Block baseBlock; // 기본 블록
-    private int lRow; // L 마커의 행 위치 (블록 내부)
-    private int lCol; // L 마커의 열 위치 (블록 내부)
+    private int markerIndex; // L 마커의 셀 인덱스 (회전 테이블 기준, 모든 방향에서 동일)
     
     public LItem(Block baseBlock) {
         super();
         this.baseBlock = baseBlock;
         
-        // 기본 블록의 shape 복사
-        copyShapeFromBase();
+        // 기본 블록의 회전 테이블 공유
+        setRotationTable(baseBlock.getRotationTable(), baseBlock.getOrientation());
         
         this.cssClass = baseBlock.getCssClass(); // 기본 블록의 CSS 클래스 사용
         
@@ -26,47 +25,17 @@ public class LItem extends Block {
         selectRandomLPosition();
     }
     
-    /**
-     * 기본 블록의 shape를 복사
-     */
-    private void copyShapeFromBase() {
-        int height = baseBlock.height();
-        int width = baseBlock.width();
-        
-        shape = new int[height][width];
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                shape[i][j] = baseBlock.getShape(j, i);
-            }
-        }
-    }
-    
     /**
      * 블록의 랜덤한 1x1 위치를 L 마커로 선택
      */
     private void selectRandomLPosition() {
         Random random = new Random();
         
-        // shape에서 1인 위치들 찾기
-        int[][] validPositions = new int[shape.length * shape[0].length][2];
-        int count = 0;
-        
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] == 1) {
-                    validPositions[count][0] = row;
-                    validPositions[count][1] = col;
-                    count++;
-                }
-            }
-        }
-        
-        // 랜덤하게 하나 선택
+        // 회전 테이블의 셀 중 하나를 랜덤하게 선택
+        int count = getRotationTable().cellCount();
         if (count > 0) {
-            int randomIndex = random.nextInt(count);
-            lRow = validPositions[randomIndex][0];
-            lCol = validPositions[randomIndex][1];
-            System.out.println(">>> LItem: L marker at (" + lRow + ", " + lCol + ") in block");
+            markerIndex = random.nextInt(count);
+            System.out.println(">>> LItem: L marker at (" + getLRow() + ", " + getLCol() + ") in block");
         }
     }
     
@@ -74,14 +43,14 @@ public class LItem extends Block {
      * L 마커가 있는지 확인
      */
     public boolean hasLMarker(int row, int col) {
-        return row == lRow && col == lCol;
+        return row == getLRow() && col == getLCol();
     }
     
     /**
      * L 마커의 절대 행 위치 반환 (보드 기준)
      */
     public int getLMarkerAbsoluteRow(int blockY) {
-        return blockY + lRow;
+        return blockY + getLRow();
     }
     
     /**
@@ -92,51 +61,19 @@ public class LItem extends Block {
         return true;
     }
     
-    /**
-     * 기본 블록의 회전을 따라감
-     */
-    @Override
-    public void rotate() {
-        baseBlock.rotate();
-        
-        // 회전 전 마커의 실제 좌표와 높이 저장
-        int oldHeight = shape.length;
-        
-        // 회전 후 shape 다시 복사
-        copyShapeFromBase();
-        
-        // 회전 후 마커 위치 계산 (90도 시계방향 회전)
-        // 회전 공식: (row, col) -> (col, height-1-row)
-        int newRow = lCol;
-        int newCol = oldHeight - 1 - lRow;
-        
-        // 새로운 shape 범위 내에서 유효한 위치인지 확인
-        if (newRow >= 0 && newRow < shape.length && 
-            newCol >= 0 && newCol < shape[0].length &&
-            shape[newRow][newCol] == 1) {
-            lRow = newRow;
-            lCol = newCol;
-            System.out.println(">>> LItem: L marker rotated to (" + lRow + ", " + lCol + ")");
-        } else {
-            // 유효하지 않으면 가장 가까운 유효한 위치 찾기
-            selectRandomLPosition();
-            System.out.println(">>> LItem: L marker repositioned after rotation to (" + lRow + ", " + lCol + ")");
-        }
-    }
-    
     @Override
     public String getCssClass() {
         return baseBlock.getCssClass();
     }
     
     /**
-     * L 마커의 행/열 위치 getter
+     * L 마커의 행/열 위치 getter (회전 시 셀 인덱스로 자동 추적)
      */
     public int getLRow() {
-        return lRow;
+        return getRotationTable().cellRow(getOrientation(), markerIndex);
     }
     
     public int getLCol() {
-        return lCol;
+        return getRotationTable().cellCol(getOrientation(), markerIndex);
     }
 }
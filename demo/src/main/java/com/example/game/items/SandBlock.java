@@ -1,6 +1,8 @@
 package com.example.game.items;
 
 import com.example.game.blocks.Block;
+import com.example.game.component.BoardState;
+import com.example.utils.Logger;
 
 /**
  * Sand 아이템 - 일반 블록을 래핑하여 모래처럼 동작
@@ -15,27 +17,12 @@ public class SandBlock extends Block {
         super();
         this.baseBlock = baseBlock;
         
-        // 기본 블록의 shape 복사
-        copyShapeFromBase();
+        // 기본 블록의 회전 테이블 공유
+        setRotationTable(baseBlock.getRotationTable(), baseBlock.getOrientation());
         
         this.cssClass = "item-sand"; // 모래 블록 전용 CSS 클래스
     }
     
-    /**
-     * 기본 블록의 shape를 복사
-     */
-    private void copyShapeFromBase() {
-        int height = baseBlock.height();
-        int width = baseBlock.width();
-        
-        shape = new int[height][width];
-        for (int i = 0; i < height; i++) {
-            for (int j = 0; j < width; j++) {
-                shape[i][j] = baseBlock.getShape(j, i);
-            }
-        }
-    }
-    
     /**
      * 모래처럼 떨어지는 효과 - 각 셀이 개별적으로 중력에 따라 아래로 떨어짐
      * @param board 게임 보드
@@ -47,16 +34,34 @@ public class SandBlock extends Block {
         if (hasActivated) {
             return;
         }
+        // 비트보드 버전으로 처리한 뒤 결과를 배열에 반영
+        BoardState boardState = BoardState.fromArrays(board, blockTypes);
+        applyGravity(boardState, startY, startX);
+        boardState.copyTo(board, blockTypes);
+    }
+    
+    /**
+     * 비트보드 버전 - 각 셀을 열 단위로 떨어뜨림
+     * @param boardState 게임 보드 상태
+     * @param startY 블록의 시작 Y 좌표
+     * @param startX 블록의 시작 X 좌표
+     * @return 떨어뜨린 셀 수 (이미 활성화되었으면 0)
+     */
+    public int applyGravity(BoardState boardState, int startY, int startX) {
+        if (hasActivated) {
+            return 0;
+        }
         
         hasActivated = true;
-        System.out.println(">>> SandBlock: Applying gravity effect from (" + startX + ", " + startY + ")");
+        Logger.debug(">>> SandBlock: Applying gravity effect from (%d, %d)", startX, startY);
         
-        // 각 열별로 아래에서 위로 처리하여 중력 적용
+        int boardHeight = boardState.getHeight();
+        int moved = 0;
         for (int i = 0; i < width(); i++) {
             int boardX = startX + i;
             
             // 범위 체크
-            if (boardX < 0 || boardX >= board[0].length) {
+            if (boardX < 0 || boardX >= boardState.getWidth()) {
                 continue;
             }
             
@@ -65,28 +70,23 @@ public class SandBlock extends Block {
                 if (getShape(i, j) == 1) {
                     int boardY = startY + j;
                     
-                    // 해당 위치의 블록을 지우고 중력 적용
-                    if (boardY >= 0 && boardY < board.length) {
-                        
-                        // 현재 셀 제거
-                        board[boardY][boardX] = 0;
-                        blockTypes[boardY][boardX] = null;
+                    if (boardY >= 0 && boardY < boardHeight) {
+                        boardState.clearCell(boardY, boardX);
                         
                         // 아래로 떨어뜨리기 - 바닥이나 다른 블록을 만날 때까지
                         int finalY = boardY;
-                        while (finalY + 1 < board.length && board[finalY + 1][boardX] == 0) {
+                        while (finalY + 1 < boardHeight && !boardState.isOccupied(finalY + 1, boardX)) {
                             finalY++;
                         }
                         
-                        // 최종 위치에 배치
-                        board[finalY][boardX] = 1;
-                        blockTypes[finalY][boardX] = cssClass;
-                        
-                        System.out.println(">>> SandBlock: Cell at (" + boardX + ", " + boardY + ") fell to (" + boardX + ", " + finalY + ")");
+                        boardState.setCell(finalY, boardX, cssClass);
+                        moved++;
+                        Logger.debug(">>> SandBlock: Cell at (%d, %d) fell to (%d, %d)", boardX, boardY, boardX, finalY);
                     }
                 }
             }
         }
+        return moved;
     }
     
     /**
@@ -95,23 +95,20 @@ public class SandBlock extends Block {
     public boolean hasActivated() {
         return hasActivated;
     }
-    
+
     /**
-     * 아이템 블록 여부
+     * 효과 활성화 여부 설정 (스냅샷 복원용)
      */
-    @Override
-    public boolean isItemBlock() {
-        return true;
+    public void setActivated(boolean activated) {
+        this.hasActivated = activated;
     }
     
     /**
-     * 기본 블록의 회전을 따라감
+     * 아이템 블록 여부
      */
     @Override
-    public void rotate() {
-        baseBlock.rotate();
-        // 회전 후 shape 다시 복사
-        copyShapeFromBase();
+    public boolean isItemBlock() {
+        return true;
     }
     
     @Override
@@ -21,4 +21,14 @@ public class SingleBlock extends ItemBlock {
     public void rotate() {
         // 1x1 블록은 회전해도 동일하므로 아무것도 하지 않음
     }
+    
+    @Override
+    public void rotateBack() {
+        // 회전하지 않으므로 되돌릴 것도 없음
+    }
+    
+    @Override
+    public boolean canRotate() {
+        return false;
+    }
 }
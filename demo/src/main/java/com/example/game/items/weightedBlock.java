@@ -73,6 +73,11 @@ public class weightedBlock extends ItemBlock {
     public boolean hasActivated() {
         return hasActivated;
     }
+
+    // 효과 활성화 여부 설정 (스냅샷 복원용)
+    public void setActivated(boolean activated) {
+        this.hasActivated = activated;
+    }
     
     private boolean hasTouched = false; // 블록이나 바닥에 닿았는지 여부
     
@@ -108,4 +113,14 @@ public class weightedBlock extends ItemBlock {
     public void rotate() {
         // 무게 블록은 회전하지 않음
     }
+    
+    @Override
+    public void rotateBack() {
+        // 회전하지 않으므로 되돌릴 것도 없음
+    }
+    
+    @Override
+    public boolean canRotate() {
+        return false;
+    }
 }
@@ -135,11 +135,18 @@ public class GameMessage implements Serializable {
 
     // 공격 메시지 생성
     // @param LinesCleared 제거된 줄 수
-    // @param attackLines 공격 라인 데이터
-    public static GameMessage createAttack(String senderId, int linesCleared, int attackData) {
+    // @param attackLines 공격 줄 수
+    public static GameMessage createAttack(String senderId, int linesCleared, int attackLines) {
         return new GameMessage(MessageType.ATTACK, senderId)
                 .put("linesCleared", linesCleared)
-                .put("attackLines", attackData);
+                .put("attackLines", attackLines);
+    }
+
+    // 구멍 열을 포함한 공격 메시지 생성
+    // @param holeColumn 공격 줄의 구멍 열 (받는 쪽은 같은 열이 빈 줄 attackLines개를 삽입)
+    public static GameMessage createAttack(String senderId, int linesCleared, int attackLines, int holeColumn) {
+        return createAttack(senderId, linesCleared, attackLines)
+                .put("holeColumn", holeColumn);
     }
 
     // 게임 오버 메시지 생성
@@ -3,12 +3,30 @@ package com.example.utils;
 /**
  * 간단한 로깅 유틸리티
  * 개발 모드에서만 INFO 로그를 출력하고, ERROR는 항상 출력됩니다.
+ * DEBUG 로그(블록마다/수마다 찍히는 상세 정보)는 VERBOSE_MODE일 때만 출력됩니다.
  */
 public class Logger {
 
     // 개발 모드 플래그 - false로 설정하면 INFO 로그가 비활성화됩니다
     private static final boolean DEBUG_MODE = true;
 
+    // 상세 로그 플래그 - true로 설정하면 DEBUG 로그도 출력됩니다
+    private static final boolean VERBOSE_MODE = false;
+
+    // DEBUG 레벨 로그 (자주 호출되는 상세 정보 - 상세 모드에서만 출력)
+    public static void debug(String message) {
+        if (VERBOSE_MODE) {
+            System.out.println("[DEBUG] " + message);
+        }
+    }
+
+    // DEBUG 레벨 로그 - 포맷팅 지원 (출력하지 않으면 포맷팅도 하지 않음)
+    public static void debug(String format, Object... args) {
+        if (VERBOSE_MODE) {
+            System.out.println("[DEBUG] " + String.format(format, args));
+        }
+    }
+
     // INFO 레벨 로그 (일반 정보 - 개발 모드에서만 출력)
     public static void info(String message) {
         if (DEBUG_MODE) {
@@ -0,0 +1,110 @@
+package com.example.game.ai;
+
+import com.example.game.component.BoardState;
+import com.example.game.component.GameLogic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AIPlannerTest {
+
+    private static final SearchSettings SETTINGS = SearchSettings.defaults().withTimeBudget(60_000);
+
+    private GameLogic gameLogic;
+
+    @BeforeEach
+    void setUp() {
+        gameLogic = new GameLogic(false);
+        gameLogic.spawnNextPiece();
+    }
+
+    // 계산 스레드의 결과가 도착할 때까지 대기
+    private static AIPlanner.Plan await(AIPlanner planner, long requestId) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            AIPlanner.Plan plan = planner.poll(requestId);
+            if (plan != null) {
+                return plan;
+            }
+            Thread.sleep(10);
+        }
+        return fail("AI 계산이 끝나지 않음");
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 계산한 수가 동기 계산과 같음")
+    void testMatchesSynchronousSearch() throws InterruptedException {
+        TetrisAI.Move expected = TetrisAI.findBestMove(gameLogic, SETTINGS);
+        AIPlanner planner = new AIPlanner(SETTINGS);
+
+        long requestId = planner.request(gameLogic);
+        TetrisAI.Move move = await(planner, requestId).getMove();
+
+        assertNotNull(move);
+        assertEquals(expected.x, move.x);
+        assertEquals(expected.rotation, move.rotation);
+        assertEquals(expected.score, move.score, 0.001);
+        // 결과는 한 번만 꺼낼 수 있음
+        assertNull(planner.poll(requestId));
+    }
+
+    @Test
+    @DisplayName("요청 시점의 스냅샷으로 계산하므로 이후 보드 변경과 무관")
+    void testUsesSnapshot() throws InterruptedException {
+        TetrisAI.Move expected = TetrisAI.findBestMove(gameLogic, SETTINGS);
+        AIPlanner planner = new AIPlanner(SETTINGS);
+
+        long requestId = planner.request(gameLogic);
+        BoardState boardState = gameLogic.getBoardState();
+        for (int row = GameLogic.HEIGHT - 6; row < GameLogic.HEIGHT; row++) {
+            boardState.setRow(row, boardState.getFullRowMask() & ~(1 << row % GameLogic.WIDTH), "block-default");
+        }
+
+        TetrisAI.Move move = await(planner, requestId).getMove();
+        assertEquals(expected.x, move.x);
+        assertEquals(expected.rotation, move.rotation);
+        assertEquals(expected.finalY, move.finalY);
+    }
+
+    @Test
+    @DisplayName("새 요청이나 취소 후에는 이전 요청의 결과를 받지 않음")
+    void testStaleRequestIgnored() throws InterruptedException {
+        AIPlanner planner = new AIPlanner(SETTINGS);
+        long first = planner.request(gameLogic);
+        long second = planner.request(gameLogic);
+        assertNotEquals(first, second);
+
+        assertNotNull(await(planner, second));
+        assertNull(planner.poll(first));
+
+        long third = planner.request(gameLogic);
+        planner.cancel();
+        Thread.sleep(50);
+        assertNull(planner.poll(third));
+    }
+
+    @Test
+    @DisplayName("같은 게임의 요청은 탐색 캐시를 공유하고 clearCache로 비움")
+    void testSharedCache() throws InterruptedException {
+        AIPlanner planner = new AIPlanner(SETTINGS);
+        TetrisAI.Move first = await(planner, planner.request(gameLogic)).getMove();
+        assertTrue(planner.getCache().getStores() > 0);
+
+        TetrisAI.Move second = await(planner, planner.request(gameLogic)).getMove();
+        assertTrue(planner.getCache().getHits() > 0);
+        assertEquals(first.x, second.x);
+        assertEquals(first.score, second.score, 1e-9);
+
+        planner.clearCache();
+        assertEquals(0, planner.getCache().getHits());
+    }
+
+    @Test
+    @DisplayName("진행 중인 블록이 없으면 요청하지 않음")
+    void testNoCurrentBlock() {
+        GameLogic empty = new GameLogic(false, false);
+        assertNull(SearchPosition.capture(empty));
+        assertEquals(-1, new AIPlanner(SETTINGS).request(empty));
+    }
+}
@@ -7,7 +7,6 @@ import org.junit.jupiter.api.Test;
 
 import com.example.game.component.PlayerBoard;
 
-import java.util.List;
 
 /**
  * AIPlayer 클래스의 단위 테스트
@@ -77,7 +76,7 @@ public class AIPlayerTest {
      */
     private static class TestCallback implements PlayerBoard.LineClearCallback {
         @Override
-        public void onLinesCleared(int playerNumber, int linesCleared, List<String[]> clearedLines) {
+        public void onLinesCleared(int playerNumber, int linesCleared, int holeColumn) {
             // 테스트용 - 아무 작업 안 함
         }
     }
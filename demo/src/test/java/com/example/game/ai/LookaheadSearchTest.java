@@ -0,0 +1,236 @@
+package com.example.game.ai;
+
+import com.example.game.blocks.CellType;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.RotationTable;
+import com.example.game.blocks.SeededRandom;
+import com.example.game.component.BoardState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookaheadSearchTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+
+    private static SearchBudget budget() {
+        return new SearchBudget(60_000);
+    }
+
+    private static BoardState randomBoard(SeededRandom random) {
+        BoardState board = new BoardState(WIDTH, HEIGHT);
+        int top = HEIGHT - 2 - random.nextInt(8);
+        for (int row = top; row < HEIGHT; row++) {
+            board.setRow(row, random.nextInt(1 << WIDTH) & board.getFullRowMask(), CellType.ATTACK);
+        }
+        return board;
+    }
+
+    // 모든 배치를 빠짐없이 놓아 보는 기준 구현 (빔/중복 제거 없음)
+    private static double exhaustive(PlacementEvaluator board, PieceKind[] kinds, int ply) {
+        RotationTable table = kinds[ply].table();
+        PlacementEvaluator child = new PlacementEvaluator();
+        double best = Double.NEGATIVE_INFINITY;
+        for (int orientation = 0; orientation < RotationTable.ORIENTATIONS; orientation++) {
+            board.setPiece(table, orientation);
+            for (int x = 0; x <= WIDTH - table.width(orientation); x++) {
+                int y = board.dropY(x);
+                if (y < 0) {
+                    continue;
+                }
+                double score;
+                if (ply == kinds.length - 1) {
+                    score = board.evaluate(x, y);
+                } else {
+                    int lines = child.loadPlaced(board, x, y);
+                    score = PlacementEvaluator.WEIGHT_COMPLETE_LINES * lines + exhaustive(child, kinds, ply + 1);
+                }
+                best = Math.max(best, score);
+            }
+        }
+        return best;
+    }
+
+    @Test
+    @DisplayName("빔이 충분히 넓으면 두 블록 탐색 점수가 전체 탐색과 같음")
+    void testMatchesExhaustiveSearch() {
+        SeededRandom random = new SeededRandom(22L);
+        LookaheadSearch search = new LookaheadSearch();
+        PieceKind[] kinds = PieceKind.values();
+
+        for (int round = 0; round < 10; round++) {
+            BoardState board = randomBoard(random);
+            PieceKind[] pair = {kinds[random.nextInt(kinds.length)], kinds[random.nextInt(kinds.length)]};
+
+            search.reset(board);
+            search.addPiece(pair[0].create());
+            search.addPiece(pair[1].create());
+            assertTrue(search.search(2, 1000, budget()));
+
+            PlacementEvaluator root = new PlacementEvaluator();
+            root.load(board);
+            assertEquals(exhaustive(root, pair, 0), search.getBestScore(), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("깊이 1은 현재 블록의 즉시 점수 최댓값")
+    void testDepthOne() {
+        BoardState board = randomBoard(new SeededRandom(5L));
+        LookaheadSearch search = new LookaheadSearch();
+        search.reset(board);
+        search.addPiece(PieceKind.T.create());
+        search.addPiece(PieceKind.I.create());
+
+        assertTrue(search.search(1, 1, budget()));
+        PlacementEvaluator root = new PlacementEvaluator();
+        root.load(board);
+        assertEquals(exhaustive(root, new PieceKind[] {PieceKind.T}, 0), search.getBestScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("마감이 지나면 중단하고 실패 반환")
+    void testDeadline() {
+        LookaheadSearch search = new LookaheadSearch();
+        search.reset(new BoardState(WIDTH, HEIGHT));
+        search.addPiece(PieceKind.T.create());
+        search.addPiece(PieceKind.S.create());
+
+        SearchBudget expired = new SearchBudget(1000);
+        expired.cancel();
+        assertFalse(search.search(2, 8, expired));
+        assertTrue(search.isTimedOut());
+        // 깊이 1은 마감을 확인하지 않음
+        assertTrue(search.search(1, 8, expired));
+    }
+
+    @Test
+    @DisplayName("병렬 탐색은 순차 탐색과 같은 수와 점수")
+    void testParallelMatchesSequential() {
+        SeededRandom random = new SeededRandom(23L);
+        PieceKind[] kinds = PieceKind.values();
+        LookaheadSearch sequential = new LookaheadSearch();
+        LookaheadSearch parallel = new LookaheadSearch();
+
+        for (int round = 0; round < 10; round++) {
+            BoardState board = randomBoard(random);
+            sequential.reset(board);
+            parallel.reset(board);
+            for (int i = 0; i < 3; i++) {
+                PieceKind kind = kinds[random.nextInt(kinds.length)];
+                sequential.addPiece(kind.create());
+                parallel.addPiece(kind.create());
+            }
+
+            assertTrue(sequential.search(3, 6, budget()));
+            assertTrue(ParallelSearch.search(parallel, 3, 6, budget()));
+            assertEquals(sequential.getBestX(), parallel.getBestX());
+            assertEquals(sequential.getBestRotation(), parallel.getBestRotation());
+            assertEquals(sequential.getBestY(), parallel.getBestY());
+            assertEquals(sequential.getBestScore(), parallel.getBestScore(), 1e-9);
+            assertEquals(sequential.getEvaluated(), parallel.getEvaluated());
+        }
+    }
+
+    @Test
+    @DisplayName("캐시를 써도 결과가 같고, 같은 탐색을 반복하면 캐시에서 바로 가져옴")
+    void testTranspositionTable() {
+        SeededRandom random = new SeededRandom(25L);
+        PieceKind[] kinds = PieceKind.values();
+        TranspositionTable table = new TranspositionTable(1 << 12);
+        LookaheadSearch plain = new LookaheadSearch();
+        LookaheadSearch cached = new LookaheadSearch();
+        cached.setTable(table);
+
+        for (int round = 0; round < 5; round++) {
+            BoardState board = randomBoard(random);
+            plain.reset(board);
+            cached.reset(board);
+            for (int i = 0; i < 3; i++) {
+                PieceKind kind = kinds[random.nextInt(kinds.length)];
+                plain.addPiece(kind.create());
+                cached.addPiece(kind.create());
+            }
+
+            assertTrue(plain.search(3, 4, budget()));
+            assertTrue(cached.search(3, 4, budget()));
+            assertEquals(plain.getBestX(), cached.getBestX());
+            assertEquals(plain.getBestScore(), cached.getBestScore(), 1e-9);
+
+            // 같은 위치를 다시 탐색하면 루트 후보의 부분 트리를 모두 캐시에서 읽음
+            long hits = table.getHits();
+            assertTrue(cached.search(3, 4, budget()));
+            assertEquals(plain.getBestScore(), cached.getBestScore(), 1e-9);
+            assertTrue(table.getHits() > hits);
+            assertTrue(cached.getEvaluated() < plain.getEvaluated());
+
+            // 병렬 탐색도 같은 캐시를 함께 사용
+            assertTrue(ParallelSearch.search(cached, 3, 4, budget()));
+            assertEquals(plain.getBestX(), cached.getBestX());
+            assertEquals(plain.getBestScore(), cached.getBestScore(), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 보드라도 남은 블록이나 빔 폭이 다르면 캐시를 공유하지 않음")
+    void testCacheKeyIncludesSequence() {
+        BoardState board = randomBoard(new SeededRandom(7L));
+        TranspositionTable table = new TranspositionTable(1 << 12);
+        LookaheadSearch search = new LookaheadSearch();
+        search.setTable(table);
+
+        search.reset(board);
+        search.addPiece(PieceKind.T.create());
+        search.addPiece(PieceKind.I.create());
+        assertTrue(search.search(2, 4, budget()));
+        long hits = table.getHits();
+
+        search.reset(board);
+        search.addPiece(PieceKind.T.create());
+        search.addPiece(PieceKind.O.create());
+        assertTrue(search.search(2, 4, budget()));
+        assertTrue(search.search(2, 5, budget()));
+        assertEquals(hits, table.getHits());
+
+        LookaheadSearch plain = new LookaheadSearch();
+        plain.reset(board);
+        plain.addPiece(PieceKind.T.create());
+        plain.addPiece(PieceKind.O.create());
+        assertTrue(plain.search(2, 5, budget()));
+        assertEquals(plain.getBestScore(), search.getBestScore(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("취소된 예산이면 병렬 탐색도 실패 반환")
+    void testParallelCancelled() {
+        LookaheadSearch search = new LookaheadSearch();
+        search.reset(new BoardState(WIDTH, HEIGHT));
+        search.addPiece(PieceKind.T.create());
+        search.addPiece(PieceKind.S.create());
+        SearchBudget cancelled = new SearchBudget(1000);
+        cancelled.cancel();
+
+        assertFalse(ParallelSearch.search(search, 2, 8, cancelled));
+        assertTrue(search.isTimedOut());
+    }
+
+    @Test
+    @DisplayName("빔 선택은 점수 순으로 모으고 같은 보드는 하나만 남김")
+    void testSelectBeam() {
+        LookaheadSearch.CandidateList list = new LookaheadSearch.CandidateList();
+        list.ensureCapacity(8);
+        list.add(0, 0, 0, 0, 1.0, 10L);
+        list.add(1, 0, 0, 0, 3.0, 20L);
+        list.add(2, 0, 0, 0, 3.0, 20L);
+        list.add(3, 0, 0, 0, 2.0, 30L);
+
+        assertEquals(3, list.selectBeam(8));
+        assertEquals(1, list.x[0]);
+        assertEquals(3, list.x[1]);
+        assertEquals(0, list.x[2]);
+
+        assertEquals(1, list.selectBeam(1));
+    }
+}
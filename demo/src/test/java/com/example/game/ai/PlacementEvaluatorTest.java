@@ -0,0 +1,212 @@
+package com.example.game.ai;
+
+import com.example.game.blocks.CellType;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.RotationTable;
+import com.example.game.blocks.SeededRandom;
+import com.example.game.component.AttackTable;
+import com.example.game.component.BoardState;
+import com.example.game.component.LineClear;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementEvaluatorTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+
+    // 칸 단위로 다시 계산하는 기준 구현 (보드 복사 + 전체 스캔)
+    private static double referenceScore(BoardState board, RotationTable table, int orientation, int x, int y) {
+        int[] rows = board.copyRows();
+        for (int row = 0; row < table.height(orientation); row++) {
+            rows[y + row] |= table.rowMask(orientation, row) << x;
+        }
+        int[] heights = new int[WIDTH];
+        int holes = 0;
+        for (int col = 0; col < WIDTH; col++) {
+            boolean seen = false;
+            for (int row = 0; row < HEIGHT; row++) {
+                boolean filled = (rows[row] & (1 << col)) != 0;
+                if (filled && !seen) {
+                    seen = true;
+                    heights[col] = HEIGHT - row;
+                } else if (!filled && seen) {
+                    holes++;
+                }
+            }
+        }
+        int aggregate = 0;
+        int bumpiness = 0;
+        for (int col = 0; col < WIDTH; col++) {
+            aggregate += heights[col];
+            if (col > 0) {
+                bumpiness += Math.abs(heights[col] - heights[col - 1]);
+            }
+        }
+        int lines = 0;
+        for (int row : rows) {
+            if (row == board.getFullRowMask()) {
+                lines++;
+            }
+        }
+        return PlacementEvaluator.WEIGHT_AGGREGATE_HEIGHT * aggregate
+            + PlacementEvaluator.WEIGHT_COMPLETE_LINES * lines
+            + PlacementEvaluator.WEIGHT_HOLES * holes
+            + PlacementEvaluator.WEIGHT_BUMPINESS * bumpiness;
+    }
+
+    private static int referenceDropY(BoardState board, RotationTable table, int orientation, int x) {
+        int y = 0;
+        if (collides(board, table, orientation, x, 0)) {
+            return -1;
+        }
+        while (!collides(board, table, orientation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    private static boolean collides(BoardState board, RotationTable table, int orientation, int x, int y) {
+        for (int row = 0; row < table.height(orientation); row++) {
+            int mask = table.rowMask(orientation, row);
+            if (mask == 0) {
+                continue;
+            }
+            if (y + row >= HEIGHT || (board.getRow(y + row) & (mask << x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    @DisplayName("임의 보드에서 모든 후보의 낙하 위치와 점수가 칸 단위 계산과 같음")
+    void testMatchesReference() {
+        SeededRandom random = new SeededRandom(21L);
+        PlacementEvaluator evaluator = new PlacementEvaluator();
+        BoardState board = new BoardState(WIDTH, HEIGHT);
+
+        for (int round = 0; round < 30; round++) {
+            board.clear();
+            // 아래쪽에 구멍과 돌출이 섞인 무작위 지형
+            int top = HEIGHT - 2 - random.nextInt(12);
+            for (int row = top; row < HEIGHT; row++) {
+                board.setRow(row, random.nextInt(1 << WIDTH) & board.getFullRowMask(), CellType.ATTACK);
+            }
+            evaluator.load(board);
+
+            for (PieceKind kind : PieceKind.values()) {
+                RotationTable table = kind.table();
+                for (int orientation = 0; orientation < RotationTable.ORIENTATIONS; orientation++) {
+                    evaluator.setPiece(table, orientation);
+                    for (int x = 0; x <= WIDTH - table.width(orientation); x++) {
+                        int y = evaluator.dropY(x);
+                        assertEquals(referenceDropY(board, table, orientation, x), y);
+                        if (y >= 0) {
+                            assertEquals(referenceScore(board, table, orientation, x, y),
+                                evaluator.evaluate(x, y), 1e-9);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("평가는 보드 상태를 바꾸지 않아 같은 후보를 다시 평가해도 같은 점수")
+    void testEvaluateIsReadOnly() {
+        BoardState board = new BoardState(WIDTH, HEIGHT);
+        board.setRow(HEIGHT - 1, board.getFullRowMask() & ~0b1111, CellType.ATTACK);
+        PlacementEvaluator evaluator = new PlacementEvaluator();
+        evaluator.load(board);
+        evaluator.setPiece(PieceKind.I.table(), 0);
+
+        int y = evaluator.dropY(0);
+        assertEquals(HEIGHT - 1, y);
+        double first = evaluator.evaluate(0, y);
+        evaluator.evaluate(6, evaluator.dropY(6));
+        assertEquals(first, evaluator.evaluate(0, y));
+        // 한 줄 완성, 나머지 칸은 높이 1
+        assertEquals(PlacementEvaluator.WEIGHT_AGGREGATE_HEIGHT * WIDTH
+            + PlacementEvaluator.WEIGHT_COMPLETE_LINES, first, 1e-9);
+    }
+
+    @Test
+    @DisplayName("놓고 지운 결과는 실제 보드에서 줄을 지운 것과 같은 점수/해시")
+    void testLoadPlacedClearsLines() {
+        BoardState board = new BoardState(WIDTH, HEIGHT);
+        board.setRow(HEIGHT - 2, 1 << 9, CellType.ATTACK);
+        board.setRow(HEIGHT - 1, board.getFullRowMask() & ~0b1111, CellType.ATTACK);
+        PlacementEvaluator parent = new PlacementEvaluator();
+        parent.load(board);
+        parent.setPiece(PieceKind.I.table(), 0);
+
+        PlacementEvaluator child = new PlacementEvaluator();
+        assertEquals(1, child.loadPlaced(parent, 0, parent.dropY(0)));
+
+        // 한 줄이 지워지고 위의 한 칸이 맨 아래로 내려온 보드
+        BoardState expected = new BoardState(WIDTH, HEIGHT);
+        expected.setRow(HEIGHT - 1, 1 << 9, CellType.ATTACK);
+        PlacementEvaluator reference = new PlacementEvaluator();
+        reference.load(expected);
+        assertEquals(reference.getHash(), child.getHash());
+
+        reference.setPiece(PieceKind.O.table(), 0);
+        child.setPiece(PieceKind.O.table(), 0);
+        assertEquals(reference.dropY(4), child.dropY(4));
+        assertEquals(reference.evaluate(4, reference.dropY(4)), child.evaluate(4, child.dropY(4)));
+    }
+
+    @Test
+    @DisplayName("공격 표가 있으면 콤보/B2B를 반영한 공격 줄 수만큼 보상")
+    void testAttackTerm() {
+        BoardState board = new BoardState(WIDTH, HEIGHT);
+        for (int row = HEIGHT - 4; row < HEIGHT; row++) {
+            board.setRow(row, board.getFullRowMask() & ~1, CellType.ATTACK);
+        }
+        PlacementEvaluator evaluator = new PlacementEvaluator();
+        evaluator.load(board);
+        // 세로 I를 비어 있는 0번 열에 넣어 테트리스
+        evaluator.setPiece(PieceKind.I.table(), 1);
+        assertEquals(1, evaluator.getPieceWidth());
+        int x = 0;
+        int y = evaluator.dropY(x);
+        assertEquals(HEIGHT - 4, y);
+        double plain = evaluator.evaluate(x, y);
+
+        // 첫 테트리스 = 4줄
+        AttackTable attack = AttackTable.standard();
+        evaluator.setClearState(attack, -1, false);
+        assertEquals(4, evaluator.attackFor(4));
+        assertEquals(plain + PlacementEvaluator.WEIGHT_ATTACK * 4, evaluator.evaluate(x, y), 1e-9);
+
+        // 콤보 2 + B2B 중 테트리스 = 4 + 1 + 콤보 보너스
+        evaluator.setClearState(attack, 1, true);
+        int expected = attack.attackFor(4, LineClear.Spin.NONE, 2, true);
+        assertEquals(expected, evaluator.attackFor(4));
+        assertEquals(plain + PlacementEvaluator.WEIGHT_ATTACK * expected, evaluator.evaluate(x, y), 1e-9);
+        assertNotEquals(0L, evaluator.getClearStateKey());
+
+        // 놓은 결과는 콤보/B2B를 이어 받고, 줄을 못 지우면 콤보가 끊김
+        PlacementEvaluator child = new PlacementEvaluator();
+        child.loadPlaced(evaluator, x, y);
+        assertEquals(attack.attackFor(1, LineClear.Spin.NONE, 3, false), child.attackFor(1));
+        child.setPiece(PieceKind.O.table(), 0);
+        PlacementEvaluator next = new PlacementEvaluator();
+        next.loadPlaced(child, 4, child.dropY(4));
+        assertEquals(attack.attackFor(4, LineClear.Spin.NONE, 0, true), next.attackFor(4));
+    }
+
+    @Test
+    @DisplayName("크기가 다른 보드를 읽으면 내부 배열을 맞춤")
+    void testReloadDifferentSize() {
+        PlacementEvaluator evaluator = new PlacementEvaluator();
+        evaluator.load(new BoardState(WIDTH, HEIGHT));
+        evaluator.load(new BoardState(16, 30));
+        assertEquals(16, evaluator.getWidth());
+        evaluator.setPiece(PieceKind.O.table(), 0);
+        assertEquals(28, evaluator.dropY(14));
+    }
+}
@@ -8,8 +8,12 @@ import org.junit.jupiter.api.Test;
 import com.example.game.blocks.Block;
 import com.example.game.blocks.IBlock;
 import com.example.game.blocks.OBlock;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.PieceState;
 import com.example.game.blocks.TBlock;
+import com.example.game.component.BoardState;
 import com.example.game.component.GameLogic;
+import com.example.game.component.RuleSet;
 
 /**
  * TetrisAI 클래스의 단위 테스트
@@ -152,10 +156,10 @@ public class TetrisAITest {
     @Test
     public void testMoveWithPartiallyFilledBoard() {
         // 보드의 일부를 채움
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         for (int col = 0; col < GameLogic.WIDTH; col++) {
             if (col != 4 && col != 5) { // 중간에 구멍 남김
-                board[GameLogic.HEIGHT - 1][col] = 1;
+                boardState.setCell(GameLogic.HEIGHT - 1, col, "block-default");
             }
         }
         
@@ -216,16 +220,103 @@ public class TetrisAITest {
         }
     }
     
+    @Test
+    public void testFindBestMoveOnWideBoard() {
+        // 16칸 보드에서 오른쪽 끝 열까지 후보로 삼아야 함
+        GameLogic wide = new GameLogic(RuleSet.defaults().withBoardSize(16, 30));
+        BoardState boardState = wide.getBoardState();
+        // 맨 아래 줄을 오른쪽 4칸만 비우고 채움
+        boardState.setRow(29, (1 << 12) - 1, "block-default");
+
+        TetrisAI.Move move = TetrisAI.findBestMove(wide);
+
+        assertNotNull(move);
+        assertTrue(move.x >= 0 && move.x < 16, "x 좌표는 보드 너비 안이어야 함");
+        assertTrue(move.finalY < 30, "최종 y는 보드 높이 안이어야 함");
+    }
+
+    @Test
+    public void testFindBestMoveUsesHold() {
+        // 홀드에 I 블록을 넣어 두고 현재 블록은 S, 왼쪽 끝 열만 빈 4줄
+        GameLogic holding = new GameLogic(RuleSet.defaults().withPieceQueue(3, true));
+        holding.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 0, 3, 0));
+        assertTrue(holding.holdPiece());
+        holding.spawnNextPiece();
+        holding.setCurrentPieceFromNetwork(new PieceState(PieceKind.S, 0, 3, 0));
+        BoardState boardState = holding.getBoardState();
+        for (int row = GameLogic.HEIGHT - 4; row < GameLogic.HEIGHT; row++) {
+            boardState.setRow(row, boardState.getFullRowMask() & ~1, "block-default");
+        }
+
+        TetrisAI.Move move = TetrisAI.findBestMove(holding, SearchSettings.defaults().withDepth(1));
+        assertNotNull(move);
+        assertTrue(move.hold, "홀드한 I 블록으로 테트리스를 골라야 함");
+        assertEquals(0, move.x);
+
+        // 홀드를 끄면 현재 블록으로만 계산
+        TetrisAI.Move noHold = TetrisAI.findBestMove(holding,
+            SearchSettings.defaults().withDepth(1).withHold(false));
+        assertFalse(noHold.hold);
+    }
+
+    @Test
+    public void testFindBestMoveWithTinyTimeBudget() {
+        // 시간이 부족해도 깊이 1 결과는 항상 반환
+        gameLogic.spawnNextPiece();
+        SearchSettings settings = SearchSettings.defaults()
+            .withDepth(LookaheadSearch.MAX_DEPTH)
+            .withTimeBudget(1);
+        TetrisAI.Move move = TetrisAI.findBestMove(gameLogic, settings);
+        assertNotNull(move);
+        assertTrue(Double.isFinite(move.score));
+    }
+
+    @Test
+    public void testParallelSearchMatchesSequential() {
+        // 병렬 여부와 관계없이 같은 상태에서 같은 수
+        gameLogic.spawnNextPiece();
+        SearchSettings settings = SearchSettings.defaults().withDepth(3).withTimeBudget(60_000);
+        TetrisAI.Move sequential = TetrisAI.findBestMove(gameLogic, settings.withParallel(false));
+        TetrisAI.Move parallel = TetrisAI.findBestMove(gameLogic, settings.withParallel(true));
+        assertEquals(sequential.x, parallel.x);
+        assertEquals(sequential.rotation, parallel.rotation);
+        assertEquals(sequential.score, parallel.score, 0.001);
+    }
+
+    @Test
+    public void testCancelledBudgetReturnsDepthOneMove() {
+        gameLogic.spawnNextPiece();
+        SearchBudget budget = new SearchBudget(60_000);
+        budget.cancel();
+        TetrisAI.Move cancelled = TetrisAI.findBestMove(gameLogic, SearchSettings.defaults(), budget);
+        TetrisAI.Move depthOne = TetrisAI.findBestMove(gameLogic, SearchSettings.defaults().withDepth(1));
+        assertNotNull(cancelled);
+        assertEquals(depthOne.x, cancelled.x);
+        assertEquals(depthOne.rotation, cancelled.rotation);
+    }
+
+    @Test
+    public void testSearchSettingsValidation() {
+        SearchSettings settings = SearchSettings.defaults().withDepth(3).withBeamWidth(4);
+        assertEquals(3, settings.getDepth());
+        assertEquals(4, settings.getBeamWidth());
+        assertThrows(IllegalArgumentException.class, () -> SearchSettings.defaults().withDepth(0));
+        assertThrows(IllegalArgumentException.class,
+            () -> SearchSettings.defaults().withDepth(LookaheadSearch.MAX_DEPTH + 1));
+        assertThrows(IllegalArgumentException.class, () -> SearchSettings.defaults().withBeamWidth(0));
+        assertThrows(IllegalArgumentException.class, () -> SearchSettings.defaults().withTimeBudget(0));
+    }
+
     @Test
     public void testAIAvoidCreatingHoles() {
         // 보드 상태 설정 - 구멍이 생기기 쉬운 상황
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         
         // 아래쪽 두 줄을 거의 채우되, 한 칸씩 비움
         for (int row = GameLogic.HEIGHT - 2; row < GameLogic.HEIGHT; row++) {
             for (int col = 0; col < GameLogic.WIDTH; col++) {
                 if (col != 3) {
-                    board[row][col] = 1;
+                    boardState.setCell(row, col, "block-default");
                 }
             }
         }
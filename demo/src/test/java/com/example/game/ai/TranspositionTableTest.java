@@ -0,0 +1,76 @@
+package com.example.game.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    // 같은 버킷에 들어가는 키 (하위 비트가 같고 상위 32비트만 다름)
+    private static long sameBucketKey(int n) {
+        return (long) n << 32 | n;
+    }
+
+    @Test
+    @DisplayName("저장한 점수 조회, 없는 키는 NaN, 같은 키는 덮어씀")
+    void testPutGet() {
+        TranspositionTable table = new TranspositionTable(64);
+        assertTrue(Double.isNaN(table.get(42L)));
+
+        table.put(42L, -3.5);
+        assertEquals(-3.5, table.get(42L));
+        table.put(42L, Double.NEGATIVE_INFINITY);
+        assertEquals(Double.NEGATIVE_INFINITY, table.get(42L));
+        assertEquals(2, table.getStores());
+        assertEquals(0, table.getEvictions());
+    }
+
+    @Test
+    @DisplayName("조회 적중률 통계와 clear")
+    void testStatistics() {
+        TranspositionTable table = new TranspositionTable(64);
+        table.put(1L, 1.0);
+        table.get(1L);
+        table.get(1L);
+        table.get(2L);
+        assertEquals(2, table.getHits());
+        assertEquals(1, table.getMisses());
+        assertEquals(2.0 / 3.0, table.getHitRate(), 1e-9);
+
+        table.clear();
+        assertTrue(Double.isNaN(table.get(1L)));
+        assertEquals(0, table.getHits());
+        assertEquals(1, table.getMisses());
+    }
+
+    @Test
+    @DisplayName("버킷이 가득 차면 최근 조회하지 않은 칸부터 교체 (clock)")
+    void testClockEviction() {
+        TranspositionTable table = new TranspositionTable(4); // 버킷 하나, 4칸
+        for (int i = 0; i < 4; i++) {
+            table.put(sameBucketKey(i), i);
+        }
+        // 0, 1, 2는 참조됨 -> 3이 교체 대상
+        table.get(sameBucketKey(0));
+        table.get(sameBucketKey(1));
+        table.get(sameBucketKey(2));
+
+        table.put(sameBucketKey(9), 9.0);
+        assertEquals(1, table.getEvictions());
+        assertEquals(9.0, table.get(sameBucketKey(9)));
+        assertTrue(Double.isNaN(table.get(sameBucketKey(3))));
+        assertEquals(0.0, table.get(sameBucketKey(0)));
+        assertEquals(2.0, table.get(sameBucketKey(2)));
+    }
+
+    @Test
+    @DisplayName("크기는 2의 거듭제곱으로 올림, 잘못된 크기는 예외")
+    void testCapacity() {
+        assertEquals(4, new TranspositionTable(1).capacity());
+        assertEquals(8, new TranspositionTable(5).capacity());
+        assertEquals(TranspositionTable.DEFAULT_CAPACITY,
+            new TranspositionTable(TranspositionTable.DEFAULT_CAPACITY).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.game.blocks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javafx.scene.paint.Color;
+
+class CellTypeTest {
+    @Test
+    @DisplayName("기본 블록 CSS 클래스와 코드 매핑 테스트")
+    void testBuiltInCodes() {
+        assertEquals(CellType.EMPTY, CellType.of(null));
+        assertEquals(CellType.I, new IBlock().getCellType());
+        assertEquals(CellType.Z, new ZBlock().getCellType());
+        assertEquals(CellType.SAND, CellType.of("item-sand"));
+        assertEquals(CellType.ATTACK, CellType.of("attack-block"));
+        assertEquals("block-t", CellType.cssClass(CellType.T));
+        assertNull(CellType.cssClass(CellType.EMPTY));
+    }
+
+    @Test
+    @DisplayName("처음 보는 CSS 클래스는 새 코드로 등록")
+    void testInternUnknownClass() {
+        byte code = CellType.of("celltype-test-block");
+
+        assertTrue(code > CellType.ATTACK, "기본 코드 이후에 등록되어야 합니다");
+        assertEquals(code, CellType.of("celltype-test-block"), "같은 클래스는 같은 코드");
+        assertEquals("celltype-test-block", CellType.cssClass(code));
+    }
+
+    @Test
+    @DisplayName("색상 팔레트 생성 테스트")
+    void testBuildPalette() {
+        Map<String, Color> colorMap = new HashMap<>();
+        colorMap.put("block-i", Color.CYAN);
+        colorMap.put("block-default", Color.LIGHTGRAY);
+
+        Color[] palette = CellType.buildPalette(colorMap);
+
+        assertEquals(Color.CYAN, CellType.colorOf(palette, CellType.I));
+        assertEquals(Color.LIGHTGRAY, CellType.colorOf(palette, CellType.O), "맵에 없으면 기본 색상");
+        assertEquals(Color.LIGHTGRAY, CellType.colorOf(palette, (byte) 120), "범위 밖 코드는 기본 색상");
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.game.blocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KickTableTest {
+
+    @Test
+    @DisplayName("첫 시도만 사용해 네 번 회전하면 제자리로 돌아옴 (상자 중심 회전)")
+    void testFullTurnReturnsToOrigin() {
+        for (PieceKind kind : PieceKind.values()) {
+            KickTable kicks = kind.kicks();
+            for (int direction = 0; direction < 2; direction++) {
+                int dx = 0;
+                int dy = 0;
+                int orientation = 0;
+                for (int i = 0; i < 4; i++) {
+                    dx += kicks.offsetX(orientation, direction, 0);
+                    dy += kicks.offsetY(orientation, direction, 0);
+                    orientation = direction == KickTable.CLOCKWISE ? (orientation + 1) & 3 : (orientation + 3) & 3;
+                }
+                assertEquals(0, dx, kind + " x");
+                assertEquals(0, dy, kind + " y");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("시계 회전 후 반시계 회전하면 같은 위치")
+    void testClockwiseThenCounterClockwise() {
+        for (PieceKind kind : PieceKind.values()) {
+            KickTable kicks = kind.kicks();
+            for (int from = 0; from < 4; from++) {
+                int to = (from + 1) & 3;
+                assertEquals(0, kicks.offsetX(from, KickTable.CLOCKWISE, 0)
+                    + kicks.offsetX(to, KickTable.COUNTER_CLOCKWISE, 0), kind + " " + from);
+                assertEquals(0, kicks.offsetY(from, KickTable.CLOCKWISE, 0)
+                    + kicks.offsetY(to, KickTable.COUNTER_CLOCKWISE, 0), kind + " " + from);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("O 블록은 벽 차기 없음, 나머지는 5번 시도")
+    void testTestCounts() {
+        assertEquals(1, PieceKind.O.kicks().testCount());
+        assertEquals(0, PieceKind.O.kicks().offsetX(0, KickTable.CLOCKWISE, 0));
+        assertEquals(5, PieceKind.I.kicks().testCount());
+        assertEquals(5, PieceKind.T.kicks().testCount());
+    }
+
+    @Test
+    @DisplayName("T 블록 0->R 두 번째 시도는 SRS 표와 같이 왼쪽 한 칸")
+    void testTKickMatchesSrs() {
+        KickTable kicks = PieceKind.T.kicks();
+        // 상자 안 위치 변화(첫 시도)에 SRS (-1, 0) 오프셋이 더해짐
+        int baseX = kicks.offsetX(0, KickTable.CLOCKWISE, 0);
+        int baseY = kicks.offsetY(0, KickTable.CLOCKWISE, 0);
+        assertEquals(baseX - 1, kicks.offsetX(0, KickTable.CLOCKWISE, 1));
+        assertEquals(baseY, kicks.offsetY(0, KickTable.CLOCKWISE, 1));
+        // (-1, +1)은 보드 좌표에서 한 줄 위
+        assertEquals(baseY - 1, kicks.offsetY(0, KickTable.CLOCKWISE, 2));
+    }
+}
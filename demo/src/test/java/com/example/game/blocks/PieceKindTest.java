@@ -0,0 +1,62 @@
+package com.example.game.blocks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.game.items.LItem;
+
+class PieceKindTest {
+    @Test
+    @DisplayName("id로 종류를 다시 찾을 수 있음")
+    void testIdRoundTrip() {
+        assertEquals(PieceKind.COUNT, PieceKind.values().length);
+        for (PieceKind kind : PieceKind.values()) {
+            assertSame(kind, PieceKind.fromId(kind.id()));
+        }
+        assertNull(PieceKind.fromId(-1));
+        assertNull(PieceKind.fromId(PieceKind.COUNT));
+    }
+
+    @Test
+    @DisplayName("팩토리로 만든 블록은 종류의 공유 데이터를 사용")
+    void testCreateSharesFlyweightData() {
+        for (PieceKind kind : PieceKind.values()) {
+            Block block = kind.create();
+            assertSame(kind, block.getPieceKind());
+            assertSame(kind.table(), block.getRotationTable());
+            assertEquals(kind.cssClass(), block.getCssClass());
+            assertEquals(0, block.getOrientation());
+        }
+        assertTrue(PieceKind.T.create() instanceof TBlock);
+        assertTrue(PieceKind.O.create() instanceof OBlock);
+    }
+
+    @Test
+    @DisplayName("방향을 지정해 생성")
+    void testCreateWithOrientation() {
+        Block block = PieceKind.J.create(3);
+
+        assertEquals(3, block.getOrientation());
+        assertSame(PieceKind.J.table().shape(3), block.shape);
+    }
+
+    @Test
+    @DisplayName("아이템 블록은 일반 블록 종류가 없음")
+    void testItemBlockHasNoKind() {
+        assertNull(new LItem(new TBlock()).getPieceKind());
+    }
+
+    @Test
+    @DisplayName("블록 상태로부터 블록 복원")
+    void testPieceStateToBlock() {
+        PieceState state = new PieceState(PieceKind.S, 5, 4, 7);
+
+        Block block = state.toBlock();
+
+        assertEquals(1, state.getRotation(), "방향은 0-3으로 정규화");
+        assertSame(PieceKind.S, block.getPieceKind());
+        assertEquals(1, block.getOrientation());
+        assertNull(new PieceState().toBlock());
+    }
+}
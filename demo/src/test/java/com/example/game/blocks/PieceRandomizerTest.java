@@ -0,0 +1,118 @@
+package com.example.game.blocks;
+
+import java.util.EnumSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.settings.GameSettings;
+
+class PieceRandomizerTest {
+    private static final int SAMPLES = 70000;
+
+    @Test
+    @DisplayName("alias 테이블 분포가 가중치와 일치")
+    void testWeightedDistribution() {
+        double[] weights = { 3, 1, 1, 1, 1, 1, 0 };
+        PieceRandomizer randomizer = new WeightedRandomizer(weights, new Random(7));
+
+        int[] counts = new int[PieceKind.COUNT];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[randomizer.next().ordinal()]++;
+        }
+
+        assertEquals(0, counts[PieceKind.O.ordinal()], "가중치 0인 블록은 나오지 않아야 합니다");
+        for (int i = 0; i < weights.length; i++) {
+            double expected = weights[i] / 8.0;
+            double observed = (double) counts[i] / SAMPLES;
+            assertEquals(expected, observed, 0.01, PieceKind.fromId(i) + " 비율");
+        }
+    }
+
+    @Test
+    @DisplayName("난이도별 가중치 - EASY는 I블록이 더 자주 나옴")
+    void testDifficultyWeights() {
+        double[] easy = WeightedRandomizer.weightsFor(GameSettings.Difficulty.EASY);
+        double[] hard = WeightedRandomizer.weightsFor(GameSettings.Difficulty.HARD);
+
+        assertEquals(1.2, easy[PieceKind.I.ordinal()], 1e-9);
+        assertEquals(0.8, hard[PieceKind.I.ordinal()], 1e-9);
+        assertEquals(1.0, easy[PieceKind.T.ordinal()], 1e-9);
+    }
+
+    @Test
+    @DisplayName("잘못된 가중치는 예외 발생")
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedRandomizer(new double[3], new Random()));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedRandomizer(new double[7], new Random()));
+    }
+
+    @Test
+    @DisplayName("7-bag은 7개마다 모든 종류가 한 번씩 나옴")
+    void testSevenBag() {
+        PieceRandomizer randomizer = new SevenBagRandomizer(new Random(3));
+
+        for (int bag = 0; bag < 50; bag++) {
+            EnumSet<PieceKind> seen = EnumSet.noneOf(PieceKind.class);
+            for (int i = 0; i < PieceKind.COUNT; i++) {
+                assertTrue(seen.add(randomizer.next()), "한 가방 안에서 중복이 없어야 합니다");
+            }
+            assertEquals(PieceKind.COUNT, seen.size());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 시드로 재설정하면 같은 순서")
+    void testReseedDeterministic() {
+        PieceRandomizer[] modes = {
+            WeightedRandomizer.forDifficulty(GameSettings.Difficulty.NORMAL, new Random()),
+            new SevenBagRandomizer(new Random())
+        };
+        for (PieceRandomizer mode : modes) {
+            PieceRandomizer a = mode.reseed(1234L);
+            PieceRandomizer b = mode.reseed(1234L);
+            for (int i = 0; i < 100; i++) {
+                assertSame(a.next(), b.next(), mode.getClass().getSimpleName() + " " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("복사본은 원본과 같은 순서를 이어서 만듦")
+    void testCopyContinuesSequence() {
+        PieceRandomizer[] modes = {
+            new WeightedRandomizer(WeightedRandomizer.weightsFor(GameSettings.Difficulty.EASY), new SeededRandom(11L)),
+            new SevenBagRandomizer(new SeededRandom(11L))
+        };
+        for (PieceRandomizer original : modes) {
+            // 가방 중간에서 복사
+            for (int i = 0; i < 3; i++) {
+                original.next();
+            }
+            PieceRandomizer copy = original.copy();
+            for (int i = 0; i < 30; i++) {
+                assertSame(original.next(), copy.next(), original.getClass().getSimpleName() + " " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("SplitMix64 난수열은 시드로 고정됨")
+    void testSeededRandom() {
+        SeededRandom a = new SeededRandom(99L);
+        SeededRandom b = new SeededRandom(99L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+        // SplitMix64 기준값 (seed = 0의 첫 출력)
+        assertEquals(0xE220A8397B1DCDAFL, new SeededRandom(0L).nextLong());
+
+        SeededRandom c = new SeededRandom(5L);
+        for (int i = 0; i < 1000; i++) {
+            int value = c.nextInt(7);
+            assertTrue(value >= 0 && value < 7);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.game.blocks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.game.items.LItem;
+
+class RotationTableTest {
+    @Test
+    @DisplayName("같은 종류의 블록은 회전 테이블을 공유")
+    void testSharedTable() {
+        assertSame(new TBlock().getRotationTable(), new TBlock().getRotationTable());
+        assertNotSame(new TBlock().getRotationTable(), new SBlock().getRotationTable());
+    }
+
+    @Test
+    @DisplayName("회전은 새 배열을 만들지 않고 테이블의 방향만 바꿈")
+    void testRotateUsesTableShapes() {
+        Block block = new TBlock();
+        RotationTable table = block.getRotationTable();
+
+        block.rotate();
+        int[][] rotatedOnce = table.shape(1);
+        assertEquals(1, block.getOrientation());
+        assertEquals(rotatedOnce.length, block.height());
+        assertEquals(rotatedOnce[0].length, block.width());
+
+        // T블록 {0,1,0},{1,1,1} 을 시계 방향으로 회전하면 {1,0},{1,1},{1,0}
+        assertArrayEquals(new int[] {1, 0}, rotatedOnce[0]);
+        assertArrayEquals(new int[] {1, 1}, rotatedOnce[1]);
+        assertArrayEquals(new int[] {1, 0}, rotatedOnce[2]);
+
+        Block other = new TBlock();
+        other.rotate();
+        assertEquals(block.getShape(0, 1), other.getShape(0, 1));
+    }
+
+    @Test
+    @DisplayName("rotateBack은 rotate를 취소")
+    void testRotateBack() {
+        Block block = new JBlock();
+        int width = block.width();
+        int height = block.height();
+
+        block.rotate();
+        block.rotateBack();
+
+        assertEquals(0, block.getOrientation());
+        assertEquals(width, block.width());
+        assertEquals(height, block.height());
+
+        block.rotateBack();
+        assertEquals(3, block.getOrientation());
+    }
+
+    @Test
+    @DisplayName("행 비트마스크 확인")
+    void testRowMasks() {
+        Block block = new SBlock(); // {0,1,1},{1,1,0}
+
+        assertEquals(0b110, block.rowMask(0));
+        assertEquals(0b011, block.rowMask(1));
+    }
+
+    @Test
+    @DisplayName("O 블록은 모든 방향이 같은 모양으로 처리됨")
+    void testCanonicalOrientation() {
+        RotationTable oTable = new OBlock().getRotationTable();
+        for (int o = 0; o < RotationTable.ORIENTATIONS; o++) {
+            assertEquals(0, oTable.canonicalOrientation(o));
+        }
+
+        RotationTable sTable = new SBlock().getRotationTable();
+        assertEquals(0, sTable.canonicalOrientation(2));
+        assertEquals(1, sTable.canonicalOrientation(3));
+    }
+
+    @Test
+    @DisplayName("셀 인덱스는 회전 후에도 같은 셀을 가리킴")
+    void testCellIndexConsistency() {
+        RotationTable table = new LBlock().getRotationTable();
+        for (int o = 0; o < RotationTable.ORIENTATIONS; o++) {
+            int[][] shape = table.shape(o);
+            for (int i = 0; i < table.cellCount(); i++) {
+                assertEquals(1, shape[table.cellRow(o, i)][table.cellCol(o, i)],
+                        "셀 인덱스가 가리키는 위치는 항상 채워져 있어야 합니다");
+            }
+        }
+        // 방향 0 → 1 : (row, col) -> (col, height - 1 - row)
+        int h0 = table.height(0);
+        for (int i = 0; i < table.cellCount(); i++) {
+            assertEquals(table.cellCol(0, i), table.cellRow(1, i));
+            assertEquals(h0 - 1 - table.cellRow(0, i), table.cellCol(1, i));
+        }
+    }
+
+    @Test
+    @DisplayName("setShape는 테이블의 일치하는 방향으로 전환")
+    void testSetShapeFindsOrientation() {
+        Block source = new ZBlock();
+        source.rotate();
+
+        Block target = new ZBlock();
+        target.setShape(new int[][] {
+            {0, 1},
+            {1, 1},
+            {1, 0}
+        });
+
+        assertEquals(1, target.getOrientation());
+        assertSame(source.getRotationTable(), target.getRotationTable());
+    }
+
+    @Test
+    @DisplayName("아이템 마커는 회전 후에도 채워진 셀에 위치")
+    void testItemMarkerFollowsRotation() {
+        LItem item = new LItem(new TBlock());
+        for (int i = 0; i < RotationTable.ORIENTATIONS; i++) {
+            item.rotate();
+            assertEquals(1, item.getShape(item.getLCol(), item.getLRow()));
+            assertTrue(item.hasLMarker(item.getLRow(), item.getLCol()));
+        }
+    }
+}
@@ -2,10 +2,6 @@ package com.example.game.component;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Queue;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -39,62 +35,37 @@ public class AttackQueueDisplayTest {
     
     @Test
     public void testAddSingleAttackLine() {
-        List<String[]> lines = new ArrayList<>();
-        String[] line = createAttackLine(10);
-        lines.add(line);
-        
-        display.addAttackLines(lines);
+        display.addGarbage(1, 0);
         
         assertEquals(1, display.getQueueSize(), "공격 줄 추가 후 큐 크기는 1이어야 함");
     }
     
     @Test
     public void testAddMultipleAttackLines() {
-        List<String[]> lines = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            lines.add(createAttackLine(10));
-        }
-        
-        display.addAttackLines(lines);
+        display.addGarbage(3, 4);
         
         assertEquals(3, display.getQueueSize(), "3줄 추가 후 큐 크기는 3이어야 함");
     }
     
     @Test
-    public void testPollAttackLine() {
-        List<String[]> lines = new ArrayList<>();
-        String[] line1 = createAttackLine(10);
-        String[] line2 = createAttackLine(10);
-        lines.add(line1);
-        lines.add(line2);
-        
-        display.addAttackLines(lines);
-        assertEquals(2, display.getQueueSize());
-        
-        String[] polled = display.pollAttackLine();
-        assertNotNull(polled, "poll된 줄은 null이 아니어야 함");
-        assertEquals(1, display.getQueueSize(), "poll 후 큐 크기는 1이어야 함");
+    public void testHoleColumnKept() {
+        display.addGarbage(2, 3);
         
-        String[] polled2 = display.pollAttackLine();
-        assertNotNull(polled2, "두 번째 poll된 줄도 null이 아니어야 함");
-        assertEquals(0, display.getQueueSize(), "모두 poll 후 큐 크기는 0이어야 함");
+        GarbageQueue queue = display.getQueue();
+        assertEquals(0b1111110111, queue.getRow(0), "구멍 열만 비어 있어야 함");
+        assertEquals(0b1111110111, queue.getRow(1));
     }
     
     @Test
-    public void testPollFromEmptyQueue() {
-        String[] polled = display.pollAttackLine();
-        assertNull(polled, "빈 큐에서 poll하면 null을 반환해야 함");
-        assertEquals(0, display.getQueueSize(), "큐 크기는 여전히 0이어야 함");
+    public void testQueueCapped() {
+        display.addGarbage(8, 0);
+        display.addGarbage(5, 1);
+        assertEquals(GarbageQueue.MAX_LINES, display.getQueueSize(), "최대 10줄까지만 보관");
     }
     
     @Test
     public void testClear() {
-        List<String[]> lines = new ArrayList<>();
-        for (int i = 0; i < 5; i++) {
-            lines.add(createAttackLine(10));
-        }
-        
-        display.addAttackLines(lines);
+        display.addGarbage(5, 0);
         assertEquals(5, display.getQueueSize());
         
         display.clear();
@@ -103,12 +74,9 @@ public class AttackQueueDisplayTest {
     
     @Test
     public void testGetQueue() {
-        List<String[]> lines = new ArrayList<>();
-        lines.add(createAttackLine(10));
-        
-        display.addAttackLines(lines);
+        display.addGarbage(1, 9);
         
-        Queue<String[]> queue = display.getQueue();
+        GarbageQueue queue = display.getQueue();
         assertNotNull(queue, "큐는 null이 아니어야 함");
         assertEquals(1, queue.size(), "큐 크기는 1이어야 함");
     }
@@ -116,11 +84,7 @@ public class AttackQueueDisplayTest {
     @Test
     public void testSyncWithActualQueue_Decrease() {
         // 5줄 추가
-        List<String[]> lines = new ArrayList<>();
-        for (int i = 0; i < 5; i++) {
-            lines.add(createAttackLine(10));
-        }
-        display.addAttackLines(lines);
+        display.addGarbage(5, 2);
         assertEquals(5, display.getQueueSize());
         
         // 실제 큐는 2줄로 동기화
@@ -131,11 +95,7 @@ public class AttackQueueDisplayTest {
     @Test
     public void testSyncWithActualQueue_Increase() {
         // 2줄 추가
-        List<String[]> lines = new ArrayList<>();
-        for (int i = 0; i < 2; i++) {
-            lines.add(createAttackLine(10));
-        }
-        display.addAttackLines(lines);
+        display.addGarbage(2, 2);
         assertEquals(2, display.getQueueSize());
         
         // 실제 큐는 5줄로 동기화
@@ -146,11 +106,7 @@ public class AttackQueueDisplayTest {
     @Test
     public void testSyncWithActualQueue_SameSize() {
         // 3줄 추가
-        List<String[]> lines = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            lines.add(createAttackLine(10));
-        }
-        display.addAttackLines(lines);
+        display.addGarbage(3, 2);
         assertEquals(3, display.getQueueSize());
         
         // 같은 크기로 동기화
@@ -161,11 +117,7 @@ public class AttackQueueDisplayTest {
     @Test
     public void testSyncWithActualQueue_ToZero() {
         // 3줄 추가
-        List<String[]> lines = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            lines.add(createAttackLine(10));
-        }
-        display.addAttackLines(lines);
+        display.addGarbage(3, 2);
         assertEquals(3, display.getQueueSize());
         
         // 0으로 동기화
@@ -183,32 +135,23 @@ public class AttackQueueDisplayTest {
     }
     
     @Test
-    public void testAddEmptyList() {
-        List<String[]> emptyLines = new ArrayList<>();
-        
-        display.addAttackLines(emptyLines);
-        assertEquals(0, display.getQueueSize(), "빈 리스트 추가 시 큐 크기는 0이어야 함");
+    public void testAddZeroLines() {
+        display.addGarbage(0, 0);
+        assertEquals(0, display.getQueueSize(), "0줄 추가 시 큐 크기는 0이어야 함");
     }
     
     @Test
     public void testMultipleOperations() {
         // 2줄 추가
-        List<String[]> lines1 = new ArrayList<>();
-        lines1.add(createAttackLine(10));
-        lines1.add(createAttackLine(10));
-        display.addAttackLines(lines1);
+        display.addGarbage(2, 0);
         assertEquals(2, display.getQueueSize());
         
-        // 1줄 poll
-        display.pollAttackLine();
+        // 실제 큐에 1줄 들어감
+        display.syncWithActualQueue(1);
         assertEquals(1, display.getQueueSize());
         
         // 3줄 더 추가
-        List<String[]> lines2 = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            lines2.add(createAttackLine(10));
-        }
-        display.addAttackLines(lines2);
+        display.addGarbage(3, 7);
         assertEquals(4, display.getQueueSize());
         
         // clear
@@ -222,19 +165,4 @@ public class AttackQueueDisplayTest {
         assertNotNull(container, "컨테이너는 null이 아니어야 함");
         assertFalse(container.getChildren().isEmpty(), "컨테이너는 자식 요소를 가져야 함");
     }
-    
-    /**
-     * 테스트용 공격 줄 생성
-     */
-    private String[] createAttackLine(int width) {
-        String[] line = new String[width];
-        for (int i = 0; i < width; i++) {
-            if (i % 2 == 0) {
-                line[i] = "attack-block";
-            } else {
-                line[i] = null;
-            }
-        }
-        return line;
-    }
 }
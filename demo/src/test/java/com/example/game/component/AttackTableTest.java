@@ -0,0 +1,56 @@
+package com.example.game.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttackTableTest {
+
+    private final AttackTable table = AttackTable.standard();
+
+    @Test
+    @DisplayName("기본 표: 싱글 0, 더블 1, 트리플 2, 테트리스 4")
+    void testLineAttack() {
+        assertEquals(0, table.attackFor(1, LineClear.Spin.NONE, 0, false));
+        assertEquals(1, table.attackFor(2, LineClear.Spin.NONE, 0, false));
+        assertEquals(2, table.attackFor(3, LineClear.Spin.NONE, 0, false));
+        assertEquals(4, table.attackFor(4, LineClear.Spin.NONE, 0, false));
+    }
+
+    @Test
+    @DisplayName("T-spin은 줄 수의 두 배, mini는 더블만 1줄, 줄이 없으면 공격 없음")
+    void testSpinAttack() {
+        assertEquals(2, table.attackFor(1, LineClear.Spin.FULL, 0, false));
+        assertEquals(4, table.attackFor(2, LineClear.Spin.FULL, 0, false));
+        assertEquals(6, table.attackFor(3, LineClear.Spin.FULL, 0, false));
+        assertEquals(0, table.attackFor(1, LineClear.Spin.MINI, 0, false));
+        assertEquals(1, table.attackFor(2, LineClear.Spin.MINI, 0, false));
+        assertEquals(0, table.attackFor(0, LineClear.Spin.FULL, 3, true));
+    }
+
+    @Test
+    @DisplayName("B2B 보너스와 콤보 보너스 (표 끝을 넘으면 마지막 값)")
+    void testBonuses() {
+        assertEquals(5, table.attackFor(4, LineClear.Spin.NONE, 0, true));
+        assertEquals(1, table.attackFor(1, LineClear.Spin.NONE, 2, false));
+        assertEquals(5, table.attackFor(1, LineClear.Spin.NONE, 12, false));
+        assertEquals(5, table.attackFor(1, LineClear.Spin.NONE, 100, false));
+    }
+
+    @Test
+    @DisplayName("빈 표나 음수 값은 예외 발생, 전달한 배열은 복사해서 사용")
+    void testValidation() {
+        int[] lines = {0, 1};
+        AttackTable custom = new AttackTable(lines, new int[] {0}, new int[] {0}, new int[] {0}, 0);
+        lines[1] = 9;
+        assertEquals(1, custom.attackFor(1, LineClear.Spin.NONE, 0, false));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new AttackTable(new int[0], new int[] {0}, new int[] {0}, new int[] {0}, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new AttackTable(new int[] {-1}, new int[] {0}, new int[] {0}, new int[] {0}, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new AttackTable(new int[] {0}, new int[] {0}, new int[] {0}, new int[] {0}, -1));
+    }
+}
@@ -0,0 +1,429 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.CellType;
+import com.example.game.blocks.IBlock;
+import com.example.game.blocks.OBlock;
+import com.example.game.blocks.TBlock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoardState 비트보드 단위 테스트
+ */
+class BoardStateTest {
+
+    private BoardState boardState;
+
+    @BeforeEach
+    void setUp() {
+        boardState = new BoardState(GameLogic.WIDTH, GameLogic.HEIGHT);
+    }
+
+    @Test
+    @DisplayName("빈 보드 초기 상태 테스트")
+    void testEmptyBoard() {
+        assertEquals(0x3FF, boardState.getFullRowMask(), "10칸 보드의 꽉 찬 줄 마스크는 0x3FF");
+        for (int row = 0; row < GameLogic.HEIGHT; row++) {
+            assertEquals(0, boardState.getRow(row), "빈 보드의 모든 줄은 0이어야 합니다");
+        }
+    }
+
+    @Test
+    @DisplayName("셀 설정/해제 테스트")
+    void testSetAndClearCell() {
+        // When
+        boardState.setCell(5, 3, "block-t");
+
+        // Then
+        assertTrue(boardState.isOccupied(5, 3));
+        assertEquals(1 << 3, boardState.getRow(5));
+        assertEquals("block-t", boardState.getType(5, 3));
+
+        // When
+        boardState.clearCell(5, 3);
+
+        // Then
+        assertFalse(boardState.isOccupied(5, 3));
+        assertNull(boardState.getType(5, 3));
+    }
+
+    @Test
+    @DisplayName("블록 배치 가능 여부 - 경계 검사")
+    void testCanPlace_Bounds() {
+        Block iBlock = new IBlock(); // 1x4 가로
+
+        assertTrue(boardState.canPlace(iBlock, 0, 0));
+        assertTrue(boardState.canPlace(iBlock, GameLogic.WIDTH - 4, 0));
+        assertFalse(boardState.canPlace(iBlock, GameLogic.WIDTH - 3, 0), "오른쪽 경계를 넘으면 불가");
+        assertFalse(boardState.canPlace(iBlock, -1, 0), "왼쪽 경계를 넘으면 불가");
+        assertFalse(boardState.canPlace(iBlock, 0, GameLogic.HEIGHT), "하단 경계를 넘으면 불가");
+        assertTrue(boardState.canPlace(iBlock, 0, -2), "상단은 2줄 여유 허용");
+        assertFalse(boardState.canPlace(iBlock, 0, -3));
+    }
+
+    @Test
+    @DisplayName("블록 배치 가능 여부 - 충돌 검사")
+    void testCanPlace_Collision() {
+        Block oBlock = new OBlock();
+        boardState.setCell(GameLogic.HEIGHT - 1, 4, "block-default");
+
+        assertFalse(boardState.canPlace(oBlock, 3, GameLogic.HEIGHT - 2));
+        assertFalse(boardState.canPlace(oBlock, 4, GameLogic.HEIGHT - 2));
+        assertTrue(boardState.canPlace(oBlock, 5, GameLogic.HEIGHT - 2));
+        assertTrue(boardState.canPlace(oBlock, 3, GameLogic.HEIGHT - 3));
+    }
+
+    @Test
+    @DisplayName("블록 놓기/지우기 테스트")
+    void testPlaceAndErase() {
+        Block oBlock = new OBlock();
+
+        // When
+        boardState.place(oBlock, 2, 10);
+
+        // Then
+        assertEquals(0b1100, boardState.getRow(10));
+        assertEquals(0b1100, boardState.getRow(11));
+        assertEquals(oBlock.getCssClass(), boardState.getType(11, 3));
+
+        // When
+        boardState.erase(oBlock, 2, 10);
+
+        // Then
+        assertEquals(0, boardState.getRow(10));
+        assertEquals(0, boardState.getRow(11));
+    }
+
+    @Test
+    @DisplayName("꽉 찬 줄 검사 테스트")
+    void testIsRowFull() {
+        boardState.setRow(19, 0x3FF, "block-default");
+        boardState.setRow(18, 0x1FF, "block-default");
+
+        assertTrue(boardState.isRowFull(19));
+        assertFalse(boardState.isRowFull(18));
+    }
+
+    @Test
+    @DisplayName("여러 줄 삭제 후 남은 줄이 아래로 모이는지 확인")
+    void testRemoveRows() {
+        // Given
+        boardState.setRow(17, 0b1, "block-i");
+        boardState.setRow(18, 0x3FF, "block-default");
+        boardState.setRow(19, 0x3FF, "block-default");
+
+        // When
+        int cleared = boardState.removeRows((1L << 18) | (1L << 19));
+
+        // Then
+        assertEquals(2, cleared);
+        assertEquals(0b1, boardState.getRow(19));
+        assertEquals("block-i", boardState.getType(19, 0));
+        assertEquals(0, boardState.getRow(17));
+        assertEquals(0, boardState.getRow(18));
+    }
+
+    @Test
+    @DisplayName("비연속 줄 삭제 - 제자리 압축")
+    void testRemoveRows_NonConsecutive() {
+        // Given
+        boardState.setRow(15, 0x3FF, "block-default");
+        boardState.setRow(16, 0b10, "block-j");
+        boardState.setRow(17, 0x3FF, "block-default");
+        boardState.setRow(18, 0b100, "block-l");
+        boardState.setRow(19, 0x3FF, "block-default");
+        long fullRows = boardState.findFullRows();
+
+        // When
+        int cleared = boardState.removeRows(fullRows);
+
+        // Then
+        assertEquals((1L << 15) | (1L << 17) | (1L << 19), fullRows);
+        assertEquals(3, cleared);
+        assertEquals(0b100, boardState.getRow(19));
+        assertEquals("block-l", boardState.getType(19, 2));
+        assertEquals(0b10, boardState.getRow(18));
+        assertEquals("block-j", boardState.getType(18, 1));
+        for (int row = 0; row < 18; row++) {
+            assertEquals(0, boardState.getRow(row), "위쪽 줄은 비어있어야 합니다");
+        }
+        assertEquals(0L, boardState.findFullRows());
+    }
+
+    @Test
+    @DisplayName("빈 마스크로 삭제하면 보드 변화 없음")
+    void testRemoveRows_EmptyMask() {
+        boardState.setRow(19, 0b1, "block-i");
+
+        assertEquals(0, boardState.removeRows(0L));
+        assertEquals(0b1, boardState.getRow(19));
+    }
+
+    @Test
+    @DisplayName("단일 줄 삭제 테스트")
+    void testRemoveRow() {
+        boardState.setRow(18, 0b101, "block-s");
+        boardState.setRow(19, 0x3FF, "block-default");
+
+        boardState.removeRow(19);
+
+        assertEquals(0b101, boardState.getRow(19));
+        assertEquals("block-s", boardState.getType(19, 2));
+        assertEquals(0, boardState.getRow(0));
+    }
+
+    @Test
+    @DisplayName("보드 밀어올리기 테스트")
+    void testShiftUp() {
+        boardState.setRow(19, 0b11, "block-o");
+
+        boardState.shiftUp(2);
+
+        assertEquals(0b11, boardState.getRow(17));
+        assertEquals("block-o", boardState.getType(17, 1));
+        assertEquals(0, boardState.getRow(18));
+        assertEquals(0, boardState.getRow(19));
+    }
+
+    @Test
+    @DisplayName("int[][] 뷰는 변경이 없으면 같은 배열을 재사용")
+    void testToArray_Cached() {
+        boardState.setCell(19, 0, "block-default");
+
+        int[][] first = boardState.toArray();
+        int[][] second = boardState.toArray();
+        assertSame(first, second, "변경이 없으면 뷰를 다시 만들지 않아야 합니다");
+        assertEquals(1, first[19][0]);
+
+        boardState.clearCell(19, 0);
+        int[][] third = boardState.toArray();
+        assertNotSame(first, third, "변경 후에는 새 뷰가 생성되어야 합니다");
+        assertEquals(0, third[19][0]);
+    }
+
+    @Test
+    @DisplayName("셀 코드 배열 복사/로드 테스트")
+    void testCopyAndLoadCells() {
+        boardState.setCell(19, 2, CellType.T);
+        boardState.setCell(18, 9, CellType.ATTACK);
+
+        byte[] cells = boardState.copyCells();
+        assertEquals(GameLogic.WIDTH * GameLogic.HEIGHT, cells.length);
+
+        BoardState other = new BoardState(GameLogic.WIDTH, GameLogic.HEIGHT);
+        other.loadCells(cells);
+
+        assertEquals(1 << 2, other.getRow(19), "줄 비트마스크도 재구성되어야 합니다");
+        assertEquals(1 << 9, other.getRow(18));
+        assertEquals(CellType.T, other.getCellType(19, 2));
+        assertEquals("attack-block", other.getType(18, 9));
+    }
+
+    @Test
+    @DisplayName("열 높이/구멍 증분 추적 테스트")
+    void testColumnHeightsAndHoles() {
+        // Given - 3번 열: 15줄과 19줄에 블록, 사이는 빈칸
+        boardState.setCell(15, 3, CellType.T);
+        boardState.setCell(19, 3, CellType.T);
+        boardState.place(new OBlock(), 6, 18);
+
+        // Then
+        assertEquals(GameLogic.HEIGHT - 15, boardState.getColumnHeight(3));
+        assertEquals(3, boardState.getColumnHoles(3), "16~18줄이 구멍");
+        assertEquals(2, boardState.getColumnHeight(6));
+        assertEquals(0, boardState.getColumnHoles(6));
+        assertEquals(0, boardState.getColumnHeight(0), "빈 열의 높이는 0");
+        assertEquals(GameLogic.HEIGHT - 15, boardState.getMaxHeight());
+        assertEquals(15, boardState.getTopRow());
+
+        // When
+        boardState.clearCell(15, 3);
+
+        // Then
+        assertEquals(1, boardState.getColumnHeight(3));
+        assertEquals(0, boardState.getColumnHoles(3));
+    }
+
+    @Test
+    @DisplayName("꽉 찬 줄/채움 수 증분 추적 테스트")
+    void testFullRowTracking() {
+        boardState.setRow(19, 0x3FF, CellType.DEFAULT);
+        boardState.setRow(18, 0x1FF, CellType.DEFAULT);
+
+        assertEquals(1L << 19, boardState.getFullRows());
+        assertEquals(9, boardState.getRowFillCount(18));
+
+        // 마지막 칸을 채우면 꽉 찬 줄로 전환
+        boardState.setCell(18, 9, CellType.I);
+        assertEquals((1L << 18) | (1L << 19), boardState.getFullRows());
+
+        // 한 칸을 비우면 다시 해제
+        boardState.clearCell(19, 0);
+        assertEquals(1L << 18, boardState.getFullRows());
+    }
+
+    @Test
+    @DisplayName("줄 삭제/밀어올리기 후 열 정보 재계산")
+    void testColumnTracking_AfterRowOperations() {
+        // Given
+        boardState.setRow(17, 0b1, CellType.I);
+        boardState.setRow(18, 0x3FF, CellType.DEFAULT);
+        boardState.setRow(19, 0x3FF, CellType.DEFAULT);
+
+        // When
+        boardState.removeRows(boardState.findFullRows());
+
+        // Then
+        assertEquals(1L << 19, boardState.getColumn(0));
+        assertEquals(1, boardState.getColumnHeight(0));
+        assertEquals(0, boardState.getColumnHeight(1));
+        assertEquals(0L, boardState.getFullRows());
+
+        // When
+        boardState.setRow(18, 0x3FF, CellType.DEFAULT);
+        boardState.removeRow(18);
+
+        // Then
+        assertEquals(1, boardState.getColumnHeight(0));
+        assertEquals(0L, boardState.getFullRows());
+
+        // When
+        boardState.shiftUp(2);
+        boardState.setRow(19, 0x3FF & ~0b10, CellType.ATTACK);
+
+        // Then
+        assertEquals(3, boardState.getColumnHeight(0));
+        assertEquals(1, boardState.getColumnHoles(0));
+        assertEquals(0, boardState.getColumnHeight(1));
+    }
+
+    @Test
+    @DisplayName("줄 삭제/밀어올리기 후 열 정보가 전체 재계산 결과와 같음")
+    void testIncrementalIndexes_MatchRebuild() {
+        Random random = new Random(5L);
+        for (int round = 0; round < 200; round++) {
+            BoardState board = new BoardState(GameLogic.WIDTH, GameLogic.HEIGHT);
+            for (int row = 0; row < GameLogic.HEIGHT; row++) {
+                int mask = random.nextInt(4) == 0 ? 0x3FF : random.nextInt(0x400);
+                board.setRow(row, mask, CellType.DEFAULT);
+            }
+            if (round % 2 == 0) {
+                board.removeRows(board.findFullRows() | (1L << random.nextInt(GameLogic.HEIGHT)));
+            } else {
+                board.shiftUp(1 + random.nextInt(GameLogic.HEIGHT));
+            }
+
+            BoardState rebuilt = new BoardState(GameLogic.WIDTH, GameLogic.HEIGHT);
+            rebuilt.loadCells(board.copyCells());
+            assertArrayEquals(rebuilt.copyColumns(), board.copyColumns());
+            assertEquals(rebuilt.getFullRows(), board.getFullRows());
+        }
+    }
+
+    @Test
+    @DisplayName("셀 로드 후 열/꽉 찬 줄 정보 재구성")
+    void testLoadCells_RebuildsIndexes() {
+        BoardState source = new BoardState(GameLogic.WIDTH, GameLogic.HEIGHT);
+        source.setRow(19, 0x3FF, CellType.DEFAULT);
+        source.setCell(10, 4, CellType.Z);
+
+        boardState.loadCells(source.copyCells());
+
+        assertEquals(1L << 19, boardState.getFullRows());
+        assertEquals(GameLogic.HEIGHT - 10, boardState.getColumnHeight(4));
+        assertEquals(8, boardState.getColumnHoles(4));
+        assertArrayEquals(source.copyColumns(), boardState.copyColumns());
+    }
+
+    @Test
+    @DisplayName("낙하 거리 - 열 비트마스크 계산이 한 칸씩 내리는 결과와 같은지 확인")
+    void testDropDistance_MatchesStepwiseDrop() {
+        // Given - 오버행이 있는 보드
+        boardState.setRow(19, 0x3FF & ~0b1000, CellType.DEFAULT);
+        boardState.setCell(15, 3, CellType.J);
+        boardState.setCell(12, 7, CellType.S);
+        Block[] blocks = { new IBlock(), new OBlock(), new TBlock() };
+
+        for (Block block : blocks) {
+            for (int o = 0; o < 4; o++) {
+                for (int x = -1; x <= GameLogic.WIDTH; x++) {
+                    if (!boardState.canPlace(block, x, 0)) {
+                        continue;
+                    }
+                    int expected = 0;
+                    while (boardState.canPlace(block, x, expected + 1)) {
+                        expected++;
+                    }
+                    assertEquals(expected, boardState.dropDistance(block, x, 0),
+                            block.getClass().getSimpleName() + " o=" + o + " x=" + x);
+                }
+                block.rotate();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("낙하 거리 - 보드에 놓인 블록 자신은 장애물이 아님")
+    void testDropDistance_IgnoresOwnCells() {
+        Block oBlock = new OBlock();
+        boardState.place(oBlock, 4, 5);
+
+        assertEquals(GameLogic.HEIGHT - 7, boardState.dropDistance(oBlock, 4, 5));
+        assertEquals(0, boardState.dropDistance(oBlock, 4, GameLogic.HEIGHT - 2), "바닥에서는 0");
+    }
+
+    @Test
+    @DisplayName("다른 보드 내용 복사 테스트")
+    void testCopyFrom() {
+        BoardState source = new BoardState(GameLogic.WIDTH, GameLogic.HEIGHT);
+        source.setRow(19, 0x3FF, CellType.DEFAULT);
+        source.setCell(18, 2, CellType.L);
+        boardState.setCell(0, 0, CellType.I);
+
+        boardState.copyFrom(source);
+
+        assertEquals(0, boardState.getRow(0));
+        assertEquals(1L << 19, boardState.getFullRows());
+        assertEquals(CellType.L, boardState.getCellType(18, 2));
+        assertArrayEquals(source.copyColumns(), boardState.copyColumns());
+        assertThrows(IllegalArgumentException.class, () -> boardState.copyFrom(new BoardState(5, 5)));
+    }
+
+    @Test
+    @DisplayName("기존 int[][]/String[][] 보드와 왕복 변환")
+    void testArrayRoundTrip() {
+        int[][] board = new int[GameLogic.HEIGHT][GameLogic.WIDTH];
+        String[][] blockTypes = new String[GameLogic.HEIGHT][GameLogic.WIDTH];
+        board[19][0] = 1;
+        blockTypes[19][0] = "block-i";
+        board[18][9] = 1;
+        blockTypes[18][9] = "item-sand";
+
+        BoardState state = BoardState.fromArrays(board, blockTypes);
+        assertEquals(1, state.getRow(19));
+        assertEquals(1 << 9, state.getRow(18));
+        assertEquals("item-sand", state.getType(18, 9));
+
+        state.clearCell(19, 0);
+        state.setCell(0, 5, "block-t");
+        state.copyTo(board, blockTypes);
+        assertEquals(0, board[19][0]);
+        assertNull(blockTypes[19][0]);
+        assertEquals(1, board[0][5]);
+        assertEquals("block-t", blockTypes[0][5]);
+        assertEquals("item-sand", blockTypes[18][9]);
+    }
+
+    @Test
+    @DisplayName("잘못된 보드 크기는 예외 발생")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardState(0, 20));
+        assertThrows(IllegalArgumentException.class, () -> new BoardState(10, 0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.game.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long STEP = GameClock.TICK_NANOS; // 1/60초
+
+    // 주어진 주사율로 1초 동안 프레임을 돌렸을 때 실행된 틱 수
+    private int ticksInOneSecond(int hz) {
+        GameClock clock = new GameClock();
+        clock.reset(0);
+        int ticks = 0;
+        for (int frame = 1; frame <= hz; frame++) {
+            ticks += clock.advance(frame * SECOND / hz);
+        }
+        return ticks;
+    }
+
+    @Test
+    @DisplayName("주사율과 무관하게 같은 틱 수")
+    void testRefreshRateIndependent() {
+        assertEquals(GameClock.TICKS_PER_SECOND, ticksInOneSecond(60));
+        assertEquals(GameClock.TICKS_PER_SECOND, ticksInOneSecond(144));
+        assertEquals(GameClock.TICKS_PER_SECOND, ticksInOneSecond(240));
+    }
+
+    @Test
+    @DisplayName("남은 시간은 다음 프레임으로 이월")
+    void testAccumulatorCarriesRemainder() {
+        GameClock clock = new GameClock();
+        clock.reset(0);
+
+        // 0.6틱 → 0틱, 1.2틱 → 1틱 (0.2틱 이월), 2틱 → 1틱
+        assertEquals(0, clock.advance(STEP * 6 / 10));
+        assertEquals(1, clock.advance(STEP * 12 / 10));
+        assertEquals(1, clock.advance(STEP * 2));
+    }
+
+    @Test
+    @DisplayName("긴 멈춤 후에는 따라잡기 틱 수를 제한")
+    void testCatchUpCapped() {
+        GameClock clock = new GameClock(3);
+        clock.reset(0);
+
+        // 10.5틱 멈춤 → 10틱이 밀렸지만 3틱만 실행하고 나머지는 버림
+        assertEquals(3, clock.advance(STEP * 105 / 10));
+        assertEquals(0, clock.advance(STEP * 109 / 10));
+        assertEquals(1, clock.advance(STEP * 115 / 10));
+    }
+
+    @Test
+    @DisplayName("skip 동안의 시간은 누적하지 않음")
+    void testSkipDoesNotAccumulate() {
+        GameClock clock = new GameClock();
+        clock.reset(0);
+
+        clock.advance(STEP / 2);
+        clock.skip(5 * SECOND);
+        assertEquals(0, clock.advance(5 * SECOND + STEP * 4 / 10));
+        assertEquals(1, clock.advance(5 * SECOND + STEP / 2));
+    }
+
+    @Test
+    @DisplayName("첫 호출은 기준 시각만 설정")
+    void testFirstAdvanceStartsClock() {
+        GameClock clock = new GameClock();
+        assertEquals(0, clock.advance(10 * SECOND));
+        assertEquals(1, clock.advance(10 * SECOND + STEP));
+    }
+
+    @Test
+    @DisplayName("따라잡기 한도는 양수여야 함")
+    void testInvalidCatchUp() {
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(0));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.game.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    @Test
+    @DisplayName("dispatch 전까지는 전달하지 않고, 발행 순서대로 전달")
+    void testDeliveredInOrderOnDispatch() {
+        GameEventBus bus = new GameEventBus(8);
+        List<Integer> values = new ArrayList<>();
+        bus.subscribe(event -> values.add(event.getValue()));
+
+        bus.publish(GameEvent.Type.PIECE_MOVED, 1, 2, 10);
+        bus.publish(GameEvent.Type.PIECE_MOVED, 1, 3, 20);
+        assertTrue(values.isEmpty());
+        assertEquals(2, bus.pending());
+
+        assertEquals(2, bus.dispatch());
+        assertEquals(List.of(10, 20), values);
+        assertEquals(0, bus.dispatch());
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 기록하지 않음")
+    void testNoListenersIsNoOp() {
+        GameEventBus bus = new GameEventBus(4);
+        for (int i = 0; i < 100; i++) {
+            bus.publish(GameEvent.Type.PIECE_MOVED, 0, 0, i);
+        }
+        assertEquals(0, bus.pending());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 먼저 쌓인 이벤트를 전달하고 이어서 기록")
+    void testFullBufferFlushes() {
+        GameEventBus bus = new GameEventBus(4);
+        List<Long> sequences = new ArrayList<>();
+        bus.subscribe(event -> sequences.add(event.getSequence()));
+
+        for (int i = 0; i < 10; i++) {
+            bus.publish(GameEvent.Type.LINES_CLEARED, 0, 0, 1, 1L << i);
+        }
+        bus.dispatch();
+
+        assertEquals(10, sequences.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, sequences.get(i));
+        }
+        assertEquals(0, bus.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("구독자가 발행한 이벤트도 같은 dispatch에서 전달")
+    void testPublishFromListener() {
+        GameEventBus bus = new GameEventBus(8);
+        List<GameEvent.Type> types = new ArrayList<>();
+        bus.subscribe(event -> {
+            types.add(event.getType());
+            if (event.getType() == GameEvent.Type.PIECE_LOCKED) {
+                bus.publish(GameEvent.Type.LINES_CLEARED, 0, 0, 1, 1L);
+            }
+        });
+
+        bus.publish(GameEvent.Type.PIECE_LOCKED, 0, 0, 0);
+        assertEquals(2, bus.dispatch());
+        assertEquals(List.of(GameEvent.Type.PIECE_LOCKED, GameEvent.Type.LINES_CLEARED), types);
+    }
+
+    @Test
+    @DisplayName("해제한 구독자에는 전달하지 않음")
+    void testUnsubscribe() {
+        GameEventBus bus = new GameEventBus(8);
+        int[] count = new int[1];
+        GameEventBus.Listener listener = event -> count[0]++;
+        bus.subscribe(listener);
+        bus.publish(GameEvent.Type.GAME_OVER);
+        bus.dispatch();
+
+        bus.unsubscribe(listener);
+        assertFalse(bus.hasListeners());
+        bus.publish(GameEvent.Type.GAME_OVER);
+        bus.dispatch();
+        assertEquals(1, count[0]);
+    }
+
+    @Test
+    @DisplayName("버퍼 크기는 2의 거듭제곱")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(0));
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(100));
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.game.component;
 
 import com.example.game.blocks.Block;
+import com.example.game.blocks.CellType;
+import com.example.game.blocks.KickTable;
+import com.example.game.blocks.OBlock;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.PieceState;
+import com.example.game.blocks.SevenBagRandomizer;
 import com.example.game.items.ItemManager;
+import com.example.game.items.SandBlock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -174,9 +182,9 @@ class GameLogicTest {
     @DisplayName("단일 라인 클리어 테스트")
     void testClearSingleLine() {
         // Given - 보드 하단 줄을 채움
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[GameLogic.HEIGHT - 1][col] = 1;
+            boardState.setCell(GameLogic.HEIGHT - 1, col, "block-default");
         }
         
         // When
@@ -190,9 +198,9 @@ class GameLogicTest {
     @DisplayName("풀 라인 찾기 테스트")
     void testFindFullLines() {
         // Given - 보드 하단 줄을 채움
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[GameLogic.HEIGHT - 1][col] = 1;
+            boardState.setCell(GameLogic.HEIGHT - 1, col, "block-default");
         }
         
         // When
@@ -240,6 +248,28 @@ class GameLogicTest {
         assertTrue(interval <= baseInterval, "드롭 인터벌은 기본값 이하여야 합니다");
     }
     
+    @Test
+    @DisplayName("중력은 논리 틱 수로 정해지고 새 블록마다 처음부터 셈")
+    void testTickGravity() {
+        // Given
+        int gravityTicks = gameLogic.getGravityTicks();
+        assertEquals(GameLogic.BASE_GRAVITY_TICKS, gravityTicks);
+
+        // When & Then
+        for (int i = 1; i < gravityTicks; i++) {
+            assertEquals(0, gameLogic.tickGravity());
+        }
+        assertEquals(1, gameLogic.tickGravity());
+        for (int i = 1; i < gravityTicks / 2; i++) {
+            gameLogic.tickGravity();
+        }
+        gameLogic.spawnNextPiece();
+        for (int i = 1; i < gravityTicks; i++) {
+            assertEquals(0, gameLogic.tickGravity(), "새 블록은 간격을 처음부터 셈");
+        }
+        assertEquals(1, gameLogic.tickGravity());
+    }
+
     @Test
     @DisplayName("랜덤 시드 설정 테스트")
     void testSetRandomSeed() {
@@ -337,19 +367,16 @@ class GameLogicTest {
     @DisplayName("단일 라인 클리어 - 보드 시프팅 확인")
     void testClearSingleLine_BoardShifting() {
         // Given - 여러 줄을 채움
-        int[][] board = gameLogic.getBoard();
-        String[][] blockTypes = gameLogic.getBlockTypes();
+        BoardState boardState = gameLogic.getBoardState();
         
         // 18번째 줄 부분적으로 채움
         for (int col = 0; col < 5; col++) {
-            board[18][col] = 1;
-            blockTypes[18][col] = "test-block";
+            boardState.setCell(18, col, "test-block");
         }
         
         // 19번째 줄 완전히 채움
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[19][col] = 1;
-            blockTypes[19][col] = "full-block";
+            boardState.setCell(19, col, "full-block");
         }
         
         // When - 19번째 줄 삭제
@@ -359,6 +386,7 @@ class GameLogicTest {
         assertTrue(cleared, "완전히 채워진 줄은 삭제되어야 합니다");
         
         // 19번째 줄이 18번째 줄의 내용으로 시프트되었는지 확인
+        int[][] board = gameLogic.getBoard();
         int filledCount = 0;
         for (int col = 0; col < GameLogic.WIDTH; col++) {
             if (board[19][col] == 1) {
@@ -385,11 +413,11 @@ class GameLogicTest {
     @DisplayName("풀 라인 찾기 - 여러 개의 풀 라인")
     void testFindFullLines_MultipleFullLines() {
         // Given - 여러 줄을 완전히 채움
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[17][col] = 1;
-            board[18][col] = 1;
-            board[19][col] = 1;
+            boardState.setCell(17, col, "block-default");
+            boardState.setCell(18, col, "block-default");
+            boardState.setCell(19, col, "block-default");
         }
         
         // When
@@ -407,16 +435,16 @@ class GameLogicTest {
     @DisplayName("풀 라인 찾기 - 부분적으로 채워진 라인 무시")
     void testFindFullLines_IgnorePartialLines() {
         // Given - 부분적으로 채워진 줄과 완전히 채워진 줄
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         
         // 18번째 줄 부분적으로 채움
         for (int col = 0; col < 8; col++) {
-            board[18][col] = 1;
+            boardState.setCell(18, col, "block-default");
         }
         
         // 19번째 줄 완전히 채움
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[19][col] = 1;
+            boardState.setCell(19, col, "block-default");
         }
         
         // When
@@ -445,18 +473,14 @@ class GameLogicTest {
     @DisplayName("라인 클리어 실행 - 여러 개의 연속된 라인")
     void testExecuteLineClear_ConsecutiveLines() {
         // Given - 보드 초기화 및 연속된 여러 줄을 채움
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         // 보드 전체를 초기화 (현재 블록 포함 모든 데이터 제거)
-        for (int row = 0; row < GameLogic.HEIGHT; row++) {
-            for (int col = 0; col < GameLogic.WIDTH; col++) {
-                board[row][col] = 0;
-            }
-        }
+        boardState.clear();
         
         // 17, 18, 19번 줄을 채움
         for (int row = 17; row < GameLogic.HEIGHT; row++) {
             for (int col = 0; col < GameLogic.WIDTH; col++) {
-                board[row][col] = 1;
+                boardState.setCell(row, col, "block-default");
             }
         }
         
@@ -471,8 +495,8 @@ class GameLogicTest {
         // Then
         assertEquals(3, cleared, "3줄이 삭제되어야 합니다");
         
-        // executeLineClear는 새 보드를 생성하므로 gameLogic.getBoard()로 다시 참조
-        board = gameLogic.getBoard();
+        // 줄 삭제 후 보드 스냅샷을 다시 가져옴
+        int[][] board = gameLogic.getBoard();
         // 줄 삭제 후 상단 3줄이 비어있어야 함
         for (int row = 0; row < 3; row++) {
             for (int col = 0; col < GameLogic.WIDTH; col++) {
@@ -485,21 +509,21 @@ class GameLogicTest {
     @DisplayName("라인 클리어 실행 - 비연속적인 여러 라인")
     void testExecuteLineClear_NonConsecutiveLines() {
         // Given - 비연속적인 줄들을 채움
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         
         // 15번째 줄 채움
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[15][col] = 1;
+            boardState.setCell(15, col, "block-default");
         }
         
         // 17번째 줄 채움
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[17][col] = 1;
+            boardState.setCell(17, col, "block-default");
         }
         
         // 19번째 줄 채움
         for (int col = 0; col < GameLogic.WIDTH; col++) {
-            board[19][col] = 1;
+            boardState.setCell(19, col, "block-default");
         }
         
         List<Integer> linesToClear = new ArrayList<>();
@@ -514,6 +538,30 @@ class GameLogicTest {
         assertEquals(3, cleared, "3줄이 삭제되어야 합니다");
     }
     
+    @Test
+    @DisplayName("라인 클리어 실행 - 비트마스크 버전")
+    void testExecuteLineClear_Mask() {
+        // Given
+        BoardState boardState = gameLogic.getBoardState();
+        boardState.clear();
+        for (int col = 0; col < GameLogic.WIDTH; col++) {
+            boardState.setCell(18, col, "block-default");
+            boardState.setCell(19, col, "block-default");
+        }
+        boardState.setCell(17, 0, "block-i");
+
+        // When
+        long fullLines = gameLogic.findFullLinesMask();
+        int cleared = gameLogic.executeLineClear(fullLines);
+
+        // Then
+        assertEquals((1L << 18) | (1L << 19), fullLines);
+        assertEquals(2, cleared, "2줄이 삭제되어야 합니다");
+        assertEquals(2, gameLogic.getTotalLinesCleared());
+        assertTrue(boardState.isOccupied(19, 0), "남은 줄이 바닥으로 내려와야 합니다");
+        assertEquals(List.of(19, 18), GameLogic.toLineList(fullLines), "줄 목록은 아래 줄부터");
+    }
+    
     @Test
     @DisplayName("속도 배수 계산")
     void testSpeedMultiplier_Calculation() {
@@ -576,6 +624,26 @@ class GameLogicTest {
             "동일한 시드로 두 번째 블록이 같아야 합니다");
     }
     
+    @Test
+    @DisplayName("7-bag 생성기로 교체 후 시드 동기화")
+    void testSevenBagRandomizer() {
+        // Given
+        GameLogic logic1 = new GameLogic(false);
+        GameLogic logic2 = new GameLogic(false);
+        logic1.setRandomizer(new SevenBagRandomizer(new Random()));
+        logic2.setRandomizer(new SevenBagRandomizer(new Random()));
+
+        // When
+        logic1.setRandomSeed(7L);
+        logic2.setRandomSeed(7L);
+
+        // Then - 같은 시드면 같은 순서, 모드는 유지
+        assertTrue(logic1.getRandomizer() instanceof SevenBagRandomizer);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(logic1.getRandomBlock().getPieceKind(), logic2.getRandomBlock().getPieceKind());
+        }
+    }
+
     @Test
     @DisplayName("블록이 상단에 있는지 확인 - 초기 상태")
     void testIsBlockAtTop_InitialState() {
@@ -650,10 +718,10 @@ class GameLogicTest {
     @DisplayName("게임 리셋 - 보드 초기화 확인")
     void testResetGame_BoardCleared() {
         // Given - 보드에 블록 배치
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         for (int row = 15; row < GameLogic.HEIGHT; row++) {
             for (int col = 0; col < GameLogic.WIDTH; col++) {
-                board[row][col] = 1;
+                boardState.setCell(row, col, "block-default");
             }
         }
         
@@ -661,7 +729,7 @@ class GameLogicTest {
         gameLogic.resetGame();
         
         // Then - 보드가 비어있는지 확인
-        board = gameLogic.getBoard();
+        int[][] board = gameLogic.getBoard();
         int filledCells = 0;
         for (int row = 0; row < GameLogic.HEIGHT; row++) {
             for (int col = 0; col < GameLogic.WIDTH; col++) {
@@ -733,10 +801,10 @@ class GameLogicTest {
     @DisplayName("게임 오버 후 리셋 테스트")
     void testResetGame_AfterGameOver() {
         // Given - 보드를 가득 채워 게임 오버 유도
-        int[][] board = gameLogic.getBoard();
+        BoardState boardState = gameLogic.getBoardState();
         for (int row = 0; row < 5; row++) {
             for (int col = 0; col < GameLogic.WIDTH; col++) {
-                board[row][col] = 1;
+                boardState.setCell(row, col, "block-default");
             }
         }
         
@@ -753,8 +821,8 @@ class GameLogicTest {
     @DisplayName("블록 충돌 감지 테스트")
     void testCanMove_BlockCollision() {
         // Given - 하단에 블록 배치
-        int[][] board = gameLogic.getBoard();
-        board[GameLogic.HEIGHT - 1][5] = 1;
+        BoardState boardState = gameLogic.getBoardState();
+        boardState.setCell(GameLogic.HEIGHT - 1, 5, "block-default");
         
         // When & Then
         Block block = gameLogic.getCurrentBlock();
@@ -788,6 +856,667 @@ class GameLogicTest {
         assertNotNull(board2);
     }
     
+    @Test
+    @DisplayName("낙하 거리와 고스트 위치 테스트")
+    void testDropDistance() {
+        // Given
+        int startY = gameLogic.getCurrentY();
+        int distance = gameLogic.dropDistance();
+
+        // Then
+        assertEquals(startY + distance, gameLogic.getGhostY());
+        assertEquals(distance, gameLogic.dropDistance(), "변경이 없으면 같은 값을 반환해야 합니다");
+
+        // When - 한 칸씩 내려서 비교
+        int steps = 0;
+        while (gameLogic.moveDown()) {
+            steps++;
+        }
+
+        // Then
+        assertEquals(distance, steps, "낙하 거리는 한 칸씩 내린 횟수와 같아야 합니다");
+        assertEquals(0, gameLogic.dropDistance());
+    }
+
+    @Test
+    @DisplayName("보드가 바뀌면 낙하 거리 캐시가 갱신되는지 확인")
+    void testDropDistance_InvalidatedByBoardChange() {
+        // Given
+        int before = gameLogic.dropDistance();
+
+        // When - 바닥 줄을 채워 착지 위치를 한 줄 올림
+        gameLogic.getBoardState().setRow(GameLogic.HEIGHT - 1, 0x3FF, "block-default");
+
+        // Then
+        assertEquals(before - 1, gameLogic.dropDistance());
+    }
+
+    @Test
+    @DisplayName("하드 드롭은 착지 위치로 한 번에 이동")
+    void testHardDrop() {
+        // Given
+        int expected = gameLogic.dropDistance();
+        int startY = gameLogic.getCurrentY();
+
+        // When
+        int dropped = gameLogic.hardDrop();
+
+        // Then
+        assertEquals(expected, dropped);
+        assertEquals(startY + expected, gameLogic.getCurrentY());
+        assertEquals(0, gameLogic.dropDistance());
+    }
+
+    @Test
+    @DisplayName("떨어지는 블록은 고정 보드를 변경하지 않음")
+    void testActivePieceNotWrittenToBoard() {
+        // Given
+        BoardState boardState = gameLogic.getBoardState();
+        int modCount = boardState.getModCount();
+
+        // When
+        gameLogic.moveLeft();
+        gameLogic.rotateBlock();
+        gameLogic.moveRight();
+        gameLogic.moveDown();
+
+        // Then
+        assertEquals(modCount, boardState.getModCount(), "이동/회전은 보드를 변경하지 않아야 합니다");
+        assertEquals(0, boardState.getMaxHeight(), "고정 보드는 비어있어야 합니다");
+    }
+
+    @Test
+    @DisplayName("합성 보드에는 현재 블록이 포함됨")
+    void testComposedBoard() {
+        // Given
+        Block block = gameLogic.getCurrentBlock();
+        int x = gameLogic.getCurrentX();
+        int y = gameLogic.getCurrentY();
+
+        // When
+        int[][] composed = gameLogic.getComposedBoard();
+        String[][] types = gameLogic.getComposedBlockTypes();
+
+        // Then
+        int cells = 0;
+        for (int j = 0; j < block.height(); j++) {
+            for (int i = 0; i < block.width(); i++) {
+                if (block.getShape(i, j) == 1 && y + j >= 0) {
+                    assertEquals(1, composed[y + j][x + i]);
+                    assertEquals(block.getCssClass(), types[y + j][x + i]);
+                    assertEquals(1 << (x + i), gameLogic.getActivePieceRowMask(y + j) & (1 << (x + i)));
+                    cells++;
+                }
+            }
+        }
+        assertTrue(cells > 0);
+        assertSame(composed, gameLogic.getComposedBoard(), "변경이 없으면 합성 보드를 재사용해야 합니다");
+        assertEquals(0, gameLogic.getBoardState().getRow(Math.max(y, 0)), "고정 보드에는 블록이 없어야 합니다");
+    }
+
+    @Test
+    @DisplayName("착지하면 블록이 고정 보드에 기록됨")
+    void testLockOnLanding() {
+        // When
+        gameLogic.hardDrop();
+
+        // Then
+        Block block = gameLogic.getCurrentBlock();
+        int x = gameLogic.getCurrentX();
+        int y = gameLogic.getCurrentY();
+        for (int j = 0; j < block.height(); j++) {
+            int expected = block.rowMask(j) << x;
+            assertEquals(expected, gameLogic.getBoardState().getRow(y + j) & expected);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 바닥에 있는 블록의 하드 드롭은 0줄이지만 착지 처리됨")
+    void testHardDropOnGround() {
+        // Given
+        gameLogic.hardDrop();
+        gameLogic.spawnNextPiece();
+        while (gameLogic.dropDistance() > 0) {
+            gameLogic.moveDown();
+        }
+        int modCount = gameLogic.getBoardState().getModCount();
+
+        // When
+        int dropped = gameLogic.hardDrop();
+
+        // Then
+        assertEquals(0, dropped);
+        assertTrue(gameLogic.isHardDropLanded());
+        assertNotEquals(modCount, gameLogic.getBoardState().getModCount(), "0줄이어도 보드에 고정되어야 합니다");
+
+        GameLogic empty = new GameLogic(false, false);
+        assertEquals(0, empty.hardDrop());
+        assertFalse(empty.isHardDropLanded(), "블록이 없으면 착지하지 않습니다");
+    }
+
+    @Test
+    @DisplayName("블록 상태 전송/적용 왕복 테스트")
+    void testPieceStateRoundTrip() {
+        // Given
+        gameLogic.rotateBlock();
+        gameLogic.moveDown();
+        PieceState state = new PieceState();
+
+        // When
+        assertTrue(gameLogic.getCurrentPieceState(state));
+        GameLogic remote = new GameLogic(false, false);
+        remote.setCurrentPieceFromNetwork(state);
+
+        // Then
+        assertSame(gameLogic.getCurrentBlock().getPieceKind(), remote.getCurrentBlock().getPieceKind());
+        assertEquals(gameLogic.getCurrentBlock().getOrientation(), remote.getCurrentBlock().getOrientation());
+        assertEquals(gameLogic.getCurrentX(), remote.getCurrentX());
+        assertEquals(gameLogic.getCurrentY(), remote.getCurrentY());
+    }
+
+    @Test
+    @DisplayName("RuleSet으로 생성한 여러 인스턴스가 서로 독립적으로 동작")
+    void testRuleSetInstances() {
+        // Given - 2개 블록마다 속도가 오르는 규칙
+        RuleSet fast = RuleSet.defaults().withGravityCurve(2, 5, 0.5, 0.25);
+        GameLogic fastLogic = new GameLogic(fast);
+        GameLogic normalLogic = new GameLogic(RuleSet.defaults());
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            fastLogic.spawnNextPiece();
+            normalLogic.spawnNextPiece();
+        }
+
+        // Then
+        assertSame(fast, fastLogic.getRules());
+        assertEquals(4, fastLogic.getSpeedLevel(), "6개 블록 / 2 + 1");
+        assertEquals(0.25, fastLogic.getSpeedMultiplier(), 1e-9, "하한 적용");
+        assertEquals(1, normalLogic.getSpeedLevel());
+        assertFalse(normalLogic.getItemManager().isItemModeEnabled());
+    }
+
+    @Test
+    @DisplayName("RuleSet 보드 크기로 보드 생성")
+    void testRuleSetBoardSize() {
+        GameLogic tall = new GameLogic(RuleSet.defaults().withBoardSize(10, 40), false);
+
+        assertEquals(40, tall.getBoardState().getHeight());
+        assertEquals(10, tall.getBoardState().getWidth());
+    }
+
+    @Test
+    @DisplayName("오른쪽 벽에 붙은 세로 I 블록도 벽 차기로 회전")
+    void testWallKickAtRightWall() {
+        GameLogic logic = new GameLogic(RuleSet.defaults(), false);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 1, GameLogic.WIDTH - 1, 5));
+
+        assertTrue(logic.rotateBlock());
+
+        Block block = logic.getCurrentBlock();
+        assertEquals(2, block.getOrientation());
+        assertTrue(logic.getCurrentX() >= 0);
+        assertTrue(logic.getCurrentX() + block.width() <= GameLogic.WIDTH, "보드 안으로 밀려나야 함");
+    }
+
+    @Test
+    @DisplayName("빈 공간에서 시계/반시계 회전은 제자리로 돌아옴")
+    void testRotateRoundTrip() {
+        GameLogic logic = new GameLogic(RuleSet.defaults(), false);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.T, 0, 4, 8));
+
+        assertTrue(logic.rotateBlock());
+        assertTrue(logic.rotateBlockCounterClockwise());
+
+        assertEquals(0, logic.getCurrentBlock().getOrientation());
+        assertEquals(4, logic.getCurrentX());
+        assertEquals(8, logic.getCurrentY());
+    }
+
+    @Test
+    @DisplayName("모든 벽 차기 위치가 막히면 회전하지 않음")
+    void testRotateBlockedEverywhere() {
+        GameLogic logic = new GameLogic(RuleSet.defaults(), false);
+        BoardState board = logic.getBoardState();
+        // 가로 I 블록 자리(10번 줄 0~3열)만 비우고 주변을 모두 채움
+        for (int row = 5; row < GameLogic.HEIGHT; row++) {
+            board.setRow(row, row == 10 ? board.getFullRowMask() & ~0b1111 : board.getFullRowMask(), "block-default");
+        }
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 0, 0, 10));
+
+        assertFalse(logic.rotateBlock());
+        assertEquals(0, logic.getCurrentBlock().getOrientation());
+        assertEquals(0, logic.getCurrentX());
+        assertEquals(10, logic.getCurrentY());
+    }
+
+    @Test
+    @DisplayName("고정 대기가 없으면 바닥에서 stepDown 즉시 고정")
+    void testStepDownLocksWithoutDelay() {
+        GameLogic logic = new GameLogic(RuleSet.defaults(), false);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, GameLogic.HEIGHT - 2));
+
+        assertEquals(GameLogic.DropResult.LOCKED, logic.stepDown());
+        assertEquals(0b110000, logic.getBoardState().getRow(GameLogic.HEIGHT - 1));
+        assertFalse(logic.tickLockDelay(), "고정 대기가 없으면 틱으로 고정하지 않음");
+    }
+
+    @Test
+    @DisplayName("고정 대기 틱이 지나야 고정")
+    void testLockDelayTicks() {
+        GameLogic logic = new GameLogic(RuleSet.defaults().withLockDelay(5, 15), false);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, GameLogic.HEIGHT - 2));
+
+        assertEquals(GameLogic.DropResult.GROUNDED, logic.stepDown());
+        assertEquals(0, logic.getBoardState().getRow(GameLogic.HEIGHT - 1), "대기 중에는 보드에 쓰지 않음");
+
+        for (int i = 0; i < 4; i++) {
+            assertFalse(logic.tickLockDelay());
+        }
+        assertTrue(logic.tickLockDelay());
+        assertEquals(0b110000, logic.getBoardState().getRow(GameLogic.HEIGHT - 1));
+    }
+
+    @Test
+    @DisplayName("이동하면 고정 대기가 다시 시작되지만 리셋 횟수는 제한")
+    void testLockResetLimit() {
+        GameLogic logic = new GameLogic(RuleSet.defaults().withLockDelay(5, 2), false);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, GameLogic.HEIGHT - 2));
+        logic.stepDown();
+        logic.tickLockDelay();
+        logic.tickLockDelay();
+
+        logic.moveLeft();
+        assertEquals(5, logic.getLockTicksRemaining(), "이동 시 대기 재시작");
+        logic.moveRight();
+        assertEquals(2, logic.getLockResetsUsed());
+
+        logic.tickLockDelay();
+        logic.moveLeft();
+        assertEquals(4, logic.getLockTicksRemaining(), "리셋 한도를 넘으면 대기가 늘어나지 않음");
+    }
+
+    @Test
+    @DisplayName("더 낮은 줄로 내려가면 리셋 횟수 초기화")
+    void testStepResetOnDescent() {
+        GameLogic logic = new GameLogic(RuleSet.defaults().withLockDelay(5, 2), false);
+        BoardState board = logic.getBoardState();
+        // 5~8열 바닥에 턱을 만들어 O 블록이 걸치게 함
+        board.setRow(GameLogic.HEIGHT - 1, 0b111100000, "block-default");
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, GameLogic.HEIGHT - 3));
+
+        assertEquals(GameLogic.DropResult.GROUNDED, logic.stepDown());
+        logic.moveLeft();
+        assertEquals(1, logic.getLockResetsUsed());
+
+        // 왼쪽으로 두 칸 옮기면 턱에서 벗어나 다시 떨어질 수 있음
+        logic.moveLeft();
+        logic.moveLeft();
+        assertEquals(GameLogic.DropResult.MOVED, logic.stepDown());
+        assertEquals(0, logic.getLockResetsUsed());
+        assertEquals(-1, logic.getLockTicksRemaining(), "다시 떨어지면 고정 대기 해제");
+    }
+
+    @Test
+    @DisplayName("대기열은 미리보기 수만큼 채워지고 생성 순서대로 나옴")
+    void testPieceQueueOrder() {
+        GameLogic logic = new GameLogic(RuleSet.defaults().withPieceQueue(5, false));
+        assertEquals(5, logic.getPreviewCount());
+
+        Block[] expected = new Block[5];
+        for (int i = 0; i < 5; i++) {
+            expected[i] = logic.getPreviewBlock(i);
+            assertNotNull(expected[i]);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertTrue(logic.spawnNextPiece());
+            assertSame(expected[i], logic.getCurrentBlock());
+            assertEquals(5, logic.getPreviewCount(), "꺼낸 만큼 다시 채움");
+        }
+    }
+
+    @Test
+    @DisplayName("미리보기 수가 달라도 같은 시드면 같은 블록 순서")
+    void testPieceQueueSequenceIndependentOfPreviewCount() {
+        GameLogic one = new GameLogic(RuleSet.defaults());
+        GameLogic six = new GameLogic(RuleSet.defaults().withPieceQueue(6, false));
+        one.setRandomSeed(99L);
+        six.setRandomSeed(99L);
+
+        for (int i = 0; i < 30; i++) {
+            assertSame(one.getCurrentBlock().getPieceKind(), six.getCurrentBlock().getPieceKind());
+            one.spawnNextPiece();
+            six.spawnNextPiece();
+        }
+    }
+
+    @Test
+    @DisplayName("홀드는 블록마다 한 번, 두 번째 홀드부터 교체")
+    void testHoldPiece() {
+        GameLogic logic = new GameLogic(RuleSet.defaults().withPieceQueue(3, true));
+        Block first = logic.getCurrentBlock();
+        Block next = logic.getNextBlock();
+        logic.rotateBlock();
+        logic.moveDown();
+
+        // 홀드가 비어 있으면 대기열에서 꺼냄
+        assertTrue(logic.holdPiece());
+        assertSame(first, logic.getHoldBlock());
+        assertEquals(0, first.getOrientation(), "홀드한 블록은 방향 초기화");
+        assertSame(next, logic.getCurrentBlock());
+        assertEquals(0, logic.getCurrentY());
+        assertEquals(3, logic.getPreviewCount());
+
+        // 같은 블록에서 다시 홀드 불가
+        assertFalse(logic.canHold());
+        assertFalse(logic.holdPiece());
+
+        // 다음 블록에서는 홀드한 블록과 교체
+        assertTrue(logic.spawnNextPiece());
+        Block current = logic.getCurrentBlock();
+        assertTrue(logic.holdPiece());
+        assertSame(first, logic.getCurrentBlock());
+        assertSame(current, logic.getHoldBlock());
+    }
+
+    @Test
+    @DisplayName("홀드를 끈 규칙에서는 홀드하지 않음")
+    void testHoldDisabled() {
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        Block current = logic.getCurrentBlock();
+        assertFalse(logic.holdPiece());
+        assertSame(current, logic.getCurrentBlock());
+        assertNull(logic.getHoldBlock());
+    }
+
+    @Test
+    @DisplayName("스냅샷 복원 시 대기열과 홀드도 되돌림")
+    void testSnapshotRestoresQueueAndHold() {
+        GameLogic logic = new GameLogic(RuleSet.defaults().withPieceQueue(4, true));
+        GameSnapshot snapshot = logic.snapshot();
+        Block current = logic.getCurrentBlock();
+        Block[] queued = new Block[4];
+        for (int i = 0; i < 4; i++) {
+            queued[i] = logic.getPreviewBlock(i);
+        }
+
+        logic.holdPiece();
+        logic.spawnNextPiece();
+        logic.restore(snapshot);
+
+        assertSame(current, logic.getCurrentBlock());
+        assertNull(logic.getHoldBlock());
+        assertTrue(logic.canHold());
+        for (int i = 0; i < 4; i++) {
+            assertSame(queued[i], logic.getPreviewBlock(i));
+        }
+    }
+
+    @Test
+    @DisplayName("대기열 종류 id를 주고받아 원격 대기열 동기화")
+    void testQueueNetworkSync() {
+        GameLogic local = new GameLogic(RuleSet.defaults().withPieceQueue(3, false));
+        GameLogic remote = new GameLogic(RuleSet.defaults().withPieceQueue(3, false), false);
+
+        byte[] kinds = new byte[3];
+        assertEquals(3, local.getQueueKinds(kinds));
+        remote.setQueueFromNetwork(kinds);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(local.getPreviewBlock(i).getPieceKind(), remote.getPreviewBlock(i).getPieceKind());
+        }
+
+        // 같은 내용을 다시 받으면 대기열이 바뀌지 않음
+        int modCount = remote.getPieceQueue().getModCount();
+        remote.setQueueFromNetwork(kinds);
+        assertEquals(modCount, remote.getPieceQueue().getModCount());
+    }
+
+    @Test
+    @DisplayName("이동/고정/줄 삭제/생성 순서로 이벤트 발행")
+    void testGameEvents() {
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        List<GameEvent.Type> types = new ArrayList<>();
+        List<Long> clearedLines = new ArrayList<>();
+        logic.getEvents().subscribe(event -> {
+            types.add(event.getType());
+            if (event.getType() == GameEvent.Type.LINES_CLEARED) {
+                clearedLines.add(event.getLines());
+            }
+        });
+
+        BoardState board = logic.getBoardState();
+        board.setRow(GameLogic.HEIGHT - 1, board.getFullRowMask() & ~0b1111, CellType.ATTACK);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 0, 0, 0));
+
+        // 벽에 막힌 이동은 이벤트 없음
+        logic.moveLeft();
+        logic.hardDrop();
+        logic.executeLineClear(logic.findFullLinesMask());
+        logic.spawnNextPiece();
+        assertEquals(4, logic.getEvents().pending());
+        logic.getEvents().dispatch();
+
+        assertEquals(List.of(GameEvent.Type.PIECE_MOVED, GameEvent.Type.PIECE_LOCKED,
+            GameEvent.Type.LINES_CLEARED, GameEvent.Type.PIECE_SPAWNED), types);
+        assertEquals(List.of(1L << (GameLogic.HEIGHT - 1)), clearedLines);
+    }
+
+    // T-spin 더블 홈: 아래 줄은 가운데 한 칸, 그 위 줄은 세 칸이 비어 있고 왼쪽 위에 처마
+    private void prepareTSpinDoubleSlot(GameLogic logic) {
+        BoardState board = logic.getBoardState();
+        int full = board.getFullRowMask();
+        board.setRow(GameLogic.HEIGHT - 1, full & ~(1 << 4), CellType.ATTACK);
+        board.setRow(GameLogic.HEIGHT - 2, full & ~(0b111 << 3), CellType.ATTACK);
+        board.setCell(GameLogic.HEIGHT - 3, 3, CellType.ATTACK);
+    }
+
+    // 방향 1(오른쪽을 향한 T)에서 시계 방향 첫 시도로 (3, HEIGHT - 2)의 아래를 향한 T가 되는 위치
+    private void placeTBeforeSpin(GameLogic logic) {
+        KickTable kicks = PieceKind.T.kicks();
+        int startX = 3 - kicks.offsetX(1, KickTable.CLOCKWISE, 0);
+        int startY = GameLogic.HEIGHT - 2 - kicks.offsetY(1, KickTable.CLOCKWISE, 0);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.T, 1, startX, startY));
+    }
+
+    @Test
+    @DisplayName("회전으로 넣은 T-spin 더블은 FULL, 공격 4줄")
+    void testTSpinDouble() {
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        prepareTSpinDoubleSlot(logic);
+        placeTBeforeSpin(logic);
+
+        assertTrue(logic.rotateBlock());
+        assertEquals(3, logic.getCurrentX());
+        assertEquals(GameLogic.HEIGHT - 2, logic.getCurrentY());
+        logic.hardDrop();
+
+        LineClear clear = logic.getLastClear();
+        assertEquals(2, clear.getLines());
+        assertEquals(LineClear.Spin.FULL, clear.getSpin());
+        assertEquals(0, clear.getCombo());
+        assertFalse(clear.isBackToBack());
+        assertEquals(4, clear.getAttack());
+        assertTrue(logic.isBackToBackReady());
+    }
+
+    @Test
+    @DisplayName("회전 없이 놓은 T는 T-spin이 아님")
+    void testNoSpinWithoutRotation() {
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        prepareTSpinDoubleSlot(logic);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.T, 2, 3, GameLogic.HEIGHT - 2));
+        logic.hardDrop();
+
+        LineClear clear = logic.getLastClear();
+        assertEquals(2, clear.getLines());
+        assertEquals(LineClear.Spin.NONE, clear.getSpin());
+        assertEquals(1, clear.getAttack(), "일반 더블은 1줄");
+        assertFalse(logic.isBackToBackReady());
+    }
+
+    @Test
+    @DisplayName("앞 모서리가 하나만 막힌 T-spin은 MINI")
+    void testTSpinMini() {
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        BoardState board = logic.getBoardState();
+        int full = board.getFullRowMask();
+        board.setRow(GameLogic.HEIGHT - 1, full & ~(0b11 << 4), CellType.ATTACK);
+        board.setRow(GameLogic.HEIGHT - 2, full & ~(0b111 << 3), CellType.ATTACK);
+        board.setRow(GameLogic.HEIGHT - 3, (1 << 3) | (1 << 5), CellType.ATTACK);
+        placeTBeforeSpin(logic);
+
+        assertTrue(logic.rotateBlock());
+        logic.hardDrop();
+
+        LineClear clear = logic.getLastClear();
+        assertEquals(1, clear.getLines());
+        assertEquals(LineClear.Spin.MINI, clear.getSpin());
+        assertEquals(0, clear.getAttack());
+    }
+
+    @Test
+    @DisplayName("연속 테트리스는 B2B, 삭제가 이어지면 콤보 증가, 끊기면 초기화")
+    void testComboAndBackToBack() {
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        BoardState board = logic.getBoardState();
+        int rowMask = board.getFullRowMask() & ~(1 << 9);
+
+        // 테트리스 두 번
+        for (int i = 0; i < 2; i++) {
+            for (int row = GameLogic.HEIGHT - 4; row < GameLogic.HEIGHT; row++) {
+                board.setRow(row, rowMask, CellType.ATTACK);
+            }
+            logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 1, 9, 0));
+            logic.hardDrop();
+            LineClear clear = logic.getLastClear();
+            assertEquals(4, clear.getLines());
+            assertEquals(i, clear.getCombo());
+            assertEquals(i == 1, clear.isBackToBack());
+            logic.executeLineClear(logic.findFullLinesMask());
+        }
+        assertEquals(4 + 1, logic.getLastClear().getAttack(), "B2B 보너스 1줄");
+        GameSnapshot snapshot = logic.snapshot();
+        assertEquals(1, snapshot.getCombo());
+        assertTrue(snapshot.isBackToBackReady());
+
+        // 싱글: 콤보 2 보너스, B2B 끊김
+        board.setRow(GameLogic.HEIGHT - 1, rowMask, CellType.ATTACK);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 1, 9, 0));
+        logic.hardDrop();
+        assertEquals(2, logic.getLastClear().getCombo());
+        assertEquals(1, logic.getLastClear().getAttack());
+        assertFalse(logic.isBackToBackReady());
+        logic.executeLineClear(logic.findFullLinesMask());
+
+        // 삭제 없는 고정은 콤보 초기화
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 0, 0));
+        logic.hardDrop();
+        assertEquals(-1, logic.getCombo());
+        assertEquals(0, logic.getLastClear().getAttack());
+
+        // 스냅샷 복원 시 콤보/B2B도 되돌아감
+        logic.restore(snapshot);
+        assertEquals(1, logic.getCombo());
+        assertTrue(logic.isBackToBackReady());
+    }
+
+    @Test
+    @DisplayName("넓은 보드에서는 크기 정보와 스폰 위치가 보드에 맞춰짐")
+    void testWideBoardGeometry() {
+        GameLogic wide = new GameLogic(RuleSet.defaults().withBoardSize(16, 30));
+
+        assertEquals(16, wide.getWidth());
+        assertEquals(30, wide.getHeight());
+        assertEquals(6, wide.getCurrentX(), "4칸 기준 가운데에서 스폰");
+
+        // 바닥까지 떨어뜨리면 30줄 보드의 바닥에 닿음
+        wide.hardDrop();
+        assertTrue(wide.getBoardState().getRow(29) != 0);
+    }
+
+    @Test
+    @DisplayName("스냅샷 복원 후 같은 진행을 재현")
+    void testSnapshotRestore() {
+        // Given
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        logic.hardDrop();
+        logic.spawnNextPiece();
+        GameSnapshot snapshot = logic.snapshot();
+        int[] rowsBefore = logic.getBoardState().copyRows();
+        PieceKind currentKind = logic.getCurrentBlock().getPieceKind();
+
+        // When - 진행 후 기록
+        List<PieceKind> firstRun = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            logic.hardDrop();
+            logic.spawnNextPiece();
+            firstRun.add(logic.getCurrentBlock().getPieceKind());
+        }
+        logic.restore(snapshot);
+
+        // Then - 보드/블록/카운터가 스냅샷 시점과 같음
+        assertArrayEquals(rowsBefore, logic.getBoardState().copyRows());
+        assertSame(currentKind, logic.getCurrentBlock().getPieceKind());
+        assertEquals(snapshot.getCurrentY(), logic.getCurrentY());
+        assertEquals(2, logic.getTotalBlocksSpawned());
+
+        // 같은 난수 순서로 다시 진행
+        for (int i = 0; i < 5; i++) {
+            logic.hardDrop();
+            logic.spawnNextPiece();
+            assertSame(firstRun.get(i), logic.getCurrentBlock().getPieceKind(), "복원 후 " + i + "번째 블록");
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 복원 시 아이템 블록 효과 상태도 되돌림")
+    void testSnapshotRestoresItemState() {
+        // Given - 다음 블록을 모래 블록으로 바꿔 생성
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        SandBlock sand = new SandBlock(new OBlock());
+        logic.getPieceQueue().set(0, sand);
+        logic.spawnNextPiece();
+        GameSnapshot snapshot = logic.snapshot();
+
+        // When - 착지시켜 효과를 쓴 뒤 복원
+        while (logic.moveDown()) {
+            // 바닥까지 내림
+        }
+        assertTrue(sand.hasActivated());
+        logic.restore(snapshot);
+
+        // Then - 다시 착지하면 모래 효과가 한 번 더 적용됨
+        assertFalse(sand.hasActivated());
+        assertEquals(0, logic.getBoardState().getMaxHeight());
+        while (logic.moveDown()) {
+            // 바닥까지 내림
+        }
+        assertEquals(4, logic.getBoardState().getRowFillCount(GameLogic.HEIGHT - 1)
+            + logic.getBoardState().getRowFillCount(GameLogic.HEIGHT - 2));
+    }
+
+    @Test
+    @DisplayName("보드가 그대로면 스냅샷끼리 보드 배열을 공유")
+    void testSnapshotSharesUnchangedBoard() {
+        // Given
+        GameSnapshot first = gameLogic.snapshot();
+
+        // When - 블록만 이동
+        gameLogic.moveLeft();
+        gameLogic.moveDown();
+        GameSnapshot second = gameLogic.snapshot();
+
+        // Then
+        assertTrue(first.sharesBoardWith(second));
+        assertNotEquals(first.getCurrentY(), second.getCurrentY());
+
+        // 보드가 바뀌면 새 배열
+        gameLogic.getBoardState().setCell(GameLogic.HEIGHT - 1, 0, "block-default");
+        assertFalse(second.sharesBoardWith(gameLogic.snapshot()));
+        assertEquals(0, second.getBoardRow(GameLogic.HEIGHT - 1), "이전 스냅샷은 변하지 않아야 합니다");
+    }
+
     @Test
     @DisplayName("극한 속도 테스트")
     void testExtremeSpeed() {
@@ -0,0 +1,263 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.CellType;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.PieceState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    private GameSimulator simulator;
+    private GameLogic gameLogic;
+    private BoardState board;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new GameSimulator(RuleSet.defaults(), 42L);
+        gameLogic = simulator.getGameLogic();
+        board = gameLogic.getBoardState();
+    }
+
+    private void placePiece(PieceKind kind, int x) {
+        gameLogic.setCurrentPieceFromNetwork(new PieceState(kind, 0, x, 0));
+    }
+
+    @Test
+    @DisplayName("같은 시드와 입력이면 같은 결과")
+    void testDeterministic() {
+        GameSimulator other = new GameSimulator(RuleSet.defaults(), 42L);
+        GameSimulator.Input[] inputs = GameSimulator.Input.values();
+        for (int i = 0; i < 2000; i++) {
+            GameSimulator.Input input = inputs[i % inputs.length];
+            simulator.input(input);
+            other.input(input);
+            simulator.tick();
+            other.tick();
+        }
+
+        assertEquals(simulator.getScore(), other.getScore());
+        assertEquals(simulator.getPhase(), other.getPhase());
+        for (int row = 0; row < GameLogic.HEIGHT; row++) {
+            assertEquals(board.getRow(row), other.getGameLogic().getBoardState().getRow(row));
+        }
+    }
+
+    @Test
+    @DisplayName("중력 간격마다 한 칸 낙하")
+    void testGravity() {
+        int startY = gameLogic.getCurrentY();
+        int gravityTicks = simulator.getGravityTicks();
+        assertEquals(GameSimulator.BASE_GRAVITY_TICKS, gravityTicks);
+
+        simulator.run(gravityTicks - 1);
+        assertEquals(startY, gameLogic.getCurrentY());
+        simulator.tick();
+        assertEquals(startY + 1, gameLogic.getCurrentY());
+    }
+
+    @Test
+    @DisplayName("줄 삭제는 대기 틱 후 실행되고 다음 블록 생성")
+    void testLineClearDelay() {
+        board.setRow(GameLogic.HEIGHT - 1, board.getFullRowMask() & ~0b1111, CellType.ATTACK);
+        placePiece(PieceKind.I, 0);
+
+        simulator.input(GameSimulator.Input.HARD_DROP);
+        assertEquals(GameSimulator.Phase.CLEARING, simulator.getPhase());
+
+        // 대기 중 입력 무시
+        int y = gameLogic.getCurrentY();
+        simulator.input(GameSimulator.Input.LEFT);
+        assertEquals(y, gameLogic.getCurrentY());
+
+        simulator.run(GameSimulator.CLEAR_DELAY_TICKS);
+        assertEquals(GameSimulator.Phase.FALLING, simulator.getPhase());
+        assertEquals(0, board.getRow(GameLogic.HEIGHT - 1));
+        assertEquals(1, gameLogic.getTotalLinesCleared());
+        // 하드 드롭 19칸 + 1줄 삭제 100점
+        assertEquals(19 + 100, simulator.getScore());
+    }
+
+    @Test
+    @DisplayName("공격 표에 따라 (줄 수, 구멍 열) 전송 (더블 = 1줄), 같은 시드면 같은 구멍")
+    void testAttackSent() {
+        int full = board.getFullRowMask();
+        board.setRow(GameLogic.HEIGHT - 2, full & ~0b11, CellType.ATTACK);
+        board.setRow(GameLogic.HEIGHT - 1, full & ~0b11, CellType.ATTACK);
+        placePiece(PieceKind.O, 0);
+
+        List<int[]> attacks = new ArrayList<>();
+        simulator.setAttackListener((lines, hole) -> attacks.add(new int[] {lines, hole}));
+        simulator.input(GameSimulator.Input.HARD_DROP);
+
+        assertEquals(1, attacks.size());
+        assertEquals(1, attacks.get(0)[0]);
+        int hole = attacks.get(0)[1];
+        assertTrue(hole >= 0 && hole < GameLogic.WIDTH);
+        assertEquals(new GarbageGenerator(GameLogic.WIDTH, ~42L).nextHoleColumn(), hole);
+    }
+
+    @Test
+    @DisplayName("싱글은 공격 없음, 공격 줄이 삭제한 줄보다 많으면 삭제한 줄을 반복")
+    void testAttackUsesTable() {
+        List<int[]> attacks = new ArrayList<>();
+        simulator.setAttackListener((lines, hole) -> attacks.add(new int[] {lines, hole}));
+        int full = board.getFullRowMask();
+
+        board.setRow(GameLogic.HEIGHT - 1, full & ~0b1111, CellType.ATTACK);
+        placePiece(PieceKind.I, 0);
+        simulator.input(GameSimulator.Input.HARD_DROP);
+        simulator.run(GameSimulator.CLEAR_DELAY_TICKS);
+        assertTrue(attacks.isEmpty());
+
+        // 싱글 직후 테트리스 (콤보 1, 보너스 없음) = 4줄
+        for (int row = GameLogic.HEIGHT - 4; row < GameLogic.HEIGHT; row++) {
+            board.setRow(row, full & ~(1 << 9), CellType.ATTACK);
+        }
+        gameLogic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 1, 9, 0));
+        simulator.input(GameSimulator.Input.HARD_DROP);
+        assertEquals(1, attacks.size());
+        assertEquals(4, attacks.get(0)[0]);
+
+        // 조건을 바꾼 표: 모든 삭제가 3줄 공격
+        AttackTable flat = new AttackTable(new int[] {0, 3}, new int[] {0}, new int[] {0}, new int[] {0}, 0);
+        GameSimulator custom = new GameSimulator(RuleSet.defaults().withAttackTable(flat), 1L);
+        List<int[]> customAttacks = new ArrayList<>();
+        custom.setAttackListener((lines, hole) -> customAttacks.add(new int[] {lines, hole}));
+        BoardState customBoard = custom.getGameLogic().getBoardState();
+        customBoard.setRow(GameLogic.HEIGHT - 1, full & ~0b1111, CellType.ATTACK);
+        custom.getGameLogic().setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 0, 0, 0));
+        custom.input(GameSimulator.Input.HARD_DROP);
+        assertEquals(3, customAttacks.get(0)[0]);
+    }
+
+    @Test
+    @DisplayName("이미 바닥에 있는 블록도 하드 드롭하면 한 번만 착지 처리")
+    void testHardDropOnGround() {
+        GameSimulator sim = new GameSimulator(RuleSet.defaults(), 7L);
+        GameLogic logic = sim.getGameLogic();
+        BoardState state = logic.getBoardState();
+        for (int row = GameLogic.HEIGHT - 4; row < GameLogic.HEIGHT; row++) {
+            state.setRow(row, state.getFullRowMask() & ~1, CellType.ATTACK);
+        }
+        List<int[]> attacks = new ArrayList<>();
+        sim.setAttackListener((lines, hole) -> attacks.add(new int[] {lines, hole}));
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 1, 0, GameLogic.HEIGHT - 4));
+        assertEquals(0, logic.dropDistance());
+
+        sim.input(GameSimulator.Input.HARD_DROP);
+        assertEquals(GameSimulator.Phase.CLEARING, sim.getPhase());
+        LineClear clear = logic.getLastClear();
+        assertEquals(4, clear.getLines());
+        assertEquals(0, clear.getCombo());
+        assertFalse(clear.isBackToBack());
+
+        sim.run(GameSimulator.CLEAR_DELAY_TICKS + GameSimulator.BASE_GRAVITY_TICKS);
+        assertEquals(1, attacks.size());
+        assertEquals(4, attacks.get(0)[0]);
+        assertEquals(0, state.getMaxHeight());
+    }
+
+    @Test
+    @DisplayName("받은 공격 줄은 다음 블록 생성 전에 하단에 삽입")
+    void testAttackInsertedBeforeSpawn() {
+        simulator.receiveAttack(new int[] {0b1111111110}, 1);
+        assertEquals(1, simulator.getPendingAttackCount());
+
+        placePiece(PieceKind.O, 4);
+        simulator.input(GameSimulator.Input.HARD_DROP);
+
+        assertEquals(0, simulator.getPendingAttackCount());
+        assertEquals(0b1111111110, board.getRow(GameLogic.HEIGHT - 1));
+        assertEquals(CellType.ATTACK, board.getCellType(GameLogic.HEIGHT - 1, 1));
+        // O 블록은 한 줄 위로 밀려 올라감
+        assertEquals(0b110000, board.getRow(GameLogic.HEIGHT - 2));
+    }
+
+    @Test
+    @DisplayName("구멍 열로 받은 공격은 구멍만 빈 줄로 한 번에 삽입")
+    void testReceiveGarbage() {
+        simulator.receiveGarbage(3, 6);
+        assertEquals(3, simulator.getPendingAttackCount());
+
+        placePiece(PieceKind.O, 0);
+        simulator.input(GameSimulator.Input.HARD_DROP);
+
+        int expected = board.getFullRowMask() & ~(1 << 6);
+        for (int row = GameLogic.HEIGHT - 3; row < GameLogic.HEIGHT; row++) {
+            assertEquals(expected, board.getRow(row));
+        }
+        assertEquals(0b11, board.getRow(GameLogic.HEIGHT - 4));
+    }
+
+    @Test
+    @DisplayName("공격 대기열은 최대 10줄")
+    void testAttackQueueCapped() {
+        simulator.receiveAttack(new int[8], 8);
+        simulator.receiveAttack(new int[5], 5);
+        assertEquals(GameSimulator.MAX_PENDING_ATTACK, simulator.getPendingAttackCount());
+    }
+
+    @Test
+    @DisplayName("20G 중력에서도 고정 대기 동안 조작 가능")
+    void testLockDelayWithInstantGravity() {
+        RuleSet rules = RuleSet.defaults()
+            .withGravityCurve(1, 1, 0.0001, 0.0001)
+            .withLockDelay(30, 15);
+        GameSimulator fast = new GameSimulator(rules, 7L);
+        GameLogic logic = fast.getGameLogic();
+        // 블록 하나를 내려 속도 레벨을 올림
+        fast.input(GameSimulator.Input.HARD_DROP);
+        logic.getBoardState().clear();
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, 0));
+        assertEquals(1, fast.getGravityTicks());
+        assertEquals(GameLogic.HEIGHT, fast.getGravityRowsPerTick());
+
+        // 첫 틱에 바닥까지 떨어지지만 고정되지 않음
+        fast.tick();
+        assertEquals(GameLogic.HEIGHT - 2, logic.getCurrentY());
+        assertEquals(0, logic.getBoardState().getRow(GameLogic.HEIGHT - 1));
+
+        // 대기 중 좌우 이동 가능
+        fast.input(GameSimulator.Input.LEFT);
+        assertEquals(3, logic.getCurrentX());
+
+        fast.run(30);
+        assertEquals(0b11000, logic.getBoardState().getRow(GameLogic.HEIGHT - 1));
+    }
+
+    @Test
+    @DisplayName("홀드 입력은 홀드를 켠 규칙에서만 동작")
+    void testHoldInput() {
+        Block current = gameLogic.getCurrentBlock();
+        simulator.input(GameSimulator.Input.HOLD);
+        assertSame(current, gameLogic.getCurrentBlock());
+
+        GameSimulator holding = new GameSimulator(RuleSet.defaults().withPieceQueue(3, true), 42L);
+        Block first = holding.getGameLogic().getCurrentBlock();
+        holding.input(GameSimulator.Input.HOLD);
+        assertSame(first, holding.getGameLogic().getHoldBlock());
+        assertEquals(GameSimulator.Phase.FALLING, holding.getPhase());
+    }
+
+    @Test
+    @DisplayName("블록이 쌓여 스폰할 수 없으면 게임 오버")
+    void testGameOver() {
+        for (int i = 0; i < 200 && !simulator.isGameOver(); i++) {
+            simulator.input(GameSimulator.Input.HARD_DROP);
+            simulator.run(GameSimulator.CLEAR_DELAY_TICKS);
+        }
+        assertTrue(simulator.isGameOver());
+
+        long ticks = simulator.getTickCount();
+        simulator.tick();
+        assertEquals(ticks, simulator.getTickCount());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.game.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GarbageQueueTest {
+
+    @Test
+    @DisplayName("넘치면 오래된 줄부터 버림")
+    void testOverflowDropsOldest() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.add(0b1, 6);
+        queue.add(0b10, 6);
+
+        assertEquals(GarbageQueue.MAX_LINES, queue.size());
+        assertEquals(0b1, queue.getRow(0));
+        assertEquals(0b1, queue.getRow(3));
+        assertEquals(0b10, queue.getRow(4));
+    }
+
+    @Test
+    @DisplayName("마스크 배열은 최대 10줄까지 뒤쪽 줄만 추가")
+    void testAddRowsKeepsLast() {
+        GarbageQueue queue = new GarbageQueue();
+        int[] masks = new int[12];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = i;
+        }
+        assertEquals(GarbageQueue.MAX_LINES, queue.addRows(masks, masks.length));
+        assertEquals(2, queue.getRow(0));
+        assertEquals(11, queue.getRow(GarbageQueue.MAX_LINES - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.getRow(GarbageQueue.MAX_LINES));
+    }
+
+    @Test
+    @DisplayName("보드에 삽입하면 비워지고 먼저 들어온 줄이 위")
+    void testInsertInto() {
+        GameLogic logic = new GameLogic(RuleSet.defaults());
+        GarbageQueue queue = new GarbageQueue();
+        queue.add(GarbageGenerator.rowMask(GameLogic.WIDTH, 0), 1);
+        queue.add(GarbageGenerator.rowMask(GameLogic.WIDTH, 9), 1);
+        int modCount = queue.getModCount();
+
+        assertEquals(2, queue.insertInto(logic));
+        assertTrue(queue.isEmpty());
+        assertNotEquals(modCount, queue.getModCount());
+        BoardState board = logic.getBoardState();
+        assertEquals(0b1111111110, board.getRow(GameLogic.HEIGHT - 2));
+        assertEquals(0b0111111111, board.getRow(GameLogic.HEIGHT - 1));
+        assertEquals(0, queue.insertInto(logic));
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 구멍 순서, 구멍 열은 보드 안으로 맞춤")
+    void testGeneratorDeterministic() {
+        GarbageGenerator a = new GarbageGenerator(GameLogic.WIDTH, 7L);
+        GarbageGenerator b = new GarbageGenerator(GameLogic.WIDTH, 7L);
+        for (int i = 0; i < 50; i++) {
+            int hole = a.nextHoleColumn();
+            assertEquals(hole, b.nextHoleColumn());
+            assertTrue(hole >= 0 && hole < GameLogic.WIDTH);
+        }
+        assertEquals(0b0111111111, GarbageGenerator.rowMask(GameLogic.WIDTH, 12));
+        assertThrows(IllegalArgumentException.class, () -> new GarbageGenerator(0, 1L));
+    }
+}
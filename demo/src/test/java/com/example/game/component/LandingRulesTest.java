@@ -0,0 +1,138 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.CellType;
+import com.example.game.blocks.IBlock;
+import com.example.game.blocks.OBlock;
+import com.example.game.blocks.PieceKind;
+import com.example.game.blocks.PieceState;
+import com.example.game.items.BombBlock;
+import com.example.game.items.LItem;
+import com.example.settings.GameSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LandingRulesTest {
+
+    private GameLogic logic;
+    private BoardState board;
+    private LandingRules landing;
+    private ScoreKeeper score;
+
+    @BeforeEach
+    void setUp() {
+        logic = new GameLogic(RuleSet.defaults());
+        board = logic.getBoardState();
+        landing = new LandingRules(logic);
+        score = new ScoreKeeper(GameSettings.Difficulty.NORMAL);
+    }
+
+    @Test
+    @DisplayName("꽉 찬 줄은 착지 시 대기, finish()에서 삭제하고 줄 점수")
+    void testLineClear() {
+        board.setRow(GameLogic.HEIGHT - 1, board.getFullRowMask() & ~0b1111, CellType.ATTACK);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.I, 0, 0, 0));
+        Block landed = logic.getCurrentBlock();
+        logic.hardDrop();
+
+        assertTrue(landing.land(landed, logic.getCurrentX(), logic.getCurrentY(), score));
+        assertEquals(List.of(GameLogic.HEIGHT - 1), landing.getPendingLines());
+        assertNotEquals(0, board.getRow(GameLogic.HEIGHT - 1), "finish() 전에는 삭제하지 않음");
+
+        landing.finish(score);
+        assertEquals(0, board.getRow(GameLogic.HEIGHT - 1));
+        assertEquals(100, score.getScore());
+        assertEquals(0L, landing.getPendingClearMask());
+        assertTrue(landing.spawnNext());
+    }
+
+    @Test
+    @DisplayName("L-item 줄은 착지 점수만 받고 꽉 찬 줄이 아니면 줄 점수 없음")
+    void testLItemRow() {
+        LItem lItem = new LItem(new IBlock());
+        int landedY = GameLogic.HEIGHT - lItem.height();
+        int row = lItem.getLMarkerAbsoluteRow(landedY);
+        board.setCell(row, 9, CellType.ATTACK);
+
+        assertTrue(landing.land(lItem, 0, landedY, score));
+        assertEquals(row, landing.getLItemRow());
+        assertEquals(LandingRules.L_ITEM_LINE_SCORE, score.getScore());
+
+        landing.finish(score);
+        assertEquals(0, board.getMaxHeight());
+        assertEquals(LandingRules.L_ITEM_LINE_SCORE, score.getScore());
+        assertEquals(0, score.getLinesCleared());
+    }
+
+    @Test
+    @DisplayName("폭탄은 영역 전체 칸 수만큼 파괴 점수")
+    void testBombExplosion() {
+        BombBlock bomb = new BombBlock(new OBlock());
+        int landedY = GameLogic.HEIGHT - 2;
+        board.setRow(GameLogic.HEIGHT - 1, 0b1111111111 & ~1, CellType.ATTACK);
+
+        assertTrue(landing.land(bomb, 4, landedY, score));
+        int[][] cells = landing.getPendingExplosionCells();
+        assertNotNull(cells);
+        assertTrue(landing.getPendingLines().isEmpty());
+
+        landing.finish(score);
+        assertNull(landing.getPendingExplosionCells());
+        assertEquals(cells.length * LandingRules.EXPLOSION_CELL_SCORE, score.getScore());
+        for (int[] cell : cells) {
+            assertFalse(board.isOccupied(cell[0], cell[1]));
+        }
+    }
+
+    @Test
+    @DisplayName("공격 표에 따라 공격 전송, 삭제할 줄이 없으면 바로 스폰")
+    void testAttackAndSpawn() {
+        List<int[]> attacks = new ArrayList<>();
+        landing.setAttackListener((lines, hole) -> attacks.add(new int[] {lines, hole}),
+            new GarbageGenerator(GameLogic.WIDTH, 3L));
+
+        int full = board.getFullRowMask();
+        board.setRow(GameLogic.HEIGHT - 2, full & ~0b11, CellType.ATTACK);
+        board.setRow(GameLogic.HEIGHT - 1, full & ~0b11, CellType.ATTACK);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 0, 0));
+        Block landed = logic.getCurrentBlock();
+        logic.hardDrop();
+        assertTrue(landing.land(landed, logic.getCurrentX(), logic.getCurrentY(), null));
+        assertEquals(1, attacks.size());
+        assertEquals(1, attacks.get(0)[0]);
+
+        // 점수 대상이 없어도 삭제는 실행
+        landing.finish(null);
+        assertEquals(0, board.getMaxHeight());
+
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, 0));
+        landed = logic.getCurrentBlock();
+        logic.hardDrop();
+        assertFalse(landing.land(landed, logic.getCurrentX(), logic.getCurrentY(), score));
+        assertEquals(1, attacks.size());
+    }
+
+    @Test
+    @DisplayName("받은 공격 줄은 스폰 전에 삽입, 맨 위에 닿으면 게임 오버")
+    void testSpawnNext() {
+        GarbageQueue garbage = new GarbageQueue();
+        garbage.add(GarbageGenerator.rowMask(GameLogic.WIDTH, 5), 2);
+        landing.setGarbageQueue(garbage);
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, 10));
+
+        assertTrue(landing.spawnNext());
+        assertTrue(garbage.isEmpty());
+        assertEquals(GarbageGenerator.rowMask(GameLogic.WIDTH, 5), board.getRow(GameLogic.HEIGHT - 1));
+
+        // 현재 블록이 맨 위 줄에 있으면 게임 오버
+        logic.setCurrentPieceFromNetwork(new PieceState(PieceKind.O, 0, 4, 0));
+        assertFalse(landing.spawnNext());
+        assertTrue(logic.isGameOver());
+    }
+}
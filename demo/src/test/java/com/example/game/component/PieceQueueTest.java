@@ -0,0 +1,66 @@
+package com.example.game.component;
+
+import com.example.game.blocks.Block;
+import com.example.game.blocks.PieceKind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceQueueTest {
+
+    @Test
+    @DisplayName("넣은 순서대로 꺼내고, 버퍼를 한 바퀴 돌아도 순서 유지")
+    void testFifoWrapAround() {
+        PieceQueue queue = new PieceQueue(3);
+        PieceKind[] kinds = PieceKind.values();
+        for (int i = 0; i < 3; i++) {
+            queue.push(kinds[i].create());
+        }
+        assertTrue(queue.isFull());
+
+        // 꺼낼 때마다 하나씩 채워 head가 여러 번 돌도록 함
+        for (int i = 0; i < 10; i++) {
+            Block block = queue.poll();
+            assertSame(kinds[i % kinds.length], block.getPieceKind());
+            queue.push(kinds[(i + 3) % kinds.length].create());
+            assertSame(kinds[(i + 1) % kinds.length], queue.peek(0).getPieceKind());
+            assertSame(kinds[(i + 3) % kinds.length], queue.peek(2).getPieceKind());
+        }
+    }
+
+    @Test
+    @DisplayName("범위 밖 조회는 null, 가득 찬 대기열에 넣으면 예외")
+    void testBounds() {
+        PieceQueue queue = new PieceQueue(1);
+        assertNull(queue.poll());
+        assertNull(queue.peek(0));
+
+        queue.push(PieceKind.T.create());
+        assertNull(queue.peek(1));
+        assertNull(queue.peek(-1));
+        assertThrows(IllegalStateException.class, () -> queue.push(PieceKind.I.create()));
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.set(1, PieceKind.I.create()));
+    }
+
+    @Test
+    @DisplayName("내용이 바뀔 때만 변경 횟수 증가")
+    void testModCount() {
+        PieceQueue queue = new PieceQueue(2);
+        int start = queue.getModCount();
+        queue.push(PieceKind.O.create());
+        queue.peek(0);
+        assertEquals(start + 1, queue.getModCount());
+        queue.poll();
+        queue.clear();
+        assertEquals(start + 3, queue.getModCount());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    @DisplayName("크기는 1 ~ MAX_CAPACITY")
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new PieceQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new PieceQueue(PieceQueue.MAX_CAPACITY + 1));
+    }
+}
@@ -2,9 +2,6 @@ package com.example.game.component;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +13,7 @@ public class PlayerBoardTest {
     private PlayerBoard playerBoard;
     private int lastPlayerNumber;
     private int lastLinesCleared;
-    private List<String[]> lastClearedLines;
+    private int lastHoleColumn;
     
     @BeforeEach
     public void setUp() throws Exception {
@@ -29,7 +26,7 @@ public class PlayerBoardTest {
         
         lastPlayerNumber = -1;
         lastLinesCleared = 0;
-        lastClearedLines = null;
+        lastHoleColumn = -1;
         
         // JavaFX UI 스레드에서 PlayerBoard 초기화
         javafx.application.Platform.runLater(() -> {
@@ -39,10 +36,10 @@ public class PlayerBoardTest {
         Thread.sleep(300); // UI 초기화 대기
     }
     
-    private void onLinesCleared(int playerNumber, int linesCleared, List<String[]> clearedLines) {
+    private void onLinesCleared(int playerNumber, int linesCleared, int holeColumn) {
         lastPlayerNumber = playerNumber;
         lastLinesCleared = linesCleared;
-        lastClearedLines = clearedLines;
+        lastHoleColumn = holeColumn;
     }
     
     @Test
@@ -90,115 +87,24 @@ public class PlayerBoardTest {
     @Test
     public void testAddPendingAttackLines() throws Exception {
         // 공격 라인을 받음
-        List<String[]> attackLines = new ArrayList<>();
-        String[] line = new String[GameLogic.WIDTH];
-        for (int i = 0; i < GameLogic.WIDTH; i++) {
-            line[i] = i % 2 == 0 ? "attack-block" : null;
-        }
-        attackLines.add(line);
-        
-        playerBoard.receiveAttackLines(attackLines);
+        playerBoard.receiveGarbage(1, 3);
         
         // 대기 중인 공격 카운트 확인
         int pendingCount = playerBoard.getPendingAttackCount();
         assertEquals(1, pendingCount, "대기 중인 공격 라인 수가 1이어야 함");
         
-        // addPendingAttackLines를 트리거하기 위해 블록 착지 시뮬레이션
-        javafx.application.Platform.runLater(() -> {
-            try {
-                java.lang.reflect.Method method = PlayerBoard.class.getDeclaredMethod("addPendingAttackLines");
-                method.setAccessible(true);
-                method.invoke(playerBoard);
-            } catch (Exception e) {
-                fail("addPendingAttackLines 호출 실패: " + e.getMessage());
-            }
-        });
-        Thread.sleep(200);
-    }
-    
-    @Test
-    public void testGetClearedLinesForAttack() throws Exception {
-        // 라인 클리어를 위한 설정
-        List<String[]> clearedLines = new ArrayList<>();
-        String[] line1 = new String[GameLogic.WIDTH];
-        String[] line2 = new String[GameLogic.WIDTH];
-        
-        for (int i = 0; i < GameLogic.WIDTH; i++) {
-            line1[i] = "T";
-            line2[i] = "I";
-        }
-        
-        clearedLines.add(line1);
-        clearedLines.add(line2);
-        
-        // reflection으로 getClearedLinesForAttack 호출
-        javafx.application.Platform.runLater(() -> {
-            try {
-                java.lang.reflect.Method method = PlayerBoard.class.getDeclaredMethod("getClearedLinesForAttack", List.class);
-                method.setAccessible(true);
-                List<String[]> result = (List<String[]>) method.invoke(playerBoard, clearedLines);
-                assertNotNull(result, "결과가 null이 아니어야 함");
-            } catch (Exception e) {
-                fail("getClearedLinesForAttack 호출 실패: " + e.getMessage());
-            }
-        });
-        Thread.sleep(200);
-    }
-    
-    @Test
-    public void testIsCurrentBlockCell() throws Exception {
-        // reflection으로 isCurrentBlockCell 호출
-        javafx.application.Platform.runLater(() -> {
-            try {
-                java.lang.reflect.Method method = PlayerBoard.class.getDeclaredMethod("isCurrentBlockCell", int.class, int.class);
-                method.setAccessible(true);
-                
-                // 유효한 위치 테스트
-                Boolean result = (Boolean) method.invoke(playerBoard, 0, 0);
-                assertNotNull(result, "결과가 null이 아니어야 함");
-                
-                // 다양한 위치 테스트
-                method.invoke(playerBoard, 5, 5);
-                method.invoke(playerBoard, GameLogic.WIDTH - 1, 0);
-                
-            } catch (Exception e) {
-                fail("isCurrentBlockCell 호출 실패: " + e.getMessage());
-            }
-        });
-        Thread.sleep(200);
-    }
-    
-    @Test
-    public void testExecuteExplosion() throws Exception {
-        // reflection으로 executeExplosion 호출
+        // 블록을 착지시켜 다음 블록 생성 전에 공격 줄 삽입
         javafx.application.Platform.runLater(() -> {
-            try {
-                java.lang.reflect.Method method = PlayerBoard.class.getDeclaredMethod("executeExplosion");
-                method.setAccessible(true);
-                method.invoke(playerBoard);
-            } catch (Exception e) {
-                fail("executeExplosion 호출 실패: " + e.getMessage());
-            }
+            playerBoard.onHardDrop();
+            assertEquals(0, playerBoard.getPendingAttackCount(), "착지 후 공격 줄이 삽입되어야 함");
         });
         Thread.sleep(200);
     }
     
     @Test
     public void testReceiveAttackLines() {
-        List<String[]> attackLines = new ArrayList<>();
-        String[] line1 = new String[GameLogic.WIDTH];
-        String[] line2 = new String[GameLogic.WIDTH];
-        
-        for (int i = 0; i < GameLogic.WIDTH; i++) {
-            line1[i] = i % 2 == 0 ? "attack-block" : null;
-            line2[i] = i % 3 == 0 ? "attack-block" : null;
-        }
-        
-        attackLines.add(line1);
-        attackLines.add(line2);
-        
         assertDoesNotThrow(() -> {
-            playerBoard.receiveAttackLines(attackLines);
+            playerBoard.receiveGarbage(2, 0);
         });
         
         assertEquals(2, playerBoard.getPendingAttackCount(), "공격 줄 개수가 일치해야 함");
@@ -224,17 +130,10 @@ public class PlayerBoardTest {
      */
     @Test
     public void testMultipleAttackLines() {
-        List<String[]> attack1 = new ArrayList<>();
-        attack1.add(new String[GameLogic.WIDTH]);
-        
-        List<String[]> attack2 = new ArrayList<>();
-        attack2.add(new String[GameLogic.WIDTH]);
-        attack2.add(new String[GameLogic.WIDTH]);
-        
-        playerBoard.receiveAttackLines(attack1);
+        playerBoard.receiveGarbage(1, 0);
         assertEquals(1, playerBoard.getPendingAttackCount());
         
-        playerBoard.receiveAttackLines(attack2);
+        playerBoard.receiveGarbage(2, 5);
         assertEquals(3, playerBoard.getPendingAttackCount());
     }
     
@@ -243,8 +142,7 @@ public class PlayerBoardTest {
      */
     @Test
     public void testEmptyAttackLines() {
-        List<String[]> emptyAttack = new ArrayList<>();
-        playerBoard.receiveAttackLines(emptyAttack);
+        playerBoard.receiveGarbage(0, 0);
         assertEquals(0, playerBoard.getPendingAttackCount());
     }
     
@@ -375,17 +273,8 @@ public class PlayerBoardTest {
 
     @Test
     public void testLargeAttack() {
-        List<String[]> largeAttack = new ArrayList<>();
-        for (int i = 0; i < 10; i++) {
-            String[] line = new String[GameLogic.WIDTH];
-            for (int j = 0; j < GameLogic.WIDTH; j++) {
-                line[j] = "attack-block";
-            }
-            largeAttack.add(line);
-        }
-        
         assertDoesNotThrow(() -> {
-            playerBoard.receiveAttackLines(largeAttack);
+            playerBoard.receiveGarbage(10, 4);
         });
         assertEquals(10, playerBoard.getPendingAttackCount());
     }
@@ -393,9 +282,7 @@ public class PlayerBoardTest {
     @Test
     public void testMultipleSmallAttacks() {
         for (int i = 0; i < 5; i++) {
-            List<String[]> attack = new ArrayList<>();
-            attack.add(new String[GameLogic.WIDTH]);
-            playerBoard.receiveAttackLines(attack);
+            playerBoard.receiveGarbage(1, i);
         }
         assertEquals(5, playerBoard.getPendingAttackCount());
     }
@@ -622,16 +509,7 @@ public class PlayerBoardTest {
     @Test
     public void testAttackQueueProcessing() throws Exception {
         javafx.application.Platform.runLater(() -> {
-            List<String[]> attack = new ArrayList<>();
-            for (int i = 0; i < 3; i++) {
-                String[] line = new String[GameLogic.WIDTH];
-                for (int j = 0; j < GameLogic.WIDTH; j++) {
-                    line[j] = j % 2 == 0 ? "attack-block" : null;
-                }
-                attack.add(line);
-            }
-            
-            playerBoard.receiveAttackLines(attack);
+            playerBoard.receiveGarbage(3, 1);
             assertEquals(3, playerBoard.getPendingAttackCount());
             
             // 블록 착지 시 공격 적용
@@ -648,13 +526,7 @@ public class PlayerBoardTest {
         javafx.application.Platform.runLater(() -> {
             // 연속 공격 수신
             for (int round = 0; round < 5; round++) {
-                List<String[]> attack = new ArrayList<>();
-                String[] line = new String[GameLogic.WIDTH];
-                for (int j = 0; j < GameLogic.WIDTH; j++) {
-                    line[j] = "attack";
-                }
-                attack.add(line);
-                playerBoard.receiveAttackLines(attack);
+                playerBoard.receiveGarbage(1, round);
             }
             
             assertEquals(5, playerBoard.getPendingAttackCount());
@@ -666,10 +538,7 @@ public class PlayerBoardTest {
     public void testAttackWithGameplay() throws Exception {
         javafx.application.Platform.runLater(() -> {
             // 공격 수신
-            List<String[]> attack = new ArrayList<>();
-            attack.add(new String[GameLogic.WIDTH]);
-            attack.add(new String[GameLogic.WIDTH]);
-            playerBoard.receiveAttackLines(attack);
+            playerBoard.receiveGarbage(2, 0);
             
             // 게임 플레이 계속
             for (int i = 0; i < 10; i++) {
@@ -800,9 +669,7 @@ public class PlayerBoardTest {
     public void testCompleteGameScenario() throws Exception {
         javafx.application.Platform.runLater(() -> {
             // 1. 공격 수신
-            List<String[]> attack = new ArrayList<>();
-            attack.add(new String[GameLogic.WIDTH]);
-            playerBoard.receiveAttackLines(attack);
+            playerBoard.receiveGarbage(1, 0);
             
             // 2. 게임 플레이
             for (int i = 0; i < 30; i++) {
@@ -813,10 +680,7 @@ public class PlayerBoardTest {
             }
             
             // 3. 추가 공격
-            List<String[]> attack2 = new ArrayList<>();
-            attack2.add(new String[GameLogic.WIDTH]);
-            attack2.add(new String[GameLogic.WIDTH]);
-            playerBoard.receiveAttackLines(attack2);
+            playerBoard.receiveGarbage(2, 9);
             
             // 4. 계속 플레이
             for (int i = 0; i < 20; i++) {
@@ -848,9 +712,7 @@ public class PlayerBoardTest {
             }
             
             // P1이 P2를 공격
-            List<String[]> attack = new ArrayList<>();
-            attack.add(new String[GameLogic.WIDTH]);
-            p2.receiveAttackLines(attack);
+            p2.receiveGarbage(1, 4);
             
             // 계속 플레이
             for (int i = 0; i < 10; i++) {
@@ -0,0 +1,71 @@
+package com.example.game.component;
+
+import com.example.settings.GameSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RuleSet 단위 테스트
+ */
+class RuleSetTest {
+
+    @Test
+    @DisplayName("기본 규칙 값 확인")
+    void testDefaults() {
+        RuleSet rules = RuleSet.defaults();
+
+        assertEquals(GameLogic.WIDTH, rules.getWidth());
+        assertEquals(GameLogic.HEIGHT, rules.getHeight());
+        assertEquals(GameSettings.Difficulty.NORMAL, rules.getDifficulty());
+        assertFalse(rules.isItemModeEnabled());
+        assertEquals(1, rules.getPreviewCount());
+        assertFalse(rules.isHoldEnabled());
+        assertSame(AttackTable.standard(), rules.getAttackTable());
+        assertEquals(1.0, rules.speedMultiplierForLevel(1), 1e-9);
+        assertEquals(0.9, rules.speedMultiplierForLevel(2), 1e-9);
+        assertEquals(0.1, rules.speedMultiplierForLevel(100), 1e-9, "하한 적용");
+    }
+
+    @Test
+    @DisplayName("with 메서드는 새 인스턴스를 반환하고 원본은 변하지 않음")
+    void testWithMethodsAreImmutable() {
+        RuleSet base = RuleSet.defaults();
+
+        RuleSet hard = base.withDifficulty(GameSettings.Difficulty.HARD).withItemMode(true);
+
+        assertNotSame(base, hard);
+        assertEquals(GameSettings.Difficulty.NORMAL, base.getDifficulty());
+        assertFalse(base.isItemModeEnabled());
+        assertEquals(GameSettings.Difficulty.HARD, hard.getDifficulty());
+        assertTrue(hard.isItemModeEnabled());
+    }
+
+    @Test
+    @DisplayName("잘못된 규칙 값은 예외 발생")
+    void testInvalidValues() {
+        RuleSet base = RuleSet.defaults();
+
+        assertThrows(IllegalArgumentException.class, () -> base.withBoardSize(0, 20));
+        assertThrows(IllegalArgumentException.class, () -> base.withBoardSize(10, 65));
+        assertThrows(IllegalArgumentException.class, () -> base.withDifficulty(null));
+        assertThrows(IllegalArgumentException.class, () -> base.withGravityCurve(0, 5, 0.9, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> base.withLockDelay(-1, 15));
+        assertThrows(IllegalArgumentException.class, () -> base.withPieceQueue(0, false));
+        assertThrows(IllegalArgumentException.class,
+            () -> base.withPieceQueue(PieceQueue.MAX_CAPACITY + 1, false));
+        assertThrows(IllegalArgumentException.class, () -> base.withAttackTable(null));
+    }
+
+    @Test
+    @DisplayName("고정 대기는 기본적으로 꺼져 있음")
+    void testLockDelayDefaults() {
+        assertFalse(RuleSet.defaults().hasLockDelay());
+
+        RuleSet delayed = RuleSet.defaults().withLockDelay(30, 15);
+        assertTrue(delayed.hasLockDelay());
+        assertEquals(30, delayed.getLockDelayTicks());
+        assertEquals(15, delayed.getMaxLockResets());
+    }
+}
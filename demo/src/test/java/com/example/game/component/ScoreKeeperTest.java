@@ -0,0 +1,46 @@
+package com.example.game.component;
+
+import com.example.settings.GameSettings.Difficulty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreKeeperTest {
+
+    @Test
+    @DisplayName("줄 수별 점수표와 10줄마다 레벨 증가")
+    void testLineScoreAndLevel() {
+        ScoreKeeper keeper = new ScoreKeeper(Difficulty.NORMAL);
+        keeper.calculateLineScore(4);
+        keeper.calculateLineScore(4);
+        assertEquals(1600, keeper.getScore());
+        assertEquals(1, keeper.getLevel());
+
+        keeper.calculateLineScore(2);
+        assertEquals(10, keeper.getLinesCleared());
+        assertEquals(2, keeper.getLevel());
+
+        // 레벨 2에서 싱글 = 100 x 2
+        keeper.calculateLineScore(1);
+        assertEquals(1600 + 300 + 200, keeper.getScore());
+        assertEquals(0, ScoreKeeper.lineScore(5));
+    }
+
+    @Test
+    @DisplayName("난이도 배율은 줄/아이템 점수에만 적용")
+    void testDifficulty() {
+        ScoreKeeper keeper = new ScoreKeeper(Difficulty.EASY);
+        keeper.addScore(10);
+        keeper.addScoreWithDifficulty(100);
+        assertEquals(10 + 90, keeper.getScore());
+
+        keeper.setDifficulty(Difficulty.HARD);
+        keeper.calculateLineScore(3);
+        assertEquals(10 + 90 + 550, keeper.getScore());
+
+        keeper.reset();
+        assertEquals(0, keeper.getScore());
+        assertEquals(1, keeper.getLevel());
+    }
+}
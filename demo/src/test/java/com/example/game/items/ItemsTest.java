@@ -441,6 +441,16 @@ class ItemsTest {
         assertTrue(foundAtBottom, "빈 공간에서는 바닥까지 떨어져야 합니다");
     }
 
+    @Test
+    @DisplayName("SandBlock applyGravity는 떨어뜨린 셀 수를 반환")
+    void testSandBlockApplyGravityReturnsMovedCount() {
+        SandBlock sandBlock = new SandBlock(new OBlock());
+        com.example.game.component.BoardState boardState = new com.example.game.component.BoardState(10, 20);
+
+        assertEquals(4, sandBlock.applyGravity(boardState, 0, 3), "O 블록은 4칸이 떨어져야 합니다");
+        assertEquals(0, sandBlock.applyGravity(boardState, 0, 3), "중복 호출은 0을 반환해야 합니다");
+    }
+
     @Test
     @DisplayName("ItemManager 생성 테스트")
     void testItemManagerCreation() {
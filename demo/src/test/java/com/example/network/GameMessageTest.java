@@ -182,6 +182,14 @@ public class GameMessageTest {
         assertEquals(3, attack.getInt("linesCleared", 0));
         assertEquals(999, attack.getInt("attackLines", 0));
     }
+
+    @Test
+    public void testCreateAttackWithHoleColumn() {
+        GameMessage attack = GameMessage.createAttack(TEST_SENDER, 4, 4, 7);
+        assertEquals(MessageType.ATTACK, attack.getType());
+        assertEquals(4, attack.getInt("attackLines", 0));
+        assertEquals(7, attack.getInt("holeColumn", -1));
+    }
     
     @Test
     public void testCreateGameOver() {
@@ -30,6 +30,22 @@ public class LoggerTest {
         }
     }
     
+    @Test
+    @DisplayName("debug 로그는 상세 모드가 아니면 출력하지 않음")
+    public void testDebugDisabledByDefault() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+        
+        try {
+            Logger.debug("Debug message");
+            Logger.debug("Cell at (%d, %d)", 1, 2);
+            assertEquals("", outputStream.toString());
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+    
     @Test
     @DisplayName("info 포맷팅 메서드 테스트")
     public void testInfoWithFormatting() {